@@ -13,17 +13,19 @@ public class LootEditorApp extends Application {
 
     private AgentOrchestrator orchestrator;
     private ActionLogger actionLogger;
+    private MainView mainView;
 
     @Override
     public void init() {
         orchestrator = new AgentOrchestrator();
         actionLogger = new ActionLogger();
-        actionLogger.log("app:init", "Application initialized.");
+        actionLogger.log("app:init", "Application initialized (agent threads: "
+                + orchestrator.mode().name().toLowerCase() + ").");
     }
 
     @Override
     public void start(Stage stage) {
-        MainView mainView = new MainView(stage, orchestrator, actionLogger);
+        mainView = new MainView(stage, orchestrator, actionLogger);
         Scene scene = new Scene(mainView, 1280, 800);
         stage.setTitle("Loot Editor B");
         stage.setScene(scene);
@@ -40,6 +42,9 @@ public class LootEditorApp extends Application {
         if (actionLogger != null) {
             actionLogger.log("app:stop", "Application shutting down.");
         }
+        if (mainView != null) {
+            mainView.shutdown();
+        }
         orchestrator.close();
         if (actionLogger != null) {
             actionLogger.close();
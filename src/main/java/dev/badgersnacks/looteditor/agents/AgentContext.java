@@ -0,0 +1,65 @@
+package dev.badgersnacks.looteditor.agents;
+
+import dev.badgersnacks.looteditor.util.ProgressListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Handed to {@link AgentTask#run(AgentContext)} for the duration of one job. Tasks pass it (it is a
+ * {@link ProgressListener}) to the services doing the work; the orchestrator samples it for the UI and the action log,
+ * so updates are just counter bumps no matter how often they arrive.
+ */
+public final class AgentContext implements ProgressListener {
+
+    private final String taskName;
+    private final AgentLane lane;
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong totalUnits = new AtomicLong();
+    private final AtomicLong unitsDone = new AtomicLong();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private volatile String unit;
+    private volatile String currentSource;
+
+    AgentContext(String taskName, AgentLane lane) {
+        this.taskName = taskName;
+        this.lane = lane;
+    }
+
+    /**
+     * Context for running {@code task} inline, outside an orchestrator; its progress goes nowhere.
+     */
+    public static AgentContext detached(AgentTask<?> task) {
+        return new AgentContext(task.name(), task.lane());
+    }
+
+    public String taskName() {
+        return taskName;
+    }
+
+    public AgentLane lane() {
+        return lane;
+    }
+
+    /**
+     * Adds {@code totalUnits} to the expected work, so a task can run several passes that each announce their own.
+     */
+    @Override
+    public void start(long totalUnits, String unit) {
+        this.totalUnits.addAndGet(Math.max(0, totalUnits));
+        this.unit = unit;
+    }
+
+    @Override
+    public void unitDone(String source, long bytesRead) {
+        unitsDone.incrementAndGet();
+        if (bytesRead > 0) {
+            this.bytesRead.addAndGet(bytesRead);
+        }
+        currentSource = source;
+    }
+
+    public AgentProgress snapshot() {
+        return new AgentProgress(taskName, lane, unitsDone.get(), totalUnits.get(), unit, currentSource,
+                bytesRead.get(), System.nanoTime() - startNanos);
+    }
+}
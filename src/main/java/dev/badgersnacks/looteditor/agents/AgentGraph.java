@@ -0,0 +1,140 @@
+package dev.badgersnacks.looteditor.agents;
+
+import dev.badgersnacks.looteditor.util.InputFingerprint;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Agent tasks wired together by the results they consume, run with {@link AgentOrchestrator#run(AgentGraph)}.
+ * <p>
+ * A node starts once every node it depends on has finished, so independent nodes run concurrently. Nodes that declare
+ * an {@link InputSource} are memoized by the orchestrator: when the node's own input fingerprint and those of all its
+ * dependencies match the previous run of the same key, the earlier payload is handed back without running the task.
+ * Nodes without declared inputs, and everything downstream of them, always run.
+ */
+public final class AgentGraph {
+
+    private final List<Node<?>> nodes = new ArrayList<>();
+    private final Set<String> keys = new HashSet<>();
+
+    /**
+     * Adds a node. Dependencies must already be part of this graph, which keeps it acyclic.
+     *
+     * @param key      identifies the node's memoized result across runs, so it must be stable and unique
+     * @param inputs   fingerprints what the task reads besides its dependencies' results, or {@code null} to always run
+     * @param factory  builds the task once the dependencies are done; their payloads are available from {@link Inputs}
+     */
+    public <T> Node<T> add(String key,
+                           InputSource inputs,
+                           Function<Inputs, AgentTask<T>> factory,
+                           Node<?>... dependencies) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(factory, "factory");
+        for (Node<?> dependency : dependencies) {
+            if (!nodes.contains(dependency)) {
+                throw new IllegalArgumentException(key + " depends on " + dependency.key() + ", which is not in this graph");
+            }
+        }
+        if (!keys.add(key)) {
+            throw new IllegalArgumentException("Duplicate graph node " + key);
+        }
+        Node<T> node = new Node<>(key, inputs, factory, List.of(dependencies));
+        nodes.add(node);
+        return node;
+    }
+
+    /**
+     * @return the nodes in insertion order, which is a topological order
+     */
+    List<Node<?>> nodes() {
+        return List.copyOf(nodes);
+    }
+
+    /**
+     * Fingerprints what a node reads from outside the graph, typically by calling the service's own
+     * {@code fingerprint} method. Runs on an agent worker just before the node would run.
+     */
+    @FunctionalInterface
+    public interface InputSource {
+        InputFingerprint fingerprint() throws IOException;
+    }
+
+    public static final class Node<T> {
+        private final String key;
+        private final InputSource inputs;
+        private final Function<Inputs, AgentTask<T>> factory;
+        private final List<Node<?>> dependencies;
+
+        private Node(String key, InputSource inputs, Function<Inputs, AgentTask<T>> factory, List<Node<?>> dependencies) {
+            this.key = key;
+            this.inputs = inputs;
+            this.factory = factory;
+            this.dependencies = dependencies;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        InputSource inputs() {
+            return inputs;
+        }
+
+        Function<Inputs, AgentTask<T>> factory() {
+            return factory;
+        }
+
+        List<Node<?>> dependencies() {
+            return dependencies;
+        }
+    }
+
+    /**
+     * Payloads of the dependencies of the node being built.
+     */
+    public static final class Inputs {
+        private final Node<?> owner;
+        private final Map<Node<?>, Object> payloads;
+
+        Inputs(Node<?> owner, Map<Node<?>, Object> payloads) {
+            this.owner = owner;
+            this.payloads = payloads;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <U> U get(Node<U> dependency) {
+            if (!payloads.containsKey(dependency)) {
+                throw new IllegalArgumentException(owner.key() + " does not depend on " + dependency.key());
+            }
+            return (U) payloads.get(dependency);
+        }
+    }
+
+    /**
+     * Per-node futures of one run. A node whose dependency failed fails with the same cause.
+     */
+    public static final class Results {
+        private final Map<Node<?>, CompletableFuture<? extends AgentResult<?>>> futures;
+
+        Results(Map<Node<?>, CompletableFuture<? extends AgentResult<?>>> futures) {
+            this.futures = Map.copyOf(futures);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> CompletableFuture<AgentResult<T>> get(Node<T> node) {
+            CompletableFuture<? extends AgentResult<?>> future = futures.get(node);
+            if (future == null) {
+                throw new IllegalArgumentException(node.key() + " was not part of this run");
+            }
+            return (CompletableFuture<AgentResult<T>>) future;
+        }
+    }
+}
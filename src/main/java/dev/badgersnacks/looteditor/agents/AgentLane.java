@@ -0,0 +1,11 @@
+package dev.badgersnacks.looteditor.agents;
+
+/**
+ * Scheduling lane of an {@link AgentTask}. Interactive work is what the user is waiting on right now (previews,
+ * simulations, a single comparison) and always has a worker of its own; bulk work (scans, indexing, validation)
+ * fills the remaining workers and steps aside while interactive work runs.
+ */
+public enum AgentLane {
+    INTERACTIVE,
+    BULK
+}
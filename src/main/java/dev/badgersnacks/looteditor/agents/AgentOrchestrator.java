@@ -1,55 +1,412 @@
 package dev.badgersnacks.looteditor.agents;
 
+import dev.badgersnacks.looteditor.util.InputFingerprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Lightweight executor facade that keeps agent jobs off the JavaFX thread.
+ * <p>
+ * Jobs are queued per {@link AgentLane}. One worker only ever takes interactive jobs, so a preview never waits behind
+ * a catalog build; the general workers also take interactive jobs first and bulk jobs otherwise. The bulk queue is
+ * bounded and refuses work once full. Bulk passes that fan out through {@link #fanOutExecutor(AgentLane)} have each
+ * unit held back while interactive jobs are waiting or running; held units are parked in a queue rather than on a
+ * fan-out thread, so the interactive fan-out sharing those threads is not starved by them.
+ * <p>
+ * In {@link ExecutionMode#VIRTUAL} that fan-out runs one virtual thread per unit instead of on the common pool, which
+ * suits the I/O-bound passes (hundreds of jars, thousands of files).
+ * <p>
+ * Jobs that feed each other can be submitted together as an {@link AgentGraph}, whose unchanged nodes are not re-run.
  */
 public class AgentOrchestrator implements AutoCloseable {
 
-    private final ExecutorService executorService;
+    /**
+     * System property that selects the {@link ExecutionMode} ({@code platform} or {@code virtual}).
+     */
+    public static final String MODE_PROPERTY = "lootEditor.agentMode";
+    private static final Logger LOGGER = LoggerFactory.getLogger(AgentOrchestrator.class);
+
+    private static final int RESERVED_INTERACTIVE_WORKERS = 1;
+    private static final int MAX_QUEUED_BULK_JOBS = 64;
+    // one bulk fan-out unit waits at most this long for interactive jobs, so they slow bulk passes but never stall them
+    private static final long MAX_BULK_YIELD_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition jobAvailable = lock.newCondition();
+    private final ArrayDeque<Runnable> interactiveQueue = new ArrayDeque<>();
+    private final ArrayDeque<Runnable> bulkQueue = new ArrayDeque<>();
+    private final ArrayDeque<HeldUnit> heldBulkUnits = new ArrayDeque<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final Set<AgentContext> running = ConcurrentHashMap.newKeySet();
+    private final Map<String, Memo> memos = new ConcurrentHashMap<>();
+    private volatile Consumer<AgentProgress> finishedListener = progress -> {
+    };
+    private final ExecutionMode mode;
+    private final ExecutorService virtualThreads;
+    private final Executor fanOut;
+    private final Executor bulkFanOut;
+    private int runningInteractive;
+    private boolean closed;
 
     public AgentOrchestrator() {
-        this.executorService = Executors.newFixedThreadPool(
-                Math.max(2, Runtime.getRuntime().availableProcessors() / 2),
-                new AgentThreadFactory());
+        this(ExecutionMode.parse(System.getProperty(MODE_PROPERTY)));
+    }
+
+    public AgentOrchestrator(ExecutionMode mode) {
+        this(Math.max(2, Runtime.getRuntime().availableProcessors() / 2), mode, ForkJoinPool.commonPool());
+    }
+
+    AgentOrchestrator(int generalWorkers, Executor fanOut) {
+        this(generalWorkers, ExecutionMode.PLATFORM, fanOut);
+    }
+
+    private AgentOrchestrator(int generalWorkers, ExecutionMode requestedMode, Executor platformFanOut) {
+        Objects.requireNonNull(requestedMode, "mode");
+        Objects.requireNonNull(platformFanOut, "platformFanOut");
+        this.mode = requestedMode;
+        this.virtualThreads = mode == ExecutionMode.VIRTUAL ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        this.fanOut = virtualThreads != null ? virtualThreads : platformFanOut;
+        this.bulkFanOut = this::executeBulkUnit;
+        for (int i = 0; i < RESERVED_INTERACTIVE_WORKERS; i++) {
+            workers.add(startWorker("agent-interactive-" + i, false));
+        }
+        for (int i = 0; i < generalWorkers; i++) {
+            workers.add(startWorker("agent-worker-" + i, true));
+        }
+    }
+
+    /**
+     * @return the mode the fan-out runs in
+     */
+    public ExecutionMode mode() {
+        return mode;
     }
 
     public <T> CompletableFuture<AgentResult<T>> submit(AgentTask<T> task) {
         Objects.requireNonNull(task, "task");
-        return CompletableFuture.supplyAsync(() -> execute(task), executorService);
+        return submit(task, task.lane());
+    }
+
+    /**
+     * Queues {@code task} on {@code lane}, overriding the task's own preference. The future fails with a
+     * {@link RejectedExecutionException} when the bulk lane is full or the orchestrator is closed.
+     */
+    public <T> CompletableFuture<AgentResult<T>> submit(AgentTask<T> task, AgentLane lane) {
+        Objects.requireNonNull(task, "task");
+        Objects.requireNonNull(lane, "lane");
+        return enqueue(task.name(), lane, () -> execute(task, lane));
+    }
+
+    /**
+     * Runs every node of {@code graph} on its task's lane as soon as the nodes it depends on have finished, reusing
+     * the previous payload of memoized nodes whose input fingerprints are unchanged (see {@link AgentGraph}). Only the
+     * latest result per node key is remembered.
+     */
+    public AgentGraph.Results run(AgentGraph graph) {
+        Objects.requireNonNull(graph, "graph");
+        Map<AgentGraph.Node<?>, CompletableFuture<? extends NodeOutcome<?>>> outcomes = new HashMap<>();
+        Map<AgentGraph.Node<?>, CompletableFuture<? extends AgentResult<?>>> results = new HashMap<>();
+        for (AgentGraph.Node<?> node : graph.nodes()) {
+            CompletableFuture<? extends NodeOutcome<?>> outcome = schedule(node, outcomes);
+            outcomes.put(node, outcome);
+            results.put(node, outcome.thenApply(NodeOutcome::result));
+        }
+        return new AgentGraph.Results(results);
+    }
+
+    private <T> CompletableFuture<NodeOutcome<T>> schedule(
+            AgentGraph.Node<T> node,
+            Map<AgentGraph.Node<?>, CompletableFuture<? extends NodeOutcome<?>>> outcomes) {
+        List<AgentGraph.Node<?>> dependencies = node.dependencies();
+        CompletableFuture<?>[] upstream = dependencies.stream().map(outcomes::get).toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(upstream).thenCompose(ignored -> {
+            Map<AgentGraph.Node<?>, Object> payloads = new HashMap<>();
+            List<InputFingerprint> upstreamFingerprints = new ArrayList<>();
+            for (int i = 0; i < upstream.length; i++) {
+                NodeOutcome<?> done = (NodeOutcome<?>) upstream[i].join();
+                payloads.put(dependencies.get(i), done.result().payload());
+                upstreamFingerprints.add(done.fingerprint());
+            }
+            AgentTask<T> task = node.factory().apply(new AgentGraph.Inputs(node, payloads));
+            AgentLane lane = task.lane();
+            return enqueue(task.name(), lane, () -> runNode(node, task, lane, upstreamFingerprints));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> NodeOutcome<T> runNode(AgentGraph.Node<T> node,
+                                       AgentTask<T> task,
+                                       AgentLane lane,
+                                       List<InputFingerprint> upstreamFingerprints) {
+        Instant start = Instant.now();
+        InputFingerprint fingerprint = fingerprint(node, upstreamFingerprints);
+        if (fingerprint != null) {
+            Memo memo = memos.get(node.key());
+            if (memo != null && memo.fingerprint().equals(fingerprint)) {
+                return new NodeOutcome<>(new AgentResult<>(task.name(), (T) memo.payload(),
+                        Duration.between(start, Instant.now()), true), fingerprint);
+            }
+        }
+        AgentResult<T> result = execute(task, lane);
+        if (fingerprint != null) {
+            memos.put(node.key(), new Memo(fingerprint, result.payload()));
+        }
+        return new NodeOutcome<>(result, fingerprint);
+    }
+
+    /**
+     * @return the node's own inputs combined with its dependencies', or {@code null} when any of them is untracked
+     */
+    private InputFingerprint fingerprint(AgentGraph.Node<?> node, List<InputFingerprint> upstreamFingerprints) {
+        if (node.inputs() == null || upstreamFingerprints.contains(null)) {
+            return null;
+        }
+        try {
+            InputFingerprint.Builder builder = InputFingerprint.builder()
+                    .add(node.key())
+                    .add(node.inputs().fingerprint());
+            upstreamFingerprints.forEach(builder::add);
+            return builder.build();
+        } catch (IOException e) {
+            LOGGER.warn("Unable to fingerprint the inputs of {}; running it without memoization", node.key(), e);
+            return null;
+        }
+    }
+
+    private <R> CompletableFuture<R> enqueue(String name, AgentLane lane, Supplier<R> work) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        Runnable job = () -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(work.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        };
+        lock.lock();
+        try {
+            if (closed) {
+                future.completeExceptionally(new RejectedExecutionException("Agent orchestrator is closed"));
+            } else if (lane == AgentLane.BULK && bulkQueue.size() >= MAX_QUEUED_BULK_JOBS) {
+                future.completeExceptionally(new RejectedExecutionException(
+                        "Too many background jobs queued; " + name + " was not started"));
+            } else {
+                (lane == AgentLane.INTERACTIVE ? interactiveQueue : bulkQueue).add(job);
+                // signal everyone: the reserved worker cannot take a bulk job
+                jobAvailable.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return future;
     }
 
-    private <T> AgentResult<T> execute(AgentTask<T> task) {
+    /**
+     * Executor for the fan-out inside a job on {@code lane} (see the {@code Executor} overloads of the bulk services).
+     * Both run on the same threads (see {@link ExecutionMode}); bulk units first wait for queued or running
+     * interactive jobs.
+     */
+    public Executor fanOutExecutor(AgentLane lane) {
+        return lane == AgentLane.INTERACTIVE ? fanOut : bulkFanOut;
+    }
+
+    /**
+     * Samples every running job, oldest first. Cheap enough to poll from the FX thread on a timer.
+     */
+    public List<AgentProgress> runningProgress() {
+        return running.stream()
+                .map(AgentContext::snapshot)
+                .sorted(Comparator.comparingLong(AgentProgress::elapsedNanos).reversed())
+                .toList();
+    }
+
+    /**
+     * Receives the final progress of every job that reported units, once it has finished (successfully or not).
+     * Called on the worker thread.
+     */
+    public void setFinishedListener(Consumer<AgentProgress> listener) {
+        this.finishedListener = Objects.requireNonNull(listener, "listener");
+    }
+
+    private <T> AgentResult<T> execute(AgentTask<T> task, AgentLane lane) {
         Instant start = Instant.now();
+        AgentContext context = new AgentContext(task.name(), lane);
+        running.add(context);
         try {
-            T payload = task.run();
+            T payload = task.run(context);
             return new AgentResult<>(task.name(), payload, Duration.between(start, Instant.now()));
         } catch (Exception e) {
             throw new CompletionException(e);
+        } finally {
+            running.remove(context);
+            AgentProgress progress = context.snapshot();
+            if (progress.reported()) {
+                finishedListener.accept(progress);
+            }
+        }
+    }
+
+    private Thread startWorker(String name, boolean takesBulk) {
+        Thread thread = new Thread(() -> workLoop(takesBulk), name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private void workLoop(boolean takesBulk) {
+        while (true) {
+            Runnable job;
+            boolean interactive;
+            lock.lock();
+            try {
+                while (!closed && interactiveQueue.isEmpty() && (!takesBulk || bulkQueue.isEmpty())) {
+                    jobAvailable.awaitUninterruptibly();
+                }
+                if (closed) {
+                    return;
+                }
+                interactive = !interactiveQueue.isEmpty();
+                job = interactive ? interactiveQueue.poll() : bulkQueue.poll();
+                if (interactive) {
+                    runningInteractive++;
+                }
+            } finally {
+                lock.unlock();
+            }
+            try {
+                job.run();
+            } finally {
+                if (interactive) {
+                    lock.lock();
+                    try {
+                        runningInteractive--;
+                        if (runningInteractive == 0 && interactiveQueue.isEmpty()) {
+                            releaseHeldBulkUnits();
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands a bulk unit to the fan-out threads, or parks it until interactive jobs are idle (or
+     * {@link #MAX_BULK_YIELD_NANOS} has passed) without occupying a fan-out thread meanwhile.
+     */
+    private void executeBulkUnit(Runnable command) {
+        lock.lock();
+        try {
+            if (!closed && (runningInteractive > 0 || !interactiveQueue.isEmpty())) {
+                HeldUnit held = new HeldUnit(command);
+                heldBulkUnits.add(held);
+                CompletableFuture.delayedExecutor(MAX_BULK_YIELD_NANOS, TimeUnit.NANOSECONDS)
+                        .execute(() -> releaseHeldBulkUnit(held));
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        fanOut.execute(command);
+    }
+
+    private void releaseHeldBulkUnit(HeldUnit held) {
+        lock.lock();
+        try {
+            if (!heldBulkUnits.remove(held)) {
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        fanOut.execute(held.command());
+    }
+
+    /**
+     * Called with the lock held.
+     */
+    private void releaseHeldBulkUnits() {
+        while (!heldBulkUnits.isEmpty()) {
+            fanOut.execute(heldBulkUnits.poll().command());
         }
     }
 
     @Override
     public void close() {
-        executorService.shutdownNow();
+        lock.lock();
+        try {
+            closed = true;
+            interactiveQueue.clear();
+            bulkQueue.clear();
+            jobAvailable.signalAll();
+            releaseHeldBulkUnits();
+        } finally {
+            lock.unlock();
+        }
+        workers.forEach(Thread::interrupt);
+        if (virtualThreads != null) {
+            virtualThreads.shutdownNow();
+        }
+    }
+
+    private record NodeOutcome<T>(AgentResult<T> result, InputFingerprint fingerprint) {
+    }
+
+    private record Memo(InputFingerprint fingerprint, Object payload) {
+    }
+
+    // identity, not record equality: the same command may be held twice
+    private static final class HeldUnit {
+        private final Runnable command;
+
+        private HeldUnit(Runnable command) {
+            this.command = command;
+        }
+
+        Runnable command() {
+            return command;
+        }
     }
 
-    private static class AgentThreadFactory implements ThreadFactory {
-        private int counter = 0;
+    /**
+     * Threads the fan-out inside agent jobs runs on. Jobs themselves are always taken by the lane workers.
+     */
+    public enum ExecutionMode {
+        /** The shared common pool, sized to the CPU count. */
+        PLATFORM,
+        /** One virtual thread per fan-out unit; blocking file and archive reads don't tie up a pool thread. */
+        VIRTUAL;
 
-        @Override
-        public Thread newThread(Runnable r) {
-            Thread t = new Thread(r, "agent-worker-" + counter++);
-            t.setDaemon(true);
-            return t;
+        static ExecutionMode parse(String value) {
+            return value != null && value.trim().equalsIgnoreCase("virtual") ? VIRTUAL : PLATFORM;
         }
     }
 }
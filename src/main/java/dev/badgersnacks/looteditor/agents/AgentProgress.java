@@ -0,0 +1,53 @@
+package dev.badgersnacks.looteditor.agents;
+
+import java.util.Locale;
+
+/**
+ * Point-in-time view of a running (or just finished) agent job, sampled from its {@link AgentContext}.
+ * {@code totalUnits} is 0 while the job has not said how much work it has.
+ */
+public record AgentProgress(String taskName,
+                            AgentLane lane,
+                            long unitsDone,
+                            long totalUnits,
+                            String unit,
+                            String currentSource,
+                            long bytesRead,
+                            long elapsedNanos) {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    private static final double BYTES_PER_MEGABYTE = 1024d * 1024d;
+
+    /**
+     * @return completion in [0, 1], or -1 when the total is unknown
+     */
+    public double fraction() {
+        return totalUnits > 0 ? Math.min(1d, (double) unitsDone / totalUnits) : -1d;
+    }
+
+    public double unitsPerSecond() {
+        return elapsedNanos > 0 ? unitsDone * NANOS_PER_SECOND / elapsedNanos : 0d;
+    }
+
+    public double megabytesPerSecond() {
+        return elapsedNanos > 0 ? bytesRead / BYTES_PER_MEGABYTE * NANOS_PER_SECOND / elapsedNanos : 0d;
+    }
+
+    /**
+     * @return whether the job reported any units at all (quick jobs such as previews don't)
+     */
+    public boolean reported() {
+        return totalUnits > 0 || unitsDone > 0;
+    }
+
+    /**
+     * One-line summary for the status strip and the action log, e.g.
+     * {@code 120/300 archives, 14.2 archives/s, 35.1 MB/s}.
+     */
+    public String describe() {
+        String label = unit == null ? "units" : unit;
+        String count = totalUnits > 0 ? unitsDone + "/" + totalUnits : Long.toString(unitsDone);
+        return String.format(Locale.ROOT, "%s %s, %.1f %s/s, %.1f MB/s", count, label, unitsPerSecond(), label,
+                megabytesPerSecond());
+    }
+}
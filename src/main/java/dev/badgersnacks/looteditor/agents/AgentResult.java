@@ -3,7 +3,12 @@ package dev.badgersnacks.looteditor.agents;
 import java.time.Duration;
 
 /**
- * Simple value object describing the result of an agent run.
+ * Simple value object describing the result of an agent run. {@code reused} marks a graph node whose inputs were
+ * unchanged, so the payload comes from an earlier run and {@code duration} only covers the fingerprint check.
  */
-public record AgentResult<T>(String agentName, T payload, Duration duration) {
+public record AgentResult<T>(String agentName, T payload, Duration duration, boolean reused) {
+
+    public AgentResult(String agentName, T payload, Duration duration) {
+        this(agentName, payload, duration, false);
+    }
 }
@@ -7,5 +7,15 @@ package dev.badgersnacks.looteditor.agents;
  */
 public interface AgentTask<T> {
     String name();
-    T run() throws Exception;
+    /**
+     * Does the work. Long passes report their progress through {@code context}; short ones may ignore it.
+     */
+    T run(AgentContext context) throws Exception;
+
+    /**
+     * Lane the orchestrator queues this task on unless the caller picks one; background passes by default.
+     */
+    default AgentLane lane() {
+        return AgentLane.BULK;
+    }
 }
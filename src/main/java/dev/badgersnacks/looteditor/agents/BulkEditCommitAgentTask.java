@@ -0,0 +1,45 @@
+package dev.badgersnacks.looteditor.agents;
+
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.services.BulkEditService;
+import dev.badgersnacks.looteditor.services.BulkEditService.BulkEditPlan;
+import dev.badgersnacks.looteditor.services.SaveQueue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes a reviewed bulk edit plan in one batch. Pending editor saves are flushed first so an older queued write
+ * cannot land on top of the bulk result.
+ */
+public class BulkEditCommitAgentTask implements AgentTask<List<LootTableDescriptor>> {
+
+    private final BulkEditService bulkEditService;
+    private final SaveQueue saveQueue;
+    private final Path modpackRoot;
+    private final BulkEditPlan plan;
+
+    public BulkEditCommitAgentTask(BulkEditService bulkEditService,
+                                   SaveQueue saveQueue,
+                                   Path modpackRoot,
+                                   BulkEditPlan plan) {
+        this.bulkEditService = Objects.requireNonNull(bulkEditService, "bulkEditService");
+        this.saveQueue = saveQueue;
+        this.modpackRoot = Objects.requireNonNull(modpackRoot, "modpackRoot");
+        this.plan = Objects.requireNonNull(plan, "plan");
+    }
+
+    @Override
+    public String name() {
+        return "bulk-edit-commit";
+    }
+
+    @Override
+    public List<LootTableDescriptor> run(AgentContext context) throws Exception {
+        if (saveQueue != null) {
+            saveQueue.flush();
+        }
+        return bulkEditService.commit(modpackRoot, plan);
+    }
+}
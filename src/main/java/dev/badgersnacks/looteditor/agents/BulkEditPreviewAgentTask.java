@@ -0,0 +1,46 @@
+package dev.badgersnacks.looteditor.agents;
+
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.services.BulkEditService;
+import dev.badgersnacks.looteditor.services.BulkEditService.BulkEditPlan;
+import dev.badgersnacks.looteditor.services.BulkEditService.LootTableTransform;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+/**
+ * Parses and transforms every matching table in the background so the user can review a bulk edit before it is
+ * written.
+ */
+public class BulkEditPreviewAgentTask implements AgentTask<BulkEditPlan> {
+
+    private final BulkEditService bulkEditService;
+    private final List<LootTableDescriptor> descriptors;
+    private final Predicate<LootTableDescriptor> filter;
+    private final LootTableTransform transform;
+    private final Executor executor;
+
+    public BulkEditPreviewAgentTask(BulkEditService bulkEditService,
+                                    List<LootTableDescriptor> descriptors,
+                                    Predicate<LootTableDescriptor> filter,
+                                    LootTableTransform transform,
+                                    Executor executor) {
+        this.bulkEditService = Objects.requireNonNull(bulkEditService, "bulkEditService");
+        this.descriptors = List.copyOf(Objects.requireNonNull(descriptors, "descriptors"));
+        this.filter = filter;
+        this.transform = Objects.requireNonNull(transform, "transform");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public String name() {
+        return "bulk-edit-preview";
+    }
+
+    @Override
+    public BulkEditPlan run(AgentContext context) {
+        return bulkEditService.preview(descriptors, filter, transform, executor, context);
+    }
+}
@@ -0,0 +1,32 @@
+package dev.badgersnacks.looteditor.agents;
+
+import dev.badgersnacks.looteditor.model.EnchantmentDescriptor;
+import dev.badgersnacks.looteditor.services.EnchantmentDataService;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Loads the enchantment palette for the pool editor.
+ */
+public class EnchantmentCatalogAgentTask implements AgentTask<List<EnchantmentDescriptor>> {
+
+    private final Path modpackRoot;
+    private final EnchantmentDataService dataService;
+
+    public EnchantmentCatalogAgentTask(Path modpackRoot, EnchantmentDataService dataService) {
+        this.modpackRoot = Objects.requireNonNull(modpackRoot, "modpackRoot");
+        this.dataService = Objects.requireNonNull(dataService, "dataService");
+    }
+
+    @Override
+    public String name() {
+        return "enchantment-catalog";
+    }
+
+    @Override
+    public List<EnchantmentDescriptor> run(AgentContext context) {
+        return dataService.load(modpackRoot);
+    }
+}
@@ -5,6 +5,7 @@ import dev.badgersnacks.looteditor.catalog.ItemCatalogService;
 
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * Builds the icon + item catalog for a modpack in the background.
@@ -13,10 +14,12 @@ public class ItemCatalogAgentTask implements AgentTask<ItemCatalog> {
 
     private final Path modpackRoot;
     private final ItemCatalogService catalogService;
+    private final Executor executor;
 
-    public ItemCatalogAgentTask(Path modpackRoot, ItemCatalogService catalogService) {
+    public ItemCatalogAgentTask(Path modpackRoot, ItemCatalogService catalogService, Executor executor) {
         this.modpackRoot = Objects.requireNonNull(modpackRoot, "modpackRoot");
         this.catalogService = Objects.requireNonNull(catalogService, "catalogService");
+        this.executor = Objects.requireNonNull(executor, "executor");
     }
 
     @Override
@@ -25,7 +28,7 @@ public class ItemCatalogAgentTask implements AgentTask<ItemCatalog> {
     }
 
     @Override
-    public ItemCatalog run() throws Exception {
-        return catalogService.buildCatalog(modpackRoot);
+    public ItemCatalog run(AgentContext context) throws Exception {
+        return catalogService.buildCatalog(modpackRoot, executor, context);
     }
 }
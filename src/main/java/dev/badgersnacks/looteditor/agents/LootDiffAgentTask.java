@@ -0,0 +1,35 @@
+package dev.badgersnacks.looteditor.agents;
+
+import dev.badgersnacks.looteditor.diff.LootTableDiffService;
+import dev.badgersnacks.looteditor.diff.LootTableDiffService.DiffPair;
+import dev.badgersnacks.looteditor.diff.LootTableDiffService.DiffReport;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Reads both sides of every pair in the background and diffs them structurally.
+ */
+public class LootDiffAgentTask implements AgentTask<DiffReport> {
+
+    private final LootTableDiffService diffService;
+    private final List<DiffPair> pairs;
+    private final Executor executor;
+
+    public LootDiffAgentTask(LootTableDiffService diffService, List<DiffPair> pairs, Executor executor) {
+        this.diffService = Objects.requireNonNull(diffService, "diffService");
+        this.pairs = List.copyOf(Objects.requireNonNull(pairs, "pairs"));
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public String name() {
+        return "loot-diff";
+    }
+
+    @Override
+    public DiffReport run(AgentContext context) {
+        return diffService.diffAll(pairs, executor, context);
+    }
+}
@@ -0,0 +1,41 @@
+package dev.badgersnacks.looteditor.agents;
+
+import dev.badgersnacks.looteditor.index.LootIndexService;
+import dev.badgersnacks.looteditor.index.LootReverseIndex;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Parses every discovered loot table in the background and builds the item-to-table reverse index.
+ */
+public class LootIndexAgentTask implements AgentTask<LootReverseIndex> {
+
+    private final Path modpackRoot;
+    private final List<LootTableDescriptor> descriptors;
+    private final LootIndexService indexService;
+    private final Executor executor;
+
+    public LootIndexAgentTask(Path modpackRoot,
+                              List<LootTableDescriptor> descriptors,
+                              LootIndexService indexService,
+                              Executor executor) {
+        this.modpackRoot = Objects.requireNonNull(modpackRoot, "modpackRoot");
+        this.descriptors = List.copyOf(Objects.requireNonNull(descriptors, "descriptors"));
+        this.indexService = Objects.requireNonNull(indexService, "indexService");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public String name() {
+        return "loot-index";
+    }
+
+    @Override
+    public LootReverseIndex run(AgentContext context) throws Exception {
+        return indexService.build(modpackRoot, descriptors, executor, context);
+    }
+}
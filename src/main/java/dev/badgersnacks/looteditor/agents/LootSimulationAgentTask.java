@@ -0,0 +1,51 @@
+package dev.badgersnacks.looteditor.agents;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.badgersnacks.looteditor.simulation.CompiledLootTable;
+import dev.badgersnacks.looteditor.simulation.LootSimulator;
+import dev.badgersnacks.looteditor.simulation.LootTableCompiler;
+import dev.badgersnacks.looteditor.simulation.SimulationResult;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Compiles a loot table (resolving {@code loot_table} references through the supplied resolver) and rolls it
+ * {@code runs} times. The rolls themselves fan out across the common pool.
+ */
+public class LootSimulationAgentTask implements AgentTask<SimulationResult> {
+
+    private final String tableId;
+    private final JsonNode table;
+    private final Function<String, JsonNode> resolver;
+    private final long runs;
+    private final long seed;
+
+    public LootSimulationAgentTask(String tableId,
+                                   JsonNode table,
+                                   Function<String, JsonNode> resolver,
+                                   long runs,
+                                   long seed) {
+        this.tableId = tableId;
+        this.table = Objects.requireNonNull(table, "table");
+        this.resolver = resolver;
+        this.runs = runs;
+        this.seed = seed;
+    }
+
+    @Override
+    public String name() {
+        return "loot-simulation";
+    }
+
+    @Override
+    public AgentLane lane() {
+        return AgentLane.INTERACTIVE;
+    }
+
+    @Override
+    public SimulationResult run(AgentContext context) {
+        CompiledLootTable program = new LootTableCompiler(resolver).compile(tableId, table);
+        return new LootSimulator().simulate(program, runs, seed);
+    }
+}
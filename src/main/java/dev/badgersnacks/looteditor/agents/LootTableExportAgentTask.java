@@ -0,0 +1,51 @@
+package dev.badgersnacks.looteditor.agents;
+
+import dev.badgersnacks.looteditor.agents.LootTableLoadAgentTask.LoadedTable;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.persistence.EnchantmentPoolLinkService;
+import dev.badgersnacks.looteditor.services.LootTableService;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Exports a table to the pack's datapack and reads the exported copy back for the editor. The read waits for queued
+ * saves and the write syncs worlds, so neither may run on the FX thread.
+ */
+public class LootTableExportAgentTask implements AgentTask<LoadedTable> {
+
+    private final LootTableService lootTableService;
+    private final EnchantmentPoolLinkService poolLinkService;
+    private final Path modpackRoot;
+    private final LootTableDescriptor descriptor;
+
+    /**
+     * @param poolLinkService may be {@code null}; the exported rows are then read without links
+     */
+    public LootTableExportAgentTask(LootTableService lootTableService,
+                                    EnchantmentPoolLinkService poolLinkService,
+                                    Path modpackRoot,
+                                    LootTableDescriptor descriptor) {
+        this.lootTableService = Objects.requireNonNull(lootTableService, "lootTableService");
+        this.poolLinkService = poolLinkService;
+        this.modpackRoot = Objects.requireNonNull(modpackRoot, "modpackRoot");
+        this.descriptor = Objects.requireNonNull(descriptor, "descriptor");
+    }
+
+    @Override
+    public String name() {
+        return "table-export";
+    }
+
+    @Override
+    public AgentLane lane() {
+        return AgentLane.INTERACTIVE;
+    }
+
+    @Override
+    public LoadedTable run(AgentContext context) throws Exception {
+        LootTableDescriptor exported = lootTableService.exportToDatapack(modpackRoot, descriptor);
+        return LootTableLoadAgentTask.prepare(exported, lootTableService.load(exported), lootTableService,
+                poolLinkService, modpackRoot);
+    }
+}
@@ -0,0 +1,38 @@
+package dev.badgersnacks.looteditor.agents;
+
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.services.LootTableService;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Copies a read-only table into KubeJS off the FX thread; reading it may first wait for queued saves to land.
+ */
+public class LootTableForkAgentTask implements AgentTask<LootTableDescriptor> {
+
+    private final LootTableService lootTableService;
+    private final Path modpackRoot;
+    private final LootTableDescriptor descriptor;
+
+    public LootTableForkAgentTask(LootTableService lootTableService, Path modpackRoot, LootTableDescriptor descriptor) {
+        this.lootTableService = Objects.requireNonNull(lootTableService, "lootTableService");
+        this.modpackRoot = Objects.requireNonNull(modpackRoot, "modpackRoot");
+        this.descriptor = Objects.requireNonNull(descriptor, "descriptor");
+    }
+
+    @Override
+    public String name() {
+        return "table-fork";
+    }
+
+    @Override
+    public AgentLane lane() {
+        return AgentLane.INTERACTIVE;
+    }
+
+    @Override
+    public LootTableDescriptor run(AgentContext context) throws Exception {
+        return lootTableService.forkToKubeJs(modpackRoot, descriptor);
+    }
+}
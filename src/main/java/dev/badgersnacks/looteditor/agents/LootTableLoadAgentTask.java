@@ -0,0 +1,82 @@
+package dev.badgersnacks.looteditor.agents;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.badgersnacks.looteditor.model.EnchantmentPoolLink;
+import dev.badgersnacks.looteditor.model.LootPoolEntryModel;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.persistence.EnchantmentPoolLinkService;
+import dev.badgersnacks.looteditor.services.EnchantmentPoolAdapter;
+import dev.badgersnacks.looteditor.services.LootTableService;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads a loot table for the editor and turns it into editable rows (merging enchantment pool links when a pack
+ * context is given), so selecting a table never parses on the FX thread.
+ */
+public class LootTableLoadAgentTask implements AgentTask<LootTableLoadAgentTask.LoadedTable> {
+
+    private final LootTableDescriptor descriptor;
+    private final LootTableService lootTableService;
+    private final EnchantmentPoolLinkService poolLinkService;
+    private final Path modpackRoot;
+
+    /**
+     * @param poolLinkService may be {@code null}, as may {@code modpackRoot}; rows are then extracted without links
+     */
+    public LootTableLoadAgentTask(LootTableDescriptor descriptor,
+                                  LootTableService lootTableService,
+                                  EnchantmentPoolLinkService poolLinkService,
+                                  Path modpackRoot) {
+        this.descriptor = Objects.requireNonNull(descriptor, "descriptor");
+        this.lootTableService = Objects.requireNonNull(lootTableService, "lootTableService");
+        this.poolLinkService = poolLinkService;
+        this.modpackRoot = modpackRoot;
+    }
+
+    @Override
+    public String name() {
+        return "table-load";
+    }
+
+    @Override
+    public AgentLane lane() {
+        return AgentLane.INTERACTIVE;
+    }
+
+    @Override
+    public LoadedTable run(AgentContext context) throws Exception {
+        return prepare(descriptor, lootTableService.load(descriptor), lootTableService, poolLinkService, modpackRoot);
+    }
+
+    /**
+     * Builds the editor state for an already loaded {@code node}. The node is copied, never modified.
+     */
+    public static LoadedTable prepare(LootTableDescriptor descriptor,
+                                      JsonNode node,
+                                      LootTableService lootTableService,
+                                      EnchantmentPoolLinkService poolLinkService,
+                                      Path modpackRoot) {
+        JsonNode original = node == null ? null : node.deepCopy();
+        JsonNode working = node == null ? null : node.deepCopy();
+        List<LootPoolEntryModel> entries;
+        if (poolLinkService != null && modpackRoot != null) {
+            List<EnchantmentPoolLink> links = poolLinkService.loadLinks(modpackRoot, descriptor);
+            entries = EnchantmentPoolAdapter.mergeForEditing(working, links);
+        } else {
+            entries = lootTableService.extractEntries(working);
+        }
+        return new LoadedTable(descriptor, original, working, entries);
+    }
+
+    /**
+     * Editor state for one table: a pristine copy for revert, the working copy the rows were read from, and the rows.
+     */
+    public record LoadedTable(LootTableDescriptor descriptor,
+                              JsonNode original,
+                              JsonNode working,
+                              List<LootPoolEntryModel> entries) {
+    }
+}
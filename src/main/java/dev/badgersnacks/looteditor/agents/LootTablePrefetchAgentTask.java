@@ -0,0 +1,49 @@
+package dev.badgersnacks.looteditor.agents;
+
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.services.LootTableService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Speculatively parses tables the user is likely to open next (e.g. the neighbours of the selected one) into the
+ * {@link LootTableService} cache. Failures are ignored; the real load reports them.
+ */
+public class LootTablePrefetchAgentTask implements AgentTask<Integer> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LootTablePrefetchAgentTask.class);
+
+    private final List<LootTableDescriptor> descriptors;
+    private final LootTableService lootTableService;
+
+    public LootTablePrefetchAgentTask(List<LootTableDescriptor> descriptors, LootTableService lootTableService) {
+        this.descriptors = List.copyOf(descriptors);
+        this.lootTableService = Objects.requireNonNull(lootTableService, "lootTableService");
+    }
+
+    @Override
+    public String name() {
+        return "table-prefetch";
+    }
+
+    /**
+     * @return how many tables are now cached
+     */
+    @Override
+    public Integer run(AgentContext context) {
+        int loaded = 0;
+        for (LootTableDescriptor descriptor : descriptors) {
+            try {
+                lootTableService.prefetch(descriptor);
+                loaded++;
+            } catch (IOException e) {
+                LOGGER.debug("Prefetch of {} failed", descriptor.qualifiedName(), e);
+            }
+        }
+        return loaded;
+    }
+}
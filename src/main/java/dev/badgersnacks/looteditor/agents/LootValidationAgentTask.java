@@ -0,0 +1,56 @@
+package dev.badgersnacks.looteditor.agents;
+
+import dev.badgersnacks.looteditor.catalog.ItemCatalog;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.services.EnchantmentDataService;
+import dev.badgersnacks.looteditor.validation.ItemTagScanner;
+import dev.badgersnacks.looteditor.validation.KnownIds;
+import dev.badgersnacks.looteditor.validation.LootTableValidator;
+import dev.badgersnacks.looteditor.validation.ValidationReport;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Collects known tags and enchantments for the pack, then validates every discovered loot table against them and
+ * the item catalog.
+ */
+public class LootValidationAgentTask implements AgentTask<ValidationReport> {
+
+    private final Path modpackRoot;
+    private final List<LootTableDescriptor> descriptors;
+    private final ItemCatalog catalog;
+    private final EnchantmentDataService enchantmentDataService;
+    private final LootTableValidator validator;
+    private final Executor executor;
+
+    public LootValidationAgentTask(Path modpackRoot,
+                                   List<LootTableDescriptor> descriptors,
+                                   ItemCatalog catalog,
+                                   EnchantmentDataService enchantmentDataService,
+                                   LootTableValidator validator,
+                                   Executor executor) {
+        this.modpackRoot = Objects.requireNonNull(modpackRoot, "modpackRoot");
+        this.descriptors = List.copyOf(Objects.requireNonNull(descriptors, "descriptors"));
+        this.catalog = catalog;
+        this.enchantmentDataService = Objects.requireNonNull(enchantmentDataService, "enchantmentDataService");
+        this.validator = Objects.requireNonNull(validator, "validator");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public String name() {
+        return "loot-validation";
+    }
+
+    @Override
+    public ValidationReport run(AgentContext context) {
+        KnownIds known = KnownIds.of(catalog,
+                new ItemTagScanner().collect(modpackRoot, descriptors),
+                enchantmentDataService.load(modpackRoot),
+                descriptors);
+        return validator.validate(descriptors, known, executor, context);
+    }
+}
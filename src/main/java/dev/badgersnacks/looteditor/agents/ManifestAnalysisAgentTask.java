@@ -0,0 +1,40 @@
+package dev.badgersnacks.looteditor.agents;
+
+import dev.badgersnacks.looteditor.manifest.ManifestCoverage;
+import dev.badgersnacks.looteditor.manifest.MergedManifestLoader;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Checks a finished scan against the merged manifest.
+ */
+public class ManifestAnalysisAgentTask implements AgentTask<ManifestCoverage> {
+
+    private final Path modpackRoot;
+    private final Path manifestPath;
+    private final List<LootTableDescriptor> descriptors;
+    private final MergedManifestLoader loader;
+
+    public ManifestAnalysisAgentTask(Path modpackRoot,
+                                     Path manifestPath,
+                                     List<LootTableDescriptor> descriptors,
+                                     MergedManifestLoader loader) {
+        this.modpackRoot = Objects.requireNonNull(modpackRoot, "modpackRoot");
+        this.manifestPath = Objects.requireNonNull(manifestPath, "manifestPath");
+        this.descriptors = List.copyOf(descriptors);
+        this.loader = Objects.requireNonNull(loader, "loader");
+    }
+
+    @Override
+    public String name() {
+        return "manifest-analysis";
+    }
+
+    @Override
+    public ManifestCoverage run(AgentContext context) {
+        return ManifestCoverage.analyze(loader, manifestPath, modpackRoot, descriptors);
+    }
+}
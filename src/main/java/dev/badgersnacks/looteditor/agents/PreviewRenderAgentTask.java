@@ -0,0 +1,61 @@
+package dev.badgersnacks.looteditor.agents;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.badgersnacks.looteditor.model.EnchantmentPool;
+import dev.badgersnacks.looteditor.model.LootPoolEntryModel;
+import dev.badgersnacks.looteditor.services.LootTablePreviewRenderer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Renders the editor's JSON preview chunks off the FX thread. Either renders the rows being edited, or (when no rows
+ * are given) the table exactly as loaded.
+ */
+public class PreviewRenderAgentTask implements AgentTask<List<String>> {
+
+    private final LootTablePreviewRenderer renderer;
+    private final JsonNode template;
+    private final List<LootPoolEntryModel> entries;
+    private final Map<String, EnchantmentPool> pools;
+
+    private PreviewRenderAgentTask(LootTablePreviewRenderer renderer,
+                                   JsonNode template,
+                                   List<LootPoolEntryModel> entries,
+                                   Map<String, EnchantmentPool> pools) {
+        this.renderer = Objects.requireNonNull(renderer, "renderer");
+        this.template = template;
+        this.entries = entries;
+        this.pools = pools;
+    }
+
+    public static PreviewRenderAgentTask forEntries(LootTablePreviewRenderer renderer,
+                                                    JsonNode template,
+                                                    List<LootPoolEntryModel> entries,
+                                                    Map<String, EnchantmentPool> pools) {
+        return new PreviewRenderAgentTask(renderer, template, List.copyOf(entries), Map.copyOf(pools));
+    }
+
+    public static PreviewRenderAgentTask forTable(LootTablePreviewRenderer renderer, JsonNode table) {
+        return new PreviewRenderAgentTask(renderer, table, null, null);
+    }
+
+    @Override
+    public String name() {
+        return "json-preview";
+    }
+
+    @Override
+    public AgentLane lane() {
+        return AgentLane.INTERACTIVE;
+    }
+
+    @Override
+    public List<String> run(AgentContext context) {
+        if (entries == null) {
+            return renderer.renderRaw(template);
+        }
+        return renderer.render(template, entries, pools);
+    }
+}
@@ -6,6 +6,7 @@ import dev.badgersnacks.looteditor.scanner.ModpackScanner;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * Agent task that crawls a modpack folder and returns every loot table descriptor it sees.
@@ -14,10 +15,12 @@ public class ScannerAgentTask implements AgentTask<List<LootTableDescriptor>> {
 
     private final Path modpackRoot;
     private final ModpackScanner scanner;
+    private final Executor executor;
 
-    public ScannerAgentTask(Path modpackRoot, ModpackScanner scanner) {
+    public ScannerAgentTask(Path modpackRoot, ModpackScanner scanner, Executor executor) {
         this.modpackRoot = Objects.requireNonNull(modpackRoot, "modpackRoot");
         this.scanner = Objects.requireNonNull(scanner, "scanner");
+        this.executor = Objects.requireNonNull(executor, "executor");
     }
 
     @Override
@@ -26,7 +29,7 @@ public class ScannerAgentTask implements AgentTask<List<LootTableDescriptor>> {
     }
 
     @Override
-    public List<LootTableDescriptor> run() throws Exception {
-        return scanner.scan(modpackRoot);
+    public List<LootTableDescriptor> run(AgentContext context) throws Exception {
+        return scanner.scan(modpackRoot, executor, context);
     }
 }
@@ -4,10 +4,14 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.badgersnacks.looteditor.catalog.ItemDescriptor.ItemType;
+import dev.badgersnacks.looteditor.util.InputFingerprint;
+import dev.badgersnacks.looteditor.util.ProgressListener;
+import dev.badgersnacks.looteditor.util.TaskScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.InputStream;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystem;
@@ -21,6 +25,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 /**
@@ -34,17 +41,57 @@ public class ItemCatalogService {
     private final ObjectMapper mapper = new ObjectMapper();
 
     public ItemCatalog buildCatalog(Path modpackRoot) throws IOException {
+        return buildCatalog(modpackRoot, Runnable::run);
+    }
+
+    public ItemCatalog buildCatalog(Path modpackRoot, Executor executor) throws IOException {
+        return buildCatalog(modpackRoot, executor, ProgressListener.NONE);
+    }
+
+    /**
+     * Like {@link #buildCatalog(Path)}, but reads the mod jars concurrently on {@code executor}, one subtask per jar,
+     * reporting each to {@code progress}. Later sources still win over earlier ones exactly as in the sequential scan.
+     */
+    public ItemCatalog buildCatalog(Path modpackRoot, Executor executor, ProgressListener progress)
+            throws IOException {
         Objects.requireNonNull(modpackRoot, "modpackRoot");
+        Objects.requireNonNull(executor, "executor");
+        Objects.requireNonNull(progress, "progress");
         Map<String, ItemDescriptor> descriptors = new LinkedHashMap<>();
 
         scanMinecraftAssets(modpackRoot, descriptors);
-        scanModJars(modpackRoot.resolve("mods"), descriptors);
+        scanModJars(modpackRoot.resolve("mods"), executor, progress, descriptors);
         scanAssetDirectory(modpackRoot.resolve("kubejs").resolve("assets"), "KubeJS Assets", descriptors);
         scanResourcePacks(modpackRoot.resolve("resourcepacks"), descriptors);
 
         return new ItemCatalog(new ArrayList<>(descriptors.values()));
     }
 
+    /**
+     * Fingerprints everything {@link #buildCatalog(Path)} reads: the mod and vanilla jars, KubeJS assets and resource
+     * packs. Equal fingerprints mean a rebuild would produce the same catalog.
+     */
+    public InputFingerprint fingerprint(Path modpackRoot) throws IOException {
+        Objects.requireNonNull(modpackRoot, "modpackRoot");
+        InputFingerprint.Builder builder = InputFingerprint.builder()
+                .add(modpackRoot.toAbsolutePath().normalize().toString());
+        Path modsDir = modpackRoot.resolve("mods");
+        if (Files.isDirectory(modsDir)) {
+            List<Path> jars = new ArrayList<>();
+            try (DirectoryStream<Path> jarFiles = Files.newDirectoryStream(modsDir, "*.jar")) {
+                jarFiles.forEach(jars::add);
+            }
+            builder.files(jars);
+        }
+        Optional<Path> vanillaJar = locateMinecraftJar(modpackRoot);
+        if (vanillaJar.isPresent()) {
+            builder.file(vanillaJar.get());
+        }
+        return builder.tree(modpackRoot.resolve("kubejs").resolve("assets"))
+                .tree(modpackRoot.resolve("resourcepacks"))
+                .build();
+    }
+
     private void scanResourcePacks(Path packsDir, Map<String, ItemDescriptor> sink) {
         if (!Files.isDirectory(packsDir)) {
             return;
@@ -275,24 +322,46 @@ public class ItemCatalogService {
         }
     }
 
-    private void scanModJars(Path modsDir, Map<String, ItemDescriptor> sink) {
+    private void scanModJars(Path modsDir,
+                             Executor executor,
+                             ProgressListener progress,
+                             Map<String, ItemDescriptor> sink) throws IOException {
         if (!Files.isDirectory(modsDir)) {
             return;
         }
-        try (DirectoryStream<Path> jars = Files.newDirectoryStream(modsDir, "*.jar")) {
-            for (Path jar : jars) {
-                try (FileSystem zipFs = FileSystems.newFileSystem(jar, (ClassLoader) null)) {
-                    Path assetsRoot = zipFs.getPath("assets");
-                    if (Files.exists(assetsRoot)) {
-                        scanAssetDirectory(assetsRoot, "Mod Jar: " + jar.getFileName(), sink);
-                    }
-                } catch (IOException e) {
-                    LOGGER.debug("Skipping jar {} due to {}", jar, e.getMessage());
-                }
-            }
+        List<Path> jars = new ArrayList<>();
+        try (DirectoryStream<Path> jarFiles = Files.newDirectoryStream(modsDir, "*.jar")) {
+            jarFiles.forEach(jars::add);
         } catch (IOException e) {
             LOGGER.warn("Unable to read mods folder {}", modsDir, e);
+            return;
         }
+        progress.start(jars.size(), "archives");
+        List<CompletableFuture<Map<String, ItemDescriptor>>> perJar = new ArrayList<>();
+        try (TaskScope<Map<String, ItemDescriptor>> scope = new TaskScope<>(executor)) {
+            for (Path jar : jars) {
+                perJar.add(scope.fork(() -> {
+                    Map<String, ItemDescriptor> found = new LinkedHashMap<>();
+                    try (FileSystem zipFs = FileSystems.newFileSystem(jar, (ClassLoader) null)) {
+                        Path assetsRoot = zipFs.getPath("assets");
+                        if (Files.exists(assetsRoot)) {
+                            scanAssetDirectory(assetsRoot, "Mod Jar: " + jar.getFileName(), found);
+                        }
+                    } catch (IOException e) {
+                        LOGGER.debug("Skipping jar {} due to {}", jar, e.getMessage());
+                    }
+                    progress.unitDone(jar.getFileName().toString(), sizeOf(jar));
+                    return found;
+                }));
+            }
+            scope.join();
+        } catch (ExecutionException e) {
+            throw new IOException("Mod jar asset scan failed in " + modsDir, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Mod jar asset scan interrupted");
+        }
+        perJar.forEach(found -> sink.putAll(found.join()));
     }
 
     private void scanMinecraftAssets(Path modpackRoot, Map<String, ItemDescriptor> sink) {
@@ -382,4 +451,12 @@ public class ItemCatalogService {
         Path installDir = minecraftDir.resolve("Install");
         return Files.isDirectory(installDir) ? installDir : null;
     }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
 }
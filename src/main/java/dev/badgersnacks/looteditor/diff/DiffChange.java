@@ -0,0 +1,25 @@
+package dev.badgersnacks.looteditor.diff;
+
+import java.util.Objects;
+
+/**
+ * One difference between two versions of a loot table.
+ *
+ * @param location where the change is, e.g. {@code pool #2 > minecraft:item minecraft:apple}
+ * @param field    the property that changed, or {@code null} when a whole pool or entry was added or removed
+ * @param before   compact JSON of the left side, {@code null} for additions
+ * @param after    compact JSON of the right side, {@code null} for removals
+ */
+public record DiffChange(Kind kind, String location, String field, String before, String after) {
+
+    public DiffChange {
+        Objects.requireNonNull(kind, "kind");
+        Objects.requireNonNull(location, "location");
+    }
+
+    public enum Kind {
+        ADDED,
+        REMOVED,
+        CHANGED
+    }
+}
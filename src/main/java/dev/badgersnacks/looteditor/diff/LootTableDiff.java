@@ -0,0 +1,30 @@
+package dev.badgersnacks.looteditor.diff;
+
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The changes that turn {@code left} into {@code right}; an empty list means the two are equivalent.
+ */
+public record LootTableDiff(LootTableDescriptor left, LootTableDescriptor right, List<DiffChange> changes) {
+
+    public LootTableDiff {
+        Objects.requireNonNull(left, "left");
+        Objects.requireNonNull(right, "right");
+        changes = List.copyOf(changes);
+    }
+
+    public String tableId() {
+        return right.qualifiedName();
+    }
+
+    public boolean identical() {
+        return changes.isEmpty();
+    }
+
+    public long count(DiffChange.Kind kind) {
+        return changes.stream().filter(change -> change.kind() == kind).count();
+    }
+}
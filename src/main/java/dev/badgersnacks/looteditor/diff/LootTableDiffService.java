@@ -0,0 +1,142 @@
+package dev.badgersnacks.looteditor.diff;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor.SourceType;
+import dev.badgersnacks.looteditor.persistence.OverridePaths;
+import dev.badgersnacks.looteditor.services.LootTableService;
+import dev.badgersnacks.looteditor.util.ProgressListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Diffs many table pairs in one pass: every distinct file is read once through {@link LootTableService#loadAll}
+ * in parallel, then each pair goes through {@link LootTableDiffer}, which is cheap next to the parsing.
+ */
+public final class LootTableDiffService {
+
+    // the table an override most likely replaced: jar copies first, then dumps, then other editable sources
+    private static final List<SourceType> ORIGINAL_PREFERENCE = List.of(SourceType.MOD_JAR, SourceType.VANILLA,
+            SourceType.LOOT_DUMP, SourceType.KUBEJS, SourceType.DATAPACK, SourceType.UNKNOWN);
+
+    private final LootTableService lootTableService;
+
+    public LootTableDiffService(LootTableService lootTableService) {
+        this.lootTableService = Objects.requireNonNull(lootTableService, "lootTableService");
+    }
+
+    /**
+     * Pairs every Loot Editor override with the table it replaces (original on the left, override on the right).
+     * Overrides with no other source are left out.
+     */
+    public static List<DiffPair> overridePairs(Collection<LootTableDescriptor> descriptors) {
+        Map<String, List<LootTableDescriptor>> byName = new LinkedHashMap<>();
+        for (LootTableDescriptor descriptor : descriptors) {
+            byName.computeIfAbsent(descriptor.qualifiedName(), ignored -> new ArrayList<>()).add(descriptor);
+        }
+        List<DiffPair> pairs = new ArrayList<>();
+        for (List<LootTableDescriptor> sources : byName.values()) {
+            LootTableDescriptor override = sources.stream().filter(LootTableDiffService::isOverride)
+                    .findFirst().orElse(null);
+            if (override == null) {
+                continue;
+            }
+            sources.stream()
+                    .filter(source -> !isOverride(source))
+                    .min(Comparator.comparingInt(source -> ORIGINAL_PREFERENCE.indexOf(source.sourceType())))
+                    .ifPresent(original -> pairs.add(new DiffPair(original, override)));
+        }
+        pairs.sort(Comparator.comparing(pair -> pair.right().qualifiedName()));
+        return pairs;
+    }
+
+    /**
+     * Pairs {@code table} with every other source of the same id (other source on the left).
+     */
+    public static List<DiffPair> sourcePairs(LootTableDescriptor table, Collection<LootTableDescriptor> descriptors) {
+        return descriptors.stream()
+                .filter(other -> other.qualifiedName().equals(table.qualifiedName()) && !other.equals(table))
+                .map(other -> new DiffPair(other, table))
+                .toList();
+    }
+
+    public static boolean isOverride(LootTableDescriptor descriptor) {
+        return OverridePaths.OVERRIDE_SOURCE_DISPLAY.equals(descriptor.sourceDisplay());
+    }
+
+    public DiffReport diffAll(List<DiffPair> pairs) {
+        return diffAll(pairs, ForkJoinPool.commonPool());
+    }
+
+    public DiffReport diffAll(List<DiffPair> pairs, Executor executor) {
+        return diffAll(pairs, executor, ProgressListener.NONE);
+    }
+
+    public DiffReport diffAll(List<DiffPair> pairs, Executor executor, ProgressListener progress) {
+        long start = System.nanoTime();
+        Set<LootTableDescriptor> files = new LinkedHashSet<>();
+        for (DiffPair pair : pairs) {
+            files.add(pair.left());
+            files.add(pair.right());
+        }
+        Map<LootTableDescriptor, JsonNode> trees = new ConcurrentHashMap<>();
+        ConcurrentLinkedQueue<String> failures = new ConcurrentLinkedQueue<>();
+        lootTableService.loadAll(files, executor, progress, new LootTableService.TableSink() {
+            @Override
+            public void accept(LootTableDescriptor descriptor, JsonNode node) {
+                trees.put(descriptor, node);
+            }
+
+            @Override
+            public void failed(LootTableDescriptor descriptor, Exception error) {
+                LootTableService.TableSink.super.failed(descriptor, error);
+                failures.add(descriptor.qualifiedName() + " (" + descriptor.sourceDisplay() + "): "
+                        + error.getMessage());
+            }
+        });
+        List<LootTableDiff> diffs = new ArrayList<>(pairs.size());
+        for (DiffPair pair : pairs) {
+            JsonNode left = trees.get(pair.left());
+            JsonNode right = trees.get(pair.right());
+            if (left != null && right != null) {
+                diffs.add(new LootTableDiff(pair.left(), pair.right(), LootTableDiffer.diff(left, right)));
+            }
+        }
+        return new DiffReport(diffs, (System.nanoTime() - start) / 1_000_000, List.copyOf(failures));
+    }
+
+    public record DiffPair(LootTableDescriptor left, LootTableDescriptor right) {
+        public DiffPair {
+            Objects.requireNonNull(left, "left");
+            Objects.requireNonNull(right, "right");
+        }
+    }
+
+    /**
+     * @param diffs    one per pair whose sides could both be read, identical pairs included
+     * @param failures tables that could not be read, as {@code id (source): reason}
+     */
+    public record DiffReport(List<LootTableDiff> diffs, long durationMillis, List<String> failures) {
+
+        public DiffReport {
+            diffs = List.copyOf(diffs);
+            failures = List.copyOf(failures);
+        }
+
+        public List<LootTableDiff> changed() {
+            return diffs.stream().filter(diff -> !diff.identical()).toList();
+        }
+    }
+}
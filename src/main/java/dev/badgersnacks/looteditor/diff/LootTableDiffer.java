@@ -0,0 +1,258 @@
+package dev.badgersnacks.looteditor.diff;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.badgersnacks.looteditor.diff.DiffChange.Kind;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Structural diff of two loot tables. Entries are matched by identity ({@code type} plus item, tag or table id,
+ * or the ids of their children for composite entries) instead of array position, so reordering a pool or inserting
+ * an entry doesn't show up as every later entry changing. Pools have no identity of their own and are paired with
+ * the pool on the other side whose entries overlap the most. Numbers compare by value, so {@code 1} equals
+ * {@code 1.0}.
+ * <p>
+ * Stateless and thread-safe.
+ */
+public final class LootTableDiffer {
+
+    private static final int MAX_VALUE_LENGTH = 96;
+    private static final Set<String> TABLE_CHILDREN = Set.of("pools");
+    private static final Set<String> POOL_CHILDREN = Set.of("entries");
+    private static final Set<String> ENTRY_CHILDREN = Set.of("children");
+    private static final Comparator<JsonNode> BY_VALUE = (a, b) -> {
+        if (a.isNumber() && b.isNumber()) {
+            return Double.compare(a.doubleValue(), b.doubleValue());
+        }
+        return a.equals(b) ? 0 : 1;
+    };
+
+    private LootTableDiffer() {
+    }
+
+    /**
+     * @return the changes that turn {@code left} into {@code right}, pools in {@code right}'s order
+     */
+    public static List<DiffChange> diff(JsonNode left, JsonNode right) {
+        if (same(left, right)) {
+            return List.of();
+        }
+        List<DiffChange> changes = new ArrayList<>();
+        compareFields("table", left, right, TABLE_CHILDREN, changes);
+        diffPools(elements(left.path("pools")), elements(right.path("pools")), changes);
+        return changes;
+    }
+
+    /**
+     * Identity used to pair entries across versions, e.g. {@code minecraft:item minecraft:apple}.
+     */
+    static String entryKey(JsonNode entry) {
+        String type = entry.path("type").asText("");
+        if (!type.isEmpty() && type.indexOf(':') < 0) {
+            type = "minecraft:" + type;
+        }
+        String identity;
+        if (entry.path("name").isTextual()) {
+            identity = entry.get("name").asText();
+        } else if (entry.path("value").isTextual()) {
+            identity = entry.get("value").asText();
+        } else if (entry.path("value").isObject()) {
+            identity = "(inline)";
+        } else if (entry.path("children").isArray()) {
+            StringBuilder children = new StringBuilder("[");
+            for (JsonNode child : entry.get("children")) {
+                if (children.length() > 1) {
+                    children.append(", ");
+                }
+                children.append(entryKey(child));
+            }
+            identity = children.append(']').toString();
+        } else {
+            identity = "";
+        }
+        return identity.isEmpty() ? type : type + " " + identity;
+    }
+
+    private static void diffPools(List<JsonNode> left, List<JsonNode> right, List<DiffChange> changes) {
+        int[] partner = new int[right.size()];
+        boolean[] leftUsed = new boolean[left.size()];
+        Arrays.fill(partner, -1);
+
+        // identical pools first, which is most of them in a typical override
+        for (int j = 0; j < right.size(); j++) {
+            for (int i = 0; i < left.size(); i++) {
+                if (!leftUsed[i] && same(left.get(i), right.get(j))) {
+                    partner[j] = i;
+                    leftUsed[i] = true;
+                    break;
+                }
+            }
+        }
+
+        // then greedily by entry overlap, preferring pools that kept their position on ties
+        List<Map<String, Integer>> leftKeys = new ArrayList<>(left.size());
+        for (JsonNode pool : left) {
+            leftKeys.add(keyCounts(pool));
+        }
+        List<double[]> candidates = new ArrayList<>();
+        for (int j = 0; j < right.size(); j++) {
+            if (partner[j] >= 0) {
+                continue;
+            }
+            Map<String, Integer> rightKeys = keyCounts(right.get(j));
+            for (int i = 0; i < left.size(); i++) {
+                if (!leftUsed[i]) {
+                    double score = overlap(leftKeys.get(i), rightKeys);
+                    if (score > 0) {
+                        candidates.add(new double[]{score, i, j});
+                    }
+                }
+            }
+        }
+        candidates.sort(Comparator.<double[]>comparingDouble(candidate -> -candidate[0])
+                .thenComparingDouble(candidate -> Math.abs(candidate[1] - candidate[2])));
+        for (double[] candidate : candidates) {
+            int i = (int) candidate[1];
+            int j = (int) candidate[2];
+            if (!leftUsed[i] && partner[j] < 0) {
+                partner[j] = i;
+                leftUsed[i] = true;
+            }
+        }
+
+        for (int j = 0; j < right.size(); j++) {
+            int i = partner[j];
+            if (i < 0) {
+                changes.add(new DiffChange(Kind.ADDED, "pool #" + (j + 1), null, null, compact(right.get(j))));
+                continue;
+            }
+            JsonNode before = left.get(i);
+            JsonNode after = right.get(j);
+            if (same(before, after)) {
+                continue;
+            }
+            String location = i == j ? "pool #" + (j + 1) : "pool #" + (j + 1) + " (was #" + (i + 1) + ")";
+            compareFields(location, before, after, POOL_CHILDREN, changes);
+            diffEntries(location, elements(before.path("entries")), elements(after.path("entries")), changes);
+        }
+        for (int i = 0; i < left.size(); i++) {
+            if (!leftUsed[i]) {
+                changes.add(new DiffChange(Kind.REMOVED, "pool #" + (i + 1), null, compact(left.get(i)), null));
+            }
+        }
+    }
+
+    private static void diffEntries(String location,
+                                    List<JsonNode> left,
+                                    List<JsonNode> right,
+                                    List<DiffChange> changes) {
+        // duplicates of one key pair up in order
+        Map<String, ArrayDeque<JsonNode>> unmatched = new LinkedHashMap<>();
+        for (JsonNode entry : left) {
+            unmatched.computeIfAbsent(entryKey(entry), ignored -> new ArrayDeque<>()).add(entry);
+        }
+        for (JsonNode after : right) {
+            String key = entryKey(after);
+            String entryLocation = location + " > " + key;
+            ArrayDeque<JsonNode> candidates = unmatched.get(key);
+            JsonNode before = candidates == null ? null : candidates.poll();
+            if (before == null) {
+                changes.add(new DiffChange(Kind.ADDED, entryLocation, null, null, compact(after)));
+            } else if (!same(before, after)) {
+                compareFields(entryLocation, before, after, ENTRY_CHILDREN, changes);
+                diffEntries(entryLocation, elements(before.path("children")), elements(after.path("children")),
+                        changes);
+            }
+        }
+        for (Map.Entry<String, ArrayDeque<JsonNode>> remaining : unmatched.entrySet()) {
+            for (JsonNode before : remaining.getValue()) {
+                changes.add(new DiffChange(Kind.REMOVED, location + " > " + remaining.getKey(), null,
+                        compact(before), null));
+            }
+        }
+    }
+
+    private static void compareFields(String location,
+                                      JsonNode left,
+                                      JsonNode right,
+                                      Set<String> skipped,
+                                      List<DiffChange> changes) {
+        if (!left.isObject() || !right.isObject()) {
+            if (!same(left, right)) {
+                changes.add(new DiffChange(Kind.CHANGED, location, null, compact(left), compact(right)));
+            }
+            return;
+        }
+        Set<String> fields = new LinkedHashSet<>();
+        left.fieldNames().forEachRemaining(fields::add);
+        right.fieldNames().forEachRemaining(fields::add);
+        for (String field : fields) {
+            if (skipped.contains(field)) {
+                continue;
+            }
+            JsonNode before = left.get(field);
+            JsonNode after = right.get(field);
+            if (before == null) {
+                changes.add(new DiffChange(Kind.ADDED, location, field, null, compact(after)));
+            } else if (after == null) {
+                changes.add(new DiffChange(Kind.REMOVED, location, field, compact(before), null));
+            } else if (!same(before, after)) {
+                changes.add(new DiffChange(Kind.CHANGED, location, field, compact(before), compact(after)));
+            }
+        }
+    }
+
+    private static Map<String, Integer> keyCounts(JsonNode pool) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (JsonNode entry : pool.path("entries")) {
+            counts.merge(entryKey(entry), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Multiset Jaccard similarity of two pools' entry keys; two empty pools count as a full match.
+     */
+    private static double overlap(Map<String, Integer> left, Map<String, Integer> right) {
+        if (left.isEmpty() && right.isEmpty()) {
+            return 1;
+        }
+        int shared = 0;
+        int total = 0;
+        for (Map.Entry<String, Integer> entry : left.entrySet()) {
+            int other = right.getOrDefault(entry.getKey(), 0);
+            shared += Math.min(entry.getValue(), other);
+            total += Math.max(entry.getValue(), other);
+        }
+        for (Map.Entry<String, Integer> entry : right.entrySet()) {
+            if (!left.containsKey(entry.getKey())) {
+                total += entry.getValue();
+            }
+        }
+        return (double) shared / total;
+    }
+
+    private static List<JsonNode> elements(JsonNode array) {
+        List<JsonNode> elements = new ArrayList<>(array.size());
+        array.elements().forEachRemaining(elements::add);
+        return elements;
+    }
+
+    private static boolean same(JsonNode left, JsonNode right) {
+        return left == right || left != null && right != null && left.equals(BY_VALUE, right);
+    }
+
+    private static String compact(JsonNode node) {
+        String text = node.toString();
+        return text.length() <= MAX_VALUE_LENGTH ? text : text.substring(0, MAX_VALUE_LENGTH - 3) + "...";
+    }
+}
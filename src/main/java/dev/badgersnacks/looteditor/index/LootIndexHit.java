@@ -0,0 +1,25 @@
+package dev.badgersnacks.looteditor.index;
+
+import dev.badgersnacks.looteditor.model.LootTableDescriptor.SourceType;
+
+import java.util.Objects;
+
+/**
+ * One place an item (or tag) can drop from: the table, which pool, and the entry's weight and count range.
+ */
+public record LootIndexHit(
+        String tableId,
+        SourceType sourceType,
+        int poolIndex,
+        String entryType,
+        double weight,
+        int minCount,
+        int maxCount
+) {
+
+    public LootIndexHit {
+        Objects.requireNonNull(tableId, "tableId");
+        Objects.requireNonNull(sourceType, "sourceType");
+        Objects.requireNonNull(entryType, "entryType");
+    }
+}
@@ -0,0 +1,213 @@
+package dev.badgersnacks.looteditor.index;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.badgersnacks.looteditor.model.LootEntryRecord;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor.SourceType;
+import dev.badgersnacks.looteditor.services.LootTableService;
+import dev.badgersnacks.looteditor.util.FileFingerprint;
+import dev.badgersnacks.looteditor.util.ProgressListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Builds the item-to-loot-table reverse index for a pack. Parsed postings are persisted per table under
+ * {@code <modpack>/loot-editor-b/cache/loot_index.json} together with the fingerprint of the file (or archive)
+ * they came from, so a rebuild only re-parses tables whose source changed since the last run.
+ */
+public class LootIndexService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LootIndexService.class);
+    private static final Path CACHE_RELATIVE_PATH = Path.of("loot-editor-b", "cache", "loot_index.json");
+    private static final int FORMAT_VERSION = 2;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final LootTableService lootTableService;
+
+    public LootIndexService(LootTableService lootTableService) {
+        this.lootTableService = Objects.requireNonNull(lootTableService, "lootTableService");
+    }
+
+    public LootReverseIndex build(Path modpackRoot, Collection<LootTableDescriptor> descriptors) {
+        return build(modpackRoot, descriptors, ForkJoinPool.commonPool(), ProgressListener.NONE);
+    }
+
+    /**
+     * Like {@link #build(Path, Collection)}, but parses stale tables on {@code executor}, reporting each one to
+     * {@code progress}.
+     */
+    public LootReverseIndex build(Path modpackRoot,
+                                  Collection<LootTableDescriptor> descriptors,
+                                  Executor executor,
+                                  ProgressListener progress) {
+        Objects.requireNonNull(modpackRoot, "modpackRoot");
+        Objects.requireNonNull(descriptors, "descriptors");
+        Map<String, CachedTable> persisted = readCache(modpackRoot);
+        Map<String, CachedTable> current = new ConcurrentHashMap<>();
+        Map<Path, FileFingerprint> containerFingerprints = new HashMap<>();
+        Map<String, FileFingerprint> staleFingerprints = new HashMap<>();
+        List<LootTableDescriptor> stale = new ArrayList<>();
+        for (LootTableDescriptor descriptor : descriptors) {
+            FileFingerprint fingerprint = containerFingerprints.computeIfAbsent(descriptor.containerPath(),
+                    LootIndexService::fingerprintOrNull);
+            if (fingerprint == null) {
+                continue;
+            }
+            String key = locationKey(descriptor);
+            CachedTable cached = persisted.get(key);
+            if (cached != null && cached.fingerprint().equals(fingerprint)) {
+                current.put(key, cached);
+            } else {
+                staleFingerprints.put(key, fingerprint);
+                stale.add(descriptor);
+            }
+        }
+        int reused = current.size();
+        if (!stale.isEmpty()) {
+            lootTableService.extractAll(stale, executor, progress, (descriptor, entries) -> {
+                String key = locationKey(descriptor);
+                current.put(key, new CachedTable(descriptor.qualifiedName(), descriptor.sourceType(),
+                        staleFingerprints.get(key), extractPostings(descriptor, entries)));
+            });
+        }
+        LOGGER.info("Loot index: {} tables reused from cache, {} parsed.", reused, current.size() - reused);
+        if (!stale.isEmpty() || current.size() != persisted.size()) {
+            writeCache(modpackRoot, current);
+        }
+
+        Map<String, List<LootIndexHit>> hits = new HashMap<>();
+        for (CachedTable table : current.values()) {
+            for (Posting posting : table.postings()) {
+                hits.computeIfAbsent(posting.id(), ignored -> new ArrayList<>()).add(posting.hit());
+            }
+        }
+        return new LootReverseIndex(hits, current.size());
+    }
+
+    static List<Posting> extractPostings(LootTableDescriptor descriptor, List<LootEntryRecord> entries) {
+        List<Posting> postings = new ArrayList<>();
+        for (LootEntryRecord entry : entries) {
+            if (entry.name() == null || entry.name().isBlank()) {
+                continue;
+            }
+            String id = switch (entry.entryType()) {
+                case "minecraft:item" -> entry.name();
+                case "minecraft:tag" -> "#" + entry.name();
+                default -> null;
+            };
+            if (id != null) {
+                postings.add(new Posting(id, new LootIndexHit(descriptor.qualifiedName(), descriptor.sourceType(),
+                        entry.poolIndex(), entry.entryType(), entry.weight(), entry.minCount(), entry.maxCount())));
+            }
+        }
+        return postings;
+    }
+
+    private static String locationKey(LootTableDescriptor descriptor) {
+        String container = descriptor.containerPath().toAbsolutePath().normalize().toString();
+        return descriptor.isArchiveEntry() ? container + "!/" + descriptor.archiveEntry() : container;
+    }
+
+    private static FileFingerprint fingerprintOrNull(Path containerPath) {
+        try {
+            return FileFingerprint.of(containerPath);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Skipping unreadable loot source {}: {}", containerPath, e.getMessage());
+            return null;
+        }
+    }
+
+    private Map<String, CachedTable> readCache(Path modpackRoot) {
+        Path file = modpackRoot.resolve(CACHE_RELATIVE_PATH);
+        Map<String, CachedTable> tables = new HashMap<>();
+        if (!Files.isRegularFile(file)) {
+            return tables;
+        }
+        try {
+            JsonNode root = mapper.readTree(file.toFile());
+            if (root.path("version").asInt(-1) != FORMAT_VERSION) {
+                return tables;
+            }
+            for (JsonNode table : root.path("tables")) {
+                String tableId = table.path("table").asText();
+                SourceType sourceType = SourceType.valueOf(table.path("source").asText(SourceType.UNKNOWN.name()));
+                FileFingerprint fingerprint = new FileFingerprint(table.path("size").asLong(-1),
+                        table.path("modified").asLong(-1));
+                List<Posting> postings = new ArrayList<>();
+                for (JsonNode hit : table.path("hits")) {
+                    postings.add(new Posting(hit.path("id").asText(), new LootIndexHit(tableId, sourceType,
+                            hit.path("pool").asInt(0),
+                            hit.path("type").asText("minecraft:item"),
+                            hit.path("weight").asDouble(1.0d),
+                            hit.path("min").asInt(1),
+                            hit.path("max").asInt(1))));
+                }
+                tables.put(table.path("location").asText(),
+                        new CachedTable(tableId, sourceType, fingerprint, postings));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Ignoring unreadable loot index cache {}", file, e);
+            tables.clear();
+        }
+        return tables;
+    }
+
+    private void writeCache(Path modpackRoot, Map<String, CachedTable> tables) {
+        Path file = modpackRoot.resolve(CACHE_RELATIVE_PATH);
+        ObjectNode root = mapper.createObjectNode();
+        root.put("version", FORMAT_VERSION);
+        ArrayNode tablesNode = root.putArray("tables");
+        tables.forEach((location, table) -> {
+            ObjectNode tableNode = tablesNode.addObject();
+            tableNode.put("location", location);
+            tableNode.put("table", table.tableId());
+            tableNode.put("source", table.sourceType().name());
+            tableNode.put("size", table.fingerprint().size());
+            tableNode.put("modified", table.fingerprint().modifiedMillis());
+            ArrayNode hitsNode = tableNode.putArray("hits");
+            for (Posting posting : table.postings()) {
+                // table/source repeat per posting in memory but only once per table on disk
+                LootIndexHit hit = posting.hit();
+                ObjectNode hitNode = hitsNode.addObject();
+                hitNode.put("id", posting.id());
+                hitNode.put("pool", hit.poolIndex());
+                hitNode.put("type", hit.entryType());
+                hitNode.put("weight", hit.weight());
+                hitNode.put("min", hit.minCount());
+                hitNode.put("max", hit.maxCount());
+            }
+        });
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            mapper.writeValue(temp.toFile(), root);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to persist loot index cache to {}", file, e);
+        }
+    }
+
+    record Posting(String id, LootIndexHit hit) {
+    }
+
+    private record CachedTable(String tableId, SourceType sourceType, FileFingerprint fingerprint,
+                               List<Posting> postings) {
+    }
+}
@@ -0,0 +1,53 @@
+package dev.badgersnacks.looteditor.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable item-to-loot-table lookup. Keys are item ids ({@code minecraft:diamond}) or tag ids prefixed with
+ * {@code #} ({@code #c:ingots/iron}); each key maps to every entry that can produce it.
+ */
+public final class LootReverseIndex {
+
+    private static final Comparator<LootIndexHit> HIT_ORDER = Comparator
+            .comparing(LootIndexHit::tableId)
+            .thenComparing(LootIndexHit::sourceType)
+            .thenComparingInt(LootIndexHit::poolIndex);
+
+    private final Map<String, List<LootIndexHit>> hitsById;
+    private final int tableCount;
+
+    public LootReverseIndex(Map<String, ? extends Collection<LootIndexHit>> hits, int tableCount) {
+        Map<String, List<LootIndexHit>> temp = new HashMap<>(Math.max(16, hits.size() * 2));
+        hits.forEach((id, idHits) -> {
+            List<LootIndexHit> sorted = new ArrayList<>(idHits);
+            sorted.sort(HIT_ORDER);
+            temp.put(id, List.copyOf(sorted));
+        });
+        this.hitsById = Map.copyOf(temp);
+        this.tableCount = tableCount;
+    }
+
+    public static LootReverseIndex empty() {
+        return new LootReverseIndex(Map.of(), 0);
+    }
+
+    public List<LootIndexHit> find(String id) {
+        if (id == null) {
+            return List.of();
+        }
+        return hitsById.getOrDefault(id, List.of());
+    }
+
+    public int idCount() {
+        return hitsById.size();
+    }
+
+    public int tableCount() {
+        return tableCount;
+    }
+}
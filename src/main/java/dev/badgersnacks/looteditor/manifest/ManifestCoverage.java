@@ -0,0 +1,74 @@
+package dev.badgersnacks.looteditor.manifest;
+
+import dev.badgersnacks.looteditor.manifest.MergedManifestLoader.MergedManifest;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * How well a live scan covers the merged manifest: which manifest table ids the scan did not find.
+ */
+public record ManifestCoverage(Status status,
+                               Path manifestPath,
+                               Path targetRoot,
+                               int tableCount,
+                               List<String> missing,
+                               IOException error) {
+
+    public enum Status {
+        /** No manifest file at {@code manifestPath}. */
+        MISSING,
+        /** The manifest could not be parsed. */
+        UNREADABLE,
+        /** The manifest was generated for {@code targetRoot}, not the scanned pack. */
+        OTHER_PACK,
+        /** Every manifest entry was scanned. */
+        SYNCED,
+        /** Some manifest entries are {@code missing} from the scan. */
+        INCOMPLETE,
+        /** Reading the manifest failed with {@code error}. */
+        ERROR
+    }
+
+    public static ManifestCoverage analyze(MergedManifestLoader loader,
+                                           Path manifestPath,
+                                           Path modpackRoot,
+                                           Collection<LootTableDescriptor> descriptors) {
+        if (!Files.exists(manifestPath)) {
+            return of(Status.MISSING, manifestPath);
+        }
+        try {
+            MergedManifest manifest = loader.load(manifestPath).orElse(null);
+            if (manifest == null) {
+                return of(Status.UNREADABLE, manifestPath);
+            }
+            Path targetRoot = manifest.packRoot();
+            Path normalizedPack = modpackRoot.toAbsolutePath().normalize();
+            if (targetRoot != null && !normalizedPack.equals(targetRoot)) {
+                return new ManifestCoverage(Status.OTHER_PACK, manifest.manifestPath(), targetRoot,
+                        manifest.tableIds().size(), List.of(), null);
+            }
+            Set<String> scannedIds = descriptors.stream()
+                    .map(LootTableDescriptor::qualifiedName)
+                    .collect(Collectors.toSet());
+            List<String> missing = manifest.tableIds().stream()
+                    .filter(id -> !scannedIds.contains(id))
+                    .sorted()
+                    .toList();
+            return new ManifestCoverage(missing.isEmpty() ? Status.SYNCED : Status.INCOMPLETE, manifest.manifestPath(),
+                    targetRoot, manifest.tableIds().size(), missing, null);
+        } catch (IOException e) {
+            return new ManifestCoverage(Status.ERROR, manifestPath, null, 0, List.of(), e);
+        }
+    }
+
+    private static ManifestCoverage of(Status status, Path manifestPath) {
+        return new ManifestCoverage(status, manifestPath, null, 0, List.of(), null);
+    }
+}
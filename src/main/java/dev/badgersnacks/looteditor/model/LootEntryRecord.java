@@ -0,0 +1,38 @@
+package dev.badgersnacks.looteditor.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Flat, read-only summary of one loot pool entry as found on disk, produced by the streaming extractor for bulk
+ * passes (indexing, validation, statistics) that don't need the full JSON tree.
+ *
+ * @param poolIndex    index of the pool within the table
+ * @param entryIndex   running index of the entry within its pool, counting nested children
+ * @param depth        0 for entries directly in the pool, 1+ for children of alternatives/group/sequence entries
+ * @param entryType    qualified entry type, e.g. {@code minecraft:item}
+ * @param name         the entry's {@code name} (item, tag or table id), or {@code null} for composite/empty entries
+ * @param maxCount     upper {@code set_count} bound; below {@code minCount} when the table declares an inverted range
+ * @param functions    qualified ids of the entry's functions, in order
+ * @param enchantments enchantment ids applied by {@code set_enchantments} functions
+ */
+public record LootEntryRecord(
+        int poolIndex,
+        int entryIndex,
+        int depth,
+        String entryType,
+        String name,
+        double weight,
+        int quality,
+        int minCount,
+        int maxCount,
+        List<String> functions,
+        List<String> enchantments
+) {
+
+    public LootEntryRecord {
+        Objects.requireNonNull(entryType, "entryType");
+        functions = functions == null ? List.of() : List.copyOf(functions);
+        enchantments = enchantments == null ? List.of() : List.copyOf(enchantments);
+    }
+}
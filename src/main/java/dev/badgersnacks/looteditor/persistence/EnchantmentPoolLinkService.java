@@ -1,104 +1,155 @@
 package dev.badgersnacks.looteditor.persistence;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import dev.badgersnacks.looteditor.model.EnchantmentPoolLink;
 import dev.badgersnacks.looteditor.model.EnchantmentPoolLink.LinkedEnchantment;
 import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Stores metadata so the editor knows which loot entries were generated from enchantment pools.
+ * <p>
+ * Links for the whole pack live in one {@link PoolLinkIndex} under {@code <modpack>/loot-editor-b/}, opened once per
+ * modpack and kept open. Packs written by older versions kept one JSON file per table under
+ * {@code kubejs/data/loot_editor/pool_links}; those are imported into the index the first time the pack is opened and
+ * left in place, so the pack keeps a readable copy and a lost index can be rebuilt from them.
  */
 public class EnchantmentPoolLinkService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(EnchantmentPoolLinkService.class);
+    private static final Path INDEX_RELATIVE_PATH = Path.of("loot-editor-b");
+    private static final Path LEGACY_RELATIVE_PATH = Path.of("kubejs", "data", "loot_editor", "pool_links");
+
     private final ObjectMapper mapper = new ObjectMapper();
+    private final Object lock = new Object();
+    private Path indexedRoot;
+    private PoolLinkIndex index;
 
     public List<EnchantmentPoolLink> loadLinks(Path modpackRoot, LootTableDescriptor descriptor) {
-        Path file = linkFile(modpackRoot, descriptor);
-        if (!Files.exists(file)) {
-            return Collections.emptyList();
-        }
-        try {
-            var root = mapper.readTree(file.toFile());
-            ArrayNode linksNode = (ArrayNode) root.path("links");
-            List<EnchantmentPoolLink> links = new ArrayList<>();
-            for (var node : linksNode) {
-                List<LinkedEnchantment> enchantments = new ArrayList<>();
-                ArrayNode enchantArray = (ArrayNode) node.path("enchantments");
-                enchantArray.forEach(enchantmentNode -> enchantments.add(new LinkedEnchantment(
-                        enchantmentNode.path("id").asText(),
-                        enchantmentNode.path("weight").asDouble(1.0d),
-                        enchantmentNode.path("min_level").asInt(1),
-                        enchantmentNode.path("max_level").asInt(1)
-                )));
-                links.add(new EnchantmentPoolLink(
-                        node.path("order").asInt(0),
-                        node.path("pool").asText(),
-                        node.path("item").asText(),
-                        node.path("entry_type").asText("minecraft:item"),
-                        node.path("weight").asDouble(1.0d),
-                        node.path("min_count").asInt(1),
-                        node.path("max_count").asInt(1),
-                        enchantments
-                ));
+        synchronized (lock) {
+            try {
+                return index(modpackRoot).get(descriptor.qualifiedName());
+            } catch (IOException e) {
+                LOGGER.warn("Unable to read pool links for {}", descriptor.qualifiedName(), e);
+                return Collections.emptyList();
             }
-            return links;
-        } catch (IOException e) {
-            return Collections.emptyList();
         }
     }
 
     public void saveLinks(Path modpackRoot, LootTableDescriptor descriptor, List<EnchantmentPoolLink> links) throws IOException {
-        Path file = linkFile(modpackRoot, descriptor);
-        if (links.isEmpty()) {
-            Files.deleteIfExists(file);
+        saveAll(modpackRoot, Map.of(descriptor, links));
+    }
+
+    /**
+     * Saves the links of several tables with a single append and sync; an empty list clears a table's links.
+     */
+    public void saveAll(Path modpackRoot, Map<LootTableDescriptor, List<EnchantmentPoolLink>> linksByTable)
+            throws IOException {
+        Map<String, List<EnchantmentPoolLink>> updates = new LinkedHashMap<>();
+        linksByTable.forEach((descriptor, links) -> updates.put(descriptor.qualifiedName(), links));
+        synchronized (lock) {
+            PoolLinkIndex current = index(modpackRoot);
+            current.putAll(updates);
+            if (current.needsCompaction()) {
+                index = null;
+                index = current.compact();
+            }
+        }
+    }
+
+    private PoolLinkIndex index(Path modpackRoot) throws IOException {
+        Path root = modpackRoot.toAbsolutePath().normalize();
+        if (index != null && root.equals(indexedRoot)) {
+            return index;
+        }
+        if (index != null) {
+            index.close();
+            index = null;
+        }
+        Path directory = root.resolve(INDEX_RELATIVE_PATH);
+        boolean fresh = !PoolLinkIndex.exists(directory);
+        PoolLinkIndex opened = PoolLinkIndex.open(directory);
+        if (fresh) {
+            try {
+                // nothing after the import's putAll may fail, or the only imported copy would be thrown away here
+                migrateLegacyFiles(root, opened);
+            } catch (IOException e) {
+                opened.close();
+                try {
+                    Files.deleteIfExists(opened.file());
+                } catch (IOException cleanup) {
+                    e.addSuppressed(cleanup);
+                }
+                throw e;
+            }
+        }
+        indexedRoot = root;
+        index = opened;
+        return opened;
+    }
+
+    private void migrateLegacyFiles(Path root, PoolLinkIndex target) throws IOException {
+        Path legacyRoot = root.resolve(LEGACY_RELATIVE_PATH);
+        if (!Files.isDirectory(legacyRoot)) {
             return;
         }
-        Files.createDirectories(file.getParent());
-        ObjectNode root = mapper.createObjectNode();
-        root.put("table", descriptor.qualifiedName());
-        ArrayNode linksNode = mapper.createArrayNode();
-        for (EnchantmentPoolLink link : links) {
-            ObjectNode node = mapper.createObjectNode();
-            node.put("order", link.orderIndex());
-            node.put("pool", link.poolId());
-            node.put("item", link.itemId());
-            node.put("entry_type", link.entryType());
-            node.put("weight", link.weight());
-            node.put("min_count", link.minCount());
-            node.put("max_count", link.maxCount());
-            ArrayNode enchantArray = mapper.createArrayNode();
-            for (LinkedEnchantment enchantment : link.enchantments()) {
-                ObjectNode enchantNode = mapper.createObjectNode();
-                enchantNode.put("id", enchantment.enchantmentId());
-                enchantNode.put("weight", enchantment.weight());
-                enchantNode.put("min_level", enchantment.minLevel());
-                enchantNode.put("max_level", enchantment.maxLevel());
-                enchantArray.add(enchantNode);
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(legacyRoot)) {
+            files = paths.filter(path -> path.toString().endsWith(".json") && Files.isRegularFile(path)).toList();
+        }
+        Map<String, List<EnchantmentPoolLink>> imported = new LinkedHashMap<>();
+        for (Path file : files) {
+            Path relative = legacyRoot.relativize(file);
+            if (relative.getNameCount() < 2) {
+                continue;
+            }
+            String namespace = relative.getName(0).toString();
+            String tablePath = relative.subpath(1, relative.getNameCount()).toString().replace('\\', '/');
+            tablePath = tablePath.substring(0, tablePath.length() - ".json".length());
+            try {
+                imported.put(namespace + ":" + tablePath, readLegacyLinks(mapper.readTree(file.toFile())));
+            } catch (IOException e) {
+                LOGGER.warn("Skipping unreadable pool link file {}", file, e);
             }
-            node.set("enchantments", enchantArray);
-            linksNode.add(node);
         }
-        root.set("links", linksNode);
-        mapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), root);
+        target.putAll(imported);
+        LOGGER.info("Imported pool links for {} tables from {}; the legacy files are left in place",
+                imported.size(), legacyRoot);
     }
 
-    private Path linkFile(Path modpackRoot, LootTableDescriptor descriptor) {
-        String namespace = descriptor.namespace();
-        String tablePath = descriptor.tablePath();
-        return modpackRoot.resolve("kubejs")
-                .resolve("data")
-                .resolve("loot_editor")
-                .resolve("pool_links")
-                .resolve(namespace)
-                .resolve(tablePath + ".json");
+    private static List<EnchantmentPoolLink> readLegacyLinks(JsonNode root) {
+        List<EnchantmentPoolLink> links = new ArrayList<>();
+        for (JsonNode node : root.path("links")) {
+            List<LinkedEnchantment> enchantments = new ArrayList<>();
+            node.path("enchantments").forEach(enchantmentNode -> enchantments.add(new LinkedEnchantment(
+                    enchantmentNode.path("id").asText(),
+                    enchantmentNode.path("weight").asDouble(1.0d),
+                    enchantmentNode.path("min_level").asInt(1),
+                    enchantmentNode.path("max_level").asInt(1)
+            )));
+            links.add(new EnchantmentPoolLink(
+                    node.path("order").asInt(0),
+                    node.path("pool").asText(),
+                    node.path("item").asText(),
+                    node.path("entry_type").asText("minecraft:item"),
+                    node.path("weight").asDouble(1.0d),
+                    node.path("min_count").asInt(1),
+                    node.path("max_count").asInt(1),
+                    enchantments
+            ));
+        }
+        return links;
     }
 }
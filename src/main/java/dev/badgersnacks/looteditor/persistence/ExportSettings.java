@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Locale;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,19 +30,66 @@ public final class ExportSettings {
      */
     public Optional<Path> resolvePackRoot(Path modpackRoot) {
         Path configFile = modpackRoot.resolve(CONFIG_RELATIVE_PATH);
+        Optional<JsonNode> config = readConfig(configFile);
+        if (config.isEmpty()) {
+            return Optional.empty();
+        }
+        String packRootText = textValue(config.get().get("packRoot"));
+        if (packRootText == null || packRootText.isBlank()) {
+            LOGGER.warn("packRoot missing or empty in {}", configFile);
+            return Optional.empty();
+        }
+        Path resolvedPath = resolvePath(modpackRoot, packRootText.trim());
+        LOGGER.info("Using custom export root {} from {}", resolvedPath, configFile);
+        return Optional.of(resolvedPath);
+    }
+
+    /**
+     * Returns how the datapack is mirrored into world saves, read from the optional {@code syncMode} property
+     * ({@code "folder"} or {@code "zip"}). Defaults to {@link SyncMode#FOLDER}.
+     */
+    public SyncMode resolveSyncMode(Path modpackRoot) {
+        return resolveEnum(modpackRoot, "syncMode", SyncMode.class, SyncMode.FOLDER);
+    }
+
+    /**
+     * Returns how override replacements are wired into global loot modifiers, read from the optional
+     * {@code modifierMode} property ({@code "per_table"} or {@code "consolidated"}). Defaults to
+     * {@link ModifierMode#PER_TABLE}.
+     */
+    public ModifierMode resolveModifierMode(Path modpackRoot) {
+        return resolveEnum(modpackRoot, "modifierMode", ModifierMode.class, ModifierMode.PER_TABLE);
+    }
+
+    /**
+     * Returns how editor rows with an enchantment pool are written, read from the optional {@code poolExpansion}
+     * property ({@code "expanded"} or {@code "compact"}). Defaults to {@link PoolExpansion#EXPANDED}.
+     */
+    public PoolExpansion resolvePoolExpansion(Path modpackRoot) {
+        return resolveEnum(modpackRoot, "poolExpansion", PoolExpansion.class, PoolExpansion.EXPANDED);
+    }
+
+    private <E extends Enum<E>> E resolveEnum(Path modpackRoot, String property, Class<E> type, E fallback) {
+        Path configFile = modpackRoot.resolve(CONFIG_RELATIVE_PATH);
+        String modeText = readConfig(configFile).map(node -> textValue(node.get(property))).orElse(null);
+        if (modeText == null || modeText.isBlank()) {
+            return fallback;
+        }
+        try {
+            return Enum.valueOf(type, modeText.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Unknown {} '{}' in {}; using {}", property, modeText, configFile,
+                    fallback.name().toLowerCase(Locale.ROOT));
+            return fallback;
+        }
+    }
+
+    private Optional<JsonNode> readConfig(Path configFile) {
         if (!Files.isRegularFile(configFile)) {
             return Optional.empty();
         }
         try {
-            JsonNode node = MAPPER.readTree(configFile.toFile());
-            String packRootText = textValue(node.get("packRoot"));
-            if (packRootText == null || packRootText.isBlank()) {
-                LOGGER.warn("packRoot missing or empty in {}", configFile);
-                return Optional.empty();
-            }
-            Path resolvedPath = resolvePath(modpackRoot, packRootText.trim());
-            LOGGER.info("Using custom export root {} from {}", resolvedPath, configFile);
-            return Optional.of(resolvedPath);
+            return Optional.of(MAPPER.readTree(configFile.toFile()));
         } catch (IOException e) {
             LOGGER.warn("Failed to load export settings from {}", configFile, e);
             return Optional.empty();
@@ -59,5 +107,32 @@ public final class ExportSettings {
     private static String textValue(JsonNode node) {
         return node != null ? node.asText(null) : null;
     }
-}
 
+    /**
+     * How the exported datapack is copied into each world: as a loose folder tree, or as a single
+     * {@code loot_editor.zip}.
+     */
+    public enum SyncMode {
+        FOLDER,
+        ZIP
+    }
+
+    /**
+     * How replacements reach the game: one {@code replace_table} modifier per overridden table, each guarded by a
+     * {@code loot_table_id} condition, or a single {@code replace_tables} modifier holding a target-to-replacement
+     * map that the loader resolves with one lookup per roll.
+     */
+    public enum ModifierMode {
+        PER_TABLE,
+        CONSOLIDATED
+    }
+
+    /**
+     * How a row with an enchantment pool becomes loot entries: one {@code set_enchantments} entry per pool option,
+     * or a single entry whose {@code select_enchantment} function picks one option by weight when it drops.
+     */
+    public enum PoolExpansion {
+        EXPANDED,
+        COMPACT
+    }
+}
@@ -4,12 +4,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.badgersnacks.looteditor.persistence.ExportSettings.ModifierMode;
 import dev.badgersnacks.looteditor.persistence.OverrideManifest.OverrideEntry;
 import dev.badgersnacks.looteditor.util.LootId;
 import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.Map;
 
 /**
  * Emits the data files required for NeoForge Global Loot Modifiers that perform the runtime
@@ -19,6 +22,37 @@ public final class LootModifierWriter {
     private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
     private final OverridePaths overridePaths = new OverridePaths();
 
+    /**
+     * Brings the modifier files in line with the manifest for the given mode. In {@link ModifierMode#PER_TABLE}
+     * only {@code changed} overrides get (re)written, unless the pack was last written consolidated, in which case
+     * every override is; switching to {@link ModifierMode#CONSOLIDATED} removes the per-table files.
+     */
+    public void writeModifiers(Path packRoot,
+                               OverrideManifest manifest,
+                               Map<LootId, LootId> changed,
+                               ModifierMode mode) throws IOException {
+        if (mode == ModifierMode.CONSOLIDATED) {
+            writeConsolidated(packRoot, manifest);
+            for (OverrideEntry entry : manifest.overrides()) {
+                deletePerTableModifier(packRoot, entry.targetId());
+            }
+            writeGlobalList(packRoot, manifest, mode);
+            return;
+        }
+        Path consolidated = overridePaths.consolidatedModifierFile(packRoot);
+        if (Files.exists(consolidated)) {
+            for (OverrideEntry entry : manifest.overrides()) {
+                writeModifier(packRoot, entry.targetId(), entry.replacementId());
+            }
+            Files.delete(consolidated);
+        } else {
+            for (Map.Entry<LootId, LootId> override : changed.entrySet()) {
+                writeModifier(packRoot, override.getKey(), override.getValue());
+            }
+        }
+        writeGlobalList(packRoot, manifest, mode);
+    }
+
     public void writeModifier(Path packRoot, LootId target, LootId replacement)
             throws IOException {
         Path file = overridePaths.modifierFile(packRoot, target);
@@ -36,18 +70,58 @@ public final class LootModifierWriter {
         mapper.writeValue(file.toFile(), root);
     }
 
-    public void writeGlobalList(Path packRoot, OverrideManifest manifest) throws IOException {
+    /**
+     * Writes one unconditioned {@code loot_editor_loader:replace_tables} modifier whose {@code replacements}
+     * object maps every target table id to its replacement, so the loader does a single map lookup per roll
+     * instead of testing one condition per override.
+     */
+    public void writeConsolidated(Path packRoot, OverrideManifest manifest) throws IOException {
+        Path file = overridePaths.consolidatedModifierFile(packRoot);
+        Files.createDirectories(file.getParent());
+
+        ObjectNode root = mapper.createObjectNode();
+        root.put("type", "loot_editor_loader:replace_tables");
+        root.putArray("conditions");
+        ObjectNode replacements = root.putObject("replacements");
+        manifest.overrides().stream()
+                .sorted(Comparator.comparing(OverrideEntry::target))
+                .forEach(entry -> replacements.put(entry.target(), entry.replacement()));
+        mapper.writeValue(file.toFile(), root);
+    }
+
+    public void writeGlobalList(Path packRoot, OverrideManifest manifest, ModifierMode mode) throws IOException {
         Path file = overridePaths.globalModifiersFile(packRoot);
         Files.createDirectories(file.getParent());
 
         ObjectNode root = mapper.createObjectNode();
         root.put("replace", false);
         ArrayNode entries = root.putArray("entries");
-        manifest.overrides().stream()
-                .map(OverrideEntry::targetId)
-                .sorted(Comparator.comparing(LootId::asString))
-                .map(overridePaths::modifierId)
-                .forEach(id -> entries.add(id.asString()));
+        if (mode == ModifierMode.CONSOLIDATED) {
+            entries.add(overridePaths.consolidatedModifierId().asString());
+        } else {
+            manifest.overrides().stream()
+                    .map(OverrideEntry::targetId)
+                    .sorted(Comparator.comparing(LootId::asString))
+                    .map(overridePaths::modifierId)
+                    .forEach(id -> entries.add(id.asString()));
+        }
         mapper.writeValue(file.toFile(), root);
     }
+
+    private void deletePerTableModifier(Path packRoot, LootId target) throws IOException {
+        Path file = overridePaths.modifierFile(packRoot, target);
+        if (!Files.deleteIfExists(file)) {
+            return;
+        }
+        // drop the namespace folders that only held modifiers, so a consolidated pack stays small
+        Path root = overridePaths.modifiersRoot(packRoot);
+        for (Path dir = file.getParent(); dir != null && !dir.equals(root) && dir.startsWith(root);
+             dir = dir.getParent()) {
+            try {
+                Files.delete(dir);
+            } catch (DirectoryNotEmptyException e) {
+                return;
+            }
+        }
+    }
 }
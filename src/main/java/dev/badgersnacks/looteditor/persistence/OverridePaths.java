@@ -7,11 +7,15 @@ import java.nio.file.Path;
  * Centralizes the directory layout for Loot Editor override data inside the exported datapack.
  */
 public final class OverridePaths {
+    /** Source label given to descriptors that point at a replacement file. */
+    public static final String OVERRIDE_SOURCE_DISPLAY = "Loot Editor Override";
+
     private static final String LOOT_EDITOR_NAMESPACE = "loot_editor";
     private static final String LOOT_TABLES_DIR = "loot_table";
     private static final String LOOT_MODIFIERS_DIR = "loot_modifiers";
     private static final String META_DIR = "meta";
     private static final String REPLACEMENTS_DIR = "replacements";
+    private static final String CONSOLIDATED_MODIFIER = "replace_tables";
 
     public LootId replacementId(LootId target) {
         String path = REPLACEMENTS_DIR + "/" + target.namespace() + "/" + target.path();
@@ -40,6 +44,23 @@ public final class OverridePaths {
         return resolvePath(namespaceRoot, target.path());
     }
 
+    public LootId consolidatedModifierId() {
+        return LootId.of(LOOT_EDITOR_NAMESPACE, CONSOLIDATED_MODIFIER);
+    }
+
+    public Path consolidatedModifierFile(Path packRoot) {
+        return packRoot.resolve("data")
+                .resolve(LOOT_EDITOR_NAMESPACE)
+                .resolve(LOOT_MODIFIERS_DIR)
+                .resolve(CONSOLIDATED_MODIFIER + ".json");
+    }
+
+    public Path modifiersRoot(Path packRoot) {
+        return packRoot.resolve("data")
+                .resolve(LOOT_EDITOR_NAMESPACE)
+                .resolve(LOOT_MODIFIERS_DIR);
+    }
+
     public Path globalModifiersFile(Path packRoot) {
         return packRoot.resolve("data")
                 .resolve(LOOT_EDITOR_NAMESPACE)
@@ -0,0 +1,448 @@
+package dev.badgersnacks.looteditor.persistence;
+
+import dev.badgersnacks.looteditor.model.EnchantmentPoolLink;
+import dev.badgersnacks.looteditor.model.EnchantmentPoolLink.LinkedEnchantment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Pack-wide, append-only log of enchantment pool links keyed by table id.
+ * <p>
+ * File layout: an 8-byte header (magic, version) followed by records of {@code [int length][int crc32][payload]}.
+ * A payload is a put (table id plus its links) or a remove (table id only); the last record for an id wins. On open
+ * the file is scanned once to remember where each id's latest record starts, cutting off a torn tail left by a crash,
+ * and only then memory-mapped (a mapped file cannot be truncated on every platform), so a lookup decodes exactly one
+ * record. Records appended later are kept decoded in memory.
+ * <p>
+ * Compaction writes the live records to the next generation file ({@code pool-links-<n>.idx}) instead of replacing
+ * the mapped one, since a mapped file cannot be replaced on every platform. The new generation is written under a
+ * temporary name, synced and atomically renamed, so a generation file is always complete; older generations are
+ * deleted only once a newer one has opened, and skipped if still mapped. Not thread-safe;
+ * {@link EnchantmentPoolLinkService} serialises access.
+ */
+final class PoolLinkIndex implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PoolLinkIndex.class);
+    private static final int MAGIC = 0x4C45504C; // "LEPL"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final String FILE_PREFIX = "pool-links-";
+    private static final String FILE_SUFFIX = ".idx";
+    private static final String TEMP_SUFFIX = ".tmp";
+    // compact once superseded records outnumber live ones and there are at least this many of them
+    private static final int MIN_DEAD_RECORDS_TO_COMPACT = 512;
+
+    private final Path directory;
+    private final long generation;
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+    private final Map<String, Integer> mappedRecords = new HashMap<>();
+    private final Map<String, List<EnchantmentPoolLink>> appended = new HashMap<>();
+    private long size;
+    private int liveRecords;
+    private int deadRecords;
+
+    private PoolLinkIndex(Path directory, long generation, FileChannel channel) throws IOException {
+        this.directory = directory;
+        this.generation = generation;
+        this.channel = channel;
+        this.size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        if (size < HEADER_BYTES || !readFully(header, 0) || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException("Not a pool link index: " + file());
+        }
+        scan();
+        this.mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+
+    /**
+     * Opens the newest readable index generation in {@code directory}, creating an empty one if there is none.
+     * The other generations are removed only once one has opened.
+     */
+    static PoolLinkIndex open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        deleteLeftoverTempFiles(directory);
+        List<Long> generations = generations(directory);
+        if (generations.isEmpty()) {
+            writeGeneration(directory, 1, header());
+            return new PoolLinkIndex(directory, 1, openChannel(fileFor(directory, 1)));
+        }
+        IOException failure = null;
+        for (int i = generations.size() - 1; i >= 0; i--) {
+            long candidate = generations.get(i);
+            FileChannel channel = openChannel(fileFor(directory, candidate));
+            PoolLinkIndex index;
+            try {
+                index = new PoolLinkIndex(directory, candidate, channel);
+            } catch (IOException e) {
+                channel.close();
+                LOGGER.warn("Skipping unreadable pool link index {}", fileFor(directory, candidate), e);
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+                continue;
+            }
+            for (long other : generations) {
+                // older generations are superseded; newer ones just failed to open
+                if (other != candidate) {
+                    deleteQuietly(fileFor(directory, other));
+                }
+            }
+            return index;
+        }
+        throw failure;
+    }
+
+    static boolean exists(Path directory) throws IOException {
+        return Files.isDirectory(directory) && !generations(directory).isEmpty();
+    }
+
+    Path file() {
+        return fileFor(directory, generation);
+    }
+
+    /**
+     * @return the links stored for {@code tableId}, or an empty list
+     */
+    List<EnchantmentPoolLink> get(String tableId) {
+        List<EnchantmentPoolLink> recent = appended.get(tableId);
+        if (recent != null) {
+            return recent;
+        }
+        Integer offset = mappedRecords.get(tableId);
+        if (offset == null) {
+            return List.of();
+        }
+        ByteBuffer payload = mapped.duplicate().position(offset);
+        payload.get(); // op, always PUT for mapped entries
+        readString(payload);
+        return readLinks(payload);
+    }
+
+    /**
+     * Appends one record per table in a single write followed by one sync. An empty list removes the table.
+     */
+    void putAll(Map<String, List<EnchantmentPoolLink>> updates) throws IOException {
+        if (updates.isEmpty()) {
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Map<String, List<EnchantmentPoolLink>> applied = new HashMap<>();
+        for (Map.Entry<String, List<EnchantmentPoolLink>> update : updates.entrySet()) {
+            String tableId = update.getKey();
+            List<EnchantmentPoolLink> links = List.copyOf(update.getValue());
+            boolean present = contains(tableId);
+            if (links.isEmpty() && !present) {
+                continue;
+            }
+            writeRecord(bytes, tableId, links);
+            applied.put(tableId, links);
+            if (present) {
+                deadRecords++;
+                liveRecords--;
+            }
+            if (links.isEmpty()) {
+                deadRecords++;
+            } else {
+                liveRecords++;
+            }
+        }
+        if (applied.isEmpty()) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        long position = size;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        channel.force(false);
+        size = position;
+        appended.putAll(applied);
+    }
+
+    boolean needsCompaction() {
+        return deadRecords >= MIN_DEAD_RECORDS_TO_COMPACT && deadRecords > liveRecords;
+    }
+
+    /**
+     * Writes the live records to the next generation and returns it opened; this index is closed either way.
+     */
+    PoolLinkIndex compact() throws IOException {
+        Set<String> ids = new LinkedHashSet<>(mappedRecords.keySet());
+        ids.addAll(appended.keySet());
+        Map<String, List<EnchantmentPoolLink>> live = new HashMap<>();
+        for (String id : ids) {
+            List<EnchantmentPoolLink> links = get(id);
+            if (!links.isEmpty()) {
+                live.put(id, links);
+            }
+        }
+        Path next = fileFor(directory, generation + 1);
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            bytes.write(header());
+            for (Map.Entry<String, List<EnchantmentPoolLink>> entry : live.entrySet()) {
+                writeRecord(bytes, entry.getKey(), entry.getValue());
+            }
+            writeGeneration(directory, generation + 1, bytes.toByteArray());
+        } finally {
+            close();
+        }
+        LOGGER.info("Compacted pool link index to {} ({} tables, {} superseded records dropped)",
+                next.getFileName(), live.size(), deadRecords);
+        PoolLinkIndex compacted = new PoolLinkIndex(directory, generation + 1, openChannel(next));
+        deleteQuietly(file());
+        return compacted;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean contains(String tableId) {
+        List<EnchantmentPoolLink> recent = appended.get(tableId);
+        return recent != null ? !recent.isEmpty() : mappedRecords.containsKey(tableId);
+    }
+
+    /**
+     * Reads every record through the channel (the file is not mapped yet), remembering where each id's latest record
+     * starts, and truncates a torn or corrupt tail.
+     */
+    private void scan() throws IOException {
+        long position = HEADER_BYTES;
+        ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        ByteBuffer payload = ByteBuffer.allocate(4096);
+        CRC32 crc = new CRC32();
+        while (position + RECORD_HEADER_BYTES <= size) {
+            recordHeader.clear();
+            if (!readFully(recordHeader, position)) {
+                break;
+            }
+            int length = recordHeader.getInt(0);
+            int checksum = recordHeader.getInt(4);
+            long payloadStart = position + RECORD_HEADER_BYTES;
+            if (length <= 0 || payloadStart + length > size || payloadStart + length > Integer.MAX_VALUE) {
+                break;
+            }
+            if (payload.capacity() < length) {
+                payload = ByteBuffer.allocate(Math.max(length, payload.capacity() * 2));
+            }
+            payload.clear().limit(length);
+            if (!readFully(payload, payloadStart)) {
+                break;
+            }
+            payload.flip();
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            byte op = payload.get();
+            String tableId = readString(payload);
+            boolean present = mappedRecords.remove(tableId) != null;
+            if (present) {
+                deadRecords++;
+                liveRecords--;
+            }
+            if (op == PUT) {
+                mappedRecords.put(tableId, (int) payloadStart);
+                liveRecords++;
+            } else {
+                deadRecords++;
+            }
+            position = payloadStart + length;
+        }
+        if (position < size) {
+            LOGGER.warn("Dropping {} bytes of incomplete pool link records at the end of {}", size - position, file());
+            channel.truncate(position);
+            channel.force(true);
+            size = position;
+        }
+    }
+
+    /**
+     * @return {@code false} if the file ended before {@code buffer} was filled
+     */
+    private boolean readFully(ByteBuffer buffer, long position) throws IOException {
+        long at = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, at);
+            if (read < 0) {
+                return false;
+            }
+            at += read;
+        }
+        return true;
+    }
+
+    private static byte[] header() {
+        return ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).array();
+    }
+
+    /**
+     * Writes a complete generation under a temporary name, syncs it and renames it into place, so a crash never
+     * leaves a partial {@code pool-links-<n>.idx} behind.
+     */
+    private static void writeGeneration(Path directory, long generation, byte[] contents) throws IOException {
+        Path target = fileFor(directory, generation);
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(contents);
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                out.force(true);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeRecord(ByteArrayOutputStream target, String tableId, List<EnchantmentPoolLink> links)
+            throws IOException {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+        DataOutputStream payload = new DataOutputStream(payloadBytes);
+        payload.writeByte(links.isEmpty() ? REMOVE : PUT);
+        writeString(payload, tableId);
+        if (!links.isEmpty()) {
+            payload.writeInt(links.size());
+            for (EnchantmentPoolLink link : links) {
+                payload.writeInt(link.orderIndex());
+                writeString(payload, link.poolId());
+                writeString(payload, link.itemId());
+                writeString(payload, link.entryType());
+                payload.writeDouble(link.weight());
+                payload.writeInt(link.minCount());
+                payload.writeInt(link.maxCount());
+                payload.writeInt(link.enchantments().size());
+                for (LinkedEnchantment enchantment : link.enchantments()) {
+                    writeString(payload, enchantment.enchantmentId());
+                    payload.writeDouble(enchantment.weight());
+                    payload.writeInt(enchantment.minLevel());
+                    payload.writeInt(enchantment.maxLevel());
+                }
+            }
+        }
+        byte[] body = payloadBytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        DataOutputStream out = new DataOutputStream(target);
+        out.writeInt(body.length);
+        out.writeInt((int) crc.getValue());
+        out.write(body);
+    }
+
+    private static List<EnchantmentPoolLink> readLinks(ByteBuffer payload) {
+        int count = payload.getInt();
+        List<EnchantmentPoolLink> links = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int order = payload.getInt();
+            String poolId = readString(payload);
+            String itemId = readString(payload);
+            String entryType = readString(payload);
+            double weight = payload.getDouble();
+            int minCount = payload.getInt();
+            int maxCount = payload.getInt();
+            int enchantmentCount = payload.getInt();
+            List<LinkedEnchantment> enchantments = new ArrayList<>(enchantmentCount);
+            for (int j = 0; j < enchantmentCount; j++) {
+                enchantments.add(new LinkedEnchantment(readString(payload), payload.getDouble(), payload.getInt(),
+                        payload.getInt()));
+            }
+            links.add(new EnchantmentPoolLink(order, poolId, itemId, entryType, weight, minCount, maxCount,
+                    List.copyOf(enchantments)));
+        }
+        return List.copyOf(links);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static FileChannel openChannel(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static Path fileFor(Path directory, long generation) {
+        return directory.resolve(FILE_PREFIX + generation + FILE_SUFFIX);
+    }
+
+    private static List<Long> generations(Path directory) throws IOException {
+        List<Long> generations = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    generations.add(Long.parseLong(
+                            name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length())));
+                } catch (NumberFormatException ignored) {
+                    // not one of ours
+                }
+            }
+        }
+        generations.sort(null);
+        return generations;
+    }
+
+    private static void deleteLeftoverTempFiles(Path directory) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                FILE_PREFIX + "*" + FILE_SUFFIX + TEMP_SUFFIX)) {
+            for (Path file : files) {
+                // an interrupted compaction; the generation it was replacing is still intact
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // still mapped by this process on some platforms; the next open removes it
+            LOGGER.debug("Could not delete stale pool link index {}", file, e);
+        }
+    }
+}
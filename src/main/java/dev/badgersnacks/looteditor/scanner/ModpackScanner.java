@@ -9,11 +9,15 @@ import dev.badgersnacks.looteditor.persistence.OverrideManifest;
 import dev.badgersnacks.looteditor.persistence.OverrideManifest.OverrideEntry;
 import dev.badgersnacks.looteditor.persistence.OverrideManifestService;
 import dev.badgersnacks.looteditor.persistence.OverridePaths;
+import dev.badgersnacks.looteditor.util.InputFingerprint;
 import dev.badgersnacks.looteditor.util.LootId;
+import dev.badgersnacks.looteditor.util.ProgressListener;
+import dev.badgersnacks.looteditor.util.TaskScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
@@ -24,6 +28,9 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -40,11 +47,31 @@ public class ModpackScanner {
     private final OverridePaths overridePaths = new OverridePaths();
 
     public List<LootTableDescriptor> scan(Path modpackRoot) throws IOException {
+        return scan(modpackRoot, Runnable::run);
+    }
+
+    public List<LootTableDescriptor> scan(Path modpackRoot, Executor executor) throws IOException {
+        return scan(modpackRoot, executor, ProgressListener.NONE);
+    }
+
+    /**
+     * Like {@link #scan(Path)}, but opens the mod jars concurrently on {@code executor}, one subtask per jar, and
+     * reports every mod or vanilla jar it finishes to {@code progress}.
+     */
+    public List<LootTableDescriptor> scan(Path modpackRoot, Executor executor, ProgressListener progress)
+            throws IOException {
         Objects.requireNonNull(modpackRoot, "modpackRoot");
+        Objects.requireNonNull(executor, "executor");
+        Objects.requireNonNull(progress, "progress");
         if (!Files.isDirectory(modpackRoot)) {
             throw new IOException("Modpack root " + modpackRoot + " is not a directory");
         }
 
+        Path modsDir = modpackRoot.resolve("mods");
+        List<Path> modJars = listModJars(modsDir);
+        Path vanillaJar = locateMinecraftJar(modpackRoot);
+        progress.start(modJars.size() + (vanillaJar != null ? 1 : 0), "archives");
+
         List<LootTableDescriptor> descriptors = new ArrayList<>();
         Path datapacks = modpackRoot.resolve("datapacks");
         scanDatapacks(datapacks, "Datapack: ", SourceType.DATAPACK, descriptors);
@@ -61,12 +88,11 @@ public class ModpackScanner {
             scanDataDirectory(lootDumpData, "Loot Dump", SourceType.LOOT_DUMP, false, descriptors);
         }
 
-        Path modsDir = modpackRoot.resolve("mods");
-        scanModArchives(modsDir, descriptors);
+        scanModArchives(modsDir, modJars, executor, progress, descriptors);
 
-        Path vanillaJar = locateMinecraftJar(modpackRoot);
         if (vanillaJar != null) {
             scanJar(vanillaJar, SourceType.VANILLA, "Minecraft", false, descriptors);
+            progress.unitDone(vanillaJar.getFileName().toString(), sizeOf(vanillaJar));
         }
 
         return descriptors.stream()
@@ -76,6 +102,38 @@ public class ModpackScanner {
                 .collect(Collectors.toUnmodifiableList());
     }
 
+    /**
+     * Fingerprints everything {@link #scan(Path)} reads: the mod and vanilla jars, the loose datapack, KubeJS and world
+     * datapack folders, and the export datapack. Equal fingerprints mean a rescan would find the same tables.
+     */
+    public InputFingerprint fingerprint(Path modpackRoot) throws IOException {
+        Objects.requireNonNull(modpackRoot, "modpackRoot");
+        InputFingerprint.Builder builder = InputFingerprint.builder()
+                .add(modpackRoot.toAbsolutePath().normalize().toString())
+                .files(listModJars(modpackRoot.resolve("mods")));
+        Path vanillaJar = locateMinecraftJar(modpackRoot);
+        if (vanillaJar != null) {
+            builder.file(vanillaJar);
+        }
+        builder.tree(modpackRoot.resolve("datapacks"))
+                .tree(modpackRoot.resolve("kubejs").resolve("data"));
+        Path savesDir = modpackRoot.resolve("saves");
+        if (Files.isDirectory(savesDir)) {
+            List<Path> worlds;
+            try (Stream<Path> listing = Files.list(savesDir)) {
+                worlds = listing.filter(Files::isDirectory).sorted().toList();
+            }
+            for (Path world : worlds) {
+                builder.tree(world.resolve("datapacks"));
+            }
+        }
+        Path exportRoot = exportSettings.resolvePackRoot(modpackRoot).orElse(null);
+        if (exportRoot != null) {
+            builder.tree(exportRoot);
+        }
+        return builder.build();
+    }
+
     private void scanExportOverrides(Path modpackRoot, List<LootTableDescriptor> sink) {
         exportSettings.resolvePackRoot(modpackRoot).ifPresent(exportRoot -> {
             Path dataDir = exportRoot.resolve("data");
@@ -105,7 +163,7 @@ public class ModpackScanner {
                         target.path(),
                         replacementFile,
                         null,
-                        "Loot Editor Override",
+                        OverridePaths.OVERRIDE_SOURCE_DISPLAY,
                         SourceType.DATAPACK,
                         true));
             }
@@ -199,17 +257,42 @@ public class ModpackScanner {
         return new LootTableDescriptor(namespace, tableId, file, null, label, sourceType, editable);
     }
 
-    private void scanModArchives(Path modsDir, List<LootTableDescriptor> sink) {
+    private List<Path> listModJars(Path modsDir) {
+        List<Path> jars = new ArrayList<>();
         if (!Files.isDirectory(modsDir)) {
-            return;
+            return jars;
         }
         try (DirectoryStream<Path> jarFiles = Files.newDirectoryStream(modsDir, "*.jar")) {
-            for (Path jar : jarFiles) {
-                scanJar(jar, SourceType.MOD_JAR, "Mod Jar: " + jar.getFileName(), false, sink);
-            }
+            jarFiles.forEach(jars::add);
         } catch (IOException e) {
             LOGGER.warn("Unable to enumerate mod jars in {}", modsDir, e);
         }
+        return jars;
+    }
+
+    private void scanModArchives(Path modsDir,
+                                 List<Path> jars,
+                                 Executor executor,
+                                 ProgressListener progress,
+                                 List<LootTableDescriptor> sink) throws IOException {
+        List<CompletableFuture<List<LootTableDescriptor>>> perJar = new ArrayList<>();
+        try (TaskScope<List<LootTableDescriptor>> scope = new TaskScope<>(executor)) {
+            for (Path jar : jars) {
+                perJar.add(scope.fork(() -> {
+                    List<LootTableDescriptor> found = new ArrayList<>();
+                    scanJar(jar, SourceType.MOD_JAR, "Mod Jar: " + jar.getFileName(), false, found);
+                    progress.unitDone(jar.getFileName().toString(), sizeOf(jar));
+                    return found;
+                }));
+            }
+            scope.join();
+        } catch (ExecutionException e) {
+            throw new IOException("Mod jar scan failed in " + modsDir, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Mod jar scan interrupted");
+        }
+        perJar.forEach(found -> sink.addAll(found.join()));
     }
 
     private void scanJar(Path jarPath,
@@ -311,6 +394,14 @@ public class ModpackScanner {
         }
     }
 
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
     private Path locateMinecraftJar(Path modpackRoot) {
         try {
             Path instanceJson = modpackRoot.resolve("minecraftinstance.json");
@@ -0,0 +1,256 @@
+package dev.badgersnacks.looteditor.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor.SourceType;
+import dev.badgersnacks.looteditor.persistence.OverridePaths;
+import dev.badgersnacks.looteditor.services.LootTableService.SaveRequest;
+import dev.badgersnacks.looteditor.util.ProgressListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Applies one transform to many loot tables: tables are selected by filter, parsed and transformed in parallel into
+ * a {@link BulkEditPlan} the user can review, and the plan is committed through
+ * {@link LootTableService#saveAll(Path, List)} so jar tables get overrides, the manifest and modifiers are written
+ * once, and worlds are synced once.
+ */
+public final class BulkEditService {
+
+    private static final Comparator<LootTableDescriptor> EFFECTIVE_ORDER = Comparator
+            .comparingInt(BulkEditService::effectiveRank)
+            .thenComparing(LootTableDescriptor::sourceType);
+
+    private final LootTableService lootTableService;
+
+    public BulkEditService(LootTableService lootTableService) {
+        this.lootTableService = Objects.requireNonNull(lootTableService, "lootTableService");
+    }
+
+    public BulkEditPlan preview(Collection<LootTableDescriptor> tables,
+                                Predicate<LootTableDescriptor> filter,
+                                LootTableTransform transform) {
+        return preview(tables, filter, transform, ForkJoinPool.commonPool());
+    }
+
+    public BulkEditPlan preview(Collection<LootTableDescriptor> tables,
+                                Predicate<LootTableDescriptor> filter,
+                                LootTableTransform transform,
+                                Executor executor) {
+        return preview(tables, filter, transform, executor, ProgressListener.NONE);
+    }
+
+    /**
+     * Loads every table matching {@code filter} and runs {@code transform} on it. Nothing is written; tables the
+     * transform leaves untouched are dropped from the plan. Only the copy of each id the game actually uses is
+     * edited (see {@link #effectiveTables}).
+     */
+    public BulkEditPlan preview(Collection<LootTableDescriptor> tables,
+                                Predicate<LootTableDescriptor> filter,
+                                LootTableTransform transform,
+                                Executor executor,
+                                ProgressListener progress) {
+        Objects.requireNonNull(transform, "transform");
+        List<LootTableDescriptor> selected = effectiveTables(tables.stream()
+                .filter(filter == null ? descriptor -> true : filter)
+                .toList());
+        ConcurrentLinkedQueue<BulkEditChange> changes = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<String> failures = new ConcurrentLinkedQueue<>();
+        lootTableService.loadAll(selected, executor, progress, new LootTableService.TableSink() {
+            @Override
+            public void accept(LootTableDescriptor descriptor, JsonNode node) {
+                // bulk loads bypass the table cache, so the tree is ours to edit
+                if (!(node instanceof ObjectNode table)) {
+                    return;
+                }
+                int changed = transform.apply(table);
+                if (changed > 0) {
+                    changes.add(new BulkEditChange(descriptor, table, changed));
+                }
+            }
+
+            @Override
+            public void failed(LootTableDescriptor descriptor, Exception error) {
+                LootTableService.TableSink.super.failed(descriptor, error);
+                failures.add(descriptor.qualifiedName() + ": " + error.getMessage());
+            }
+        });
+        List<BulkEditChange> sorted = new ArrayList<>(changes);
+        sorted.sort(Comparator.comparing(change -> change.descriptor().qualifiedName()));
+        return new BulkEditPlan(sorted, selected.size(), List.copyOf(failures));
+    }
+
+    /**
+     * Writes every table in the plan in one batch.
+     *
+     * @return where each table now lives, in plan order
+     */
+    public List<LootTableDescriptor> commit(Path modpackRoot, BulkEditPlan plan) throws IOException {
+        List<SaveRequest> requests = plan.changes().stream()
+                .map(change -> new SaveRequest(change.descriptor(), change.updated()))
+                .toList();
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        return lootTableService.saveAll(modpackRoot, requests);
+    }
+
+    /**
+     * Keeps one copy per table id: a Loot Editor override wins, then a loose editable file, then anything else
+     * (jar, dump); ties go to the earlier {@link SourceType}. Editing a shadowed copy would have no effect in game,
+     * and a jar copy next to its override would be written to the same replacement file.
+     */
+    static List<LootTableDescriptor> effectiveTables(Collection<LootTableDescriptor> tables) {
+        Map<String, LootTableDescriptor> effective = new LinkedHashMap<>();
+        for (LootTableDescriptor descriptor : tables) {
+            effective.merge(descriptor.qualifiedName(), descriptor,
+                    (kept, other) -> EFFECTIVE_ORDER.compare(other, kept) < 0 ? other : kept);
+        }
+        return List.copyOf(effective.values());
+    }
+
+    private static int effectiveRank(LootTableDescriptor descriptor) {
+        if (OverridePaths.OVERRIDE_SOURCE_DISPLAY.equals(descriptor.sourceDisplay())) {
+            return 0;
+        }
+        return descriptor.editable() && !descriptor.isArchiveEntry() ? 1 : 2;
+    }
+
+    /**
+     * Matches qualified table names against a glob: {@code *} stays within one path segment, {@code **} crosses
+     * segments, e.g. {@code *:chests/**}. A blank pattern matches every table.
+     */
+    public static Predicate<LootTableDescriptor> tableFilter(String glob) {
+        if (glob == null || glob.isBlank()) {
+            return descriptor -> true;
+        }
+        StringBuilder regex = new StringBuilder();
+        String trimmed = glob.trim();
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c == '*' && i + 1 < trimmed.length() && trimmed.charAt(i + 1) == '*') {
+                regex.append(".*");
+                i++;
+            } else if (c == '*') {
+                regex.append("[^/]*");
+            } else if (c == '?') {
+                regex.append("[^/]");
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        Pattern pattern = Pattern.compile(regex.toString());
+        return descriptor -> pattern.matcher(descriptor.qualifiedName()).matches();
+    }
+
+    /**
+     * Multiplies the weight of every entry naming {@code itemId}. Integral weights stay integral and at least 1; an
+     * entry whose weight comes out unchanged (e.g. the default 1 halved) is left untouched and not counted.
+     */
+    public static LootTableTransform scaleWeight(String itemId, double factor) {
+        Objects.requireNonNull(itemId, "itemId");
+        return table -> forEachEntry(table, entry -> {
+            if (!itemId.equals(entry.path("name").asText(null))) {
+                return false;
+            }
+            JsonNode weight = entry.get("weight");
+            if (weight == null || weight.isIntegralNumber()) {
+                long current = weight == null ? 1 : weight.asLong(1);
+                long scaled = Math.max(1, Math.round(current * factor));
+                if (scaled == current) {
+                    return false;
+                }
+                entry.put("weight", scaled);
+            } else {
+                double current = weight.asDouble(1);
+                double scaled = current * factor;
+                if (scaled == current) {
+                    return false;
+                }
+                entry.put("weight", scaled);
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Points every entry naming {@code fromId} at {@code toId}.
+     */
+    public static LootTableTransform replaceItem(String fromId, String toId) {
+        Objects.requireNonNull(fromId, "fromId");
+        Objects.requireNonNull(toId, "toId");
+        return table -> forEachEntry(table, entry -> {
+            if (!fromId.equals(entry.path("name").asText(null))) {
+                return false;
+            }
+            entry.put("name", toId);
+            return true;
+        });
+    }
+
+    /**
+     * Visits every entry in every pool, children included, and counts how many the visitor changed.
+     */
+    static int forEachEntry(ObjectNode table, Predicate<ObjectNode> visitor) {
+        int changed = 0;
+        for (JsonNode pool : table.path("pools")) {
+            changed += visitEntries(pool.path("entries"), visitor);
+        }
+        return changed;
+    }
+
+    private static int visitEntries(JsonNode entries, Predicate<ObjectNode> visitor) {
+        int changed = 0;
+        for (JsonNode entry : entries) {
+            if (entry instanceof ObjectNode object) {
+                if (visitor.test(object)) {
+                    changed++;
+                }
+                changed += visitEntries(object.path("children"), visitor);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Edits a table in place and returns how many entries it changed (0 leaves the table out of the plan).
+     * Called concurrently for different tables.
+     */
+    @FunctionalInterface
+    public interface LootTableTransform {
+        int apply(ObjectNode table);
+    }
+
+    public record BulkEditChange(LootTableDescriptor descriptor, JsonNode updated, int changedEntries) {
+    }
+
+    /**
+     * @param scanned  how many tables matched the filter
+     * @param failures tables that could not be read, as {@code id: reason}
+     */
+    public record BulkEditPlan(List<BulkEditChange> changes, int scanned, List<String> failures) {
+
+        public BulkEditPlan {
+            changes = List.copyOf(changes);
+            failures = List.copyOf(failures);
+        }
+
+        public int changedEntries() {
+            return changes.stream().mapToInt(BulkEditChange::changedEntries).sum();
+        }
+    }
+}
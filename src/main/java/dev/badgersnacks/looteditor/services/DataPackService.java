@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import dev.badgersnacks.looteditor.persistence.ExportSettings;
+import dev.badgersnacks.looteditor.persistence.ExportSettings.SyncMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -12,7 +13,6 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -28,14 +28,17 @@ import java.util.stream.Stream;
 public class DataPackService {
 
     public static final String PACK_FOLDER = "loot_editor";
+    private static final Path ARCHIVE_STAGING_PATH = Path.of("loot-editor-b", "cache", PACK_FOLDER + ".zip");
     private static final String PACK_DESCRIPTION = "Loot Editor datapack exports";
     private static final Logger LOGGER = LoggerFactory.getLogger(DataPackService.class);
 
     private final ObjectMapper mapper;
     private final ExportSettings exportSettings = new ExportSettings();
+    private final WorldDatapackSync worldSync;
 
     public DataPackService(ObjectMapper mapper) {
         this.mapper = mapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+        this.worldSync = new WorldDatapackSync(this.mapper);
     }
 
     public Path resolveLootTablePath(Path modpackRoot, String namespace, String tablePath) throws IOException {
@@ -63,28 +66,32 @@ public class DataPackService {
         return packRoot;
     }
 
+    /**
+     * Brings {@code datapacks/loot_editor} in every world under {@code saves/} up to date with the exported pack,
+     * copying only changed files and removing ones that were deleted from the export. With {@code "syncMode": "zip"}
+     * in the export settings, each world instead receives a single {@code datapacks/loot_editor.zip}.
+     */
     public List<Path> syncWorldDatapacks(Path modpackRoot) throws IOException {
         Path packRoot = ensurePackRoot(modpackRoot);
         Path savesDir = modpackRoot.resolve("saves");
         if (!Files.isDirectory(savesDir)) {
             return Collections.emptyList();
         }
-        List<Path> updatedWorlds = new ArrayList<>();
-        try (Stream<Path> worlds = Files.list(savesDir)) {
-            worlds.filter(Files::isDirectory)
+        List<Path> worlds;
+        try (Stream<Path> entries = Files.list(savesDir)) {
+            worlds = entries.filter(Files::isDirectory)
                     .filter(world -> Files.exists(world.resolve("level.dat")))
-                    .forEach(world -> {
-                        Path worldDatapackDir = world.resolve("datapacks").resolve(PACK_FOLDER);
-                        try {
-                            copyDirectory(packRoot, worldDatapackDir);
-                            updatedWorlds.add(world);
-                            LOGGER.info("Synced loot_editor datapack into world {}", world.getFileName());
-                        } catch (IOException e) {
-                            LOGGER.warn("Failed to sync datapack into {}", world, e);
-                        }
-                    });
+                    .sorted()
+                    .toList();
         }
-        return updatedWorlds;
+        if (worlds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (exportSettings.resolveSyncMode(modpackRoot) == SyncMode.ZIP) {
+            return worldSync.syncAllAsArchive(packRoot, worlds, PACK_FOLDER,
+                    modpackRoot.resolve(ARCHIVE_STAGING_PATH));
+        }
+        return worldSync.syncAll(packRoot, worlds, PACK_FOLDER);
     }
 
     private void writePackMeta(Path packRoot, int packFormat) throws IOException {
@@ -120,43 +127,6 @@ public class DataPackService {
         return PackFormatRule.resolve(version);
     }
 
-    private void copyDirectory(Path source, Path target) throws IOException {
-        if (source.equals(target)) {
-            return;
-        }
-        deleteDirectory(target);
-        Files.walk(source).forEach(path -> {
-            try {
-                Path relative = source.relativize(path);
-                Path destination = target.resolve(relative);
-                if (Files.isDirectory(path)) {
-                    Files.createDirectories(destination);
-                } else {
-                    Files.createDirectories(destination.getParent());
-                    Files.copy(path, destination, StandardCopyOption.REPLACE_EXISTING);
-                }
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
-            }
-        });
-    }
-
-    private void deleteDirectory(Path target) throws IOException {
-        if (!Files.exists(target)) {
-            return;
-        }
-        try (Stream<Path> walk = Files.walk(target)) {
-            walk.sorted((a, b) -> b.compareTo(a))
-                    .forEach(path -> {
-                        try {
-                            Files.deleteIfExists(path);
-                        } catch (IOException e) {
-                            throw new UncheckedIOException(e);
-                        }
-                    });
-        }
-    }
-
     private Optional<Version> detectMinecraftVersion(Path modpackRoot) {
         Path instanceFile = modpackRoot.resolve("minecraftinstance.json");
         if (!Files.exists(instanceFile)) {
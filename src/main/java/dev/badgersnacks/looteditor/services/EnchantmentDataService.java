@@ -1,6 +1,7 @@
 package dev.badgersnacks.looteditor.services;
 
 import dev.badgersnacks.looteditor.model.EnchantmentDescriptor;
+import dev.badgersnacks.looteditor.util.InputFingerprint;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -58,7 +59,7 @@ public class EnchantmentDataService {
     );
 
     public List<EnchantmentDescriptor> load(Path modpackRoot) {
-        Path dump = modpackRoot.resolve("ct_dumps").resolve("enchantment.txt");
+        Path dump = dumpFile(modpackRoot);
         if (!Files.exists(dump)) {
             return VANILLA;
         }
@@ -79,6 +80,17 @@ public class EnchantmentDataService {
         }
     }
 
+    /**
+     * Fingerprints the dump {@link #load(Path)} reads.
+     */
+    public InputFingerprint fingerprint(Path modpackRoot) throws IOException {
+        return InputFingerprint.builder().file(dumpFile(modpackRoot)).build();
+    }
+
+    private static Path dumpFile(Path modpackRoot) {
+        return modpackRoot.resolve("ct_dumps").resolve("enchantment.txt");
+    }
+
     private static EnchantmentDescriptor descriptor(String id) {
         String normalized = id.toLowerCase(Locale.ROOT);
         String namespace = normalized.contains(":") ? normalized.substring(0, normalized.indexOf(':')) : "minecraft";
@@ -11,8 +11,10 @@ import dev.badgersnacks.looteditor.model.EnchantmentPoolLink;
 import dev.badgersnacks.looteditor.model.EnchantmentPoolLink.LinkedEnchantment;
 import dev.badgersnacks.looteditor.model.LootPoolEntryModel;
 import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.persistence.ExportSettings.PoolExpansion;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -26,6 +28,11 @@ import java.util.Set;
  */
 public final class EnchantmentPoolAdapter {
 
+    /**
+     * Loader-side loot function used by {@link PoolExpansion#COMPACT}: picks one weighted option when the entry drops.
+     */
+    public static final String SELECT_ENCHANTMENT_FUNCTION = "loot_editor_loader:select_enchantment";
+
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
     private EnchantmentPoolAdapter() {
@@ -33,26 +40,30 @@ public final class EnchantmentPoolAdapter {
 
     /**
      * Collapses the multiple JSON entries generated for a pool back into a single logical row so the editor can
-     * present one item with an attached pool instead of dozens of near-duplicates.
+     * present one item with an attached pool instead of dozens of near-duplicates. Compact entries carry their pool
+     * id in the selection function and map back to a row directly.
+     * <p>
+     * Parsed entries are indexed once by {@link MatchKey}, so the pass is linear in entries plus linked enchantments.
      */
     public static List<LootPoolEntryModel> mergeForEditing(JsonNode lootTable, List<EnchantmentPoolLink> links) {
         List<ParsedEntry> parsedEntries = parseEntries(lootTable);
-        Map<Integer, ParsedEntry> entriesByOrder = new HashMap<>();
-        for (ParsedEntry parsed : parsedEntries) {
-            entriesByOrder.put(parsed.orderIndex(), parsed);
-        }
+        Map<MatchKey, ArrayDeque<ParsedEntry>> candidates = links.isEmpty() ? Map.of() : indexEntries(parsedEntries);
         Set<Integer> consumedOrders = new HashSet<>();
         Map<Integer, LootPoolEntryModel> aggregated = new HashMap<>();
         for (EnchantmentPoolLink link : links) {
-            List<Integer> matchedOrders = new ArrayList<>();
+            // the row takes the place of its first generated entry; link.orderIndex() counts editor rows, not entries
+            int firstOrder = Integer.MAX_VALUE;
             for (LinkedEnchantment enchantment : link.enchantments()) {
-                Optional<ParsedEntry> match = findMatchingEntry(parsedEntries, link, enchantment, consumedOrders);
-                match.ifPresent(parsed -> {
-                    consumedOrders.add(parsed.orderIndex());
-                    matchedOrders.add(parsed.orderIndex());
-                });
+                ArrayDeque<ParsedEntry> queue = candidates.get(new MatchKey(link.itemId(), link.entryType(),
+                        link.minCount(), link.maxCount(), enchantment.enchantmentId(), enchantment.minLevel(),
+                        enchantment.maxLevel()));
+                ParsedEntry match = queue == null ? null : nextUnconsumed(queue, consumedOrders);
+                if (match != null) {
+                    consumedOrders.add(match.orderIndex());
+                    firstOrder = Math.min(firstOrder, match.orderIndex());
+                }
             }
-            if (!matchedOrders.isEmpty()) {
+            if (firstOrder != Integer.MAX_VALUE) {
                 LootPoolEntryModel model = new LootPoolEntryModel(
                         link.itemId(),
                         link.weight(),
@@ -61,88 +72,91 @@ public final class EnchantmentPoolAdapter {
                         link.maxCount(),
                         link.poolId()
                 );
-                aggregated.put(link.orderIndex(), model);
+                aggregated.put(firstOrder, model);
             }
         }
-        List<LootPoolEntryModel> result = new ArrayList<>();
-        int cursor = 0;
-        int maxOrder = parsedEntries.stream().mapToInt(ParsedEntry::orderIndex).max().orElse(-1);
-        while (cursor <= maxOrder) {
-            if (aggregated.containsKey(cursor)) {
-                result.add(aggregated.remove(cursor));
-            }
-            ParsedEntry parsed = entriesByOrder.get(cursor);
-            if (parsed != null && !consumedOrders.contains(cursor)) {
+        List<LootPoolEntryModel> result = new ArrayList<>(parsedEntries.size());
+        for (ParsedEntry parsed : parsedEntries) {
+            LootPoolEntryModel row = aggregated.get(parsed.orderIndex());
+            if (row != null) {
+                result.add(row);
+            } else if (!consumedOrders.contains(parsed.orderIndex())) {
                 result.add(parsed.model());
             }
-            cursor++;
         }
-        aggregated.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .forEach(entry -> result.add(entry.getValue()));
         return result;
     }
 
-    private static Optional<ParsedEntry> findMatchingEntry(List<ParsedEntry> parsedEntries,
-                                                           EnchantmentPoolLink link,
-                                                           LinkedEnchantment enchantment,
-                                                           Set<Integer> consumedOrders) {
-        return parsedEntries.stream()
-                .filter(parsed -> !consumedOrders.contains(parsed.orderIndex()))
-                .filter(parsed -> parsed.model().itemId().equals(link.itemId()))
-                .filter(parsed -> parsed.model().entryType().equals(link.entryType()))
-                .filter(parsed -> parsed.model().minCount() == link.minCount()
-                        && parsed.model().maxCount() == link.maxCount())
-                .filter(parsed -> hasSingleEnchantment(parsed.entryNode(), enchantment))
-                .findFirst();
-    }
-
-    private static boolean hasSingleEnchantment(ObjectNode entryNode, LinkedEnchantment linked) {
-        ArrayNode functions = (ArrayNode) entryNode.path("functions");
-        if (functions == null) {
-            return false;
-        }
-        for (JsonNode fn : functions) {
-            if (!"minecraft:set_enchantments".equals(fn.path("function").asText())) {
-                continue;
-            }
-            JsonNode enchantments = fn.path("enchantments");
-            if (!enchantments.isObject()) {
-                continue;
-            }
-            var fields = enchantments.fieldNames();
-            if (!fields.hasNext()) {
+    /**
+     * Files each parsed entry under the key of every single-enchantment {@code set_enchantments} function it carries,
+     * in table order, so the first unconsumed candidate is the one a linear search would have found.
+     */
+    private static Map<MatchKey, ArrayDeque<ParsedEntry>> indexEntries(List<ParsedEntry> parsedEntries) {
+        Map<MatchKey, ArrayDeque<ParsedEntry>> index = new HashMap<>();
+        for (ParsedEntry parsed : parsedEntries) {
+            JsonNode functions = parsed.entryNode().path("functions");
+            if (!functions.isArray()) {
                 continue;
             }
-            String enchantmentId = fields.next();
-            if (fields.hasNext()) {
-                continue; // ignore entries with multiple enchantments
-            }
-            if (!enchantmentId.equals(linked.enchantmentId())) {
-                continue;
+            LootPoolEntryModel model = parsed.model();
+            for (JsonNode fn : functions) {
+                if (!"minecraft:set_enchantments".equals(fn.path("function").asText())) {
+                    continue;
+                }
+                JsonNode enchantments = fn.path("enchantments");
+                if (!enchantments.isObject() || enchantments.size() != 1) {
+                    continue; // ignore entries with multiple enchantments
+                }
+                Map.Entry<String, JsonNode> enchantment = enchantments.fields().next();
+                JsonNode value = enchantment.getValue();
+                int min;
+                int max;
+                if (value.isNumber()) {
+                    min = value.asInt();
+                    max = min;
+                } else if (value.isObject()) {
+                    min = value.path("min").asInt(1);
+                    max = value.path("max").asInt(min);
+                } else {
+                    continue;
+                }
+                MatchKey key = new MatchKey(model.itemId(), model.entryType(), model.minCount(), model.maxCount(),
+                        enchantment.getKey(), min, max);
+                index.computeIfAbsent(key, ignored -> new ArrayDeque<>()).add(parsed);
             }
-            JsonNode value = enchantments.get(enchantmentId);
-            if (value.isNumber()) {
-                int level = value.asInt();
-                return level == linked.minLevel() && level == linked.maxLevel();
-            } else if (value.isObject()) {
-                int min = value.path("min").asInt(1);
-                int max = value.path("max").asInt(min);
-                return min == linked.minLevel() && max == linked.maxLevel();
+        }
+        return index;
+    }
+
+    private static ParsedEntry nextUnconsumed(ArrayDeque<ParsedEntry> queue, Set<Integer> consumedOrders) {
+        ParsedEntry next;
+        // an entry with several qualifying functions sits in several queues; skip it once another link took it
+        while ((next = queue.poll()) != null) {
+            if (!consumedOrders.contains(next.orderIndex())) {
+                return next;
             }
         }
-        return false;
+        return null;
+    }
+
+    public static RebuildResult rebuild(JsonNode template,
+                                        List<LootPoolEntryModel> entries,
+                                        LootTableDescriptor descriptor,
+                                        EnchantmentPoolService poolService,
+                                        PathAwarePoolLinkWriter linkWriter) throws Exception {
+        return rebuild(template, entries, descriptor, poolService, linkWriter, PoolExpansion.EXPANDED);
     }
 
     /**
-     * Expands any entry that references a pool into multiple JSON entries and records metadata so the process can be
-     * reversed when the table is opened again.
+     * Expands any entry that references a pool into JSON entries (see {@link #expandEntry}) and records metadata so
+     * the process can be reversed when the table is opened again.
      */
     public static RebuildResult rebuild(JsonNode template,
                                         List<LootPoolEntryModel> entries,
                                         LootTableDescriptor descriptor,
                                         EnchantmentPoolService poolService,
-                                        PathAwarePoolLinkWriter linkWriter) throws Exception {
+                                        PathAwarePoolLinkWriter linkWriter,
+                                        PoolExpansion expansion) throws Exception {
         ObjectNode root;
         if (template != null && template.isObject()) {
             root = ((ObjectNode) template).deepCopy();
@@ -177,18 +191,9 @@ public final class EnchantmentPoolAdapter {
                 continue;
             }
             EnchantmentPool enchantPool = poolOpt.get();
+            newEntries.addAll(expandEntry(entry, enchantPool, expansion));
             List<LinkedEnchantment> linkEnchantments = new ArrayList<>();
-            double totalWeight = enchantPool.entries().stream().mapToDouble(EnchantmentPoolEntry::weight).sum();
-            if (totalWeight <= 0) {
-                totalWeight = 1;
-            }
             for (EnchantmentPoolEntry option : enchantPool.entries()) {
-                ObjectNode entryNode = buildStandardEntry(entry);
-                int weighted = Math.max(1, (int) Math.round(entry.weight() * option.weight() / totalWeight));
-                entryNode.put("weight", weighted);
-                ArrayNode functions = ensureFunctions(entryNode);
-                functions.add(buildSetEnchantFunction(option, enchantPool.treasureAllowed()));
-                newEntries.add(entryNode);
                 linkEnchantments.add(new LinkedEnchantment(option.enchantmentId(), option.weight(), option.minLevel(), option.maxLevel()));
             }
             links.add(new EnchantmentPoolLink(i, enchantPool.id(), entry.itemId(),
@@ -201,6 +206,42 @@ public final class EnchantmentPoolAdapter {
         return new RebuildResult(root, links);
     }
 
+    public static List<ObjectNode> expandEntry(LootPoolEntryModel entry, EnchantmentPool enchantPool) {
+        return expandEntry(entry, enchantPool, PoolExpansion.EXPANDED);
+    }
+
+    /**
+     * Produces the JSON entries written for a single editor row: one standard entry, or, when a pool is supplied,
+     * one entry per pool option with the row's weight split across the options ({@link PoolExpansion#EXPANDED}) or
+     * a single entry with a weighted selection function ({@link PoolExpansion#COMPACT}).
+     */
+    public static List<ObjectNode> expandEntry(LootPoolEntryModel entry,
+                                               EnchantmentPool enchantPool,
+                                               PoolExpansion expansion) {
+        if (enchantPool == null) {
+            return List.of(buildStandardEntry(entry));
+        }
+        if (expansion == PoolExpansion.COMPACT) {
+            ObjectNode entryNode = buildStandardEntry(entry);
+            ensureFunctions(entryNode).add(buildSelectEnchantmentFunction(enchantPool));
+            return List.of(entryNode);
+        }
+        double totalWeight = enchantPool.entries().stream().mapToDouble(EnchantmentPoolEntry::weight).sum();
+        if (totalWeight <= 0) {
+            totalWeight = 1;
+        }
+        List<ObjectNode> expanded = new ArrayList<>(enchantPool.entries().size());
+        for (EnchantmentPoolEntry option : enchantPool.entries()) {
+            ObjectNode entryNode = buildStandardEntry(entry);
+            int weighted = Math.max(1, (int) Math.round(entry.weight() * option.weight() / totalWeight));
+            entryNode.put("weight", weighted);
+            ArrayNode functions = ensureFunctions(entryNode);
+            functions.add(buildSetEnchantFunction(option, enchantPool.treasureAllowed()));
+            expanded.add(entryNode);
+        }
+        return expanded;
+    }
+
     private static ObjectNode buildStandardEntry(LootPoolEntryModel entry) {
         ObjectNode entryNode = JsonNodeFactory.instance.objectNode();
         entryNode.put("type", entry.entryType());
@@ -261,6 +302,39 @@ public final class EnchantmentPoolAdapter {
         return function;
     }
 
+    private static ObjectNode buildSelectEnchantmentFunction(EnchantmentPool enchantPool) {
+        ObjectNode function = JsonNodeFactory.instance.objectNode();
+        function.put("function", SELECT_ENCHANTMENT_FUNCTION);
+        function.put("pool", enchantPool.id());
+        ArrayNode options = function.putArray("options");
+        for (EnchantmentPoolEntry option : enchantPool.entries()) {
+            ObjectNode node = options.addObject();
+            node.put("enchantment", option.enchantmentId());
+            node.put("weight", option.weight());
+            if (option.minLevel() == option.maxLevel()) {
+                node.put("levels", option.minLevel());
+            } else {
+                ObjectNode range = node.putObject("levels");
+                range.put("type", "minecraft:uniform");
+                range.put("min", option.minLevel());
+                range.put("max", option.maxLevel());
+            }
+        }
+        if (enchantPool.treasureAllowed()) {
+            function.put("treasure", true);
+        }
+        return function;
+    }
+
+    private static String compactPoolId(JsonNode functions) {
+        for (JsonNode function : functions) {
+            if (SELECT_ENCHANTMENT_FUNCTION.equals(function.path("function").asText())) {
+                return function.path("pool").asText(null);
+            }
+        }
+        return null;
+    }
+
     private static List<ParsedEntry> parseEntries(JsonNode lootTable) {
         List<ParsedEntry> entries = new ArrayList<>();
         JsonNode pools = lootTable.path("pools");
@@ -279,7 +353,8 @@ public final class EnchantmentPoolAdapter {
                 String itemId = entry.path("name").asText(entry.path("id").asText("unknown"));
                 double weight = entry.path("weight").asDouble(1.0d);
                 CountRange range = parseCountRange(entry.path("functions"));
-                LootPoolEntryModel model = new LootPoolEntryModel(itemId, weight, type, range.min(), range.max(), null);
+                LootPoolEntryModel model = new LootPoolEntryModel(itemId, weight, type, range.min(), range.max(),
+                        compactPoolId(entry.path("functions")));
                 entries.add(new ParsedEntry(order++, model, entryNode));
             }
         }
@@ -313,6 +388,10 @@ public final class EnchantmentPoolAdapter {
     private record ParsedEntry(int orderIndex, LootPoolEntryModel model, ObjectNode entryNode) {
     }
 
+    private record MatchKey(String itemId, String entryType, int minCount, int maxCount,
+                            String enchantmentId, int minLevel, int maxLevel) {
+    }
+
     private record CountRange(int min, int max) {
     }
 
@@ -7,37 +7,49 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import dev.badgersnacks.looteditor.model.EnchantmentPool;
 import dev.badgersnacks.looteditor.model.EnchantmentPoolEntry;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
  * Reads and writes enchantment pool definitions under kubejs/data/<namespace>/enchantment_pools/.
+ * <p>
+ * Parsed pools are kept in a registry for the pack last asked about. Only the {@code enchantment_pools} folders are
+ * scanned, and the registry is rebuilt lazily after a save, a delete, {@link #invalidate}, or a change the file
+ * watcher reports in one of those folders (or a new namespace folder). Watch events are drained on access, so no
+ * background thread is involved.
  */
 public class EnchantmentPoolService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(EnchantmentPoolService.class);
     private static final String DEFAULT_NAMESPACE = "loot_editor";
+    private static final String POOLS_DIR = "enchantment_pools";
     private final ObjectMapper mapper = new ObjectMapper()
             .enable(SerializationFeature.INDENT_OUTPUT);
+    private final Object lock = new Object();
+    private PoolRegistry registry;
 
     public List<EnchantmentPool> listPools(Path modpackRoot) throws IOException {
-        Path kubeData = kubeDataRoot(modpackRoot);
-        if (!Files.isDirectory(kubeData)) {
-            return Collections.emptyList();
-        }
-        List<EnchantmentPool> result = new ArrayList<>();
-        Files.walk(kubeData)
-                .filter(path -> path.getFileName().toString().endsWith(".json"))
-                .forEach(path -> loadPoolFromFile(path).ifPresent(result::add));
-        result.sort((a, b) -> a.id().compareToIgnoreCase(b.id()));
-        return result;
+        return pools(modpackRoot).values().stream()
+                .sorted(Comparator.comparing(EnchantmentPool::id, String.CASE_INSENSITIVE_ORDER))
+                .toList();
     }
 
     public Optional<EnchantmentPool> findPool(Path modpackRoot, String poolId) {
@@ -47,27 +59,59 @@ public class EnchantmentPoolService {
         String[] parts = poolId.split(":", 2);
         String namespace = parts.length == 2 ? parts[0] : DEFAULT_NAMESPACE;
         String name = parts.length == 2 ? parts[1] : parts[0];
-        Path path = poolFile(modpackRoot, namespace, name);
-        if (!Files.exists(path)) {
+        try {
+            return Optional.ofNullable(pools(modpackRoot).get(namespace + ":" + name));
+        } catch (IOException e) {
+            LOGGER.warn("Failed to scan enchantment pools in {}", kubeDataRoot(modpackRoot), e);
             return Optional.empty();
         }
-        return loadPoolFromFile(path);
     }
 
     public EnchantmentPool savePool(Path modpackRoot, EnchantmentPool pool) throws IOException {
         Path path = poolFile(modpackRoot, pool.namespace(), pool.name());
         Files.createDirectories(path.getParent());
         mapper.writeValue(path.toFile(), serialize(pool));
+        invalidate(modpackRoot);
         return pool;
     }
 
     public void deletePool(Path modpackRoot, String poolId) throws IOException {
-        findPool(modpackRoot, poolId).ifPresent(pool -> {
-            try {
-                Files.deleteIfExists(poolFile(modpackRoot, pool.namespace(), pool.name()));
-            } catch (IOException ignored) {
+        Optional<EnchantmentPool> pool = findPool(modpackRoot, poolId);
+        if (pool.isPresent()) {
+            Files.deleteIfExists(poolFile(modpackRoot, pool.get().namespace(), pool.get().name()));
+            invalidate(modpackRoot);
+        }
+    }
+
+    /**
+     * Forces the next lookup for {@code modpackRoot} to rescan the pool folders.
+     */
+    public void invalidate(Path modpackRoot) {
+        synchronized (lock) {
+            if (registry != null && registry.modpackRoot.equals(modpackRoot)) {
+                registry.stale = true;
             }
-        });
+        }
+    }
+
+    /**
+     * Pools keyed exactly like their file ({@code <namespace folder>:<file name>}), case-sensitive like resource
+     * locations, so lookups resolve the same file a path lookup would.
+     */
+    private Map<String, EnchantmentPool> pools(Path modpackRoot) throws IOException {
+        synchronized (lock) {
+            if (registry == null || !registry.modpackRoot.equals(modpackRoot)) {
+                if (registry != null) {
+                    registry.close();
+                }
+                registry = new PoolRegistry(modpackRoot);
+            }
+            registry.drainEvents();
+            if (registry.stale) {
+                registry.rescan();
+            }
+            return registry.pools;
+        }
     }
 
     private Path kubeDataRoot(Path modpackRoot) {
@@ -123,6 +167,107 @@ public class EnchantmentPoolService {
         return node;
     }
 
+    /**
+     * Parsed pools of one pack plus the watcher over the folders they came from. Guarded by {@code lock}.
+     */
+    private final class PoolRegistry {
+        private final Path modpackRoot;
+        private final Path dataRoot;
+        private WatchService watcher;
+        private boolean stale = true;
+        private boolean scannedWithRoot;
+        private Map<String, EnchantmentPool> pools = Map.of();
+
+        PoolRegistry(Path modpackRoot) {
+            this.modpackRoot = modpackRoot;
+            this.dataRoot = kubeDataRoot(modpackRoot);
+        }
+
+        void rescan() throws IOException {
+            close();
+            Map<String, EnchantmentPool> scanned = new TreeMap<>();
+            if (Files.isDirectory(dataRoot)) {
+                watcher = openWatcher();
+                // new namespace and pool folders show up as creations one level up
+                watch(dataRoot, StandardWatchEventKinds.ENTRY_CREATE);
+                try (DirectoryStream<Path> namespaces = Files.newDirectoryStream(dataRoot, Files::isDirectory)) {
+                    for (Path namespace : namespaces) {
+                        watch(namespace, StandardWatchEventKinds.ENTRY_CREATE);
+                        Path poolsDir = namespace.resolve(POOLS_DIR);
+                        if (!Files.isDirectory(poolsDir)) {
+                            continue;
+                        }
+                        watch(poolsDir, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
+                                StandardWatchEventKinds.ENTRY_MODIFY);
+                        try (DirectoryStream<Path> files = Files.newDirectoryStream(poolsDir, "*.json")) {
+                            for (Path file : files) {
+                                String fileName = file.getFileName().toString();
+                                String key = namespace.getFileName() + ":"
+                                        + fileName.substring(0, fileName.length() - ".json".length());
+                                loadPoolFromFile(file).ifPresent(pool -> scanned.put(key, pool));
+                            }
+                        }
+                    }
+                }
+            }
+            pools = Collections.unmodifiableMap(scanned);
+            scannedWithRoot = watcher != null || Files.isDirectory(dataRoot);
+            stale = false;
+        }
+
+        /**
+         * Marks the registry stale if anything changed since the last scan. Without a watcher (unsupported file
+         * system, or no kubejs/data yet) the registry only refreshes when invalidated or when the folder appears.
+         */
+        void drainEvents() {
+            if (watcher == null) {
+                if (!stale && !scannedWithRoot && Files.isDirectory(dataRoot)) {
+                    stale = true;
+                }
+                return;
+            }
+            WatchKey key;
+            while ((key = watcher.poll()) != null) {
+                if (!key.pollEvents().isEmpty()) {
+                    stale = true;
+                }
+                key.reset();
+            }
+        }
+
+        void close() {
+            if (watcher == null) {
+                return;
+            }
+            try {
+                watcher.close();
+            } catch (IOException e) {
+                LOGGER.warn("Failed to close enchantment pool watcher for {}", dataRoot, e);
+            }
+            watcher = null;
+        }
+
+        private WatchService openWatcher() {
+            try {
+                return dataRoot.getFileSystem().newWatchService();
+            } catch (IOException | UnsupportedOperationException e) {
+                LOGGER.warn("Cannot watch {} for enchantment pool changes", dataRoot, e);
+                return null;
+            }
+        }
+
+        private void watch(Path dir, WatchEvent.Kind<?>... kinds) {
+            if (watcher == null) {
+                return;
+            }
+            try {
+                dir.register(watcher, kinds);
+            } catch (IOException e) {
+                LOGGER.warn("Cannot watch {} for enchantment pool changes", dir, e);
+            }
+        }
+    }
+
     public static String defaultNamespace() {
         return DEFAULT_NAMESPACE;
     }
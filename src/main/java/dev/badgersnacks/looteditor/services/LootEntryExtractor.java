@@ -0,0 +1,247 @@
+package dev.badgersnacks.looteditor.services;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import dev.badgersnacks.looteditor.model.LootEntryRecord;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Pulls {@code pools[].entries[]} out of a loot table with a streaming {@link JsonParser} instead of building a
+ * {@code JsonNode} tree. Everything outside entries (conditions, rolls, unknown fields) is skipped without being
+ * materialised. The raw bytes are read into a per-thread buffer that is reused across tables.
+ * <p>
+ * Count ranges follow the editor's conventions: uniform ranges are rounded (but not reordered), binomial counts
+ * become {@code 0..n}, and entries without {@code set_count} are {@code 1..1}.
+ */
+public final class LootEntryExtractor {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final int INITIAL_BUFFER = 16 * 1024;
+    // larger one-off tables get a temporary buffer so a single huge file doesn't pin memory per thread
+    private static final int MAX_RETAINED_BUFFER = 1024 * 1024;
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[INITIAL_BUFFER]);
+
+    public List<LootEntryRecord> extract(InputStream in) throws IOException {
+        List<LootEntryRecord> records = new ArrayList<>();
+        extract(in, records::add);
+        return records;
+    }
+
+    public void extract(InputStream in, Consumer<LootEntryRecord> sink) throws IOException {
+        byte[] buffer = BUFFER.get();
+        int length = 0;
+        int read;
+        while ((read = in.read(buffer, length, buffer.length - length)) != -1) {
+            length += read;
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+        if (buffer.length <= MAX_RETAINED_BUFFER) {
+            BUFFER.set(buffer);
+        }
+        try (JsonParser parser = FACTORY.createParser(buffer, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("pools".equals(field) && value == JsonToken.START_ARRAY) {
+                    readPools(parser, sink);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private static void readPools(JsonParser parser, Consumer<LootEntryRecord> sink) throws IOException {
+        int poolIndex = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            int[] entryCounter = {0};
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("entries".equals(field) && value == JsonToken.START_ARRAY) {
+                    readEntries(parser, poolIndex, 0, entryCounter, sink);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            poolIndex++;
+        }
+    }
+
+    private static void readEntries(JsonParser parser,
+                                    int poolIndex,
+                                    int depth,
+                                    int[] entryCounter,
+                                    Consumer<LootEntryRecord> sink) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token == JsonToken.START_OBJECT) {
+                readEntry(parser, poolIndex, depth, entryCounter, sink);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readEntry(JsonParser parser,
+                                  int poolIndex,
+                                  int depth,
+                                  int[] entryCounter,
+                                  Consumer<LootEntryRecord> sink) throws IOException {
+        int entryIndex = entryCounter[0]++;
+        String type = "minecraft:item";
+        String name = null;
+        String id = null;
+        double weight = 1.0d;
+        int quality = 0;
+        int[] counts = null;
+        List<String> functions = null;
+        List<String> enchantments = null;
+        List<LootEntryRecord> children = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "type" -> type = value == JsonToken.VALUE_STRING ? qualify(parser.getText()) : type;
+                case "name" -> name = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                case "id" -> id = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                case "weight" -> weight = value.isNumeric() ? parser.getValueAsDouble() : weight;
+                case "quality" -> quality = value.isNumeric() ? parser.getValueAsInt() : quality;
+                case "functions" -> {
+                    if (value != JsonToken.START_ARRAY) {
+                        parser.skipChildren();
+                        break;
+                    }
+                    functions = new ArrayList<>(4);
+                    enchantments = new ArrayList<>(2);
+                    counts = readFunctions(parser, functions, enchantments);
+                }
+                case "children" -> {
+                    if (value != JsonToken.START_ARRAY) {
+                        parser.skipChildren();
+                        break;
+                    }
+                    children = new ArrayList<>();
+                    readEntries(parser, poolIndex, depth + 1, entryCounter, children::add);
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        sink.accept(new LootEntryRecord(poolIndex, entryIndex, depth, type, name != null ? name : id, weight, quality,
+                counts == null ? 1 : counts[0], counts == null ? 1 : counts[1], functions, enchantments));
+        if (children != null) {
+            children.forEach(sink);
+        }
+    }
+
+    /**
+     * Collects function ids and enchantment ids; returns the {@code set_count} range, or {@code null} if absent.
+     */
+    private static int[] readFunctions(JsonParser parser, List<String> functions, List<String> enchantments)
+            throws IOException {
+        int[] counts = null;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String function = null;
+            int[] count = null;
+            List<String> enchantmentIds = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("function".equals(field) && value == JsonToken.VALUE_STRING) {
+                    function = qualify(parser.getText());
+                } else if ("count".equals(field)) {
+                    count = readCount(parser, value);
+                } else if ("enchantments".equals(field) && value == JsonToken.START_OBJECT) {
+                    enchantmentIds = new ArrayList<>(2);
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        enchantmentIds.add(parser.currentName());
+                        parser.nextToken();
+                        parser.skipChildren();
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (function == null) {
+                continue;
+            }
+            functions.add(function);
+            if ("minecraft:set_count".equals(function) && count != null && counts == null) {
+                counts = count;
+            } else if ("minecraft:set_enchantments".equals(function) && enchantmentIds != null) {
+                enchantments.addAll(enchantmentIds);
+            }
+        }
+        return counts;
+    }
+
+    private static int[] readCount(JsonParser parser, JsonToken value) throws IOException {
+        if (value.isNumeric()) {
+            int count = parser.getValueAsInt();
+            return new int[]{count, count};
+        }
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        Double min = null;
+        Double max = null;
+        Double n = null;
+        Double constant = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (!token.isNumeric()) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "min" -> min = parser.getValueAsDouble();
+                case "max" -> max = parser.getValueAsDouble();
+                case "n" -> n = parser.getValueAsDouble();
+                case "value" -> constant = parser.getValueAsDouble();
+                default -> {
+                }
+            }
+        }
+        if (min != null || max != null) {
+            // inverted ranges are kept as-is so validation can report them
+            int low = (int) Math.round(min != null ? min : 1);
+            return new int[]{low, (int) Math.round(max != null ? max : low)};
+        }
+        if (n != null) {
+            return new int[]{0, (int) Math.round(n)};
+        }
+        if (constant != null) {
+            int count = (int) Math.round(constant);
+            return new int[]{count, count};
+        }
+        return null;
+    }
+
+    private static String qualify(String id) {
+        return id.indexOf(':') < 0 ? "minecraft:" + id : id;
+    }
+}
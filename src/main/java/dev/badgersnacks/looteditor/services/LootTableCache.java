@@ -0,0 +1,79 @@
+package dev.badgersnacks.looteditor.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.util.FileFingerprint;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded LRU of parsed loot tables keyed by where the JSON lives (file, or archive + entry).
+ * Loose files are validated against their own fingerprint, archive entries against the archive's, so a
+ * rebuilt mod jar or an edited datapack file is re-read on the next lookup.
+ */
+final class LootTableCache {
+
+    static final int DEFAULT_CAPACITY = 256;
+
+    private final Map<Key, CachedTable> entries;
+
+    LootTableCache(int capacity) {
+        int bound = Math.max(1, capacity);
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedTable> eldest) {
+                return size() > bound;
+            }
+        };
+    }
+
+    synchronized JsonNode get(LootTableDescriptor descriptor, FileFingerprint fingerprint) {
+        Key key = Key.of(descriptor);
+        CachedTable cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (!cached.fingerprint().equals(fingerprint)) {
+            entries.remove(key);
+            return null;
+        }
+        return cached.node();
+    }
+
+    synchronized void put(LootTableDescriptor descriptor, FileFingerprint fingerprint, JsonNode node) {
+        entries.put(Key.of(descriptor), new CachedTable(fingerprint, node));
+    }
+
+    /**
+     * Drops every table read from the given file or archive. Used after our own writes, where the mtime may not
+     * have moved far enough for the fingerprint check to notice.
+     */
+    synchronized void invalidate(Path containerPath) {
+        Path normalized = normalize(containerPath);
+        entries.keySet().removeIf(key -> key.containerPath().equals(normalized));
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    private record Key(Path containerPath, String archiveEntry) {
+        static Key of(LootTableDescriptor descriptor) {
+            return new Key(normalize(descriptor.containerPath()),
+                    descriptor.isArchiveEntry() ? descriptor.archiveEntry() : null);
+        }
+    }
+
+    private record CachedTable(FileFingerprint fingerprint, JsonNode node) {
+    }
+}
@@ -0,0 +1,151 @@
+package dev.badgersnacks.looteditor.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.badgersnacks.looteditor.model.EnchantmentPool;
+import dev.badgersnacks.looteditor.model.LootPoolEntryModel;
+import dev.badgersnacks.looteditor.persistence.ExportSettings.PoolExpansion;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders the editor's JSON preview as chunks: a header, one chunk per editor row, and a footer. Joining the chunks
+ * with a single space yields the same text as pretty-printing the rebuilt table, but each row's fragment is cached
+ * by its model (and pool), so an edit only re-serialises the rows that actually changed.
+ * <p>
+ * Safe to call from a background thread; pass snapshots rather than live editor collections.
+ */
+public final class LootTablePreviewRenderer {
+
+    private static final String ENTRIES_MARKER = "\"entries\" : [ ]";
+    private static final int MAX_CACHED_FRAGMENTS = 8192;
+
+    private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Map<FragmentKey, String> fragments = new ConcurrentHashMap<>();
+    private volatile Frame lastFrame;
+    private volatile PoolExpansion poolExpansion = PoolExpansion.EXPANDED;
+
+    /**
+     * Renders the table {@link LootTableService#rebuildTable} / {@link EnchantmentPoolAdapter#rebuild} would
+     * produce for these rows. Rows whose pool id is missing from {@code pools} render as standard entries, matching
+     * what the rebuild does for unknown pools.
+     */
+    public List<String> render(JsonNode template, List<LootPoolEntryModel> entries, Map<String, EnchantmentPool> pools) {
+        Objects.requireNonNull(entries, "entries");
+        Map<String, EnchantmentPool> poolLookup = pools == null ? Map.of() : pools;
+        Frame frame = frameFor(template);
+        PoolExpansion expansion = poolExpansion;
+        if (fragments.size() > MAX_CACHED_FRAGMENTS) {
+            fragments.clear();
+        }
+        List<String> chunks = new ArrayList<>(entries.size() + 2);
+        chunks.add(frame.header());
+        for (int i = 0; i < entries.size(); i++) {
+            LootPoolEntryModel entry = entries.get(i);
+            EnchantmentPool pool = entry.enchantmentPoolId() == null ? null : poolLookup.get(entry.enchantmentPoolId());
+            String fragment = fragments.computeIfAbsent(new FragmentKey(entry, pool, expansion, frame.indent()),
+                    this::renderFragment);
+            chunks.add(i < entries.size() - 1 ? fragment + "," : fragment);
+        }
+        chunks.add(frame.footer());
+        return chunks;
+    }
+
+    /**
+     * Renders pooled rows the way the pack writes them; see {@link EnchantmentPoolAdapter#expandEntry}.
+     */
+    public void setPoolExpansion(PoolExpansion poolExpansion) {
+        this.poolExpansion = Objects.requireNonNull(poolExpansion, "poolExpansion");
+    }
+
+    /**
+     * Line-per-chunk rendering of an arbitrary node, used for tables as they were loaded from disk.
+     */
+    public List<String> renderRaw(JsonNode node) {
+        if (node == null) {
+            return List.of();
+        }
+        return List.of(write(node).split("\\R"));
+    }
+
+    /**
+     * Drops cached fragments, e.g. after pool definitions were edited.
+     */
+    public void invalidate() {
+        fragments.clear();
+        lastFrame = null;
+    }
+
+    private String renderFragment(FragmentKey key) {
+        StringBuilder fragment = new StringBuilder();
+        for (ObjectNode node : EnchantmentPoolAdapter.expandEntry(key.entry(), key.pool(), key.expansion())) {
+            if (!fragment.isEmpty()) {
+                fragment.append(", ");
+            }
+            // re-indent the standalone object to the depth it occupies inside pools[0].entries
+            fragment.append(write(node).replace("\n", "\n" + key.indent()));
+        }
+        return fragment.toString();
+    }
+
+    private Frame frameFor(JsonNode template) {
+        Frame frame = lastFrame;
+        if (frame != null && frame.template() == template) {
+            return frame;
+        }
+        String skeleton = write(skeleton(template));
+        int marker = skeleton.indexOf(ENTRIES_MARKER);
+        int lineStart = skeleton.lastIndexOf('\n', marker) + 1;
+        String indent = skeleton.substring(lineStart, marker);
+        int open = marker + ENTRIES_MARKER.length() - 3;
+        frame = new Frame(template, skeleton.substring(0, open + 1), skeleton.substring(open + 2), indent);
+        lastFrame = frame;
+        return frame;
+    }
+
+    private static ObjectNode skeleton(JsonNode template) {
+        ObjectNode pool = JsonNodeFactory.instance.objectNode();
+        JsonNode existingRolls = template == null ? null : template.path("pools").path(0).get("rolls");
+        if (existingRolls == null) {
+            pool.put("rolls", 1);
+        } else {
+            pool.set("rolls", existingRolls);
+        }
+        pool.putArray("entries");
+        ArrayNode pools = JsonNodeFactory.instance.arrayNode().add(pool);
+
+        // same field order as rebuilding from a deep copy, without copying the template's (possibly huge) pools
+        ObjectNode root = JsonNodeFactory.instance.objectNode();
+        if (template != null && template.isObject()) {
+            template.fields().forEachRemaining(field -> root.set(field.getKey(),
+                    "pools".equals(field.getKey()) ? pools : field.getValue()));
+        }
+        root.put("type", root.path("type").asText("minecraft:generic"));
+        root.set("pools", pools);
+        return root;
+    }
+
+    private String write(JsonNode node) {
+        try {
+            return mapper.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record FragmentKey(LootPoolEntryModel entry, EnchantmentPool pool, PoolExpansion expansion, String indent) {
+    }
+
+    private record Frame(JsonNode template, String header, String footer, String indent) {
+    }
+}
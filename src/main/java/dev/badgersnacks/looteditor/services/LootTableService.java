@@ -7,27 +7,48 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.badgersnacks.looteditor.model.LootEntryRecord;
 import dev.badgersnacks.looteditor.model.LootPoolEntryModel;
 import dev.badgersnacks.looteditor.model.LootTableDescriptor;
 import dev.badgersnacks.looteditor.model.LootTableDescriptor.SourceType;
+import dev.badgersnacks.looteditor.persistence.ExportSettings;
+import dev.badgersnacks.looteditor.persistence.ExportSettings.ModifierMode;
 import dev.badgersnacks.looteditor.persistence.LootModifierWriter;
 import dev.badgersnacks.looteditor.persistence.OverrideManifest;
 import dev.badgersnacks.looteditor.persistence.OverrideManifestService;
 import dev.badgersnacks.looteditor.persistence.OverridePaths;
+import dev.badgersnacks.looteditor.util.FileFingerprint;
 import dev.badgersnacks.looteditor.util.LootId;
+import dev.badgersnacks.looteditor.util.ProgressListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 /**
  * Central place for loading, parsing, and writing loot table JSON.
@@ -35,12 +56,17 @@ import java.util.Locale;
 public class LootTableService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LootTableService.class);
+    private static final int LOOSE_FILE_BATCH = 64;
 
     private final ObjectMapper mapper;
     private final DataPackService dataPackService;
     private final OverrideManifestService overrideManifestService = new OverrideManifestService();
     private final OverridePaths overridePaths = new OverridePaths();
     private final LootModifierWriter lootModifierWriter = new LootModifierWriter();
+    private final ExportSettings exportSettings = new ExportSettings();
+    private final LootTableCache tableCache = new LootTableCache(LootTableCache.DEFAULT_CAPACITY);
+    private final LootEntryExtractor entryExtractor = new LootEntryExtractor();
+    private volatile WriteBarrier writeBarrier = () -> { };
 
     public LootTableService() {
         this.mapper = new ObjectMapper();
@@ -48,64 +74,258 @@ public class LootTableService {
         this.dataPackService = new DataPackService(this.mapper);
     }
 
+    /**
+     * Loads the parsed table, reusing the cached tree while the backing file (or archive) is unchanged.
+     * The caller gets its own copy and may edit it freely; the cached tree is never handed out.
+     */
     public JsonNode load(LootTableDescriptor descriptor) throws IOException {
-        if (descriptor.isArchiveEntry()) {
-            return loadFromArchive(descriptor);
+        return loadCached(descriptor).deepCopy();
+    }
+
+    /**
+     * Parses {@code descriptor} into the cache without returning it, so a later {@link #load} is a cache hit.
+     */
+    public void prefetch(LootTableDescriptor descriptor) throws IOException {
+        loadCached(descriptor);
+    }
+
+    private JsonNode loadCached(LootTableDescriptor descriptor) throws IOException {
+        writeBarrier.awaitWrites();
+        FileFingerprint fingerprint = FileFingerprint.of(descriptor.containerPath());
+        JsonNode cached = tableCache.get(descriptor, fingerprint);
+        if (cached != null) {
+            return cached;
         }
-        return mapper.readTree(descriptor.containerPath().toFile());
+        JsonNode node = descriptor.isArchiveEntry()
+                ? loadFromArchive(descriptor)
+                : mapper.readTree(descriptor.containerPath().toFile());
+        tableCache.put(descriptor, fingerprint, node);
+        return node;
+    }
+
+    /**
+     * Loads many tables at once on the common pool. See {@link #loadAll(Collection, Executor, TableSink)}.
+     */
+    public void loadAll(Collection<LootTableDescriptor> descriptors, TableSink sink) {
+        loadAll(descriptors, ForkJoinPool.commonPool(), sink);
+    }
+
+    /**
+     * Loads many tables at once, opening each archive a single time and reading its entries in central-directory
+     * order. Archive groups (and batches of loose files) run in parallel on {@code executor}; results stream into
+     * {@code sink} as they are parsed, and the call returns once every descriptor was delivered or failed.
+     * Bulk passes bypass the parsed-table cache so they don't evict what the editor is working with.
+     */
+    public void loadAll(Collection<LootTableDescriptor> descriptors, Executor executor, TableSink sink) {
+        loadAll(descriptors, executor, ProgressListener.NONE, sink);
+    }
+
+    /**
+     * Like {@link #loadAll(Collection, Executor, TableSink)}, reporting every delivered or failed table to
+     * {@code progress}.
+     */
+    public void loadAll(Collection<LootTableDescriptor> descriptors,
+                        Executor executor,
+                        ProgressListener progress,
+                        TableSink sink) {
+        Objects.requireNonNull(sink, "sink");
+        readAll(descriptors, executor, progress, (descriptor, in) -> sink.accept(descriptor, mapper.readTree(in)),
+                sink::failed);
+    }
+
+    /**
+     * Streams entry summaries for many tables on the common pool. See {@link #extractAll(Collection, Executor,
+     * EntryRecordSink)}.
+     */
+    public void extractAll(Collection<LootTableDescriptor> descriptors, EntryRecordSink sink) {
+        extractAll(descriptors, ForkJoinPool.commonPool(), sink);
+    }
+
+    /**
+     * Like {@link #loadAll(Collection, Executor, TableSink)}, but delivers flat {@link LootEntryRecord}s parsed with
+     * the streaming extractor instead of full JSON trees. Preferred for bulk passes that only look at entries.
+     */
+    public void extractAll(Collection<LootTableDescriptor> descriptors, Executor executor, EntryRecordSink sink) {
+        extractAll(descriptors, executor, ProgressListener.NONE, sink);
+    }
+
+    /**
+     * Like {@link #extractAll(Collection, Executor, EntryRecordSink)}, reporting every table to {@code progress}.
+     */
+    public void extractAll(Collection<LootTableDescriptor> descriptors,
+                           Executor executor,
+                           ProgressListener progress,
+                           EntryRecordSink sink) {
+        Objects.requireNonNull(sink, "sink");
+        readAll(descriptors, executor, progress,
+                (descriptor, in) -> sink.accept(descriptor, entryExtractor.extract(in)), sink::failed);
+    }
+
+    /**
+     * Installs the hook every read waits on first, e.g. a {@link SaveQueue} holding writes back.
+     */
+    public void setWriteBarrier(WriteBarrier barrier) {
+        this.writeBarrier = barrier == null ? () -> { } : barrier;
+    }
+
+    /**
+     * Forgets every cached table so the next load re-reads from disk (used when a pack is rescanned).
+     */
+    public void clearCache() {
+        tableCache.clear();
     }
 
     public LootTableDescriptor saveToPreferredLocation(Path modpackRoot,
                                                        LootTableDescriptor descriptor,
                                                        JsonNode node) throws IOException {
+        if (descriptor == null) {
+            throw new IOException("Descriptor is null");
+        }
+        return saveAll(modpackRoot, List.of(new SaveRequest(descriptor, node))).get(0);
+    }
+
+    /**
+     * Writes several tables in one pass. See {@link #saveAll(Path, List, Executor)}; batches run on the common pool.
+     */
+    public List<LootTableDescriptor> saveAll(Path modpackRoot, List<SaveRequest> requests) throws IOException {
+        Objects.requireNonNull(requests, "requests");
+        return saveAll(modpackRoot, requests, requests.size() > 1 ? ForkJoinPool.commonPool() : Runnable::run);
+    }
+
+    /**
+     * Writes several tables in one pass. Targets are decided up front, the files are written in parallel on
+     * {@code executor}, and override bookkeeping is batched: the manifest and global modifier list are rewritten at
+     * most once, and worlds are synced once at the end. If some tables fail to write, the ones that were written are
+     * still registered in the manifest before the first error is rethrown. Requests that would land in the same file
+     * (e.g. a jar table and its existing override) are rejected before anything is written.
+     *
+     * @return the descriptor each table now lives at, in request order
+     */
+    public List<LootTableDescriptor> saveAll(Path modpackRoot, List<SaveRequest> requests, Executor executor)
+            throws IOException {
         if (modpackRoot == null) {
             throw new IOException("Modpack root is not set");
         }
-        if (descriptor == null) {
-            throw new IOException("Descriptor is null");
+        Objects.requireNonNull(requests, "requests");
+        Objects.requireNonNull(executor, "executor");
+        Path packRoot = dataPackService.ensurePackRoot(modpackRoot);
+        List<PlannedWrite> plan = new ArrayList<>(requests.size());
+        Map<Path, LootTableDescriptor> targets = new HashMap<>();
+        for (SaveRequest request : requests) {
+            PlannedWrite write = planWrite(packRoot, request);
+            LootTableDescriptor clash = targets.putIfAbsent(write.target().toAbsolutePath().normalize(),
+                    request.descriptor());
+            if (clash != null) {
+                throw new IOException("Both " + clash.sourceDisplay() + " and " + request.descriptor().sourceDisplay()
+                        + " copies of " + request.descriptor().qualifiedName() + " would be written to "
+                        + write.target());
+            }
+            plan.add(write);
+        }
+        List<CompletableFuture<Void>> writes = new ArrayList<>(plan.size());
+        for (PlannedWrite write : plan) {
+            writes.add(CompletableFuture.runAsync(() -> {
+                try {
+                    writeNode(write.target(), write.node());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, executor));
+        }
+        List<LootTableDescriptor> saved = new ArrayList<>(plan.size());
+        IOException failure = null;
+        for (int i = 0; i < plan.size(); i++) {
+            try {
+                writes.get(i).join();
+                saved.add(plan.get(i).saved());
+            } catch (CompletionException e) {
+                IOException error = e.getCause() instanceof UncheckedIOException unchecked
+                        ? unchecked.getCause()
+                        : new IOException("Failed to write " + plan.get(i).target(), e.getCause());
+                if (failure == null) {
+                    failure = error;
+                } else {
+                    failure.addSuppressed(error);
+                }
+            }
+        }
+        registerOverrides(packRoot, exportSettings.resolveModifierMode(modpackRoot), plan, writes);
+        if (!saved.isEmpty()) {
+            syncWorlds(modpackRoot);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return saved;
+    }
+
+    /**
+     * @return the file {@link #saveAll} would write {@code descriptor}'s table to, so callers batching saves can keep
+     * requests that share a target apart
+     */
+    public Path saveTarget(Path modpackRoot, LootTableDescriptor descriptor) throws IOException {
+        if (modpackRoot == null) {
+            throw new IOException("Modpack root is not set");
         }
         Path packRoot = dataPackService.ensurePackRoot(modpackRoot);
-        boolean isOverrideFile = overridePaths.isReplacementPath(packRoot, descriptor.containerPath());
-        boolean canEditInPlace = descriptor.editable()
+        return editsInPlace(packRoot, descriptor)
+                ? descriptor.containerPath()
+                : overridePaths.replacementFile(packRoot, LootId.of(descriptor.namespace(), descriptor.tablePath()));
+    }
+
+    private boolean editsInPlace(Path packRoot, LootTableDescriptor descriptor) {
+        return descriptor.editable()
                 && !descriptor.isArchiveEntry()
                 && Files.isRegularFile(descriptor.containerPath())
-                && !isOverrideFile;
-
-        Path targetPath;
-        SourceType sourceType;
-        String sourceLabel;
-        boolean editable;
-        if (canEditInPlace) {
-            writeNode(descriptor.containerPath(), node);
-            targetPath = descriptor.containerPath();
-            sourceType = descriptor.sourceType();
-            sourceLabel = descriptor.sourceDisplay();
-            editable = true;
-        } else {
-            LootId targetId = LootId.of(descriptor.namespace(), descriptor.tablePath());
-            LootId replacementId = overridePaths.replacementId(targetId);
-            Path overrideFile = overridePaths.replacementFile(packRoot, targetId);
-            Files.createDirectories(overrideFile.getParent());
-            writeNode(overrideFile, node);
-
-            OverrideManifest manifest = overrideManifestService.load(packRoot).upsert(targetId, replacementId);
-            overrideManifestService.save(packRoot, manifest);
-            lootModifierWriter.writeModifier(packRoot, targetId, replacementId);
-            lootModifierWriter.writeGlobalList(packRoot, manifest);
-
-            targetPath = overrideFile;
-            sourceType = SourceType.DATAPACK;
-            sourceLabel = "Loot Editor Override";
-            editable = true;
+                && !overridePaths.isReplacementPath(packRoot, descriptor.containerPath());
+    }
+
+    private PlannedWrite planWrite(Path packRoot, SaveRequest request) {
+        LootTableDescriptor descriptor = request.descriptor();
+        if (editsInPlace(packRoot, descriptor)) {
+            return new PlannedWrite(descriptor.containerPath(), request.node(), null, null,
+                    new LootTableDescriptor(descriptor.namespace(),
+                            descriptor.tablePath(),
+                            descriptor.containerPath(),
+                            null,
+                            descriptor.sourceDisplay(),
+                            descriptor.sourceType(),
+                            true));
         }
-        syncWorlds(modpackRoot);
-        return new LootTableDescriptor(descriptor.namespace(),
-                descriptor.tablePath(),
-                targetPath,
-                null,
-                sourceLabel,
-                sourceType,
-                editable);
+        LootId targetId = LootId.of(descriptor.namespace(), descriptor.tablePath());
+        Path overrideFile = overridePaths.replacementFile(packRoot, targetId);
+        return new PlannedWrite(overrideFile, request.node(), targetId, overridePaths.replacementId(targetId),
+                new LootTableDescriptor(descriptor.namespace(),
+                        descriptor.tablePath(),
+                        overrideFile,
+                        null,
+                        OverridePaths.OVERRIDE_SOURCE_DISPLAY,
+                        SourceType.DATAPACK,
+                        true));
+    }
+
+    private void registerOverrides(Path packRoot,
+                                   ModifierMode modifierMode,
+                                   List<PlannedWrite> plan,
+                                   List<CompletableFuture<Void>> writes) throws IOException {
+        OverrideManifest manifest = null;
+        Map<LootId, LootId> newOverrides = new LinkedHashMap<>();
+        for (int i = 0; i < plan.size(); i++) {
+            PlannedWrite write = plan.get(i);
+            if (write.targetId() == null || writes.get(i).isCompletedExceptionally()) {
+                continue;
+            }
+            if (manifest == null) {
+                manifest = overrideManifestService.load(packRoot);
+            }
+            manifest = manifest.upsert(write.targetId(), write.replacementId());
+            newOverrides.put(write.targetId(), write.replacementId());
+        }
+        if (manifest == null) {
+            return;
+        }
+        overrideManifestService.save(packRoot, manifest);
+        lootModifierWriter.writeModifiers(packRoot, manifest, newOverrides, modifierMode);
     }
 
     public LootTableDescriptor createTable(Path modpackRoot,
@@ -124,6 +344,7 @@ public class LootTableService {
         Files.createDirectories(target.getParent());
         JsonNode templateNode = templateFor(template);
         mapper.writeValue(target.toFile(), templateNode);
+        tableCache.invalidate(target);
         syncWorlds(modpackRoot);
         return new LootTableDescriptor(normalizedNamespace, normalizedPath, target, null,
                 "Datapack: " + DataPackService.PACK_FOLDER, SourceType.DATAPACK, true);
@@ -143,6 +364,7 @@ public class LootTableService {
         }
         Files.createDirectories(target.getParent());
         mapper.writeValue(target.toFile(), data);
+        tableCache.invalidate(target);
         return new LootTableDescriptor(descriptor.namespace(), descriptor.tablePath(), target, null,
                 "KubeJS Override", SourceType.KUBEJS, true);
     }
@@ -293,7 +515,16 @@ public class LootTableService {
         if (parent != null) {
             Files.createDirectories(parent);
         }
-        mapper.writeValue(target.toFile(), node);
+        // write beside the target and swap it in, so readers and the game never see a half-written table
+        Path temp = Files.createTempFile(parent == null ? Path.of(".") : parent,
+                target.getFileName().toString(), ".tmp");
+        try {
+            mapper.writeValue(temp.toFile(), node);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        tableCache.invalidate(target);
     }
 
     private void syncWorlds(Path modpackRoot) {
@@ -319,6 +550,112 @@ public class LootTableService {
         }
     }
 
+    private void readAll(Collection<LootTableDescriptor> descriptors,
+                         Executor executor,
+                         ProgressListener progress,
+                         SourceReader reader,
+                         FailureHandler onError) {
+        Objects.requireNonNull(descriptors, "descriptors");
+        Objects.requireNonNull(executor, "executor");
+        Objects.requireNonNull(progress, "progress");
+        writeBarrier.awaitWrites();
+        progress.start(descriptors.size(), "tables");
+        Map<Path, List<LootTableDescriptor>> archives = new LinkedHashMap<>();
+        List<LootTableDescriptor> looseFiles = new ArrayList<>();
+        for (LootTableDescriptor descriptor : descriptors) {
+            if (descriptor.isArchiveEntry()) {
+                archives.computeIfAbsent(descriptor.containerPath().toAbsolutePath().normalize(),
+                        ignored -> new ArrayList<>()).add(descriptor);
+            } else {
+                looseFiles.add(descriptor);
+            }
+        }
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        // Biggest archives first so one huge jar doesn't start last and leave the other workers idle.
+        archives.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Path, List<LootTableDescriptor>> entry) ->
+                        sizeOf(entry.getKey())).reversed())
+                .forEach(entry -> tasks.add(CompletableFuture.runAsync(
+                        () -> readArchiveGroup(entry.getKey(), entry.getValue(), progress, reader, onError),
+                        executor)));
+        for (int start = 0; start < looseFiles.size(); start += LOOSE_FILE_BATCH) {
+            List<LootTableDescriptor> batch = looseFiles.subList(start,
+                    Math.min(start + LOOSE_FILE_BATCH, looseFiles.size()));
+            tasks.add(CompletableFuture.runAsync(() -> readLooseFiles(batch, progress, reader, onError), executor));
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void readArchiveGroup(Path archive,
+                                  List<LootTableDescriptor> group,
+                                  ProgressListener progress,
+                                  SourceReader reader,
+                                  FailureHandler onError) {
+        Map<String, List<LootTableDescriptor>> pending = new HashMap<>();
+        for (LootTableDescriptor descriptor : group) {
+            pending.computeIfAbsent(normalizeEntryName(descriptor.archiveEntry()), ignored -> new ArrayList<>())
+                    .add(descriptor);
+        }
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements() && !pending.isEmpty()) {
+                ZipEntry entry = entries.nextElement();
+                List<LootTableDescriptor> matches = pending.remove(entry.getName());
+                if (matches == null) {
+                    continue;
+                }
+                for (LootTableDescriptor descriptor : matches) {
+                    try (InputStream in = zip.getInputStream(entry)) {
+                        reader.read(descriptor, in);
+                    } catch (Exception e) {
+                        onError.failed(descriptor, e);
+                    }
+                    progress.unitDone(descriptor.qualifiedName(), entry.getSize());
+                }
+            }
+        } catch (IOException e) {
+            pending.values().forEach(descriptors -> descriptors.forEach(descriptor -> {
+                onError.failed(descriptor, e);
+                progress.unitDone(descriptor.qualifiedName(), 0);
+            }));
+            return;
+        }
+        pending.forEach((entryName, descriptors) -> descriptors.forEach(descriptor -> {
+            onError.failed(descriptor, new NoSuchFileException(archive + "!/" + entryName));
+            progress.unitDone(descriptor.qualifiedName(), 0);
+        }));
+    }
+
+    private void readLooseFiles(List<LootTableDescriptor> batch,
+                                ProgressListener progress,
+                                SourceReader reader,
+                                FailureHandler onError) {
+        for (LootTableDescriptor descriptor : batch) {
+            long bytes = 0;
+            try (InputStream in = Files.newInputStream(descriptor.containerPath())) {
+                // only stat the file when someone is watching the throughput
+                bytes = progress == ProgressListener.NONE ? 0 : Files.size(descriptor.containerPath());
+                reader.read(descriptor, in);
+            } catch (Exception e) {
+                onError.failed(descriptor, e);
+            }
+            progress.unitDone(descriptor.qualifiedName(), bytes);
+        }
+    }
+
+    private static String normalizeEntryName(String archiveEntry) {
+        String normalized = archiveEntry.replace('\\', '/');
+        return normalized.startsWith("/") ? normalized.substring(1) : normalized;
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
     private CountRange parseCountRange(JsonNode functions) {
         if (!functions.isArray()) {
             return new CountRange(1, 1);
@@ -346,6 +683,67 @@ public class LootTableService {
     private record CountRange(int min, int max) {
     }
 
+    /**
+     * Where one {@link SaveRequest} lands; {@code targetId} is {@code null} when the table is edited in place.
+     */
+    private record PlannedWrite(Path target,
+                                JsonNode node,
+                                LootId targetId,
+                                LootId replacementId,
+                                LootTableDescriptor saved) {
+    }
+
+    /**
+     * One table to persist via {@link #saveAll}; the node is written as-is and must not be mutated afterwards.
+     */
+    public record SaveRequest(LootTableDescriptor descriptor, JsonNode node) {
+        public SaveRequest {
+            Objects.requireNonNull(descriptor, "descriptor");
+            Objects.requireNonNull(node, "node");
+        }
+    }
+
+    /**
+     * Lets deferred writes land before tables are read.
+     */
+    @FunctionalInterface
+    public interface WriteBarrier {
+        void awaitWrites();
+    }
+
+    /**
+     * Receives tables streamed out of {@link #loadAll}. Invoked concurrently from worker threads, so implementations
+     * must be thread-safe.
+     */
+    public interface TableSink {
+        void accept(LootTableDescriptor descriptor, JsonNode node);
+
+        default void failed(LootTableDescriptor descriptor, Exception error) {
+            LOGGER.warn("Failed to load {} from {}", descriptor.qualifiedName(), descriptor.containerPath(), error);
+        }
+    }
+
+    /**
+     * Receives entry summaries streamed out of {@link #extractAll}. Invoked concurrently from worker threads.
+     */
+    public interface EntryRecordSink {
+        void accept(LootTableDescriptor descriptor, List<LootEntryRecord> entries);
+
+        default void failed(LootTableDescriptor descriptor, Exception error) {
+            LOGGER.warn("Failed to read {} from {}", descriptor.qualifiedName(), descriptor.containerPath(), error);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SourceReader {
+        void read(LootTableDescriptor descriptor, InputStream in) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface FailureHandler {
+        void failed(LootTableDescriptor descriptor, Exception error);
+    }
+
     public enum LootTableTemplate {
         GENERIC_CHEST("minecraft:chest", "minecraft:stone", "Chest / Container"),
         ENTITY_DROPS("minecraft:entity", "minecraft:rotten_flesh", "Entity Drops"),
@@ -0,0 +1,259 @@
+package dev.badgersnacks.looteditor.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.services.LootTableService.SaveRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind queue for loot table saves. Saves are collected for a short window on a single background thread;
+ * repeated saves of the same table location within the window collapse into one write of the newest node, and
+ * everything collected for a modpack goes through {@link LootTableService#saveAll} so the manifest, global modifier
+ * list and world sync happen once per batch instead of once per table. Saves of different locations that would land in
+ * the same file (e.g. a jar table and its override) fail on their own, without failing the rest of their batch.
+ * <p>
+ * The queue installs itself as the service's {@link LootTableService.WriteBarrier}: a table read while saves are
+ * queued or being written first waits for them, so no reader sees content older than what the user saved.
+ */
+public final class SaveQueue implements AutoCloseable, LootTableService.WriteBarrier {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaveQueue.class);
+    static final long DEFAULT_DELAY_MS = 250;
+
+    private final LootTableService lootTableService;
+    private final long delayMs;
+    private final ScheduledExecutorService executor;
+    private final Map<Path, Map<Location, PendingSave>> pending = new LinkedHashMap<>();
+    private volatile Thread saveThread;
+    private boolean drainScheduled;
+    private boolean writing;
+    private boolean closed;
+
+    public SaveQueue(LootTableService lootTableService) {
+        this(lootTableService, DEFAULT_DELAY_MS);
+    }
+
+    SaveQueue(LootTableService lootTableService, long delayMs) {
+        this.lootTableService = Objects.requireNonNull(lootTableService, "lootTableService");
+        this.delayMs = Math.max(0, delayMs);
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "loot-save");
+            t.setDaemon(true);
+            saveThread = t;
+            return t;
+        });
+        lootTableService.setWriteBarrier(this);
+    }
+
+    /**
+     * Queues a save. The future completes with the descriptor the table was written to, or exceptionally with the
+     * {@link java.io.IOException} that stopped it. Completion happens on the save thread.
+     */
+    public CompletableFuture<LootTableDescriptor> enqueue(Path modpackRoot, LootTableDescriptor descriptor, JsonNode node) {
+        return enqueue(modpackRoot, descriptor, node, null);
+    }
+
+    /**
+     * Like {@link #enqueue(Path, LootTableDescriptor, JsonNode)}, running {@code beforeWrite} (e.g. writing the
+     * table's pool links) on the save thread just before the table itself. If it fails the table is not written and
+     * the future fails with its exception. When saves coalesce, only the newest save's action runs.
+     */
+    public CompletableFuture<LootTableDescriptor> enqueue(Path modpackRoot,
+                                                          LootTableDescriptor descriptor,
+                                                          JsonNode node,
+                                                          SaveAction beforeWrite) {
+        Objects.requireNonNull(modpackRoot, "modpackRoot");
+        SaveRequest request = new SaveRequest(descriptor, node);
+        CompletableFuture<LootTableDescriptor> future = new CompletableFuture<>();
+        synchronized (pending) {
+            if (closed) {
+                future.completeExceptionally(new IllegalStateException("Save queue is closed"));
+                return future;
+            }
+            pending.computeIfAbsent(modpackRoot.toAbsolutePath().normalize(), ignored -> new LinkedHashMap<>())
+                    .compute(Location.of(descriptor), (key, existing) -> existing == null
+                            ? new PendingSave(request, beforeWrite, future)
+                            : existing.replacedBy(request, beforeWrite, future));
+            if (!drainScheduled) {
+                drainScheduled = true;
+                executor.schedule(this::drain, delayMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Writes everything queued so far and waits for it, e.g. before the application exits.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::drain).get();
+        } catch (Exception e) {
+            LOGGER.warn("Failed to flush pending loot table saves", e);
+        }
+    }
+
+    /**
+     * Blocks until every queued or in-flight save has been written. Returns at once when nothing is pending, and
+     * never waits when called from the save thread itself.
+     */
+    @Override
+    public void awaitWrites() {
+        synchronized (pending) {
+            if (pending.isEmpty() && !writing) {
+                return;
+            }
+        }
+        if (Thread.currentThread() == saveThread || executor.isShutdown()) {
+            return;
+        }
+        flush();
+    }
+
+    public boolean hasPending() {
+        synchronized (pending) {
+            return !pending.isEmpty();
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (pending) {
+            closed = true;
+        }
+        flush();
+        executor.shutdown();
+    }
+
+    private void drain() {
+        Map<Path, Map<Location, PendingSave>> batch;
+        synchronized (pending) {
+            drainScheduled = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new LinkedHashMap<>(pending);
+            pending.clear();
+            writing = true;
+        }
+        try {
+            batch.forEach(this::writeBatch);
+        } finally {
+            synchronized (pending) {
+                writing = false;
+            }
+        }
+    }
+
+    private void writeBatch(Path modpackRoot, Map<Location, PendingSave> saves) {
+        List<PendingSave> ordered = new ArrayList<>();
+        for (PendingSave save : withoutClashingTargets(modpackRoot, saves.values())) {
+            try {
+                if (save.beforeWrite() != null) {
+                    save.beforeWrite().run();
+                }
+                ordered.add(save);
+            } catch (Exception e) {
+                LOGGER.warn("Not saving {}: preparing the write failed",
+                        save.request().descriptor().qualifiedName(), e);
+                save.futures().forEach(future -> future.completeExceptionally(e));
+            }
+        }
+        if (ordered.isEmpty()) {
+            return;
+        }
+        List<SaveRequest> requests = ordered.stream().map(PendingSave::request).toList();
+        try {
+            List<LootTableDescriptor> saved = lootTableService.saveAll(modpackRoot, requests);
+            for (int i = 0; i < ordered.size(); i++) {
+                LootTableDescriptor result = saved.get(i);
+                ordered.get(i).futures().forEach(future -> future.complete(result));
+            }
+            LOGGER.info("Saved {} loot table(s) to {}", saved.size(), modpackRoot);
+        } catch (Exception e) {
+            ordered.forEach(save -> save.futures().forEach(future -> future.completeExceptionally(e)));
+        }
+    }
+
+    /**
+     * Fails saves whose target cannot be resolved, and every save sharing its target file with another one, since
+     * {@link LootTableService#saveAll} rejects such a batch as a whole; returns the rest.
+     */
+    private List<PendingSave> withoutClashingTargets(Path modpackRoot, Collection<PendingSave> saves) {
+        Map<Path, List<PendingSave>> byTarget = new LinkedHashMap<>();
+        for (PendingSave save : saves) {
+            LootTableDescriptor descriptor = save.request().descriptor();
+            try {
+                Path target = lootTableService.saveTarget(modpackRoot, descriptor).toAbsolutePath().normalize();
+                byTarget.computeIfAbsent(target, ignored -> new ArrayList<>()).add(save);
+            } catch (Exception e) {
+                LOGGER.warn("Not saving {}: unable to resolve where it is written", descriptor.qualifiedName(), e);
+                save.futures().forEach(future -> future.completeExceptionally(e));
+            }
+        }
+        List<PendingSave> writable = new ArrayList<>();
+        byTarget.forEach((target, sharing) -> {
+            if (sharing.size() == 1) {
+                writable.add(sharing.get(0));
+                return;
+            }
+            String sources = sharing.stream()
+                    .map(save -> save.request().descriptor().sourceDisplay())
+                    .collect(Collectors.joining(", "));
+            IOException clash = new IOException("The " + sources + " copies of "
+                    + sharing.get(0).request().descriptor().qualifiedName() + " would all be written to " + target
+                    + "; save them one at a time");
+            LOGGER.warn("Not saving clashing copies", clash);
+            sharing.forEach(save -> save.futures().forEach(future -> future.completeExceptionally(clash)));
+        });
+        return writable;
+    }
+
+    /**
+     * Work that has to land together with a table, run on the save thread.
+     */
+    @FunctionalInterface
+    public interface SaveAction {
+        void run() throws Exception;
+    }
+
+    private record PendingSave(SaveRequest request,
+                               SaveAction beforeWrite,
+                               List<CompletableFuture<LootTableDescriptor>> futures) {
+        PendingSave(SaveRequest request, SaveAction beforeWrite, CompletableFuture<LootTableDescriptor> future) {
+            this(request, beforeWrite, new ArrayList<>(List.of(future)));
+        }
+
+        PendingSave replacedBy(SaveRequest newer,
+                               SaveAction beforeWrite,
+                               CompletableFuture<LootTableDescriptor> future) {
+            futures.add(future);
+            return new PendingSave(newer, beforeWrite, futures);
+        }
+    }
+
+    /**
+     * Where a table is read from (file, or archive + entry), so two sources of the same id never coalesce.
+     */
+    private record Location(Path containerPath, String archiveEntry) {
+        static Location of(LootTableDescriptor descriptor) {
+            return new Location(descriptor.containerPath().toAbsolutePath().normalize(),
+                    descriptor.isArchiveEntry() ? descriptor.archiveEntry() : null);
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package dev.badgersnacks.looteditor.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.badgersnacks.looteditor.util.FileFingerprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Mirrors the exported datapack into world folders incrementally. Each world copy keeps a small manifest of what
+ * was last written (size, mtime and SHA-1 per file), so a sync only copies files whose content changed and deletes
+ * files that no longer exist in the source. Source files are re-hashed on every sync: they are small, and a same-size
+ * edit inside the filesystem's mtime granularity (1-2 s on HFS+, SMB and FAT) would otherwise look unchanged.
+ * Worlds are processed in parallel.
+ * <p>
+ * In archive mode the pack is instead packed once into a deterministic zip (sorted entries, fixed timestamps) and
+ * only that single file is refreshed in each world, and only when its bytes differ.
+ */
+final class WorldDatapackSync {
+
+    static final String MANIFEST_FILE = ".loot_editor_sync.json";
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorldDatapackSync.class);
+    private static final int FORMAT_VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final LocalDateTime ARCHIVE_TIME = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final ThreadLocal<MessageDigest> SHA1 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    });
+
+    private final ObjectMapper mapper;
+    private final Map<Path, String> builtArchives = new ConcurrentHashMap<>();
+
+    WorldDatapackSync(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * Syncs {@code packRoot} into {@code <world>/datapacks/<packFolder>} for every world and returns the worlds that
+     * synced successfully, in input order. A failure in one world is logged and does not stop the others.
+     */
+    List<Path> syncAll(Path packRoot, List<Path> worlds, String packFolder) throws IOException {
+        Map<String, HashedFile> source = snapshot(packRoot);
+        return forEachWorld(worlds, world -> {
+            Path datapacks = world.resolve("datapacks");
+            Files.deleteIfExists(datapacks.resolve(packFolder + ".zip"));
+            syncWorld(packRoot, source, datapacks.resolve(packFolder));
+        });
+    }
+
+    /**
+     * Archive-mode counterpart of {@link #syncAll}: builds {@code stagingZip} from {@code packRoot} (skipped when the
+     * source is unchanged since the last build) and refreshes {@code <world>/datapacks/<packFolder>.zip}. A loose
+     * folder copy left over from folder mode is removed so the pack isn't loaded twice.
+     */
+    List<Path> syncAllAsArchive(Path packRoot, List<Path> worlds, String packFolder, Path stagingZip)
+            throws IOException {
+        Map<String, HashedFile> source = snapshot(packRoot);
+        buildArchive(packRoot, source, stagingZip);
+        return forEachWorld(worlds, world -> {
+            Path datapacks = world.resolve("datapacks");
+            deleteTree(datapacks.resolve(packFolder));
+            Path target = datapacks.resolve(packFolder + ".zip");
+            if (Files.isRegularFile(target) && Files.mismatch(stagingZip, target) == -1L) {
+                return;
+            }
+            Files.createDirectories(datapacks);
+            Path temp = datapacks.resolve(packFolder + ".zip.tmp");
+            Files.copy(stagingZip, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            LOGGER.info("Synced {} into world {}", target.getFileName(), world.getFileName());
+        });
+    }
+
+    private List<Path> forEachWorld(List<Path> worlds, WorldAction action) {
+        List<CompletableFuture<Path>> futures = new ArrayList<>(worlds.size());
+        for (Path world : worlds) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    action.apply(world);
+                    return world;
+                } catch (IOException | UncheckedIOException e) {
+                    LOGGER.warn("Failed to sync datapack into {}", world, e);
+                    return null;
+                }
+            }, ForkJoinPool.commonPool()));
+        }
+        List<Path> synced = new ArrayList<>(worlds.size());
+        for (CompletableFuture<Path> future : futures) {
+            Path world = future.join();
+            if (world != null) {
+                synced.add(world);
+            }
+        }
+        return synced;
+    }
+
+    private Map<String, HashedFile> snapshot(Path packRoot) throws IOException {
+        Map<String, HashedFile> files = new HashMap<>();
+        try (Stream<Path> walk = Files.walk(packRoot)) {
+            for (Path path : (Iterable<Path>) walk.filter(Files::isRegularFile)::iterator) {
+                files.put(relativeName(packRoot, path), new HashedFile(FileFingerprint.of(path), hash(path)));
+            }
+        }
+        return files;
+    }
+
+    private void buildArchive(Path packRoot, Map<String, HashedFile> source, Path stagingZip) throws IOException {
+        List<String> names = new ArrayList<>(source.keySet());
+        names.sort(null);
+        MessageDigest digest = SHA1.get();
+        digest.reset();
+        for (String name : names) {
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update(source.get(name).sha1().getBytes(StandardCharsets.UTF_8));
+        }
+        String contentHash = HexFormat.of().formatHex(digest.digest());
+        Path key = stagingZip.toAbsolutePath().normalize();
+        if (contentHash.equals(builtArchives.get(key)) && Files.isRegularFile(stagingZip)) {
+            return;
+        }
+        Files.createDirectories(stagingZip.getParent());
+        Path temp = stagingZip.resolveSibling(stagingZip.getFileName() + ".tmp");
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+            for (String name : names) {
+                ZipEntry entry = new ZipEntry(name);
+                // fixed local time keeps the archive byte-identical across builds and time zones
+                entry.setTimeLocal(ARCHIVE_TIME);
+                zip.putNextEntry(entry);
+                try (InputStream in = Files.newInputStream(packRoot.resolve(name))) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        zip.write(buffer, 0, read);
+                    }
+                }
+                zip.closeEntry();
+            }
+        }
+        Files.move(temp, stagingZip, StandardCopyOption.REPLACE_EXISTING);
+        builtArchives.put(key, contentHash);
+        LOGGER.info("Built datapack archive {} ({} files)", stagingZip, names.size());
+    }
+
+    private void syncWorld(Path packRoot, Map<String, HashedFile> source, Path target) throws IOException {
+        if (packRoot.toAbsolutePath().normalize().equals(target.toAbsolutePath().normalize())) {
+            return;
+        }
+        Path manifestFile = target.resolve(MANIFEST_FILE);
+        Map<String, HashedFile> recorded = readManifest(manifestFile);
+        Map<String, Path> existing = new HashMap<>();
+        if (Files.isDirectory(target)) {
+            try (Stream<Path> walk = Files.walk(target)) {
+                walk.filter(Files::isRegularFile)
+                        .filter(path -> !path.equals(manifestFile))
+                        .forEach(path -> existing.put(relativeName(target, path), path));
+            }
+        }
+
+        Map<String, HashedFile> written = new HashMap<>();
+        int copied = 0;
+        for (Map.Entry<String, HashedFile> entry : source.entrySet()) {
+            String name = entry.getKey();
+            HashedFile wanted = entry.getValue();
+            Path destination = target.resolve(name);
+            Path current = existing.remove(name);
+            if (current != null) {
+                FileFingerprint fingerprint = FileFingerprint.of(current);
+                HashedFile known = recorded.get(name);
+                // trust the manifest while the world copy is untouched; otherwise hash it (same size only)
+                String currentHash = known != null && known.fingerprint().equals(fingerprint)
+                        ? known.sha1()
+                        : fingerprint.size() == wanted.fingerprint().size() ? hash(current) : null;
+                if (wanted.sha1().equals(currentHash)) {
+                    written.put(name, new HashedFile(fingerprint, currentHash));
+                    continue;
+                }
+            }
+            Files.createDirectories(destination.getParent());
+            Files.copy(packRoot.resolve(name), destination, StandardCopyOption.REPLACE_EXISTING);
+            written.put(name, new HashedFile(FileFingerprint.of(destination), wanted.sha1()));
+            copied++;
+        }
+        for (Path stale : existing.values()) {
+            Files.deleteIfExists(stale);
+        }
+        if (!existing.isEmpty()) {
+            pruneEmptyDirectories(target);
+        }
+        if (copied > 0 || !existing.isEmpty() || !written.equals(recorded)) {
+            writeManifest(manifestFile, written);
+        }
+        if (copied > 0 || !existing.isEmpty()) {
+            LOGGER.info("Synced loot_editor datapack into world {}: {} copied, {} removed",
+                    target.getParent().getParent().getFileName(), copied, existing.size());
+        }
+    }
+
+    private Map<String, HashedFile> readManifest(Path manifestFile) {
+        Map<String, HashedFile> recorded = new HashMap<>();
+        if (!Files.isRegularFile(manifestFile)) {
+            return recorded;
+        }
+        try {
+            JsonNode root = mapper.readTree(manifestFile.toFile());
+            if (root.path("version").asInt(-1) != FORMAT_VERSION) {
+                return recorded;
+            }
+            root.path("files").fields().forEachRemaining(field -> recorded.put(field.getKey(), new HashedFile(
+                    new FileFingerprint(field.getValue().path("size").asLong(-1),
+                            field.getValue().path("modified").asLong(-1)),
+                    field.getValue().path("sha1").asText())));
+        } catch (IOException e) {
+            LOGGER.warn("Ignoring unreadable sync manifest {}", manifestFile, e);
+            recorded.clear();
+        }
+        return recorded;
+    }
+
+    private void writeManifest(Path manifestFile, Map<String, HashedFile> files) throws IOException {
+        ObjectNode root = mapper.createObjectNode();
+        root.put("version", FORMAT_VERSION);
+        ObjectNode filesNode = root.putObject("files");
+        files.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    ObjectNode fileNode = filesNode.putObject(entry.getKey());
+                    fileNode.put("size", entry.getValue().fingerprint().size());
+                    fileNode.put("modified", entry.getValue().fingerprint().modifiedMillis());
+                    fileNode.put("sha1", entry.getValue().sha1());
+                });
+        Files.createDirectories(manifestFile.getParent());
+        mapper.writeValue(manifestFile.toFile(), root);
+    }
+
+    private static void pruneEmptyDirectories(Path root) throws IOException {
+        try (Stream<Path> walk = Files.walk(root)) {
+            List<Path> directories = walk.filter(Files::isDirectory)
+                    .filter(path -> !path.equals(root))
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+            for (Path directory : directories) {
+                try (Stream<Path> children = Files.list(directory)) {
+                    if (children.findAny().isEmpty()) {
+                        Files.delete(directory);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void deleteTree(Path root) throws IOException {
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) walk.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static String relativeName(Path root, Path path) {
+        return root.relativize(path).toString().replace('\\', '/');
+    }
+
+    private static String hash(Path file) throws IOException {
+        MessageDigest digest = SHA1.get();
+        digest.reset();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @FunctionalInterface
+    private interface WorldAction {
+        void apply(Path world) throws IOException;
+    }
+
+    private record HashedFile(FileFingerprint fingerprint, String sha1) {
+    }
+}
@@ -0,0 +1,70 @@
+package dev.badgersnacks.looteditor.simulation;
+
+import java.util.List;
+
+/**
+ * Compact, immutable executable form of a loot table and every table it references. Item ids are interned into
+ * {@link #itemIds()} so the simulator can tally drops in plain arrays; referenced tables live in the same program
+ * and are addressed by index (index 0 is the root table).
+ */
+public final class CompiledLootTable {
+
+    static final int ITEM = 0;
+    static final int TABLE = 1;
+
+    private final String rootId;
+    private final List<String> itemIds;
+    private final Table[] tables;
+
+    CompiledLootTable(String rootId, List<String> itemIds, Table[] tables) {
+        this.rootId = rootId;
+        this.itemIds = List.copyOf(itemIds);
+        this.tables = tables;
+    }
+
+    public String rootId() {
+        return rootId;
+    }
+
+    /**
+     * Every item (or {@code #tag}) the program can drop, indexed as reported by the simulator.
+     */
+    public List<String> itemIds() {
+        return itemIds;
+    }
+
+    public int tableCount() {
+        return tables.length;
+    }
+
+    Table table(int index) {
+        return tables[index];
+    }
+
+    record Table(String id, Pool[] pools) {
+    }
+
+    /**
+     * One pool. {@code chance} is the product of its {@code random_chance} conditions (1 when unconditional).
+     * When no entry is conditional and luck is zero, {@code cumulativeWeights} allows a binary-search pick.
+     * {@code alternatives} holds, per {@code minecraft:alternatives} entry, the cumulative probability that each
+     * child is the one taken.
+     */
+    record Pool(NumberProvider rolls, NumberProvider bonusRolls, float chance, Entry[] entries,
+                boolean anyConditionalEntry, double[] cumulativeWeights, double[][] alternatives) {
+    }
+
+    /**
+     * A weighted candidate. {@code kind} is {@link #ITEM} (target = item index, or -1 for empty) or {@link #TABLE}
+     * (target = table index, or -1 for an unresolved reference). Candidates from an {@code alternatives} child carry
+     * the pool's alternatives index and the child's position in it, and only compete when that child is taken;
+     * otherwise both are -1.
+     */
+    record Entry(int kind, int target, double weight, double quality, float chance, NumberProvider count,
+                 int alternatives, int branch) {
+
+        Entry(int kind, int target, double weight, double quality, float chance, NumberProvider count) {
+            this(kind, target, weight, quality, chance, count, -1, -1);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package dev.badgersnacks.looteditor.simulation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.badgersnacks.looteditor.model.LootPoolEntryModel;
+
+import java.util.Collection;
+
+/**
+ * Exact per-entry odds for the single pool the editor works on. Only the pool's running weight total and its
+ * rolls distribution are kept, so adding, removing or re-weighting one entry is O(1) and each entry's figures are
+ * derived on demand from its own weight; nothing has to be recomputed for the other rows.
+ * <p>
+ * Conditions are ignored and weights are treated as-is (no luck/quality), which is exact for plain pools.
+ */
+public final class DropProbabilityCalculator {
+
+    // rebuild the total from scratch after this many incremental updates to bound floating point drift
+    private static final int MAX_INCREMENTAL_UPDATES = 100_000;
+
+    private double totalWeight;
+    private int positiveEntries;
+    private int incrementalUpdates;
+    private double[] rollDistribution = {0, 1};
+    private double expectedRolls = 1;
+
+    /**
+     * Uses the pool's {@code rolls} provider; a missing provider counts as one roll.
+     */
+    public void setRolls(JsonNode rolls) {
+        rollDistribution = NumberProvider.parse(rolls, 1f).distribution();
+        double expected = 0;
+        for (int k = 1; k < rollDistribution.length; k++) {
+            expected += k * rollDistribution[k];
+        }
+        expectedRolls = expected;
+    }
+
+    public void reset(Collection<LootPoolEntryModel> entries) {
+        totalWeight = 0;
+        positiveEntries = 0;
+        incrementalUpdates = 0;
+        for (LootPoolEntryModel entry : entries) {
+            accumulate(entry, 1);
+        }
+    }
+
+    /**
+     * Applies one edit to the running total; {@code null} on either side means an insert or a removal.
+     *
+     * @return {@code true} if the total changed and displayed odds are stale
+     */
+    public boolean replace(LootPoolEntryModel previous, LootPoolEntryModel updated) {
+        double before = totalWeight;
+        if (previous != null) {
+            accumulate(previous, -1);
+        }
+        if (updated != null) {
+            accumulate(updated, 1);
+        }
+        if (positiveEntries == 0) {
+            totalWeight = 0;
+        }
+        incrementalUpdates++;
+        return before != totalWeight;
+    }
+
+    /**
+     * True once enough incremental updates accumulated that the caller should {@link #reset} from the full list.
+     */
+    public boolean needsRebase() {
+        return incrementalUpdates >= MAX_INCREMENTAL_UPDATES;
+    }
+
+    public double totalWeight() {
+        return totalWeight;
+    }
+
+    public double expectedRolls() {
+        return expectedRolls;
+    }
+
+    /**
+     * Probability that a single roll of the pool selects this entry.
+     */
+    public double selectionChance(LootPoolEntryModel entry) {
+        return entry.weight() <= 0 || totalWeight <= 0 ? 0 : Math.min(1, entry.weight() / totalWeight);
+    }
+
+    public double expectedCountPerRoll(LootPoolEntryModel entry) {
+        return selectionChance(entry) * (entry.minCount() + entry.maxCount()) / 2.0;
+    }
+
+    public double expectedCountPerTable(LootPoolEntryModel entry) {
+        return expectedRolls * expectedCountPerRoll(entry);
+    }
+
+    /**
+     * Probability that one open of the table drops this entry at least once, over the rolls distribution.
+     */
+    public double chanceAtLeastOnce(LootPoolEntryModel entry) {
+        double miss = 1 - selectionChance(entry);
+        double result = 0;
+        double missAll = 1;
+        for (int k = 0; k < rollDistribution.length; k++) {
+            result += rollDistribution[k] * (1 - missAll);
+            missAll *= miss;
+        }
+        return result;
+    }
+
+    private void accumulate(LootPoolEntryModel entry, int sign) {
+        if (entry.weight() > 0) {
+            totalWeight += sign * entry.weight();
+            positiveEntries += sign;
+        }
+    }
+}
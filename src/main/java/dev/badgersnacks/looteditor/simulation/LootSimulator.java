@@ -0,0 +1,284 @@
+package dev.badgersnacks.looteditor.simulation;
+
+import dev.badgersnacks.looteditor.simulation.CompiledLootTable.Entry;
+import dev.badgersnacks.looteditor.simulation.CompiledLootTable.Pool;
+import dev.badgersnacks.looteditor.simulation.CompiledLootTable.Table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Monte Carlo runner for {@link CompiledLootTable}s. Runs are split into fixed-size chunks that execute in parallel,
+ * each with its own {@link SplittableRandom} split off a seeded root. Chunking never depends on the machine, so a
+ * given seed and run count always produce the same result regardless of core count or scheduling. Each chunk
+ * tallies into plain arrays; chunks are merged at the end.
+ */
+public final class LootSimulator {
+
+    private static final long CHUNK_SIZE = 4096;
+    // guards against self-referencing tables; vanilla would overflow the stack instead
+    private static final int MAX_TABLE_DEPTH = 8;
+
+    public SimulationResult simulate(CompiledLootTable program, long runs, long seed) {
+        return simulate(program, runs, seed, 0f, ForkJoinPool.commonPool());
+    }
+
+    public SimulationResult simulate(CompiledLootTable program, long runs, long seed, float luck, Executor executor) {
+        if (runs <= 0) {
+            return new SimulationResult(program.rootId(), 0, luck, List.of());
+        }
+        SplittableRandom root = new SplittableRandom(seed);
+        List<CompletableFuture<Tally>> chunks = new ArrayList<>();
+        for (long start = 0; start < runs; start += CHUNK_SIZE) {
+            long count = Math.min(CHUNK_SIZE, runs - start);
+            SplittableRandom random = root.split();
+            chunks.add(CompletableFuture.supplyAsync(() -> runChunk(program, count, luck, random), executor));
+        }
+        Tally total = new Tally(program.itemIds().size());
+        try {
+            for (CompletableFuture<Tally> chunk : chunks) {
+                total.merge(chunk.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+        return total.toResult(program, runs, luck);
+    }
+
+    private static Tally runChunk(CompiledLootTable program, long runs, float luck, SplittableRandom random) {
+        Roller roller = new Roller(program, luck, random);
+        Tally tally = new Tally(program.itemIds().size());
+        for (long i = 0; i < runs; i++) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CompletionException(new InterruptedException("Simulation interrupted"));
+            }
+            roller.open(0, 0);
+            roller.drain(tally);
+        }
+        return tally;
+    }
+
+    /**
+     * Single-threaded executor of one program; counts for the current open are kept in {@code counts} and the
+     * indices touched so far in {@code touched}, so resetting between opens is proportional to the drop count.
+     */
+    private static final class Roller {
+        private final CompiledLootTable program;
+        private final float luck;
+        private final SplittableRandom random;
+        private final int[] counts;
+        private final int[] touched;
+        private int touchedSize;
+        private double[] weights = new double[16];
+        private int[] branches = new int[4];
+
+        Roller(CompiledLootTable program, float luck, SplittableRandom random) {
+            this.program = program;
+            this.luck = luck;
+            this.random = random;
+            this.counts = new int[program.itemIds().size()];
+            this.touched = new int[counts.length];
+        }
+
+        void open(int tableIndex, int depth) {
+            if (tableIndex < 0 || depth > MAX_TABLE_DEPTH) {
+                return;
+            }
+            Table table = program.table(tableIndex);
+            for (Pool pool : table.pools()) {
+                if (pool.entries().length == 0 || !passes(pool.chance())) {
+                    continue;
+                }
+                int rolls = pool.rolls().sampleInt(random);
+                if (luck != 0f && !pool.bonusRolls().isZero()) {
+                    rolls += (int) Math.floor(pool.bonusRolls().sample(random) * luck);
+                }
+                for (int roll = 0; roll < rolls; roll++) {
+                    Entry entry = pick(pool);
+                    if (entry != null) {
+                        apply(entry, depth);
+                    }
+                }
+            }
+        }
+
+        private Entry pick(Pool pool) {
+            Entry[] entries = pool.entries();
+            if (!pool.anyConditionalEntry() && luck == 0f) {
+                double[] cumulative = pool.cumulativeWeights();
+                double totalWeight = cumulative[cumulative.length - 1];
+                if (totalWeight <= 0) {
+                    return null;
+                }
+                int index = Arrays.binarySearch(cumulative, random.nextDouble() * totalWeight);
+                index = index >= 0 ? index + 1 : -index - 1;
+                // skip zero-weight entries that share the same cumulative boundary
+                while (index < entries.length - 1 && entries[index].weight() <= 0) {
+                    index++;
+                }
+                return entries[Math.min(index, entries.length - 1)];
+            }
+            if (weights.length < entries.length) {
+                weights = new double[entries.length];
+            }
+            double[][] alternatives = pool.alternatives();
+            if (branches.length < alternatives.length) {
+                branches = new int[alternatives.length];
+            }
+            for (int group = 0; group < alternatives.length; group++) {
+                branches[group] = branch(alternatives[group]);
+            }
+            double totalWeight = 0;
+            int candidates = 0;
+            int last = -1;
+            for (int i = 0; i < entries.length; i++) {
+                Entry entry = entries[i];
+                boolean excluded = entry.alternatives() >= 0 && branches[entry.alternatives()] != entry.branch();
+                double weight = excluded || entry.chance() < 1f && !passes(entry.chance())
+                        ? 0
+                        : Math.max(0, entry.weight() + entry.quality() * luck);
+                weights[i] = weight;
+                if (weight > 0) {
+                    totalWeight += weight;
+                    candidates++;
+                    last = i;
+                }
+            }
+            if (candidates == 0) {
+                return null;
+            }
+            if (candidates == 1) {
+                return entries[last];
+            }
+            double target = random.nextDouble() * totalWeight;
+            for (int i = 0; i < entries.length; i++) {
+                target -= weights[i];
+                if (weights[i] > 0 && target < 0) {
+                    return entries[i];
+                }
+            }
+            return entries[last];
+        }
+
+        private void apply(Entry entry, int depth) {
+            if (entry.kind() == CompiledLootTable.TABLE) {
+                open(entry.target(), depth + 1);
+                return;
+            }
+            if (entry.target() < 0) {
+                return;
+            }
+            int count = entry.count().sampleInt(random);
+            if (count <= 0) {
+                return;
+            }
+            if (counts[entry.target()] == 0) {
+                touched[touchedSize++] = entry.target();
+            }
+            counts[entry.target()] += count;
+        }
+
+        /**
+         * The child an {@code alternatives} entry takes this roll, or -1 when every child's conditions failed.
+         */
+        private int branch(double[] cumulative) {
+            double target = random.nextDouble();
+            for (int i = 0; i < cumulative.length; i++) {
+                if (target < cumulative[i]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean passes(float chance) {
+            return chance >= 1f || random.nextFloat() < chance;
+        }
+
+        void drain(Tally tally) {
+            for (int i = 0; i < touchedSize; i++) {
+                int item = touched[i];
+                tally.record(item, counts[item]);
+                counts[item] = 0;
+            }
+            touchedSize = 0;
+        }
+    }
+
+    private static final class Tally {
+        private final long[] totals;
+        private final long[] opens;
+        private final long[][] histograms;
+
+        Tally(int items) {
+            totals = new long[items];
+            opens = new long[items];
+            histograms = new long[items][];
+        }
+
+        void record(int item, int count) {
+            totals[item] += count;
+            opens[item]++;
+            long[] histogram = histograms[item];
+            if (histogram == null || histogram.length <= count) {
+                histogram = histogram == null
+                        ? new long[Math.max(8, count + 1)]
+                        : Arrays.copyOf(histogram, Math.max(histogram.length * 2, count + 1));
+                histograms[item] = histogram;
+            }
+            histogram[count]++;
+        }
+
+        void merge(Tally other) {
+            for (int item = 0; item < totals.length; item++) {
+                totals[item] += other.totals[item];
+                opens[item] += other.opens[item];
+                long[] source = other.histograms[item];
+                if (source == null) {
+                    continue;
+                }
+                long[] target = histograms[item];
+                if (target == null || target.length < source.length) {
+                    target = target == null ? new long[source.length] : Arrays.copyOf(target, source.length);
+                    histograms[item] = target;
+                }
+                for (int count = 0; count < source.length; count++) {
+                    target[count] += source[count];
+                }
+            }
+        }
+
+        SimulationResult toResult(CompiledLootTable program, long runs, float luck) {
+            List<SimulationResult.ItemStats> items = new ArrayList<>();
+            for (int item = 0; item < totals.length; item++) {
+                if (opens[item] == 0) {
+                    continue;
+                }
+                SortedMap<Integer, Long> histogram = new TreeMap<>();
+                long[] buckets = histograms[item];
+                for (int count = 1; count < buckets.length; count++) {
+                    if (buckets[count] > 0) {
+                        histogram.put(count, buckets[count]);
+                    }
+                }
+                items.add(new SimulationResult.ItemStats(program.itemIds().get(item), totals[item], opens[item],
+                        histogram, runs));
+            }
+            items.sort(Comparator.comparingLong(SimulationResult.ItemStats::opensWithDrop).reversed()
+                    .thenComparing(SimulationResult.ItemStats::itemId));
+            return new SimulationResult(program.rootId(), runs, luck, items);
+        }
+    }
+}
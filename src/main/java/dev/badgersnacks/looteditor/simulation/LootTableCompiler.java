@@ -0,0 +1,228 @@
+package dev.badgersnacks.looteditor.simulation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.badgersnacks.looteditor.simulation.CompiledLootTable.Entry;
+import dev.badgersnacks.looteditor.simulation.CompiledLootTable.Pool;
+import dev.badgersnacks.looteditor.simulation.CompiledLootTable.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Compiles loot table JSON into a {@link CompiledLootTable}. Covers pool {@code rolls}/{@code bonus_rolls}, entry
+ * {@code weight}/{@code quality}, {@code set_count} (constant, uniform, binomial), {@code random_chance} conditions on
+ * pools and entries, composite entries, and {@code loot_table} references (by id through the resolver, or inline).
+ * Other conditions are treated as passing and other functions are ignored.
+ * <p>
+ * {@code alternatives} takes its first child whose conditions pass, so each child is compiled as a fallback that is
+ * only reached when every earlier child failed. An {@code alternatives} nested inside another one's child keeps the
+ * outer fallback only as its marginal probability.
+ */
+public final class LootTableCompiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LootTableCompiler.class);
+    private static final NumberProvider ONE = NumberProvider.constant(1f);
+    private static final NumberProvider ZERO = NumberProvider.constant(0f);
+
+    private final Function<String, JsonNode> resolver;
+
+    /**
+     * @param resolver looks up referenced tables by id ({@code namespace:path}); may return {@code null} for unknown
+     *                 ids, which then drop nothing. Called from the compiling thread.
+     */
+    public LootTableCompiler(Function<String, JsonNode> resolver) {
+        this.resolver = resolver == null ? id -> null : resolver;
+    }
+
+    public CompiledLootTable compile(String rootId, JsonNode table) {
+        Objects.requireNonNull(table, "table");
+        Session session = new Session();
+        session.compileTable(rootId == null ? "<root>" : rootId, table);
+        return new CompiledLootTable(rootId, session.itemIds, session.tables.toArray(new Table[0]));
+    }
+
+    private final class Session {
+        private final List<String> itemIds = new ArrayList<>();
+        private final Map<String, Integer> itemIndex = new HashMap<>();
+        private final List<Table> tables = new ArrayList<>();
+        private final Map<String, Integer> tableIndex = new HashMap<>();
+
+        int compileTable(String id, JsonNode table) {
+            // reserve the slot first so self/cyclic references resolve to it; the simulator guards depth
+            int index = tables.size();
+            tables.add(null);
+            tableIndex.put(id, index);
+            List<Pool> pools = new ArrayList<>();
+            for (JsonNode pool : table.path("pools")) {
+                pools.add(compilePool(pool));
+            }
+            tables.set(index, new Table(id, pools.toArray(new Pool[0])));
+            return index;
+        }
+
+        private Pool compilePool(JsonNode pool) {
+            List<Entry> entries = new ArrayList<>();
+            List<double[]> alternatives = new ArrayList<>();
+            for (JsonNode entry : pool.path("entries")) {
+                expand(entry, 1f, Gate.NONE, entries, alternatives);
+            }
+            boolean conditional = !alternatives.isEmpty();
+            double[] cumulative = new double[entries.size()];
+            double running = 0;
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                conditional |= entry.chance() < 1f;
+                running += Math.max(0, entry.weight());
+                cumulative[i] = running;
+            }
+            return new Pool(NumberProvider.parse(pool.get("rolls"), 1f),
+                    pool.has("bonus_rolls") ? NumberProvider.parse(pool.get("bonus_rolls"), 0f) : ZERO,
+                    chanceOf(pool.path("conditions")),
+                    entries.toArray(new Entry[0]),
+                    conditional,
+                    cumulative,
+                    alternatives.toArray(new double[0][]));
+        }
+
+        /**
+         * Flattens composites into weighted candidates: group/sequence yield all children, and every alternatives
+         * child becomes a branch of its own (see {@link #expandAlternatives}).
+         */
+        private void expand(JsonNode entry, float inheritedChance, Gate gate, List<Entry> sink,
+                            List<double[]> alternatives) {
+            float chance = inheritedChance * (gate.decidesConditionsOf(entry) ? 1f : chanceOf(entry.path("conditions")));
+            String type = qualify(entry.path("type").asText("minecraft:item"));
+            switch (type) {
+                case "minecraft:alternatives" -> expandAlternatives(entry, chance, gate, sink, alternatives);
+                case "minecraft:group", "minecraft:sequence" -> {
+                    for (JsonNode child : entry.path("children")) {
+                        expand(child, chance, gate.inherited(), sink, alternatives);
+                    }
+                }
+                case "minecraft:item", "minecraft:tag" -> {
+                    String name = entry.path("name").asText(entry.path("id").asText(""));
+                    int target = name.isBlank() ? -1 : intern("minecraft:tag".equals(type) ? "#" + name : name);
+                    sink.add(new Entry(CompiledLootTable.ITEM, target, weight(entry), entry.path("quality").asDouble(0),
+                            chance, countOf(entry.path("functions")), gate.group(), gate.branch()));
+                }
+                case "minecraft:loot_table" -> sink.add(new Entry(CompiledLootTable.TABLE, resolveReference(entry),
+                        weight(entry), entry.path("quality").asDouble(0), chance, ONE, gate.group(), gate.branch()));
+                default -> sink.add(new Entry(CompiledLootTable.ITEM, -1, weight(entry),
+                        entry.path("quality").asDouble(0), chance, ONE, gate.group(), gate.branch()));
+            }
+        }
+
+        /**
+         * Child {@code i} is taken when its own conditions pass and those of children {@code 0..i-1} failed; the
+         * simulator picks that branch once per roll from the cumulative probabilities recorded here.
+         */
+        private void expandAlternatives(JsonNode entry, float chance, Gate outer, List<Entry> sink,
+                                        List<double[]> alternatives) {
+            JsonNode children = entry.path("children");
+            if (children.isEmpty()) {
+                return;
+            }
+            int group = alternatives.size();
+            double[] cumulative = new double[children.size()];
+            alternatives.add(cumulative);
+            float inherited = chance * (float) outer.probability();
+            double reached = 1d;
+            double running = 0d;
+            for (int i = 0; i < children.size(); i++) {
+                JsonNode child = children.get(i);
+                double passes = chanceOf(child.path("conditions"));
+                running += reached * passes;
+                cumulative[i] = running;
+                expand(child, inherited, new Gate(group, i, reached * passes, child), sink, alternatives);
+                reached *= 1d - passes;
+            }
+        }
+
+        private int resolveReference(JsonNode entry) {
+            JsonNode value = entry.has("value") ? entry.get("value") : entry.path("name");
+            if (value.isObject()) {
+                return compileTable("<inline@" + tables.size() + ">", value);
+            }
+            String id = value.asText("");
+            if (id.isBlank()) {
+                return -1;
+            }
+            Integer known = tableIndex.get(id);
+            if (known != null) {
+                return known;
+            }
+            JsonNode referenced;
+            try {
+                referenced = resolver.apply(id);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to resolve referenced loot table {}", id, e);
+                referenced = null;
+            }
+            if (referenced == null) {
+                LOGGER.debug("Referenced loot table {} not found; it will drop nothing", id);
+                tableIndex.put(id, -1);
+                return -1;
+            }
+            return compileTable(id, referenced);
+        }
+
+        private int intern(String itemId) {
+            return itemIndex.computeIfAbsent(itemId, id -> {
+                itemIds.add(id);
+                return itemIds.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * The alternatives branch a candidate belongs to. {@code owner} is the child whose conditions the branch pick
+     * already accounts for; {@code probability} is how likely the branch is taken.
+     */
+    private record Gate(int group, int branch, double probability, JsonNode owner) {
+        static final Gate NONE = new Gate(-1, -1, 1d, null);
+
+        boolean decidesConditionsOf(JsonNode entry) {
+            return owner == entry;
+        }
+
+        Gate inherited() {
+            return new Gate(group, branch, probability, null);
+        }
+    }
+
+    private static double weight(JsonNode entry) {
+        return entry.path("weight").asDouble(1.0d);
+    }
+
+    private static NumberProvider countOf(JsonNode functions) {
+        NumberProvider count = ONE;
+        for (JsonNode function : functions) {
+            if ("minecraft:set_count".equals(qualify(function.path("function").asText()))
+                    && chanceOf(function.path("conditions")) >= 1f) {
+                count = NumberProvider.parse(function.get("count"), 1f);
+            }
+        }
+        return count;
+    }
+
+    private static float chanceOf(JsonNode conditions) {
+        float chance = 1f;
+        for (JsonNode condition : conditions) {
+            if ("minecraft:random_chance".equals(qualify(condition.path("condition").asText()))
+                    && condition.path("chance").isNumber()) {
+                chance *= Math.max(0f, Math.min(1f, condition.path("chance").floatValue()));
+            }
+        }
+        return chance;
+    }
+
+    private static String qualify(String id) {
+        return id.indexOf(':') < 0 ? "minecraft:" + id : id;
+    }
+}
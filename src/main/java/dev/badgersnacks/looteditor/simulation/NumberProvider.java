@@ -0,0 +1,132 @@
+package dev.badgersnacks.looteditor.simulation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.SplittableRandom;
+
+/**
+ * Compiled form of a vanilla number provider ({@code rolls}, {@code bonus_rolls}, {@code set_count}). Constant,
+ * uniform and binomial providers are supported; anything else (score, storage, nested providers) falls back to the
+ * supplied default so the simulation still runs.
+ */
+final class NumberProvider {
+
+    private enum Kind { CONSTANT, UNIFORM, BINOMIAL }
+
+    private final Kind kind;
+    private final float a;
+    private final float b;
+
+    private NumberProvider(Kind kind, float a, float b) {
+        this.kind = kind;
+        this.a = a;
+        this.b = b;
+    }
+
+    static NumberProvider constant(float value) {
+        return new NumberProvider(Kind.CONSTANT, value, value);
+    }
+
+    static NumberProvider parse(JsonNode node, float fallback) {
+        if (node == null || node.isMissingNode() || node.isNull()) {
+            return constant(fallback);
+        }
+        if (node.isNumber()) {
+            return constant(node.floatValue());
+        }
+        if (!node.isObject()) {
+            return constant(fallback);
+        }
+        String type = node.path("type").asText("");
+        if (node.has("n") && (type.isEmpty() || type.endsWith("binomial"))) {
+            return new NumberProvider(Kind.BINOMIAL, node.path("n").floatValue(), node.path("p").floatValue());
+        }
+        if (node.path("min").isNumber() || node.path("max").isNumber()) {
+            float min = node.path("min").isNumber() ? node.path("min").floatValue() : fallback;
+            float max = node.path("max").isNumber() ? node.path("max").floatValue() : min;
+            return new NumberProvider(Kind.UNIFORM, min, Math.max(min, max));
+        }
+        if (node.path("value").isNumber()) {
+            return constant(node.path("value").floatValue());
+        }
+        return constant(fallback);
+    }
+
+    /**
+     * Integer sample with vanilla semantics: uniform picks between the floored bounds inclusive, binomial counts
+     * successes over {@code n} trials.
+     */
+    int sampleInt(SplittableRandom random) {
+        return switch (kind) {
+            case CONSTANT -> Math.round(a);
+            case UNIFORM -> {
+                int min = (int) Math.floor(a);
+                int max = (int) Math.floor(b);
+                yield max <= min ? min : min + random.nextInt(max - min + 1);
+            }
+            case BINOMIAL -> {
+                int trials = Math.round(a);
+                int successes = 0;
+                for (int i = 0; i < trials; i++) {
+                    if (random.nextDouble() < b) {
+                        successes++;
+                    }
+                }
+                yield successes;
+            }
+        };
+    }
+
+    float sample(SplittableRandom random) {
+        return switch (kind) {
+            case CONSTANT -> a;
+            case UNIFORM -> b <= a ? a : a + (float) random.nextDouble() * (b - a);
+            case BINOMIAL -> sampleInt(random);
+        };
+    }
+
+    /**
+     * Exact distribution of {@link #sampleInt}: element {@code k} is the probability of sampling {@code k}. Negative
+     * outcomes are folded into zero, matching how pools treat negative roll counts.
+     */
+    double[] distribution() {
+        return switch (kind) {
+            case CONSTANT -> {
+                double[] result = new double[Math.max(0, Math.round(a)) + 1];
+                result[result.length - 1] = 1;
+                yield result;
+            }
+            case UNIFORM -> {
+                int min = (int) Math.floor(a);
+                int max = Math.max(min, (int) Math.floor(b));
+                double[] result = new double[Math.max(0, max) + 1];
+                double share = 1.0 / (max - min + 1);
+                for (int k = min; k <= max; k++) {
+                    result[Math.max(0, k)] += share;
+                }
+                yield result;
+            }
+            case BINOMIAL -> {
+                int trials = Math.max(0, Math.round(a));
+                double p = Math.max(0, Math.min(1, b));
+                double[] result = new double[trials + 1];
+                for (int k = 0; k <= trials; k++) {
+                    result[k] = binomialCoefficient(trials, k) * Math.pow(p, k) * Math.pow(1 - p, trials - k);
+                }
+                yield result;
+            }
+        };
+    }
+
+    private static double binomialCoefficient(int n, int k) {
+        double result = 1;
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+        return result;
+    }
+
+    boolean isZero() {
+        return kind == Kind.CONSTANT && a == 0f;
+    }
+}
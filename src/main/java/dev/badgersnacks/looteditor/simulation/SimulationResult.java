@@ -0,0 +1,35 @@
+package dev.badgersnacks.looteditor.simulation;
+
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * Aggregated outcome of a simulation: per-item drop frequency and per-open count histograms, sorted by drop chance
+ * (most frequent first).
+ */
+public record SimulationResult(String tableId, long runs, double luck, List<ItemStats> items) {
+
+    public SimulationResult {
+        items = List.copyOf(items);
+    }
+
+    /**
+     * @param totalCount    items dropped across all runs
+     * @param opensWithDrop runs in which the item dropped at least once
+     * @param histogram     per-open dropped count (only counts &gt; 0) to number of runs
+     */
+    public record ItemStats(String itemId,
+                            long totalCount,
+                            long opensWithDrop,
+                            SortedMap<Integer, Long> histogram,
+                            long runs) {
+
+        public double dropChance() {
+            return runs == 0 ? 0 : (double) opensWithDrop / runs;
+        }
+
+        public double averagePerOpen() {
+            return runs == 0 ? 0 : (double) totalCount / runs;
+        }
+    }
+}
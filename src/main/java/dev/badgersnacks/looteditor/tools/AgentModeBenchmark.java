@@ -0,0 +1,87 @@
+package dev.badgersnacks.looteditor.tools;
+
+import dev.badgersnacks.looteditor.agents.AgentLane;
+import dev.badgersnacks.looteditor.agents.AgentOrchestrator;
+import dev.badgersnacks.looteditor.agents.AgentOrchestrator.ExecutionMode;
+import dev.badgersnacks.looteditor.catalog.ItemCatalogService;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.scanner.ModpackScanner;
+import dev.badgersnacks.looteditor.services.LootTableService;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Times the I/O-heavy pack-open passes (loot table scan, item catalog, parsing every loot table) under each
+ * {@link ExecutionMode} of the agent orchestrator. Run it on a large pack; the first round of each mode is a warm-up
+ * and is not counted.
+ */
+public final class AgentModeBenchmark {
+
+    private static final int DEFAULT_ROUNDS = 3;
+
+    private AgentModeBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("""
+                    Usage: AgentModeBenchmark <packRoot> [rounds]
+
+                    <packRoot> Root of the modpack instance to benchmark against (must contain mods/, kubejs/, etc.).
+                    [rounds]   Measured rounds per mode after one warm-up round (default 3).
+                    """);
+            System.exit(1);
+        }
+        Path packRoot = Paths.get(args[0]).toAbsolutePath().normalize();
+        int rounds = args.length > 1 ? Math.max(1, Integer.parseInt(args[1])) : DEFAULT_ROUNDS;
+
+        System.out.printf("Benchmarking %s, %d rounds per mode, Java %s%n", packRoot, rounds, Runtime.version());
+        System.out.printf("%-9s %10s %10s %10s %10s %8s%n", "mode", "scan ms", "catalog ms", "parse ms", "total ms",
+                "tables");
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            try (AgentOrchestrator orchestrator = new AgentOrchestrator(mode)) {
+                Executor executor = orchestrator.fanOutExecutor(AgentLane.BULK);
+                runRound(packRoot, executor);
+                long[] totals = new long[3];
+                int tables = 0;
+                for (int round = 0; round < rounds; round++) {
+                    long[] timings = new long[3];
+                    tables = runRound(packRoot, executor, timings);
+                    for (int i = 0; i < totals.length; i++) {
+                        totals[i] += timings[i];
+                    }
+                }
+                System.out.printf("%-9s %10d %10d %10d %10d %8d%n", mode.name().toLowerCase(),
+                        totals[0] / rounds, totals[1] / rounds, totals[2] / rounds,
+                        (totals[0] + totals[1] + totals[2]) / rounds, tables);
+            }
+        }
+    }
+
+    private static void runRound(Path packRoot, Executor executor) throws IOException {
+        runRound(packRoot, executor, new long[3]);
+    }
+
+    /**
+     * Runs one round and stores the scan, catalog and parse durations (ms) in {@code timings}.
+     */
+    private static int runRound(Path packRoot, Executor executor, long[] timings) throws IOException {
+        long start = System.nanoTime();
+        List<LootTableDescriptor> descriptors = new ModpackScanner().scan(packRoot, executor);
+        long scanned = System.nanoTime();
+        new ItemCatalogService().buildCatalog(packRoot, executor);
+        long cataloged = System.nanoTime();
+        AtomicInteger parsed = new AtomicInteger();
+        new LootTableService().loadAll(descriptors, executor, (descriptor, node) -> parsed.incrementAndGet());
+        long done = System.nanoTime();
+        timings[0] = (scanned - start) / 1_000_000;
+        timings[1] = (cataloged - scanned) / 1_000_000;
+        timings[2] = (done - cataloged) / 1_000_000;
+        return parsed.get();
+    }
+}
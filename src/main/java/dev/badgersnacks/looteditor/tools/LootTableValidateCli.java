@@ -0,0 +1,73 @@
+package dev.badgersnacks.looteditor.tools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.badgersnacks.looteditor.catalog.ItemCatalog;
+import dev.badgersnacks.looteditor.catalog.ItemCatalogService;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.scanner.ModpackScanner;
+import dev.badgersnacks.looteditor.services.EnchantmentDataService;
+import dev.badgersnacks.looteditor.services.LootTableService;
+import dev.badgersnacks.looteditor.validation.ItemTagScanner;
+import dev.badgersnacks.looteditor.validation.KnownIds;
+import dev.badgersnacks.looteditor.validation.LootTableValidator;
+import dev.badgersnacks.looteditor.validation.ValidationIssue;
+import dev.badgersnacks.looteditor.validation.ValidationReport;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Validates every loot table in a modpack against its item catalog, tags and enchantments without launching the
+ * JavaFX UI, and writes the findings to a JSON report.
+ */
+public final class LootTableValidateCli {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int PRINTED_ISSUES = 20;
+
+    private LootTableValidateCli() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("""
+                    Usage: LootTableValidateCli <packRoot> <outputFile>
+
+                    <packRoot>   Root of the modpack instance that should be validated (must contain mods/, kubejs/, etc.).
+                    <outputFile> Destination JSON report (directories are created automatically).
+                    """);
+            System.exit(1);
+        }
+
+        Path packRoot = Paths.get(args[0]).toAbsolutePath().normalize();
+        Path outputFile = Paths.get(args[1]).toAbsolutePath().normalize();
+
+        List<LootTableDescriptor> descriptors = new ModpackScanner().scan(packRoot);
+        ItemCatalog catalog = new ItemCatalogService().buildCatalog(packRoot);
+        KnownIds known = KnownIds.of(catalog,
+                new ItemTagScanner().collect(packRoot, descriptors),
+                new EnchantmentDataService().load(packRoot),
+                descriptors);
+        ValidationReport report = new LootTableValidator(new LootTableService()).validate(descriptors, known);
+
+        ObjectNode root = report.toJson(MAPPER);
+        root.put("generated", Instant.now().toString());
+        root.put("packRoot", packRoot.toString());
+        root.put("catalogItems", catalog.descriptors().size());
+
+        Files.createDirectories(outputFile.getParent());
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(outputFile.toFile(), root);
+
+        System.out.printf("Validated %d loot tables in %d ms: %d errors, %d warnings. Report written to %s%n",
+                report.tablesChecked(), report.durationMillis(), report.errorCount(), report.warningCount(), outputFile);
+        report.issues().stream()
+                .filter(issue -> issue.severity() == ValidationIssue.Severity.ERROR)
+                .limit(PRINTED_ISSUES)
+                .forEach(issue -> System.out.printf("  %s [%s] %s%n", issue.tableId(), issue.location(), issue.message()));
+    }
+}
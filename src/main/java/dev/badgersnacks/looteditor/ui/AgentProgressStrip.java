@@ -0,0 +1,83 @@
+package dev.badgersnacks.looteditor.ui;
+
+import dev.badgersnacks.looteditor.agents.AgentOrchestrator;
+import dev.badgersnacks.looteditor.agents.AgentProgress;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.util.Duration;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Status strip with one progress bar per running background job, showing units done, live throughput and the source
+ * being read. It samples {@link AgentOrchestrator#runningProgress()} on a fixed timer instead of listening to the
+ * workers, so a job reporting thousands of tables a second costs the FX thread nothing extra. Hidden when idle.
+ */
+public class AgentProgressStrip extends VBox {
+
+    private static final Duration REFRESH_INTERVAL = Duration.millis(250);
+    private static final double BAR_WIDTH = 180;
+
+    private final AgentOrchestrator orchestrator;
+    private final Timeline refresh;
+
+    public AgentProgressStrip(AgentOrchestrator orchestrator) {
+        super(2);
+        this.orchestrator = Objects.requireNonNull(orchestrator, "orchestrator");
+        setPadding(new Insets(2, 6, 2, 6));
+        setVisible(false);
+        setManaged(false);
+        refresh = new Timeline(new KeyFrame(REFRESH_INTERVAL, event -> refresh()));
+        refresh.setCycleCount(Animation.INDEFINITE);
+        refresh.play();
+    }
+
+    public void stop() {
+        refresh.stop();
+    }
+
+    private void refresh() {
+        List<AgentProgress> jobs = orchestrator.runningProgress().stream()
+                .filter(AgentProgress::reported)
+                .toList();
+        while (getChildren().size() > jobs.size()) {
+            getChildren().remove(getChildren().size() - 1);
+        }
+        while (getChildren().size() < jobs.size()) {
+            getChildren().add(new JobRow());
+        }
+        for (int i = 0; i < jobs.size(); i++) {
+            ((JobRow) getChildren().get(i)).show(jobs.get(i));
+        }
+        boolean busy = !jobs.isEmpty();
+        setVisible(busy);
+        setManaged(busy);
+    }
+
+    private static final class JobRow extends HBox {
+        private final ProgressBar bar = new ProgressBar();
+        private final Label label = new Label();
+
+        private JobRow() {
+            super(8);
+            setAlignment(Pos.CENTER_LEFT);
+            bar.setPrefWidth(BAR_WIDTH);
+            getChildren().addAll(bar, label);
+        }
+
+        private void show(AgentProgress progress) {
+            double fraction = progress.fraction();
+            bar.setProgress(fraction < 0 ? ProgressBar.INDETERMINATE_PROGRESS : fraction);
+            String source = progress.currentSource() == null ? "" : " - " + progress.currentSource();
+            label.setText(progress.taskName() + ": " + progress.describe() + source);
+        }
+    }
+}
@@ -9,9 +9,11 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.geometry.Insets;
 import javafx.scene.control.ComboBox;
+import javafx.scene.control.ContextMenu;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.ClipboardContent;
@@ -39,6 +41,7 @@ public class ItemPalettePane extends BorderPane {
     private final ComboBox<String> namespaceFilter = new ComboBox<>();
     private final ComboBox<TypeFilter> typeFilter = new ComboBox<>();
     private Consumer<LootPoolEntryModel> insertHandler = entry -> { };
+    private Consumer<ItemDescriptor> findHandler = descriptor -> { };
     private ItemCatalog catalog;
 
     public ItemPalettePane(ItemIconCache iconCache) {
@@ -93,6 +96,15 @@ public class ItemPalettePane extends BorderPane {
                 }
             }
         });
+
+        MenuItem findItem = new MenuItem("Find in loot tables");
+        findItem.setOnAction(e -> {
+            ItemDescriptor descriptor = listView.getSelectionModel().getSelectedItem();
+            if (descriptor != null) {
+                findHandler.accept(descriptor);
+            }
+        });
+        listView.setContextMenu(new ContextMenu(findItem));
     }
 
     private void wireFilters() {
@@ -142,6 +154,13 @@ public class ItemPalettePane extends BorderPane {
         this.insertHandler = insertHandler == null ? entry -> { } : insertHandler;
     }
 
+    /**
+     * Invoked from the palette's right-click "Find in loot tables" action.
+     */
+    public void setFindHandler(Consumer<ItemDescriptor> findHandler) {
+        this.findHandler = findHandler == null ? descriptor -> { } : findHandler;
+    }
+
     public ItemCatalog currentCatalog() {
         return catalog;
     }
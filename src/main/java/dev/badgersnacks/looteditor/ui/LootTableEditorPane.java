@@ -1,6 +1,12 @@
 package dev.badgersnacks.looteditor.ui;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import dev.badgersnacks.looteditor.agents.AgentContext;
+import dev.badgersnacks.looteditor.agents.AgentOrchestrator;
+import dev.badgersnacks.looteditor.agents.LootSimulationAgentTask;
+import dev.badgersnacks.looteditor.agents.LootTableLoadAgentTask;
+import dev.badgersnacks.looteditor.agents.LootTableLoadAgentTask.LoadedTable;
+import dev.badgersnacks.looteditor.agents.PreviewRenderAgentTask;
 import dev.badgersnacks.looteditor.catalog.ItemCatalog;
 import dev.badgersnacks.looteditor.catalog.ItemDescriptor;
 import dev.badgersnacks.looteditor.catalog.ItemIconCache;
@@ -9,22 +15,36 @@ import dev.badgersnacks.looteditor.model.EnchantmentPoolLink;
 import dev.badgersnacks.looteditor.model.LootPoolEntryModel;
 import dev.badgersnacks.looteditor.model.LootTableDescriptor;
 import dev.badgersnacks.looteditor.persistence.EnchantmentPoolLinkService;
+import dev.badgersnacks.looteditor.persistence.ExportSettings;
+import dev.badgersnacks.looteditor.persistence.ExportSettings.PoolExpansion;
 import dev.badgersnacks.looteditor.services.EnchantmentPoolAdapter;
 import dev.badgersnacks.looteditor.services.EnchantmentPoolAdapter.PathAwarePoolLinkWriter;
 import dev.badgersnacks.looteditor.services.EnchantmentPoolAdapter.RebuildResult;
 import dev.badgersnacks.looteditor.services.EnchantmentPoolService;
+import dev.badgersnacks.looteditor.services.LootTablePreviewRenderer;
 import dev.badgersnacks.looteditor.services.LootTableService;
+import dev.badgersnacks.looteditor.services.SaveQueue.SaveAction;
+import dev.badgersnacks.looteditor.simulation.DropProbabilityCalculator;
+import dev.badgersnacks.looteditor.simulation.SimulationResult;
+import dev.badgersnacks.looteditor.ui.dialogs.LootSimulationDialog;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.property.LongProperty;
+import javafx.beans.property.SimpleLongProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
+import javafx.collections.ListChangeListener;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.geometry.Pos;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
+import javafx.scene.control.ChoiceDialog;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.control.Spinner;
 import javafx.scene.control.SpinnerValueFactory;
-import javafx.scene.control.TextArea;
 import javafx.scene.control.ToolBar;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.TransferMode;
@@ -33,6 +53,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
+import javafx.util.Duration;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,9 +63,12 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Consumer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 
 /**
  * Drag-and-drop editing surface for loot table entries.
@@ -52,26 +76,41 @@ import java.util.function.Consumer;
 public class LootTableEditorPane extends BorderPane {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LootTableEditorPane.class);
+    private static final Duration PREVIEW_DEBOUNCE = Duration.millis(150);
+    private static final List<Long> SIMULATION_RUNS = List.of(1_000L, 10_000L, 100_000L, 1_000_000L);
 
     private final LootTableService lootTableService;
     private final ItemIconCache iconCache;
     private final ListView<LootPoolEntryModel> entryList = new ListView<>();
-    private final TextArea jsonPreview = new TextArea();
+    private final ListView<String> jsonPreview = new ListView<>();
+    private final LootTablePreviewRenderer previewRenderer = new LootTablePreviewRenderer();
+    private final ExportSettings exportSettings = new ExportSettings();
+    private final PauseTransition previewDebounce = new PauseTransition(PREVIEW_DEBOUNCE);
     private final Button saveButton = new Button("Save Loot Table");
     private final Button revertButton = new Button("Revert Changes");
+    private final Button simulateButton = new Button("Simulate");
 
     private final ObservableList<LootPoolEntryModel> entries = FXCollections.observableArrayList();
     private final Map<String, EnchantmentPool> cachedPools = new HashMap<>();
+    private final DropProbabilityCalculator probabilities = new DropProbabilityCalculator();
+    // bumped whenever the pool's weight total or rolls change; visible cells re-derive their odds from it
+    private final LongProperty probabilityRevision = new SimpleLongProperty();
 
     private LootTableDescriptor descriptor;
     private ItemCatalog itemCatalog;
     private JsonNode currentNode;
     private JsonNode originalNode;
-    private Consumer<JsonNode> saveHandler = node -> { };
+    private SaveHandler saveHandler = SaveHandler.NONE;
     private List<LootPoolEntryModel> baselineEntries = List.of();
     private Path modpackRoot;
+    private PoolExpansion poolExpansion = PoolExpansion.EXPANDED;
     private EnchantmentPoolService enchantmentPoolService;
     private EnchantmentPoolLinkService poolLinkService;
+    private AgentOrchestrator orchestrator;
+    private Function<String, JsonNode> tableResolver = id -> null;
+    private long previewGeneration;
+    // bumped whenever another table (or none) is shown, so a late save result never rebaselines the wrong table
+    private long displayGeneration;
 
     public LootTableEditorPane(LootTableService lootTableService, ItemIconCache iconCache) {
         this.lootTableService = Objects.requireNonNull(lootTableService, "lootTableService");
@@ -79,8 +118,22 @@ public class LootTableEditorPane extends BorderPane {
         buildUi();
     }
 
-    public void setOnSave(Consumer<JsonNode> onSave) {
-        this.saveHandler = onSave == null ? node -> { } : onSave;
+    public void setOnSave(SaveHandler onSave) {
+        this.saveHandler = onSave == null ? SaveHandler.NONE : onSave;
+    }
+
+    /**
+     * Preview rendering runs on the orchestrator when one is set; without it the preview renders inline.
+     */
+    public void setAgentOrchestrator(AgentOrchestrator orchestrator) {
+        this.orchestrator = orchestrator;
+    }
+
+    /**
+     * Looks up tables referenced by {@code loot_table} entries when simulating; called off the FX thread.
+     */
+    public void setTableResolver(Function<String, JsonNode> resolver) {
+        this.tableResolver = resolver == null ? id -> null : resolver;
     }
 
     public void configurePoolContext(Path modpackRoot,
@@ -91,16 +144,23 @@ public class LootTableEditorPane extends BorderPane {
         this.modpackRoot = modpackRoot;
         this.enchantmentPoolService = poolService;
         this.poolLinkService = linkService;
+        this.poolExpansion = modpackRoot == null
+                ? PoolExpansion.EXPANDED
+                : exportSettings.resolvePoolExpansion(modpackRoot);
+        previewRenderer.setPoolExpansion(poolExpansion);
         refreshEnchantmentPools();
     }
 
     public void clear() {
+        displayGeneration++;
         descriptor = null;
         currentNode = null;
         originalNode = null;
         baselineEntries = List.of();
         entries.clear();
-        jsonPreview.clear();
+        previewDebounce.stop();
+        previewGeneration++;
+        jsonPreview.getItems().clear();
         updateControls();
         entryList.refresh();
     }
@@ -114,7 +174,9 @@ public class LootTableEditorPane extends BorderPane {
             cachedPools.clear();
             enchantmentPoolService.listPools(modpackRoot)
                     .forEach(pool -> cachedPools.put(pool.id(), pool));
+            previewRenderer.invalidate();
             entryList.refresh();
+            refreshPreview();
         } catch (IOException ignored) {
         }
     }
@@ -140,25 +202,47 @@ public class LootTableEditorPane extends BorderPane {
     }
 
     public void displayDescriptor(LootTableDescriptor descriptor, JsonNode node) {
-        this.descriptor = descriptor;
-        this.originalNode = node == null ? null : node.deepCopy();
-        this.currentNode = node == null ? null : node.deepCopy();
-        List<LootPoolEntryModel> extracted;
-        if (poolLinkService != null && modpackRoot != null) {
-            List<EnchantmentPoolLink> links = poolLinkService.loadLinks(modpackRoot, descriptor);
-            extracted = EnchantmentPoolAdapter.mergeForEditing(this.currentNode, links);
-        } else {
-            extracted = lootTableService.extractEntries(this.currentNode);
-        }
+        displayLoaded(LootTableLoadAgentTask.prepare(descriptor, node, lootTableService, poolLinkService, modpackRoot));
+    }
+
+    /**
+     * Task that reads and prepares {@code descriptor} off the FX thread for {@link #displayLoaded}, using the current
+     * pool context.
+     */
+    public LootTableLoadAgentTask loadTask(LootTableDescriptor descriptor) {
+        return new LootTableLoadAgentTask(descriptor, lootTableService, poolLinkService, modpackRoot);
+    }
+
+    public void displayLoaded(LoadedTable table) {
+        displayGeneration++;
+        this.descriptor = table.descriptor();
+        this.originalNode = table.original();
+        this.currentNode = table.working();
+        List<LootPoolEntryModel> extracted = table.entries();
         this.baselineEntries = new ArrayList<>(extracted);
+        probabilities.setRolls(this.currentNode == null ? null : this.currentNode.path("pools").path(0).get("rolls"));
         this.entries.setAll(extracted);
-        jsonPreview.setText(node == null ? "" : lootTableService.prettyPrint(node));
+        // rebase on every load so incremental drift never outlives a table
+        probabilities.reset(this.entries);
+        probabilityRevision.set(probabilityRevision.get() + 1);
+        previewDebounce.stop();
+        submitPreview(PreviewRenderAgentTask.forTable(previewRenderer, this.currentNode));
         updateControls();
         entryList.refresh();
         LOGGER.info("Display descriptor {} entries: {}", descriptor == null ? "n/a" : descriptor.qualifiedName(), entries.size());
     }
 
+    /**
+     * Points the editor at the location a save landed on (e.g. a new override file) without reloading its rows.
+     */
+    public void rebindDescriptor(LootTableDescriptor saved) {
+        if (descriptor != null && saved != null && descriptor.qualifiedName().equals(saved.qualifiedName())) {
+            this.descriptor = saved;
+        }
+    }
+
     private void buildUi() {
+        entries.addListener(this::trackProbabilities);
         entryList.setItems(entries);
         entryList.setCellFactory(lv -> new EntryCell());
         entryList.setPlaceholder(new Label("Drop palette items here to build loot entries."));
@@ -167,9 +251,10 @@ public class LootTableEditorPane extends BorderPane {
         setCenter(entryBox);
         configureEntryListInteractions();
 
-        jsonPreview.setPrefRowCount(8);
-        jsonPreview.setEditable(false);
+        jsonPreview.setPrefHeight(180);
+        jsonPreview.setFocusTraversable(false);
         jsonPreview.setStyle("-fx-font-family: 'Consolas', 'JetBrains Mono', monospace;");
+        previewDebounce.setOnFinished(e -> renderPreviewNow());
         VBox bottomBox = new VBox(new Label("JSON Preview"), jsonPreview);
         VBox.setVgrow(jsonPreview, Priority.ALWAYS);
         setBottom(bottomBox);
@@ -179,10 +264,42 @@ public class LootTableEditorPane extends BorderPane {
         saveButton.setOnAction(e -> triggerSave());
         revertButton.setDisable(true);
         revertButton.setOnAction(e -> revert());
-        toolBar.getItems().addAll(saveButton, revertButton);
+        simulateButton.setDisable(true);
+        simulateButton.setOnAction(e -> simulate());
+        toolBar.getItems().addAll(saveButton, revertButton, simulateButton);
         setTop(toolBar);
     }
 
+    /**
+     * Folds each list edit into the running weight total, so a spinner tick costs O(1) instead of a full pass.
+     */
+    private void trackProbabilities(ListChangeListener.Change<? extends LootPoolEntryModel> change) {
+        boolean changed = false;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            List<? extends LootPoolEntryModel> removed = change.getRemoved();
+            List<? extends LootPoolEntryModel> added = change.getAddedSubList();
+            if (change.wasReplaced() && removed.size() == 1 && added.size() == 1) {
+                changed |= probabilities.replace(removed.get(0), added.get(0));
+                continue;
+            }
+            for (LootPoolEntryModel entry : removed) {
+                changed |= probabilities.replace(entry, null);
+            }
+            for (LootPoolEntryModel entry : added) {
+                changed |= probabilities.replace(null, entry);
+            }
+        }
+        if (probabilities.needsRebase()) {
+            probabilities.reset(entries);
+        }
+        if (changed) {
+            probabilityRevision.set(probabilityRevision.get() + 1);
+        }
+    }
+
     private void revert() {
         if (descriptor != null && originalNode != null) {
             displayDescriptor(descriptor, originalNode.deepCopy());
@@ -233,30 +350,151 @@ public class LootTableEditorPane extends BorderPane {
             return;
         }
         try {
-            JsonNode updated = rebuildCurrentTable(new EditorLinkWriter());
+            DeferredLinkWriter linkWriter = new DeferredLinkWriter();
+            JsonNode updated = rebuildCurrentTable(linkWriter);
+            List<LootPoolEntryModel> saving = new ArrayList<>(entries);
+            long generation = displayGeneration;
             this.currentNode = updated;
-            this.originalNode = updated.deepCopy();
-            this.baselineEntries = new ArrayList<>(entries);
-            jsonPreview.setText(lootTableService.prettyPrint(updated));
-            saveHandler.accept(updated);
-            updateControls();
-            entryList.refresh();
+            renderPreviewNow();
+            // the editor stays dirty until the write lands; on failure the host reports it and the edits remain
+            CompletableFuture<?> save = saveHandler.save(updated, linkWriter.pendingWrite());
+            save.whenComplete((saved, error) -> Platform.runLater(() -> {
+                if (error != null || generation != displayGeneration) {
+                    return;
+                }
+                this.originalNode = updated.deepCopy();
+                this.baselineEntries = saving;
+                updateControls();
+                entryList.refresh();
+            }));
         } catch (Exception e) {
             showErrorDialog("Failed to save loot table", e);
         }
     }
 
-    private void refreshPreview() {
-        if (descriptor == null) {
+    /**
+     * Rolls the table as currently edited (unsaved rows included) and shows the drop distribution.
+     */
+    private void simulate() {
+        if (descriptor == null || currentNode == null) {
+            return;
+        }
+        ChoiceDialog<Long> runsDialog = new ChoiceDialog<>(10_000L, SIMULATION_RUNS);
+        runsDialog.setTitle("Loot Simulation");
+        runsDialog.setHeaderText("Simulate " + descriptor.qualifiedName());
+        runsDialog.setContentText("Opens:");
+        if (getScene() != null) {
+            runsDialog.initOwner(getScene().getWindow());
+        }
+        Long runs = runsDialog.showAndWait().orElse(null);
+        if (runs == null) {
             return;
         }
+        JsonNode table;
         try {
-            JsonNode preview = rebuildCurrentTable(new NoOpLinkWriter());
-            jsonPreview.setText(lootTableService.prettyPrint(preview));
+            table = rebuildCurrentTable(new NoOpLinkWriter());
         } catch (Exception e) {
-            // fall back to basic preview so the UI is still responsive
-            JsonNode fallback = lootTableService.rebuildTable(currentNode, new ArrayList<>(entries));
-            jsonPreview.setText(lootTableService.prettyPrint(fallback));
+            showErrorDialog("Failed to prepare loot table for simulation", e);
+            return;
+        }
+        LootSimulationAgentTask task = new LootSimulationAgentTask(descriptor.qualifiedName(), table, tableResolver,
+                runs, System.nanoTime());
+        simulateButton.setDisable(true);
+        if (orchestrator == null) {
+            try {
+                showSimulation(task.run(AgentContext.detached(task)));
+            } catch (RuntimeException e) {
+                showErrorDialog("Loot simulation failed", e);
+            } finally {
+                updateControls();
+            }
+            return;
+        }
+        orchestrator.submit(task).whenComplete((result, error) -> Platform.runLater(() -> {
+            updateControls();
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                LOGGER.warn("Loot simulation failed", cause);
+                showErrorDialog("Loot simulation failed",
+                        cause instanceof Exception exception ? exception : new RuntimeException(cause));
+                return;
+            }
+            showSimulation(result.payload());
+        }));
+    }
+
+    private void showSimulation(SimulationResult result) {
+        new LootSimulationDialog(getScene() == null ? null : getScene().getWindow(), result).show();
+    }
+
+    /**
+     * Spinner drags fire an update per tick, so edits only restart the debounce timer; the render itself happens
+     * once input settles.
+     */
+    private void refreshPreview() {
+        if (descriptor == null) {
+            return;
+        }
+        previewDebounce.playFromStart();
+    }
+
+    private void renderPreviewNow() {
+        previewDebounce.stop();
+        if (descriptor == null) {
+            return;
+        }
+        // pool definitions come from the in-memory snapshot rather than disk so the preview never blocks on IO
+        Map<String, EnchantmentPool> pools = poolsEnabled() ? cachedPools : Map.of();
+        submitPreview(PreviewRenderAgentTask.forEntries(previewRenderer, currentNode, entries, pools));
+    }
+
+    private void submitPreview(PreviewRenderAgentTask task) {
+        long generation = ++previewGeneration;
+        if (orchestrator == null) {
+            applyPreview(generation, task.run(AgentContext.detached(task)));
+            return;
+        }
+        orchestrator.submit(task).whenComplete((result, error) -> {
+            if (error != null) {
+                LOGGER.warn("Failed to render JSON preview", error);
+                return;
+            }
+            Platform.runLater(() -> applyPreview(generation, result.payload()));
+        });
+    }
+
+    /**
+     * Swaps in only the chunks that changed so the virtualised list keeps its scroll position and cells.
+     */
+    private void applyPreview(long generation, List<String> chunks) {
+        if (generation != previewGeneration) {
+            return;
+        }
+        ObservableList<String> shown = jsonPreview.getItems();
+        int limit = Math.min(shown.size(), chunks.size());
+        int prefix = 0;
+        while (prefix < limit && shown.get(prefix).equals(chunks.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < limit - prefix
+                && shown.get(shown.size() - 1 - suffix).equals(chunks.get(chunks.size() - 1 - suffix))) {
+            suffix++;
+        }
+        int shownEnd = shown.size() - suffix;
+        int chunkEnd = chunks.size() - suffix;
+        int overlap = Math.min(shownEnd, chunkEnd);
+        for (int i = prefix; i < overlap; i++) {
+            if (!shown.get(i).equals(chunks.get(i))) {
+                shown.set(i, chunks.get(i));
+            }
+        }
+        if (shownEnd > chunkEnd) {
+            shown.remove(chunkEnd, shownEnd);
+        } else if (chunkEnd > shownEnd) {
+            shown.addAll(shownEnd, chunks.subList(shownEnd, chunkEnd));
         }
     }
 
@@ -267,7 +505,8 @@ public class LootTableEditorPane extends BorderPane {
                     new ArrayList<>(entries),
                     descriptor,
                     enchantmentPoolService,
-                    writer);
+                    writer,
+                    poolExpansion);
             return rebuilt.node();
         }
         return lootTableService.rebuildTable(currentNode, new ArrayList<>(entries));
@@ -316,6 +555,7 @@ public class LootTableEditorPane extends BorderPane {
         boolean dirty = isDirty();
         saveButton.setDisable(!isEditableDescriptor() || !dirty);
         revertButton.setDisable(!dirty);
+        simulateButton.setDisable(!hasDescriptor());
     }
 
     private boolean isEntryModified(int index, LootPoolEntryModel entry) {
@@ -430,15 +670,39 @@ public class LootTableEditorPane extends BorderPane {
         alert.show();
     }
 
-    private class EditorLinkWriter implements PathAwarePoolLinkWriter {
+    /**
+     * Persists a saved table. The returned future completes once the table is on disk, or fails if it could not be
+     * written; {@code beforeWrite} may be {@code null}.
+     */
+    @FunctionalInterface
+    public interface SaveHandler {
+        SaveHandler NONE = (node, beforeWrite) -> CompletableFuture.failedFuture(
+                new IllegalStateException("No save handler"));
+
+        CompletableFuture<?> save(JsonNode node, SaveAction beforeWrite);
+    }
+
+    /**
+     * Receives the links while the table is rebuilt and hands them to the save as a write for the save thread.
+     */
+    private class DeferredLinkWriter implements PathAwarePoolLinkWriter {
+        private SaveAction pendingWrite;
+
         @Override
         public Path modpackRoot() {
             return modpackRoot;
         }
 
         @Override
-        public void writeLinks(LootTableDescriptor descriptor, List<EnchantmentPoolLink> links) throws Exception {
-            poolLinkService.saveLinks(modpackRoot, descriptor, links);
+        public void writeLinks(LootTableDescriptor descriptor, List<EnchantmentPoolLink> links) {
+            Path root = modpackRoot;
+            EnchantmentPoolLinkService service = poolLinkService;
+            List<EnchantmentPoolLink> snapshot = List.copyOf(links);
+            pendingWrite = () -> service.saveLinks(root, descriptor, snapshot);
+        }
+
+        SaveAction pendingWrite() {
+            return pendingWrite;
         }
     }
 
@@ -450,7 +714,7 @@ public class LootTableEditorPane extends BorderPane {
 
         @Override
         public void writeLinks(LootTableDescriptor descriptor, List<EnchantmentPoolLink> links) {
-            // preview-only; do not persist
+            // simulation-only; do not persist
         }
     }
 
@@ -460,6 +724,7 @@ public class LootTableEditorPane extends BorderPane {
         private final Label badgeLabel = new Label();
         private final Label poolLabel = new Label();
         private final Label subtitleLabel = new Label();
+        private final Label chanceLabel = new Label();
         private final Spinner<Double> weightSpinner = new Spinner<>();
         private final Spinner<Integer> minSpinner = new Spinner<>();
         private final Spinner<Integer> maxSpinner = new Spinner<>();
@@ -470,9 +735,11 @@ public class LootTableEditorPane extends BorderPane {
         private final Button removeButton = new Button("Remove");
         private final Button detachPoolButton = new Button("Clear Pool");
         private final HBox headerRow = new HBox(6, titleLabel, badgeLabel);
-        private final VBox textBox = new VBox(4, headerRow, poolLabel, subtitleLabel, controlBox);
+        private final VBox textBox = new VBox(4, headerRow, poolLabel, subtitleLabel, chanceLabel, controlBox);
         private final VBox buttonBox = new VBox(6, removeButton, detachPoolButton);
         private final HBox container = new HBox(8, iconView, textBox, buttonBox);
+        // held by the cell and registered weakly, so cells the list view discards don't stay subscribed to the pane
+        private final ChangeListener<Number> revisionListener = (obs, oldV, newV) -> updateChance();
         private LootPoolEntryModel currentEntry;
         private boolean updating;
 
@@ -480,6 +747,8 @@ public class LootTableEditorPane extends BorderPane {
             iconView.setFitWidth(24);
             iconView.setFitHeight(24);
             subtitleLabel.getStyleClass().add("entry-meta");
+            chanceLabel.getStyleClass().add("entry-meta");
+            probabilityRevision.addListener(new WeakChangeListener<>(revisionListener));
             badgeLabel.setTextFill(Color.web("#b65c00"));
             badgeLabel.setStyle("-fx-background-color: rgba(255, 193, 94, 0.45); -fx-padding: 1 6 1 6; -fx-background-radius: 8;");
             badgeLabel.setVisible(false);
@@ -579,10 +848,22 @@ public class LootTableEditorPane extends BorderPane {
             detachPoolButton.setVisible(poolId != null);
             detachPoolButton.setManaged(poolId != null);
             updateBadgeState(item);
+            updateChance();
             updating = false;
             setGraphic(container);
         }
 
+        private void updateChance() {
+            if (currentEntry == null) {
+                chanceLabel.setText(null);
+                return;
+            }
+            chanceLabel.setText(String.format(Locale.ROOT, "%.2f%% per roll, %.2f expected per open, %.1f%% to drop",
+                    probabilities.selectionChance(currentEntry) * 100,
+                    probabilities.expectedCountPerTable(currentEntry),
+                    probabilities.chanceAtLeastOnce(currentEntry) * 100));
+        }
+
         private void updateBadgeState(LootPoolEntryModel entry) {
             int rowIndex = getIndex();
             boolean modified = isEntryModified(rowIndex, entry);
@@ -0,0 +1,34 @@
+package dev.badgersnacks.looteditor.ui;
+
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+
+import java.util.function.Predicate;
+
+/**
+ * Table kinds the loot tree can be narrowed to.
+ */
+enum LootTableFilter {
+    ALL("All Tables", descriptor -> true),
+    CHESTS("Chests", descriptor -> descriptor.tablePath().contains("chest")),
+    BLOCKS("Blocks", descriptor -> descriptor.tablePath().startsWith("blocks/")
+            || descriptor.tablePath().contains("/blocks/")),
+    ENTITIES("Entities", descriptor -> descriptor.tablePath().startsWith("entities/")
+            || descriptor.tablePath().contains("/entities/"));
+
+    private final String label;
+    private final Predicate<LootTableDescriptor> predicate;
+
+    LootTableFilter(String label, Predicate<LootTableDescriptor> predicate) {
+        this.label = label;
+        this.predicate = predicate;
+    }
+
+    boolean matches(LootTableDescriptor descriptor) {
+        return predicate.test(descriptor);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,423 @@
+package dev.badgersnacks.looteditor.ui;
+
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor.SourceType;
+import dev.badgersnacks.looteditor.model.LootTableTreeNode;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TreeItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Keeps the loot tree (source, namespace, table) in step with the scanned descriptors by applying inserts, updates and
+ * removals to long-lived {@link TreeItem}s, so rescans, saves and filter changes only touch what changed and the
+ * user's expansion state survives them.
+ * <p>
+ * Source and namespace nodes always exist; table leaves are only created once their namespace is first expanded or
+ * one of its tables is revealed. Each table records the {@link LootTableFilter}s it matches when it is inserted and
+ * each group counts its matching tables per filter, so a filter change re-lists groups without re-testing tables.
+ * <p>
+ * The model also owns the flat descriptor list the rest of the UI works from. Every table is indexed by
+ * {@link #key(LootTableDescriptor)} with its tree item and list position, so lookups, reveals and in-place updates are
+ * hash lookups rather than tree walks or list scans. {@link #descriptors()} is an immutable snapshot, replaced on
+ * every change, so background jobs can keep iterating the one they were given. FX thread only.
+ */
+final class LootTreeModel {
+
+    private static final LootTableFilter[] FILTERS = LootTableFilter.values();
+    private static final Comparator<SourceType> SOURCE_ORDER = Comparator.comparing(SourceType::name);
+    private static final SourceType[] SOURCES_IN_TREE_ORDER = Arrays.stream(SourceType.values())
+            .sorted(SOURCE_ORDER)
+            .toArray(SourceType[]::new);
+
+    private final TreeItem<LootTableTreeNode> root = new TreeItem<>(new LootTableTreeNode("loot-root"));
+    private final NavigableMap<SourceType, SourceGroup> sources = new TreeMap<>(SOURCE_ORDER);
+    private final Map<String, Leaf> leaves = new HashMap<>();
+    private List<LootTableDescriptor> descriptors = List.of();
+    private LootTableFilter filter = LootTableFilter.ALL;
+
+    LootTreeModel() {
+        root.setExpanded(true);
+    }
+
+    TreeItem<LootTableTreeNode> root() {
+        return root;
+    }
+
+    /**
+     * Identity of a table in the tree: one node per source type and table id, as after de-duplicating a scan.
+     */
+    static String key(LootTableDescriptor descriptor) {
+        return key(descriptor.sourceType(), descriptor.qualifiedName());
+    }
+
+    private static String key(SourceType sourceType, String qualifiedId) {
+        return sourceType + "::" + qualifiedId;
+    }
+
+    /**
+     * @return every table in the tree, in scan order followed by later inserts; unmodifiable and never mutated
+     */
+    List<LootTableDescriptor> descriptors() {
+        return descriptors;
+    }
+
+    /**
+     * @return the descriptor held for {@code descriptor}'s key, or {@code null}
+     */
+    LootTableDescriptor current(LootTableDescriptor descriptor) {
+        Leaf leaf = leaves.get(key(descriptor));
+        return leaf == null ? null : leaf.descriptor;
+    }
+
+    void clear() {
+        sources.clear();
+        leaves.clear();
+        descriptors = List.of();
+        root.getChildren().clear();
+    }
+
+    /**
+     * Makes the tree hold exactly {@code scanned}, inserting, updating and removing only what differs.
+     */
+    void replaceAll(Collection<LootTableDescriptor> scanned) {
+        Map<String, LootTableDescriptor> wanted = new LinkedHashMap<>();
+        for (LootTableDescriptor descriptor : scanned) {
+            wanted.put(key(descriptor), descriptor);
+        }
+        List<LootTableDescriptor> stale = new ArrayList<>();
+        for (Map.Entry<String, Leaf> entry : leaves.entrySet()) {
+            if (!wanted.containsKey(entry.getKey())) {
+                stale.add(entry.getValue().descriptor);
+            }
+        }
+        stale.forEach(this::removeLeaf);
+        List<LootTableDescriptor> next = new ArrayList<>(wanted.values());
+        for (int i = 0; i < next.size(); i++) {
+            upsert(next.get(i), i);
+        }
+        descriptors = Collections.unmodifiableList(next);
+    }
+
+    /**
+     * Inserts each descriptor, or replaces the table with the same {@link #key(LootTableDescriptor) key} in place (in
+     * the tree and at its list position). New tables are appended to {@link #descriptors()}.
+     */
+    void putAll(Collection<LootTableDescriptor> updates) {
+        List<LootTableDescriptor> next = new ArrayList<>(descriptors);
+        for (LootTableDescriptor descriptor : updates) {
+            Leaf existing = leaves.get(key(descriptor));
+            if (existing != null) {
+                next.set(existing.position, descriptor);
+                upsert(descriptor, existing.position);
+            } else {
+                upsert(descriptor, next.size());
+                next.add(descriptor);
+            }
+        }
+        descriptors = Collections.unmodifiableList(next);
+    }
+
+    /**
+     * Removes {@code descriptor}'s table. Shifts the list positions of every later table, so prefer
+     * {@link #replaceAll(Collection)} for batches.
+     */
+    void remove(LootTableDescriptor descriptor) {
+        Leaf leaf = leaves.get(key(descriptor));
+        if (leaf == null) {
+            return;
+        }
+        removeLeaf(leaf.descriptor);
+        List<LootTableDescriptor> next = new ArrayList<>(descriptors);
+        next.remove(leaf.position);
+        for (int i = leaf.position; i < next.size(); i++) {
+            leaves.get(key(next.get(i))).position = i;
+        }
+        descriptors = Collections.unmodifiableList(next);
+    }
+
+    private void upsert(LootTableDescriptor descriptor, int position) {
+        Leaf existing = leaves.get(key(descriptor));
+        if (existing != null) {
+            existing.position = position;
+            if (!existing.descriptor.equals(descriptor)) {
+                existing.descriptor = descriptor;
+                if (existing.item != null) {
+                    existing.item.setValue(leafNode(descriptor));
+                }
+            }
+            return;
+        }
+        SourceGroup source = sources.computeIfAbsent(descriptor.sourceType(), SourceGroup::new);
+        NamespaceGroup namespace = source.namespaces.computeIfAbsent(descriptor.namespace(),
+                name -> new NamespaceGroup(source, name));
+        Leaf leaf = new Leaf(namespace, descriptor);
+        leaf.position = position;
+        leaves.put(key(descriptor), leaf);
+        namespace.tables.put(descriptor.tablePath(), leaf);
+        for (LootTableFilter match : leaf.matches) {
+            namespace.counts[match.ordinal()]++;
+            source.counts[match.ordinal()]++;
+        }
+        if (!leaf.matches.contains(filter)) {
+            return;
+        }
+        if (namespace.loaded) {
+            insertSorted(namespace.item.getChildren(), leaf.item());
+        }
+        if (namespace.counts[filter.ordinal()] == 1) {
+            insertSorted(source.item.getChildren(), namespace.item);
+        }
+        if (source.counts[filter.ordinal()] == 1) {
+            root.getChildren().add(visibleSourcesBefore(source), source.item);
+        }
+    }
+
+    private void removeLeaf(LootTableDescriptor descriptor) {
+        Leaf leaf = leaves.remove(key(descriptor));
+        if (leaf == null) {
+            return;
+        }
+        NamespaceGroup namespace = leaf.namespace;
+        SourceGroup source = namespace.source;
+        namespace.tables.remove(leaf.descriptor.tablePath());
+        for (LootTableFilter match : leaf.matches) {
+            namespace.counts[match.ordinal()]--;
+            source.counts[match.ordinal()]--;
+        }
+        if (leaf.matches.contains(filter)) {
+            if (namespace.loaded) {
+                removeSorted(namespace.item.getChildren(), leaf.item);
+            }
+            if (namespace.counts[filter.ordinal()] == 0) {
+                removeSorted(source.item.getChildren(), namespace.item);
+            }
+            if (source.counts[filter.ordinal()] == 0) {
+                root.getChildren().remove(source.item);
+            }
+        }
+        if (namespace.tables.isEmpty()) {
+            source.namespaces.remove(namespace.name);
+        }
+        if (source.namespaces.isEmpty()) {
+            sources.remove(source.type);
+        }
+    }
+
+    /**
+     * Shows only tables matching {@code filter}. Groups are re-listed from their per-filter counts; leaves are only
+     * listed for expanded namespaces, the rest are dropped and re-created lazily.
+     */
+    void setFilter(LootTableFilter filter) {
+        if (filter == this.filter) {
+            return;
+        }
+        this.filter = filter;
+        List<TreeItem<LootTableTreeNode>> visibleSources = new ArrayList<>();
+        for (SourceGroup source : sources.values()) {
+            List<TreeItem<LootTableTreeNode>> visibleNamespaces = new ArrayList<>();
+            for (NamespaceGroup namespace : source.namespaces.values()) {
+                if (namespace.item.isExpanded()) {
+                    namespace.load();
+                } else {
+                    namespace.unload();
+                }
+                if (namespace.counts[filter.ordinal()] > 0) {
+                    visibleNamespaces.add(namespace.item);
+                }
+            }
+            setIfChanged(source.item.getChildren(), visibleNamespaces);
+            if (!visibleNamespaces.isEmpty()) {
+                visibleSources.add(source.item);
+            }
+        }
+        setIfChanged(root.getChildren(), visibleSources);
+    }
+
+    /**
+     * @return whether a table with this id passes the current filter under any source
+     */
+    boolean isVisible(String qualifiedId) {
+        return findVisible(qualifiedId) != null;
+    }
+
+    /**
+     * Expands the path to the first visible table with this id (sources in tree order) and returns its item, or
+     * {@code null} when no such table passes the current filter.
+     */
+    TreeItem<LootTableTreeNode> reveal(String qualifiedId) {
+        Leaf leaf = findVisible(qualifiedId);
+        if (leaf == null) {
+            return null;
+        }
+        if (!leaf.namespace.loaded) {
+            leaf.namespace.load();
+        }
+        leaf.namespace.source.item.setExpanded(true);
+        leaf.namespace.item.setExpanded(true);
+        return leaf.item();
+    }
+
+    /**
+     * @return the item currently listed for {@code descriptor}'s table, or {@code null} when it is not on screen
+     */
+    TreeItem<LootTableTreeNode> shownItem(LootTableDescriptor descriptor) {
+        Leaf leaf = leaves.get(key(descriptor));
+        return leaf != null && leaf.namespace.loaded && leaf.matches.contains(filter) ? leaf.item : null;
+    }
+
+    private Leaf findVisible(String qualifiedId) {
+        for (SourceType sourceType : SOURCES_IN_TREE_ORDER) {
+            Leaf leaf = leaves.get(key(sourceType, qualifiedId));
+            if (leaf != null && leaf.matches.contains(filter)) {
+                return leaf;
+            }
+        }
+        return null;
+    }
+
+    private int visibleSourcesBefore(SourceGroup source) {
+        int index = 0;
+        for (SourceGroup earlier : sources.headMap(source.type, false).values()) {
+            if (earlier.counts[filter.ordinal()] > 0) {
+                index++;
+            }
+        }
+        return index;
+    }
+
+    private static LootTableTreeNode leafNode(LootTableDescriptor descriptor) {
+        return new LootTableTreeNode(descriptor.tablePath(), descriptor);
+    }
+
+    /**
+     * Namespace and table children are kept sorted by label, so both lookups are binary searches.
+     */
+    private static int insertionPoint(List<TreeItem<LootTableTreeNode>> items, String label) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (items.get(mid).getValue().label().compareTo(label) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void insertSorted(List<TreeItem<LootTableTreeNode>> items, TreeItem<LootTableTreeNode> item) {
+        items.add(insertionPoint(items, item.getValue().label()), item);
+    }
+
+    private static void removeSorted(List<TreeItem<LootTableTreeNode>> items, TreeItem<LootTableTreeNode> item) {
+        if (item == null) {
+            return;
+        }
+        int index = insertionPoint(items, item.getValue().label());
+        if (index < items.size() && items.get(index) == item) {
+            items.remove(index);
+        } else {
+            items.remove(item);
+        }
+    }
+
+    private static void setIfChanged(ObservableList<TreeItem<LootTableTreeNode>> current,
+                                     List<TreeItem<LootTableTreeNode>> wanted) {
+        // TreeItem has identity equality, so this only skips lists that already hold exactly these items
+        if (!current.equals(wanted)) {
+            current.setAll(wanted);
+        }
+    }
+
+    private static final class SourceGroup {
+        private final SourceType type;
+        private final TreeItem<LootTableTreeNode> item;
+        private final NavigableMap<String, NamespaceGroup> namespaces = new TreeMap<>();
+        private final int[] counts = new int[FILTERS.length];
+
+        private SourceGroup(SourceType type) {
+            this.type = type;
+            this.item = new TreeItem<>(new LootTableTreeNode(type.label()));
+        }
+    }
+
+    private final class NamespaceGroup {
+        private final SourceGroup source;
+        private final String name;
+        private final NavigableMap<String, Leaf> tables = new TreeMap<>();
+        private final int[] counts = new int[FILTERS.length];
+        private final TreeItem<LootTableTreeNode> item;
+        private boolean loaded;
+
+        private NamespaceGroup(SourceGroup source, String name) {
+            this.source = source;
+            this.name = name;
+            this.item = new TreeItem<>(new LootTableTreeNode(name)) {
+                @Override
+                public boolean isLeaf() {
+                    // children are only created on first expansion, so never let the tree hide the arrow
+                    return false;
+                }
+            };
+            item.expandedProperty().addListener((obs, wasExpanded, expanded) -> {
+                if (expanded) {
+                    load();
+                }
+            });
+        }
+
+        private void load() {
+            List<TreeItem<LootTableTreeNode>> visible = new ArrayList<>();
+            for (Leaf leaf : tables.values()) {
+                if (leaf.matches.contains(filter)) {
+                    visible.add(leaf.item());
+                }
+            }
+            loaded = true;
+            setIfChanged(item.getChildren(), visible);
+        }
+
+        private void unload() {
+            loaded = false;
+            item.getChildren().clear();
+        }
+    }
+
+    private static final class Leaf {
+        private final NamespaceGroup namespace;
+        private final EnumSet<LootTableFilter> matches = EnumSet.noneOf(LootTableFilter.class);
+        private LootTableDescriptor descriptor;
+        private int position;
+        private TreeItem<LootTableTreeNode> item;
+
+        private Leaf(NamespaceGroup namespace, LootTableDescriptor descriptor) {
+            this.namespace = namespace;
+            this.descriptor = descriptor;
+            for (LootTableFilter candidate : FILTERS) {
+                if (candidate.matches(descriptor)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+
+        private TreeItem<LootTableTreeNode> item() {
+            if (item == null) {
+                item = new TreeItem<>(leafNode(descriptor));
+            }
+            return item;
+        }
+    }
+}
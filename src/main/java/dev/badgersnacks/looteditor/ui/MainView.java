@@ -1,16 +1,36 @@
 package dev.badgersnacks.looteditor.ui;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import dev.badgersnacks.looteditor.agents.AgentGraph;
+import dev.badgersnacks.looteditor.agents.AgentLane;
 import dev.badgersnacks.looteditor.agents.AgentOrchestrator;
 import dev.badgersnacks.looteditor.agents.AgentResult;
+import dev.badgersnacks.looteditor.agents.BulkEditCommitAgentTask;
+import dev.badgersnacks.looteditor.agents.BulkEditPreviewAgentTask;
+import dev.badgersnacks.looteditor.agents.EnchantmentCatalogAgentTask;
 import dev.badgersnacks.looteditor.agents.ItemCatalogAgentTask;
+import dev.badgersnacks.looteditor.agents.LootDiffAgentTask;
+import dev.badgersnacks.looteditor.agents.LootIndexAgentTask;
+import dev.badgersnacks.looteditor.agents.LootTableExportAgentTask;
+import dev.badgersnacks.looteditor.agents.LootTableForkAgentTask;
+import dev.badgersnacks.looteditor.agents.LootTableLoadAgentTask.LoadedTable;
+import dev.badgersnacks.looteditor.agents.LootTablePrefetchAgentTask;
+import dev.badgersnacks.looteditor.agents.LootValidationAgentTask;
+import dev.badgersnacks.looteditor.agents.ManifestAnalysisAgentTask;
 import dev.badgersnacks.looteditor.agents.ScannerAgentTask;
 import dev.badgersnacks.looteditor.catalog.ItemCatalog;
 import dev.badgersnacks.looteditor.catalog.ItemCatalogService;
+import dev.badgersnacks.looteditor.catalog.ItemDescriptor;
 import dev.badgersnacks.looteditor.catalog.ItemIconCache;
+import dev.badgersnacks.looteditor.diff.LootTableDiffService;
+import dev.badgersnacks.looteditor.diff.LootTableDiffService.DiffPair;
+import dev.badgersnacks.looteditor.diff.LootTableDiffService.DiffReport;
+import dev.badgersnacks.looteditor.index.LootIndexHit;
+import dev.badgersnacks.looteditor.index.LootIndexService;
+import dev.badgersnacks.looteditor.index.LootReverseIndex;
 import dev.badgersnacks.looteditor.logging.ActionLogger;
 import dev.badgersnacks.looteditor.manifest.MergedManifestLoader;
-import dev.badgersnacks.looteditor.manifest.MergedManifestLoader.MergedManifest;
+import dev.badgersnacks.looteditor.manifest.ManifestCoverage;
 import dev.badgersnacks.looteditor.model.LootTableDescriptor;
 import dev.badgersnacks.looteditor.model.LootTableDescriptor.SourceType;
 import dev.badgersnacks.looteditor.model.LootTableTreeNode;
@@ -20,11 +40,25 @@ import dev.badgersnacks.looteditor.persistence.RecentPackStorage;
 import dev.badgersnacks.looteditor.persistence.RecentPackStorage.RecentPackEntry;
 import dev.badgersnacks.looteditor.scanner.ModpackScanner;
 import dev.badgersnacks.looteditor.model.EnchantmentDescriptor;
+import dev.badgersnacks.looteditor.services.BulkEditService;
+import dev.badgersnacks.looteditor.services.BulkEditService.BulkEditPlan;
+import dev.badgersnacks.looteditor.services.BulkEditService.LootTableTransform;
 import dev.badgersnacks.looteditor.services.EnchantmentDataService;
 import dev.badgersnacks.looteditor.services.EnchantmentPoolService;
 import dev.badgersnacks.looteditor.services.LootTableService;
+import dev.badgersnacks.looteditor.services.SaveQueue;
+import dev.badgersnacks.looteditor.services.SaveQueue.SaveAction;
+import dev.badgersnacks.looteditor.ui.dialogs.BulkEditDialog;
+import dev.badgersnacks.looteditor.ui.dialogs.BulkEditPreviewDialog;
+import dev.badgersnacks.looteditor.ui.dialogs.BulkEditRequest;
+import dev.badgersnacks.looteditor.ui.dialogs.LootIndexResultsDialog;
+import dev.badgersnacks.looteditor.ui.dialogs.LootTableDiffDialog;
 import dev.badgersnacks.looteditor.ui.dialogs.NewLootTableDialog;
 import dev.badgersnacks.looteditor.ui.dialogs.NewLootTableRequest;
+import dev.badgersnacks.looteditor.ui.dialogs.ValidationReportDialog;
+import dev.badgersnacks.looteditor.validation.LootTableValidator;
+import dev.badgersnacks.looteditor.util.InputFingerprint;
+import dev.badgersnacks.looteditor.validation.ValidationReport;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.control.Alert;
@@ -60,14 +94,15 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Predicate;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -85,12 +120,18 @@ public class MainView extends BorderPane {
     private final ModpackScanner scanner = new ModpackScanner();
     private final LootTableService lootTableService = new LootTableService();
     private final ItemCatalogService itemCatalogService = new ItemCatalogService();
+    private final LootIndexService lootIndexService = new LootIndexService(lootTableService);
+    private final SaveQueue saveQueue = new SaveQueue(lootTableService);
+    private final BulkEditService bulkEditService = new BulkEditService(lootTableService);
+    private final LootTableValidator lootTableValidator = new LootTableValidator(lootTableService);
+    private final LootTableDiffService diffService = new LootTableDiffService(lootTableService);
     private final ItemIconCache iconCache = new ItemIconCache();
     private final MergedManifestLoader manifestLoader = new MergedManifestLoader();
     private final Path manifestPathOverride = determineManifestOverride();
     private final ExportSettings exportSettings = new ExportSettings();
 
     private final TreeView<LootTableTreeNode> lootTree = new TreeView<>();
+    private final LootTreeModel treeModel = new LootTreeModel();
     private final TextArea inspector = new TextArea();
     private final LootTableEditorPane editorPane = new LootTableEditorPane(lootTableService, iconCache);
     private final ItemPalettePane palettePane = new ItemPalettePane(iconCache);
@@ -103,17 +144,24 @@ public class MainView extends BorderPane {
     private final Tooltip manifestTooltip = new Tooltip("Manifest status unavailable. Run refresh-loot-index first.");
     private final Button forkButton = new Button("Fork to KubeJS");
     private final Button exportDatapackButton = new Button("Export Datapack");
+    private final Button compareSourcesButton = new Button("Compare Sources");
     private final SplitMenuButton openMenuButton = new SplitMenuButton();
     private final ComboBox<LootTableFilter> filterBox = new ComboBox<>();
     private final RecentPackStorage recentPackStorage = new RecentPackStorage();
+    private final AgentProgressStrip progressStrip;
 
     private Path currentModpack;
     private Path exportOverrideRoot;
-    private List<LootTableDescriptor> lastDescriptors = List.of();
+    private volatile List<LootTableDescriptor> lastDescriptors = List.of();
     private LootTableDescriptor activeDescriptor;
     private ItemCatalog currentCatalog;
+    private LootReverseIndex lootIndex;
     private LootTableFilter activeFilter = LootTableFilter.ALL;
     private String pendingSelectionId;
+    private boolean updatingTree;
+    private long loadGeneration;
+    private CompletableFuture<?> pendingLoad;
+    private CompletableFuture<?> pendingPrefetch;
     private int lastLootCount = -1;
     private int lastItemCount = -1;
     private long lastLootDuration = -1;
@@ -123,9 +171,15 @@ public class MainView extends BorderPane {
         this.stage = Objects.requireNonNull(stage, "stage");
         this.orchestrator = Objects.requireNonNull(orchestrator, "orchestrator");
         this.actionLogger = Objects.requireNonNull(actionLogger, "actionLogger");
+        this.progressStrip = new AgentProgressStrip(orchestrator);
+        orchestrator.setFinishedListener(progress -> actionLogger.log("agent:" + progress.taskName(),
+                progress.describe() + " in " + progress.elapsedNanos() / 1_000_000 + " ms"));
         buildLayout();
         wireListeners();
+        editorPane.setAgentOrchestrator(orchestrator);
+        editorPane.setTableResolver(this::resolveLootTable);
         palettePane.setInsertHandler(editorPane::addEntry);
+        palettePane.setFindHandler(this::findInLootTables);
         enchantmentPoolPane.setAttachHandler(poolId -> {
             editorPane.attachPoolToSelection(poolId);
             statusLabel.setText("Attached pool " + poolId + " to selection.");
@@ -154,13 +208,22 @@ public class MainView extends BorderPane {
         });
         Button newTableButton = new Button("New Loot Table");
         newTableButton.setOnAction(e -> openNewTableDialog());
-        toolbar.getItems().addAll(openMenuButton, rescanButton, newTableButton, new Separator(), statusLabel,
+        Button bulkEditButton = new Button("Bulk Edit");
+        bulkEditButton.setOnAction(e -> openBulkEditDialog());
+        Button validateButton = new Button("Validate");
+        validateButton.setOnAction(e -> validateLootTables());
+        Button diffOverridesButton = new Button("Diff Overrides");
+        diffOverridesButton.setOnAction(e -> diffOverrides());
+        toolbar.getItems().addAll(openMenuButton, rescanButton, newTableButton, bulkEditButton, validateButton,
+                diffOverridesButton,
+                new Separator(),
+                statusLabel,
                 new Separator(), manifestLabel);
         setTop(toolbar);
 
         lootTree.setShowRoot(false);
         lootTree.setPrefWidth(280);
-        lootTree.setRoot(new TreeItem<>(new LootTableTreeNode("loot-root")));
+        lootTree.setRoot(treeModel.root());
         Label treeLabel = new Label("Loot Tables");
         filterBox.getItems().addAll(LootTableFilter.values());
         filterBox.getSelectionModel().select(LootTableFilter.ALL);
@@ -179,7 +242,10 @@ public class MainView extends BorderPane {
         forkButton.setOnAction(e -> forkActiveDescriptor());
         exportDatapackButton.setDisable(true);
         exportDatapackButton.setOnAction(e -> exportActiveDescriptorToDatapack());
-        VBox inspectorBox = new VBox(6, new Label("Inspector"), inspector, forkButton, exportDatapackButton);
+        compareSourcesButton.setDisable(true);
+        compareSourcesButton.setOnAction(e -> compareActiveSources());
+        VBox inspectorBox = new VBox(6, new Label("Inspector"), inspector, forkButton, exportDatapackButton,
+                compareSourcesButton);
         VBox.setVgrow(inspector, Priority.ALWAYS);
 
         TabPane sideTabs = new TabPane();
@@ -194,6 +260,7 @@ public class MainView extends BorderPane {
         centerSplit.getItems().add(sideTabs);
         centerSplit.setDividerPositions(0.54);
         setCenter(centerSplit);
+        setBottom(progressStrip);
 
         editorPane.setOnSave(this::saveActiveDescriptor);
     }
@@ -235,18 +302,23 @@ public class MainView extends BorderPane {
 
     private void wireListeners() {
         lootTree.getSelectionModel().selectedItemProperty().addListener((obs, oldV, newV) -> {
+            if (updatingTree) {
+                return;
+            }
             if (newV == null || newV.getValue() == null || !newV.getValue().isLeaf()) {
+                cancelPendingLoad();
                 activeDescriptor = null;
                 updateActionButtons();
                 return;
             }
             LootTableDescriptor descriptor = newV.getValue().descriptor();
             loadDescriptor(descriptor);
+            prefetchNeighbours(newV);
         });
 
         filterBox.valueProperty().addListener((obs, oldV, newV) -> {
             activeFilter = newV == null ? LootTableFilter.ALL : newV;
-            rebuildTree();
+            updateTree(() -> treeModel.setFilter(activeFilter));
         });
     }
 
@@ -310,7 +382,13 @@ public class MainView extends BorderPane {
     }
 
     public void scanModpack(Path modpackRoot) {
+        if (currentModpack != null && !currentModpack.equals(modpackRoot)) {
+            lootTableService.clearCache();
+            // a rescan of the same pack keeps the tree (and its expansion state) and applies the differences
+            treeModel.clear();
+        }
         this.currentModpack = modpackRoot;
+        this.lootIndex = null;
         this.exportOverrideRoot = modpackRoot == null
                 ? null
                 : exportSettings.resolvePackRoot(modpackRoot).orElse(null);
@@ -326,15 +404,15 @@ public class MainView extends BorderPane {
             actionLogger.log("datapack:syncError", "Failed to sync datapack into worlds.", e);
             showNotification("Warning: unable to sync datapack into saves (" + e.getMessage() + ")", Alert.AlertType.WARNING);
         }
+        enchantmentPoolService.invalidate(modpackRoot);
         editorPane.configurePoolContext(modpackRoot, enchantmentPoolService, poolLinkService);
         // keep the pool editor/palette in sync with whatever pack we just scanned
         enchantmentPoolPane.setModpackRoot(modpackRoot);
-        loadEnchantmentCatalog(modpackRoot);
         recentPackStorage.record(modpackRoot);
         refreshRecentMenuItems();
         actionLogger.log("scan:request", "Scanning modpack: " + modpackRoot.toAbsolutePath());
         statusLabel.setText("Scanning " + modpackRoot + " ...");
-        lootTree.getRoot().getChildren().clear();
+        lootTree.getSelectionModel().clearSelection();
         editorPane.clear();
         inspector.clear();
         palettePane.clearCatalog();
@@ -345,76 +423,183 @@ public class MainView extends BorderPane {
         lastItemDuration = -1;
         setManifestStatus("Manifest: analyzing...", "Checking merged manifest for " + modpackRoot + " ...");
 
-        CompletableFuture<AgentResult<List<LootTableDescriptor>>> tablesFuture =
-                orchestrator.submit(new ScannerAgentTask(modpackRoot, scanner));
-        tablesFuture.whenComplete((result, error) -> {
+        // re-opening an unchanged pack reuses the memoized scan, catalog, manifest check and enchantment list
+        Executor bulk = orchestrator.fanOutExecutor(AgentLane.BULK);
+        Path manifestPath = resolveManifestPath();
+        AgentGraph graph = new AgentGraph();
+        AgentGraph.Node<List<LootTableDescriptor>> tables = graph.add("modpack-scan",
+                () -> scanner.fingerprint(modpackRoot),
+                inputs -> new ScannerAgentTask(modpackRoot, scanner, bulk));
+        AgentGraph.Node<ItemCatalog> catalog = graph.add("item-catalog",
+                () -> itemCatalogService.fingerprint(modpackRoot),
+                inputs -> new ItemCatalogAgentTask(modpackRoot, itemCatalogService, bulk));
+        AgentGraph.Node<ManifestCoverage> coverage = graph.add("manifest-analysis",
+                () -> InputFingerprint.builder().file(manifestPath).build(),
+                inputs -> new ManifestAnalysisAgentTask(modpackRoot, manifestPath, inputs.get(tables), manifestLoader),
+                tables);
+        AgentGraph.Node<List<EnchantmentDescriptor>> enchantments = graph.add("enchantment-catalog",
+                () -> enchantmentDataService.fingerprint(modpackRoot),
+                inputs -> new EnchantmentCatalogAgentTask(modpackRoot, enchantmentDataService));
+        AgentGraph.Results results = orchestrator.run(graph);
+
+        results.get(tables).whenComplete((result, error) -> {
             if (error != null) {
                 actionLogger.log("scan:error", "Loot table scan failed for " + modpackRoot, error);
                 Platform.runLater(() -> showError("Loot table scan failed", error));
                 return;
             }
-            Platform.runLater(() -> applyScan(result.payload(), result.duration().toMillis()));
+            Platform.runLater(() -> applyScan(result));
         });
-
-        CompletableFuture<AgentResult<ItemCatalog>> catalogFuture =
-                orchestrator.submit(new ItemCatalogAgentTask(modpackRoot, itemCatalogService));
-        catalogFuture.whenComplete((result, error) -> {
+        results.get(catalog).whenComplete((result, error) -> {
             if (error != null) {
                 actionLogger.log("scan:error", "Item catalog scan failed for " + modpackRoot, error);
                 Platform.runLater(() -> showError("Item catalog scan failed", error));
                 return;
             }
-            Platform.runLater(() -> applyCatalog(result.payload(), result.duration().toMillis()));
+            Platform.runLater(() -> applyCatalog(result));
+        });
+        results.get(coverage).whenComplete((result, error) -> {
+            if (error != null) {
+                // the scan's own failure is already reported
+                return;
+            }
+            Platform.runLater(() -> {
+                if (modpackRoot.equals(currentModpack)) {
+                    applyManifestCoverage(modpackRoot, result.payload());
+                }
+            });
+        });
+        results.get(enchantments).whenComplete((result, error) -> {
+            if (error != null) {
+                actionLogger.log("scan:error", "Enchantment list failed to load for " + modpackRoot, error);
+                return;
+            }
+            Platform.runLater(() -> {
+                if (modpackRoot.equals(currentModpack)) {
+                    enchantmentPoolPane.setEnchantmentCatalog(result.payload());
+                }
+            });
         });
     }
 
-    private void applyScan(List<LootTableDescriptor> descriptors, long durationMs) {
-        List<LootTableDescriptor> deduped = dedupeDescriptors(descriptors);
-        this.lastDescriptors = deduped;
+    private void applyScan(AgentResult<List<LootTableDescriptor>> result) {
+        List<LootTableDescriptor> deduped = dedupeDescriptors(result.payload());
+        long durationMs = result.duration().toMillis();
+        updateTree(() -> {
+            treeModel.replaceAll(deduped);
+            this.lastDescriptors = treeModel.descriptors();
+        });
         this.lastLootCount = deduped.size();
         this.lastLootDuration = durationMs;
-        actionLogger.log("scan:lootComplete",
-                "Loaded " + deduped.size() + " loot tables in " + durationMs + " ms.");
-        rebuildTree();
-        analyzeManifest(currentModpack, descriptors);
+        actionLogger.log("scan:lootComplete", result.reused()
+                ? "Reused " + deduped.size() + " loot tables from the previous scan (pack unchanged)."
+                : "Loaded " + deduped.size() + " loot tables in " + durationMs + " ms.");
         updateStatus();
         selectPendingDescriptor();
+        buildLootIndex(currentModpack, lastDescriptors);
     }
 
-    private void rebuildTree() {
-        Map<SourceType, Map<String, List<LootTableDescriptor>>> grouped = lastDescriptors.stream()
-                .filter(activeFilter::matches)
-                .collect(Collectors.groupingBy(LootTableDescriptor::sourceType,
-                        Collectors.groupingBy(LootTableDescriptor::namespace)));
-        TreeItem<LootTableTreeNode> root = lootTree.getRoot();
-        root.getChildren().clear();
-        grouped.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey(Comparator.comparing(SourceType::name)))
-                .forEach(entry -> {
-                    TreeItem<LootTableTreeNode> sourceNode = new TreeItem<>(new LootTableTreeNode(entry.getKey().label()));
-                    entry.getValue().entrySet().stream()
-                            .sorted(Map.Entry.comparingByKey())
-                            .forEach(namespaceEntry -> {
-                                TreeItem<LootTableTreeNode> namespaceNode =
-                                        new TreeItem<>(new LootTableTreeNode(namespaceEntry.getKey()));
-                                namespaceEntry.getValue().stream()
-                                        .sorted(Comparator.comparing(LootTableDescriptor::tablePath))
-                                        .forEach(descriptor -> namespaceNode.getChildren().add(
-                                                new TreeItem<>(new LootTableTreeNode(descriptor.tablePath(), descriptor))));
-                                sourceNode.getChildren().add(namespaceNode);
-                            });
-                    root.getChildren().add(sourceNode);
+    private void buildLootIndex(Path modpackRoot, List<LootTableDescriptor> descriptors) {
+        if (modpackRoot == null) {
+            return;
+        }
+        orchestrator.submit(new LootIndexAgentTask(modpackRoot, descriptors, lootIndexService,
+                        orchestrator.fanOutExecutor(AgentLane.BULK)))
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        actionLogger.log("index:error", "Loot index build failed for " + modpackRoot, error);
+                        return;
+                    }
+                    LootReverseIndex index = result.payload();
+                    actionLogger.log("index:complete", "Indexed " + index.idCount() + " items across "
+                            + index.tableCount() + " loot tables in " + result.duration().toMillis() + " ms.");
+                    Platform.runLater(() -> {
+                        // a newer scan may have started while this one was indexing
+                        if (modpackRoot.equals(currentModpack) && descriptors == lastDescriptors) {
+                            lootIndex = index;
+                        }
+                    });
                 });
-        lootTree.getRoot().setExpanded(true);
+    }
+
+    /**
+     * Resolves a {@code loot_table} reference for the simulator from the last scan; runs off the FX thread.
+     */
+    private JsonNode resolveLootTable(String qualifiedName) {
+        List<LootTableDescriptor> descriptors = lastDescriptors;
+        for (LootTableDescriptor descriptor : descriptors) {
+            if (descriptor.qualifiedName().equals(qualifiedName)) {
+                try {
+                    return lootTableService.load(descriptor);
+                } catch (IOException e) {
+                    LOGGER.warn("Failed to load referenced loot table {}", qualifiedName, e);
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void findInLootTables(ItemDescriptor item) {
+        if (lootIndex == null) {
+            showNotification("The loot index is still being built. Try again in a moment.", Alert.AlertType.INFORMATION);
+            return;
+        }
+        List<LootIndexHit> hits = lootIndex.find(item.qualifiedId());
+        actionLogger.log("index:find", item.qualifiedId() + " -> " + hits.size() + " entries");
+        new LootIndexResultsDialog(stage, item.qualifiedId(), hits, hit -> openTable(hit.tableId())).show();
+    }
+
+    private void openTable(String qualifiedId) {
+        if (!treeModel.isVisible(qualifiedId) && activeFilter != LootTableFilter.ALL) {
+            // the current filter hides the table; widen it so the selection can land
+            filterBox.getSelectionModel().select(LootTableFilter.ALL);
+        }
+        pendingSelectionId = qualifiedId;
+        selectPendingDescriptor();
+    }
+
+    /**
+     * Applies {@code change} to the tree model without treating the selection churn it causes as user clicks; the
+     * selected table stays selected if it is still shown.
+     */
+    private void updateTree(Runnable change) {
+        TreeItem<LootTableTreeNode> selected = lootTree.getSelectionModel().getSelectedItem();
+        LootTableDescriptor selectedDescriptor = selected == null || selected.getValue() == null
+                ? null
+                : selected.getValue().descriptor();
+        TreeItem<LootTableTreeNode> keep;
+        updatingTree = true;
+        try {
+            change.run();
+            keep = selectedDescriptor == null ? null : treeModel.shownItem(selectedDescriptor);
+            if (keep != null) {
+                lootTree.getSelectionModel().select(keep);
+            } else {
+                lootTree.getSelectionModel().clearSelection();
+            }
+        } finally {
+            updatingTree = false;
+        }
+        if (keep == null && selectedDescriptor != null) {
+            cancelPendingLoad();
+            activeDescriptor = null;
+            updateActionButtons();
+        }
     }
 
     private void selectPendingDescriptor() {
         if (pendingSelectionId == null) {
             return;
         }
-        TreeItem<LootTableTreeNode> match = findDescriptorItem(lootTree.getRoot(), pendingSelectionId);
+        TreeItem<LootTableTreeNode> match = treeModel.reveal(pendingSelectionId);
         if (match != null) {
-            lootTree.getSelectionModel().select(match);
+            if (lootTree.getSelectionModel().getSelectedItem() == match) {
+                // already selected, so no selection event: reload it explicitly (e.g. after a bulk edit)
+                loadDescriptor(match.getValue().descriptor());
+            } else {
+                lootTree.getSelectionModel().select(match);
+            }
             int row = lootTree.getRow(match);
             if (row >= 0) {
                 lootTree.scrollTo(row);
@@ -423,48 +608,83 @@ public class MainView extends BorderPane {
         pendingSelectionId = null;
     }
 
-    private TreeItem<LootTableTreeNode> findDescriptorItem(TreeItem<LootTableTreeNode> root, String qualifiedId) {
-        if (root == null) {
-            return null;
-        }
-        LootTableTreeNode node = root.getValue();
-        if (node != null && node.isLeaf() && node.descriptor() != null &&
-                node.descriptor().qualifiedName().equals(qualifiedId)) {
-            return root;
-        }
-        for (TreeItem<LootTableTreeNode> child : root.getChildren()) {
-            TreeItem<LootTableTreeNode> match = findDescriptorItem(child, qualifiedId);
-            if (match != null) {
-                return match;
-            }
-        }
-        return null;
-    }
-
-    private void applyCatalog(ItemCatalog catalog, long durationMs) {
+    private void applyCatalog(AgentResult<ItemCatalog> result) {
+        ItemCatalog catalog = result.payload();
+        long durationMs = result.duration().toMillis();
         this.currentCatalog = catalog;
         this.lastItemCount = catalog.descriptors().size();
         this.lastItemDuration = durationMs;
-        actionLogger.log("scan:catalogComplete",
-                "Loaded " + lastItemCount + " palette entries in " + durationMs + " ms.");
+        actionLogger.log("scan:catalogComplete", result.reused()
+                ? "Reused " + lastItemCount + " palette entries from the previous scan (pack unchanged)."
+                : "Loaded " + lastItemCount + " palette entries in " + durationMs + " ms.");
         iconCache.clear();
         palettePane.displayCatalog(catalog);
         editorPane.setItemCatalog(catalog);
         updateStatus();
     }
 
+    /**
+     * Loads {@code descriptor} on the interactive lane. Only the most recent request is applied: selecting another
+     * table first cancels a load that has not started and discards one that finishes late.
+     */
     private void loadDescriptor(LootTableDescriptor descriptor) {
-        try {
-            LOGGER.info("Loading descriptor {} from {}", descriptor.qualifiedName(), descriptor.containerPath());
-            JsonNode node = lootTableService.load(descriptor);
+        cancelPendingLoad();
+        long generation = loadGeneration;
+        LOGGER.info("Loading descriptor {} from {}", descriptor.qualifiedName(), descriptor.containerPath());
+        statusLabel.setText("Loading " + descriptor.qualifiedName() + "...");
+        CompletableFuture<AgentResult<LoadedTable>> load = orchestrator.submit(editorPane.loadTask(descriptor));
+        pendingLoad = load;
+        load.whenComplete((result, error) -> Platform.runLater(() -> {
+            if (generation != loadGeneration) {
+                return;
+            }
+            pendingLoad = null;
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                actionLogger.log("editor:loadError", "Unable to load " + descriptor.qualifiedName(), cause);
+                showError("Unable to load " + descriptor.qualifiedName(), cause);
+                updateStatus();
+                return;
+            }
             this.activeDescriptor = descriptor;
-            editorPane.displayDescriptor(descriptor, node);
+            editorPane.displayLoaded(result.payload());
             inspector.setText(buildInspectorBlock(descriptor));
             updateActionButtons();
-            actionLogger.log("editor:load", "Loaded " + descriptor.qualifiedName());
-        } catch (IOException e) {
-            actionLogger.log("editor:loadError", "Unable to load " + descriptor.qualifiedName(), e);
-            showError("Unable to load " + descriptor.qualifiedName(), e);
+            updateStatus();
+            actionLogger.log("editor:load", "Loaded " + descriptor.qualifiedName()
+                    + " in " + result.duration().toMillis() + " ms");
+        }));
+    }
+
+    /**
+     * Warms the table cache with the tables next to {@code selected}, which are the likeliest next clicks.
+     */
+    private void prefetchNeighbours(TreeItem<LootTableTreeNode> selected) {
+        List<LootTableDescriptor> neighbours = new ArrayList<>(2);
+        for (TreeItem<LootTableTreeNode> sibling : Arrays.asList(selected.nextSibling(), selected.previousSibling())) {
+            if (sibling != null && sibling.getValue() != null && sibling.getValue().isLeaf()) {
+                neighbours.add(sibling.getValue().descriptor());
+            }
+        }
+        if (!neighbours.isEmpty()) {
+            pendingPrefetch = orchestrator.submit(new LootTablePrefetchAgentTask(neighbours, lootTableService));
+        }
+    }
+
+    /**
+     * Invalidates any in-flight table load and drops queued loads and prefetches that have not started yet.
+     */
+    private void cancelPendingLoad() {
+        loadGeneration++;
+        if (pendingLoad != null) {
+            pendingLoad.cancel(false);
+            pendingLoad = null;
+        }
+        if (pendingPrefetch != null) {
+            pendingPrefetch.cancel(false);
+            pendingPrefetch = null;
         }
     }
 
@@ -473,6 +693,8 @@ public class MainView extends BorderPane {
         boolean canFork = hasDescriptor && !activeDescriptor.editable();
         forkButton.setDisable(!canFork);
         exportDatapackButton.setDisable(!hasDescriptor);
+        compareSourcesButton.setDisable(!hasDescriptor
+                || LootTableDiffService.sourcePairs(activeDescriptor, lastDescriptors).isEmpty());
     }
 
     private String buildInspectorBlock(LootTableDescriptor descriptor) {
@@ -484,26 +706,88 @@ public class MainView extends BorderPane {
                 : "");
     }
 
-    private void saveActiveDescriptor(JsonNode updatedNode) {
+    private CompletableFuture<LootTableDescriptor> saveActiveDescriptor(JsonNode updatedNode, SaveAction beforeWrite) {
         if (activeDescriptor == null || currentModpack == null) {
-            return;
+            return CompletableFuture.failedFuture(new IllegalStateException("No table open"));
         }
-        try {
-            LOGGER.info("Saving loot table {} ({} entries) to datapack.", activeDescriptor.qualifiedName(),
-                    editorPane.entryCount());
-            LootTableDescriptor saved = lootTableService.saveToPreferredLocation(currentModpack, activeDescriptor, updatedNode);
-            this.activeDescriptor = saved;
-            inspector.setText(buildInspectorBlock(saved));
-            editorPane.displayDescriptor(saved, updatedNode.deepCopy());
+        CompletableFuture<LootTableDescriptor> result = new CompletableFuture<>();
+        queueSave(currentModpack, activeDescriptor, updatedNode, beforeWrite, editorPane.entryCount(), result);
+        return result;
+    }
+
+    /**
+     * Queues one attempt at a save. The user may have moved to another table by the time it fails, so a failed write
+     * offers to retry the same content rather than relying on the editor to still hold it; {@code result} only fails
+     * once the user declines. A successful save refreshes the tree in place and never reselects or reloads a table.
+     */
+    private void queueSave(Path modpackRoot,
+                           LootTableDescriptor target,
+                           JsonNode node,
+                           SaveAction beforeWrite,
+                           int entryCount,
+                           CompletableFuture<LootTableDescriptor> result) {
+        LOGGER.info("Queueing save of loot table {} ({} entries).", target.qualifiedName(), entryCount);
+        statusLabel.setText("Saving " + target.qualifiedName() + " ...");
+        CompletableFuture<LootTableDescriptor> attempt = saveQueue.enqueue(modpackRoot, target, node, beforeWrite);
+        attempt.whenComplete((saved, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                actionLogger.log("editor:saveError", "Failed to save " + target.qualifiedName(), cause);
+                statusLabel.setText("Failed to save " + target.qualifiedName());
+                if (confirmSaveRetry(target, cause)) {
+                    queueSave(modpackRoot, target, node, beforeWrite, entryCount, result);
+                } else {
+                    actionLogger.log("editor:saveDropped", "User dropped the failed save of " + target.qualifiedName());
+                    result.completeExceptionally(cause);
+                }
+                return;
+            }
             statusLabel.setText("Saved " + saved.qualifiedName() + " to datapack");
             actionLogger.log("editor:save",
-                    "Saved " + saved.qualifiedName() + " to " + saved.containerPath() + " entries=" + editorPane.entryCount());
-            updateActionButtons();
-            updateDescriptorEntry(saved);
-        } catch (IOException e) {
-            actionLogger.log("editor:saveError", "Failed to save " + activeDescriptor.qualifiedName(), e);
-            showError("Failed to save " + activeDescriptor.qualifiedName(), e);
-        }
+                    "Saved " + saved.qualifiedName() + " to " + saved.containerPath() + " entries=" + entryCount);
+            if (modpackRoot.equals(currentModpack)) {
+                refreshDescriptorEntries(List.of(saved));
+            }
+            // the user may have moved on to another table while the write was queued
+            if (activeDescriptor != null
+                    && (sameLocation(activeDescriptor, target) || sameLocation(activeDescriptor, saved))) {
+                this.activeDescriptor = saved;
+                inspector.setText(buildInspectorBlock(saved));
+                editorPane.rebindDescriptor(saved);
+                updateActionButtons();
+            }
+            result.complete(saved);
+        }));
+    }
+
+    private boolean confirmSaveRetry(LootTableDescriptor target, Throwable cause) {
+        boolean stillOpen = activeDescriptor != null && sameLocation(activeDescriptor, target);
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.initOwner(stage);
+        alert.setTitle("Loot Editor B");
+        alert.setHeaderText("Failed to save " + target.qualifiedName());
+        alert.setContentText(cause.getMessage() + "\n\n" + (stillOpen
+                ? "The edits are still open in the editor."
+                : "You have moved to another table, so the edits are lost unless the save is retried."));
+        ButtonType retry = new ButtonType("Retry Save", ButtonBar.ButtonData.OK_DONE);
+        ButtonType dismiss = new ButtonType(stillOpen ? "Dismiss" : "Discard Edits", ButtonBar.ButtonData.CANCEL_CLOSE);
+        alert.getButtonTypes().setAll(retry, dismiss);
+        return alert.showAndWait().filter(retry::equals).isPresent();
+    }
+
+    private static boolean sameLocation(LootTableDescriptor a, LootTableDescriptor b) {
+        return a.containerPath().toAbsolutePath().normalize().equals(b.containerPath().toAbsolutePath().normalize())
+                && Objects.equals(a.archiveEntry(), b.archiveEntry());
+    }
+
+    /**
+     * Writes any queued saves before the application exits.
+     */
+    public void shutdown() {
+        progressStrip.stop();
+        saveQueue.close();
     }
 
     private void openNewTableDialog() {
@@ -530,20 +814,192 @@ public class MainView extends BorderPane {
         });
     }
 
+    private void validateLootTables() {
+        if (currentModpack == null || lastDescriptors.isEmpty()) {
+            showError("Open a modpack first", new IllegalStateException("No loot tables scanned"));
+            return;
+        }
+        if (currentCatalog == null) {
+            showNotification("The item catalog is still loading. Try again in a moment.", Alert.AlertType.INFORMATION);
+            return;
+        }
+        Path modpackRoot = currentModpack;
+        statusLabel.setText("Validating " + lastDescriptors.size() + " loot tables ...");
+        orchestrator.submit(new LootValidationAgentTask(modpackRoot, lastDescriptors, currentCatalog,
+                        enchantmentDataService, lootTableValidator, orchestrator.fanOutExecutor(AgentLane.BULK)))
+                .whenComplete((result, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        actionLogger.log("validate:error", "Loot table validation failed for " + modpackRoot, error);
+                        showError("Loot table validation failed", error);
+                        return;
+                    }
+                    if (!modpackRoot.equals(currentModpack)) {
+                        return;
+                    }
+                    ValidationReport report = result.payload();
+                    actionLogger.log("validate:complete", report.errorCount() + " errors, " + report.warningCount()
+                            + " warnings across " + report.tablesChecked() + " tables in "
+                            + result.duration().toMillis() + " ms");
+                    statusLabel.setText("Validation: " + report.errorCount() + " errors, "
+                            + report.warningCount() + " warnings.");
+                    new ValidationReportDialog(stage, report, issue -> openTable(issue.tableId())).show();
+                }));
+    }
+
+    private void diffOverrides() {
+        if (currentModpack == null || lastDescriptors.isEmpty()) {
+            showError("Open a modpack first", new IllegalStateException("No loot tables scanned"));
+            return;
+        }
+        List<DiffPair> pairs = LootTableDiffService.overridePairs(lastDescriptors);
+        if (pairs.isEmpty()) {
+            showNotification("No Loot Editor overrides with an original to compare against.",
+                    Alert.AlertType.INFORMATION);
+            return;
+        }
+        runDiff("Overrides vs. Originals", pairs, AgentLane.BULK);
+    }
+
+    private void compareActiveSources() {
+        if (activeDescriptor == null) {
+            return;
+        }
+        List<DiffPair> pairs = LootTableDiffService.sourcePairs(activeDescriptor, lastDescriptors);
+        if (pairs.isEmpty()) {
+            showNotification(activeDescriptor.qualifiedName() + " has no other source to compare against.",
+                    Alert.AlertType.INFORMATION);
+            return;
+        }
+        // a handful of files the user is looking at right now
+        runDiff(activeDescriptor.qualifiedName() + " across sources", pairs, AgentLane.INTERACTIVE);
+    }
+
+    private void runDiff(String title, List<DiffPair> pairs, AgentLane lane) {
+        Path modpackRoot = currentModpack;
+        statusLabel.setText("Comparing " + pairs.size() + " table pairs ...");
+        orchestrator.submit(new LootDiffAgentTask(diffService, pairs, orchestrator.fanOutExecutor(lane)), lane)
+                .whenComplete((result, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        actionLogger.log("diff:error", "Loot table diff failed: " + title, error);
+                        showError("Loot table diff failed", error);
+                        return;
+                    }
+                    if (!modpackRoot.equals(currentModpack)) {
+                        return;
+                    }
+                    DiffReport report = result.payload();
+                    actionLogger.log("diff:complete", title + " -> " + report.changed().size() + " of "
+                            + report.diffs().size() + " pairs differ in " + result.duration().toMillis() + " ms");
+                    statusLabel.setText(report.changed().size() + " of " + report.diffs().size()
+                            + " table pairs differ.");
+                    new LootTableDiffDialog(stage, title, report, diff -> openTable(diff.tableId())).show();
+                }));
+    }
+
+    private void openBulkEditDialog() {
+        if (currentModpack == null) {
+            showError("Open a modpack first", new IllegalStateException("No modpack selected"));
+            return;
+        }
+        if (editorPane.hasUnsavedChanges()) {
+            showNotification("Save or revert the open loot table before running a bulk edit.",
+                    Alert.AlertType.INFORMATION);
+            return;
+        }
+        new BulkEditDialog(stage).showAndWait().ifPresent(this::previewBulkEdit);
+    }
+
+    private void previewBulkEdit(BulkEditRequest request) {
+        LootTableTransform transform;
+        String description;
+        if (request.operation() == BulkEditRequest.Operation.SCALE_WEIGHT) {
+            transform = BulkEditService.scaleWeight(request.itemId(), request.factor());
+            description = String.format(Locale.ROOT, "Scale %s weight by %.2f", request.itemId(), request.factor());
+        } else {
+            transform = BulkEditService.replaceItem(request.itemId(), request.replacementId());
+            description = "Replace " + request.itemId() + " with " + request.replacementId();
+        }
+        Path modpackRoot = currentModpack;
+        statusLabel.setText("Previewing bulk edit ...");
+        orchestrator.submit(new BulkEditPreviewAgentTask(bulkEditService, lastDescriptors,
+                        BulkEditService.tableFilter(request.tableGlob()), transform,
+                        orchestrator.fanOutExecutor(AgentLane.BULK)))
+                .whenComplete((result, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        actionLogger.log("bulk:previewError", "Bulk edit preview failed", error);
+                        showError("Bulk edit preview failed", error);
+                        return;
+                    }
+                    if (!modpackRoot.equals(currentModpack)) {
+                        return;
+                    }
+                    BulkEditPlan plan = result.payload();
+                    actionLogger.log("bulk:preview", description + " -> " + plan.changes().size() + " of "
+                            + plan.scanned() + " tables in " + result.duration().toMillis() + " ms");
+                    statusLabel.setText("Bulk edit would change " + plan.changes().size() + " tables.");
+                    boolean apply = new BulkEditPreviewDialog(stage, description, plan).showAndWait().orElse(false);
+                    if (apply) {
+                        commitBulkEdit(modpackRoot, description, plan);
+                    }
+                }));
+    }
+
+    private void commitBulkEdit(Path modpackRoot, String description, BulkEditPlan plan) {
+        if (editorPane.hasUnsavedChanges()) {
+            showNotification("Save or revert the open loot table before applying a bulk edit.",
+                    Alert.AlertType.INFORMATION);
+            return;
+        }
+        statusLabel.setText("Applying bulk edit to " + plan.changes().size() + " tables ...");
+        orchestrator.submit(new BulkEditCommitAgentTask(bulkEditService, saveQueue, modpackRoot, plan))
+                .whenComplete((result, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause()
+                                : error;
+                        actionLogger.log("bulk:commitError", "Bulk edit failed: " + description, cause);
+                        showError("Bulk edit failed", cause);
+                        // some tables may have been written before the failure
+                        scanModpack(modpackRoot);
+                        return;
+                    }
+                    List<LootTableDescriptor> saved = result.payload();
+                    actionLogger.log("bulk:commit", description + " -> saved " + saved.size() + " tables in "
+                            + result.duration().toMillis() + " ms");
+                    statusLabel.setText("Bulk edit saved " + saved.size() + " tables.");
+                    if (modpackRoot.equals(currentModpack)) {
+                        // reselecting the open table reloads it with the bulk changes applied
+                        updateDescriptorEntries(saved,
+                                activeDescriptor == null ? null : activeDescriptor.qualifiedName());
+                    }
+                }));
+    }
+
     private void forkActiveDescriptor() {
         if (currentModpack == null || activeDescriptor == null || activeDescriptor.editable()) {
             return;
         }
-        try {
-            LootTableDescriptor descriptor = lootTableService.forkToKubeJs(currentModpack, activeDescriptor);
-            pendingSelectionId = descriptor.qualifiedName();
-            statusLabel.setText("Forked " + descriptor.qualifiedName() + " into KubeJS");
-            actionLogger.log("editor:fork", "Forked " + descriptor.qualifiedName() + " to kubejs/data");
-            scanModpack(currentModpack);
-        } catch (IOException e) {
-            actionLogger.log("editor:forkError", "Unable to fork " + activeDescriptor.qualifiedName(), e);
-            showError("Unable to fork loot table", e);
-        }
+        Path modpackRoot = currentModpack;
+        LootTableDescriptor source = activeDescriptor;
+        statusLabel.setText("Forking " + source.qualifiedName() + " ...");
+        orchestrator.submit(new LootTableForkAgentTask(lootTableService, modpackRoot, source))
+                .whenComplete((result, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause()
+                                : error;
+                        actionLogger.log("editor:forkError", "Unable to fork " + source.qualifiedName(), cause);
+                        showError("Unable to fork loot table", cause);
+                        return;
+                    }
+                    LootTableDescriptor descriptor = result.payload();
+                    statusLabel.setText("Forked " + descriptor.qualifiedName() + " into KubeJS");
+                    actionLogger.log("editor:fork", "Forked " + descriptor.qualifiedName() + " to kubejs/data");
+                    if (modpackRoot.equals(currentModpack)) {
+                        pendingSelectionId = descriptor.qualifiedName();
+                        scanModpack(modpackRoot);
+                    }
+                }));
     }
 
     private void exportActiveDescriptorToDatapack() {
@@ -552,24 +1008,42 @@ public class MainView extends BorderPane {
             return;
         }
         Path targetRoot = currentModpack;
-        try {
-            LOGGER.info("Exporting loot table {} ({} entries) to datapack.", activeDescriptor.qualifiedName(),
-                    editorPane.entryCount());
-            LootTableDescriptor descriptor = lootTableService.exportToDatapack(targetRoot, activeDescriptor);
-            JsonNode node = lootTableService.load(descriptor);
-            this.activeDescriptor = descriptor;
-            editorPane.displayDescriptor(descriptor, node);
-            inspector.setText(buildInspectorBlock(descriptor));
-            actionLogger.log("editor:exportDatapack",
-                    "Exported " + descriptor.qualifiedName() + " to " + targetRoot + " entries=" + editorPane.entryCount());
-            statusLabel.setText("Exported " + descriptor.qualifiedName() + " to datapack");
-            showNotification("Datapack export complete:\n" + descriptor.qualifiedName(), Alert.AlertType.INFORMATION);
-            updateDescriptorEntry(descriptor);
-        } catch (IOException e) {
-            actionLogger.log("editor:exportDatapackError",
-                    "Unable to export " + activeDescriptor.qualifiedName(), e);
-            showNotification("Export failed: " + e.getMessage(), Alert.AlertType.ERROR);
-        }
+        LootTableDescriptor source = activeDescriptor;
+        LOGGER.info("Exporting loot table {} ({} entries) to datapack.", source.qualifiedName(),
+                editorPane.entryCount());
+        statusLabel.setText("Exporting " + source.qualifiedName() + " ...");
+        orchestrator.submit(new LootTableExportAgentTask(lootTableService, poolLinkService, targetRoot, source))
+                .whenComplete((result, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause()
+                                : error;
+                        actionLogger.log("editor:exportDatapackError",
+                                "Unable to export " + source.qualifiedName(), cause);
+                        showNotification("Export failed: " + cause.getMessage(), Alert.AlertType.ERROR);
+                        return;
+                    }
+                    LoadedTable exported = result.payload();
+                    LootTableDescriptor descriptor = exported.descriptor();
+                    actionLogger.log("editor:exportDatapack", "Exported " + descriptor.qualifiedName() + " to "
+                            + targetRoot + " entries=" + exported.entries().size());
+                    statusLabel.setText("Exported " + descriptor.qualifiedName() + " to datapack");
+                    showNotification("Datapack export complete:\n" + descriptor.qualifiedName(),
+                            Alert.AlertType.INFORMATION);
+                    if (!targetRoot.equals(currentModpack)) {
+                        return;
+                    }
+                    // only switch the editor to the exported copy if the user is still on the table they exported
+                    if (activeDescriptor != null && sameLocation(activeDescriptor, source)) {
+                        cancelPendingLoad();
+                        this.activeDescriptor = descriptor;
+                        editorPane.displayLoaded(exported);
+                        inspector.setText(buildInspectorBlock(descriptor));
+                        updateDescriptorEntry(descriptor);
+                    } else {
+                        refreshDescriptorEntries(List.of(descriptor));
+                    }
+                }));
     }
 
     private void updateStatus() {
@@ -586,58 +1060,42 @@ public class MainView extends BorderPane {
         return durationMs >= 0 ? " (" + durationMs + " ms)" : "";
     }
 
-    private void analyzeManifest(Path modpackRoot, List<LootTableDescriptor> descriptors) {
-        if (modpackRoot == null) {
-            setManifestStatus("Manifest: n/a", "Select a modpack to analyze manifest coverage.");
-            actionLogger.log("manifest:status", "No modpack selected for manifest analysis.");
-            return;
-        }
-        Path manifestPath = resolveManifestPath();
-        if (!Files.exists(manifestPath)) {
-            setManifestStatus("Manifest: missing", "Manifest not found at:\n" + manifestPath
-                    + "\nRun ./gradlew refreshLootIndex -PpackRoot=\"" + modpackRoot + "\".");
-            actionLogger.log("manifest:missing", "Manifest not found at " + manifestPath);
-            return;
-        }
-        try {
-            MergedManifest manifest = manifestLoader.load(manifestPath).orElse(null);
-            if (manifest == null) {
+    private void applyManifestCoverage(Path modpackRoot, ManifestCoverage coverage) {
+        Path manifestPath = coverage.manifestPath();
+        switch (coverage.status()) {
+            case MISSING -> {
+                setManifestStatus("Manifest: missing", "Manifest not found at:\n" + manifestPath
+                        + "\nRun ./gradlew refreshLootIndex -PpackRoot=\"" + modpackRoot + "\".");
+                actionLogger.log("manifest:missing", "Manifest not found at " + manifestPath);
+            }
+            case UNREADABLE -> {
                 setManifestStatus("Manifest: unreadable", "Unable to parse manifest at " + manifestPath);
                 actionLogger.log("manifest:unreadable", "Unable to parse manifest at " + manifestPath);
-                return;
             }
-            Path targetRoot = manifest.packRoot();
-            Path normalizedPack = modpackRoot.toAbsolutePath().normalize();
-            if (targetRoot != null && !normalizedPack.equals(targetRoot)) {
+            case OTHER_PACK -> {
+                Path normalizedPack = modpackRoot.toAbsolutePath().normalize();
                 setManifestStatus("Manifest: other pack",
-                        "Manifest targets " + targetRoot + "\nCurrent pack: " + normalizedPack);
+                        "Manifest targets " + coverage.targetRoot() + "\nCurrent pack: " + normalizedPack);
                 actionLogger.log("manifest:mismatch",
-                        "Manifest targets " + targetRoot + " but pack is " + normalizedPack);
-                return;
+                        "Manifest targets " + coverage.targetRoot() + " but pack is " + normalizedPack);
             }
-            Set<String> scannedIds = descriptors.stream()
-                    .map(LootTableDescriptor::qualifiedName)
-                    .collect(Collectors.toSet());
-            List<String> missing = manifest.tableIds().stream()
-                    .filter(id -> !scannedIds.contains(id))
-                    .sorted()
-                    .collect(Collectors.toList());
-            if (missing.isEmpty()) {
-                setManifestStatus("Manifest: synced (" + manifest.tableIds().size() + ")",
-                        "All manifest entries accounted for.\nSource: " + manifest.manifestPath());
-                actionLogger.log("manifest:synced",
-                        "All " + manifest.tableIds().size() + " manifest entries found.");
-            } else {
+            case SYNCED -> {
+                setManifestStatus("Manifest: synced (" + coverage.tableCount() + ")",
+                        "All manifest entries accounted for.\nSource: " + manifestPath);
+                actionLogger.log("manifest:synced", "All " + coverage.tableCount() + " manifest entries found.");
+            }
+            case INCOMPLETE -> {
+                List<String> missing = coverage.missing();
                 LOGGER.warn("Manifest entries missing from scan: {}", missing);
-                setManifestStatus("Manifest missing: " + missing.size(),
-                        buildMissingTooltip(missing, manifest.manifestPath()));
+                setManifestStatus("Manifest missing: " + missing.size(), buildMissingTooltip(missing, manifestPath));
                 actionLogger.log("manifest:missingEntries",
                         missing.size() + " manifest entries missing from live scan.");
             }
-        } catch (IOException e) {
-            LOGGER.warn("Failed to read manifest {}", manifestPath, e);
-            setManifestStatus("Manifest: error", "Failed to read manifest:\n" + e.getMessage());
-            actionLogger.log("manifest:error", "Failed to read manifest " + manifestPath, e);
+            case ERROR -> {
+                LOGGER.warn("Failed to read manifest {}", manifestPath, coverage.error());
+                setManifestStatus("Manifest: error", "Failed to read manifest:\n" + coverage.error().getMessage());
+                actionLogger.log("manifest:error", "Failed to read manifest " + manifestPath, coverage.error());
+            }
         }
     }
 
@@ -712,25 +1170,39 @@ public class MainView extends BorderPane {
         if (descriptor == null) {
             return;
         }
-        List<LootTableDescriptor> updated = new ArrayList<>(lastDescriptors);
-        boolean replaced = false;
-        for (int i = 0; i < updated.size(); i++) {
-            if (updated.get(i).qualifiedName().equals(descriptor.qualifiedName())) {
-                updated.set(i, descriptor);
-                replaced = true;
-                break;
+        updateDescriptorEntries(List.of(descriptor), descriptor.qualifiedName());
+    }
+
+    /**
+     * Swaps saved descriptors into the cached scan and the tree in place (keyed like {@link #dedupeDescriptors}, so a
+     * table exported from a jar shows up next to the jar's copy as after a rescan), then selects {@code selectId}.
+     */
+    private void updateDescriptorEntries(List<LootTableDescriptor> descriptors, String selectId) {
+        refreshDescriptorEntries(descriptors);
+        pendingSelectionId = selectId;
+        selectPendingDescriptor();
+    }
+
+    /**
+     * Swaps saved descriptors into the cached scan and the tree in place, leaving the selection and the editor alone.
+     */
+    private void refreshDescriptorEntries(List<LootTableDescriptor> descriptors) {
+        List<LootTableDescriptor> accepted = new ArrayList<>();
+        for (LootTableDescriptor descriptor : descriptors) {
+            LootTableDescriptor existing = treeModel.current(descriptor);
+            if (existing != null && descriptorPriority(descriptor) < descriptorPriority(existing)) {
+                LOGGER.info("Keeping higher-priority copy of {} over saved {}.", descriptor.qualifiedName(),
+                        descriptor.containerPath());
+                continue;
             }
+            accepted.add(descriptor);
+            LOGGER.info("{} descriptor {} in cache after export/save.", existing == null ? "Added new" : "Updated",
+                    descriptor.qualifiedName());
         }
-        if (!replaced) {
-            updated.add(descriptor);
-            LOGGER.info("Added new descriptor {} to cache after export/save.", descriptor.qualifiedName());
-        } else {
-            LOGGER.info("Updated descriptor {} in cache after export/save.", descriptor.qualifiedName());
-        }
-        this.lastDescriptors = dedupeDescriptors(updated);
-        pendingSelectionId = descriptor.qualifiedName();
-        rebuildTree();
-        selectPendingDescriptor();
+        updateTree(() -> {
+            treeModel.putAll(accepted);
+            this.lastDescriptors = treeModel.descriptors();
+        });
     }
 
     private List<LootTableDescriptor> dedupeDescriptors(List<LootTableDescriptor> descriptors) {
@@ -769,42 +1241,4 @@ public class MainView extends BorderPane {
         }
         return 2;
     }
-
-    /**
-     * Loads (or clears) the enchantment palette so the pool editor has the latest registry entries.
-     */
-    private void loadEnchantmentCatalog(Path modpackRoot) {
-        if (modpackRoot == null) {
-            enchantmentPoolPane.setEnchantmentCatalog(List.of());
-            return;
-        }
-        List<EnchantmentDescriptor> descriptors = enchantmentDataService.load(modpackRoot);
-        enchantmentPoolPane.setEnchantmentCatalog(descriptors);
-    }
-
-    private enum LootTableFilter {
-        ALL("All Tables", descriptor -> true),
-        CHESTS("Chests", descriptor -> descriptor.tablePath().contains("chest")),
-        BLOCKS("Blocks", descriptor -> descriptor.tablePath().startsWith("blocks/")
-                || descriptor.tablePath().contains("/blocks/")),
-        ENTITIES("Entities", descriptor -> descriptor.tablePath().startsWith("entities/")
-                || descriptor.tablePath().contains("/entities/"));
-
-        private final String label;
-        private final Predicate<LootTableDescriptor> predicate;
-
-        LootTableFilter(String label, Predicate<LootTableDescriptor> predicate) {
-            this.label = label;
-            this.predicate = predicate;
-        }
-
-        boolean matches(LootTableDescriptor descriptor) {
-            return predicate.test(descriptor);
-        }
-
-        @Override
-        public String toString() {
-            return label;
-        }
-    }
 }
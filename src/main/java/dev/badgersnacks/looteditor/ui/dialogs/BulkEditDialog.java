@@ -0,0 +1,84 @@
+package dev.badgersnacks.looteditor.ui.dialogs;
+
+import dev.badgersnacks.looteditor.ui.dialogs.BulkEditRequest.Operation;
+import javafx.beans.binding.Bindings;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.ButtonBar.ButtonData;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.Spinner;
+import javafx.scene.control.SpinnerValueFactory;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.GridPane;
+import javafx.stage.Window;
+
+/**
+ * Gathers a table filter and a transform (scale an item's weight, or swap one item for another) for a bulk edit.
+ */
+public class BulkEditDialog extends Dialog<BulkEditRequest> {
+
+    private final TextField tableGlobField = new TextField("*:chests/**");
+    private final ComboBox<Operation> operationBox = new ComboBox<>();
+    private final TextField itemField = new TextField("minecraft:diamond");
+    private final Spinner<Double> factorSpinner = new Spinner<>();
+    private final TextField replacementField = new TextField();
+
+    public BulkEditDialog(Window owner) {
+        setTitle("Bulk Edit");
+        setHeaderText("Apply one change to every matching loot table");
+        if (owner != null) {
+            initOwner(owner);
+        }
+
+        operationBox.getItems().addAll(Operation.values());
+        operationBox.getSelectionModel().select(Operation.SCALE_WEIGHT);
+        factorSpinner.setEditable(true);
+        factorSpinner.setValueFactory(new SpinnerValueFactory.DoubleSpinnerValueFactory(0.01, 100.0, 0.5, 0.05));
+        replacementField.setPromptText("modid:item");
+
+        Label factorLabel = new Label("Factor");
+        Label replacementLabel = new Label("Replace with");
+        GridPane grid = new GridPane();
+        grid.setHgap(8);
+        grid.setVgap(8);
+        grid.setPadding(new Insets(10));
+        grid.addRow(0, new Label("Tables"), tableGlobField);
+        Label hint = new Label("Glob over namespace:path; * stays in one folder, ** spans folders, blank = all.");
+        hint.getStyleClass().add("dialog-hint");
+        grid.add(hint, 0, 1, 2, 1);
+        grid.addRow(2, new Label("Operation"), operationBox);
+        grid.addRow(3, new Label("Item"), itemField);
+        grid.addRow(4, factorLabel, factorSpinner);
+        grid.addRow(5, replacementLabel, replacementField);
+
+        var scaling = operationBox.valueProperty().isEqualTo(Operation.SCALE_WEIGHT);
+        factorLabel.visibleProperty().bind(scaling);
+        factorSpinner.visibleProperty().bind(scaling);
+        replacementLabel.visibleProperty().bind(scaling.not());
+        replacementField.visibleProperty().bind(scaling.not());
+
+        getDialogPane().setContent(grid);
+        ButtonType previewType = new ButtonType("Preview", ButtonData.OK_DONE);
+        getDialogPane().getButtonTypes().addAll(ButtonType.CANCEL, previewType);
+
+        Node previewButton = getDialogPane().lookupButton(previewType);
+        previewButton.disableProperty().bind(Bindings.createBooleanBinding(
+                () -> itemField.getText().isBlank()
+                        || (operationBox.getValue() == Operation.REPLACE_ITEM && replacementField.getText().isBlank()),
+                itemField.textProperty(), replacementField.textProperty(), operationBox.valueProperty()));
+
+        setResultConverter(button -> {
+            if (button != previewType) {
+                return null;
+            }
+            return new BulkEditRequest(tableGlobField.getText().trim(),
+                    operationBox.getValue(),
+                    itemField.getText().trim(),
+                    factorSpinner.getValue(),
+                    replacementField.getText().trim());
+        });
+    }
+}
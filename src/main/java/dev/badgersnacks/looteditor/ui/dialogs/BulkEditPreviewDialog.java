@@ -0,0 +1,64 @@
+package dev.badgersnacks.looteditor.ui.dialogs;
+
+import dev.badgersnacks.looteditor.services.BulkEditService.BulkEditChange;
+import dev.badgersnacks.looteditor.services.BulkEditService.BulkEditPlan;
+import javafx.geometry.Insets;
+import javafx.scene.control.ButtonBar.ButtonData;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.Window;
+
+/**
+ * Lists the tables a bulk edit would rewrite; returns {@code true} when the user chooses to apply it.
+ */
+public class BulkEditPreviewDialog extends Dialog<Boolean> {
+
+    public BulkEditPreviewDialog(Window owner, String description, BulkEditPlan plan) {
+        setTitle("Bulk Edit Preview");
+        setHeaderText(description + ": " + plan.changedEntries() + " entries in " + plan.changes().size()
+                + " of " + plan.scanned() + " matching tables");
+        if (owner != null) {
+            initOwner(owner);
+        }
+        setResizable(true);
+
+        ListView<BulkEditChange> changeList = new ListView<>();
+        changeList.getItems().setAll(plan.changes());
+        changeList.setPlaceholder(new Label("No matching table contains this item."));
+        changeList.setPrefSize(520, 320);
+        changeList.setCellFactory(list -> new ListCell<>() {
+            @Override
+            protected void updateItem(BulkEditChange item, boolean empty) {
+                super.updateItem(item, empty);
+                if (empty || item == null) {
+                    setText(null);
+                    return;
+                }
+                String target = item.descriptor().editable() && !item.descriptor().isArchiveEntry()
+                        ? "in place"
+                        : "override";
+                setText(item.descriptor().qualifiedName() + "  (" + item.changedEntries()
+                        + (item.changedEntries() == 1 ? " entry, " : " entries, ") + target + ")");
+            }
+        });
+
+        VBox content = new VBox(6, changeList);
+        if (!plan.failures().isEmpty()) {
+            Label failures = new Label(plan.failures().size() + " tables could not be read and were skipped.");
+            failures.getStyleClass().add("dialog-hint");
+            content.getChildren().add(failures);
+        }
+        content.setPadding(new Insets(10));
+        VBox.setVgrow(changeList, Priority.ALWAYS);
+        getDialogPane().setContent(content);
+        ButtonType applyType = new ButtonType("Apply", ButtonData.OK_DONE);
+        getDialogPane().getButtonTypes().addAll(ButtonType.CANCEL, applyType);
+        getDialogPane().lookupButton(applyType).setDisable(plan.changes().isEmpty());
+        setResultConverter(button -> button == applyType);
+    }
+}
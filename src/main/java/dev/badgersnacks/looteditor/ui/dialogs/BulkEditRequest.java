@@ -0,0 +1,24 @@
+package dev.badgersnacks.looteditor.ui.dialogs;
+
+/**
+ * User selections for a bulk edit: which tables, which item, and what to do with it. {@code factor} applies to
+ * {@link Operation#SCALE_WEIGHT}, {@code replacementId} to {@link Operation#REPLACE_ITEM}.
+ */
+public record BulkEditRequest(String tableGlob, Operation operation, String itemId, double factor, String replacementId) {
+
+    public enum Operation {
+        SCALE_WEIGHT("Scale weight"),
+        REPLACE_ITEM("Replace item");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package dev.badgersnacks.looteditor.ui.dialogs;
+
+import dev.badgersnacks.looteditor.index.LootIndexHit;
+import javafx.geometry.Insets;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.Modality;
+import javafx.stage.Window;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Non-modal list of every loot table entry that drops a given item; double-click a row to open that table.
+ */
+public class LootIndexResultsDialog extends Dialog<Void> {
+
+    public LootIndexResultsDialog(Window owner,
+                                  String itemLabel,
+                                  List<LootIndexHit> hits,
+                                  Consumer<LootIndexHit> openHandler) {
+        setTitle("Find in Loot Tables");
+        long tableCount = hits.stream().map(LootIndexHit::tableId).distinct().count();
+        setHeaderText(itemLabel + " drops from " + tableCount + (tableCount == 1 ? " table" : " tables"));
+        if (owner != null) {
+            initOwner(owner);
+        }
+        initModality(Modality.NONE);
+        setResizable(true);
+
+        ListView<LootIndexHit> resultList = new ListView<>();
+        resultList.getItems().setAll(hits);
+        resultList.setPlaceholder(new Label("No loot table references this item."));
+        resultList.setPrefSize(560, 360);
+        resultList.setCellFactory(list -> new ListCell<>() {
+            @Override
+            protected void updateItem(LootIndexHit item, boolean empty) {
+                super.updateItem(item, empty);
+                if (empty || item == null) {
+                    setText(null);
+                    return;
+                }
+                String counts = item.minCount() == item.maxCount()
+                        ? String.valueOf(item.minCount())
+                        : item.minCount() + "-" + item.maxCount();
+                setText(String.format(Locale.ROOT, "%s  [%s]  pool #%d, weight %.2f, count %s",
+                        item.tableId(), item.sourceType().label(), item.poolIndex() + 1, item.weight(), counts));
+            }
+        });
+        resultList.setOnMouseClicked(event -> {
+            LootIndexHit selected = resultList.getSelectionModel().getSelectedItem();
+            if (event.getClickCount() == 2 && selected != null) {
+                openHandler.accept(selected);
+            }
+        });
+
+        Label hint = new Label("Double-click a row to open the table.");
+        hint.getStyleClass().add("dialog-hint");
+        VBox content = new VBox(6, resultList, hint);
+        content.setPadding(new Insets(10));
+        VBox.setVgrow(resultList, Priority.ALWAYS);
+        getDialogPane().setContent(content);
+        getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+    }
+}
@@ -0,0 +1,98 @@
+package dev.badgersnacks.looteditor.ui.dialogs;
+
+import dev.badgersnacks.looteditor.simulation.SimulationResult;
+import dev.badgersnacks.looteditor.simulation.SimulationResult.ItemStats;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.geometry.Insets;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.Modality;
+import javafx.stage.Window;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Non-modal table of simulated drop rates: how often each item dropped, how many per open on average, and the
+ * distribution of stack sizes when it did drop.
+ */
+public class LootSimulationDialog extends Dialog<Void> {
+
+    private static final int HISTOGRAM_BUCKETS = 6;
+
+    public LootSimulationDialog(Window owner, SimulationResult result) {
+        setTitle("Loot Simulation");
+        setHeaderText(String.format(Locale.ROOT, "%s - %,d opens", result.tableId(), result.runs()));
+        if (owner != null) {
+            initOwner(owner);
+        }
+        initModality(Modality.NONE);
+        setResizable(true);
+
+        TableView<ItemStats> table = new TableView<>();
+        table.getItems().setAll(result.items());
+        table.setPlaceholder(new Label("Nothing dropped."));
+        table.setPrefSize(640, 380);
+
+        TableColumn<ItemStats, String> itemColumn = new TableColumn<>("Item");
+        itemColumn.setCellValueFactory(cell -> new ReadOnlyStringWrapper(cell.getValue().itemId()));
+        itemColumn.setPrefWidth(240);
+
+        TableColumn<ItemStats, Double> chanceColumn = new TableColumn<>("Drop %");
+        chanceColumn.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue().dropChance()));
+        chanceColumn.setCellFactory(column -> formatted("%.2f%%", 100));
+
+        TableColumn<ItemStats, Double> averageColumn = new TableColumn<>("Avg / open");
+        averageColumn.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue().averagePerOpen()));
+        averageColumn.setCellFactory(column -> formatted("%.3f", 1));
+
+        TableColumn<ItemStats, String> histogramColumn = new TableColumn<>("Count when dropped");
+        histogramColumn.setCellValueFactory(cell -> new ReadOnlyStringWrapper(describeHistogram(cell.getValue())));
+        histogramColumn.setPrefWidth(240);
+        histogramColumn.setSortable(false);
+
+        table.getColumns().setAll(List.of(itemColumn, chanceColumn, averageColumn, histogramColumn));
+
+        VBox content = new VBox(6, table);
+        content.setPadding(new Insets(10));
+        VBox.setVgrow(table, Priority.ALWAYS);
+        getDialogPane().setContent(content);
+        getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+    }
+
+    private static TableCell<ItemStats, Double> formatted(String pattern, double scale) {
+        return new TableCell<>() {
+            @Override
+            protected void updateItem(Double value, boolean empty) {
+                super.updateItem(value, empty);
+                setText(empty || value == null ? null : String.format(Locale.ROOT, pattern, value * scale));
+            }
+        };
+    }
+
+    /**
+     * Lists the most common stack sizes as {@code count:share}, e.g. {@code 1:48% 2:31% 3:21%}.
+     */
+    private static String describeHistogram(ItemStats stats) {
+        if (stats.opensWithDrop() == 0) {
+            return "";
+        }
+        String summary = stats.histogram().entrySet().stream()
+                .sorted(Map.Entry.<Integer, Long>comparingByValue().reversed())
+                .limit(HISTOGRAM_BUCKETS)
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> String.format(Locale.ROOT, "%d:%.0f%%",
+                        entry.getKey(), 100.0 * entry.getValue() / stats.opensWithDrop()))
+                .collect(Collectors.joining(" "));
+        return stats.histogram().size() > HISTOGRAM_BUCKETS ? summary + " ..." : summary;
+    }
+}
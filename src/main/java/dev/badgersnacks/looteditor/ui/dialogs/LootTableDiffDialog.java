@@ -0,0 +1,124 @@
+package dev.badgersnacks.looteditor.ui.dialogs;
+
+import dev.badgersnacks.looteditor.diff.DiffChange;
+import dev.badgersnacks.looteditor.diff.LootTableDiff;
+import dev.badgersnacks.looteditor.diff.LootTableDiffService.DiffReport;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.geometry.Insets;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.SplitPane;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableRow;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.Modality;
+import javafx.stage.Window;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Non-modal side-by-side view of a diff report: tables that differ on the left, and for the selected table each
+ * change with the left version next to the right one. Double-click a table to open it in the editor.
+ */
+public class LootTableDiffDialog extends Dialog<Void> {
+
+    private static final String ADDED_STYLE = "-fx-background-color: rgba(120, 200, 120, 0.25);";
+    private static final String REMOVED_STYLE = "-fx-background-color: rgba(230, 110, 110, 0.25);";
+
+    public LootTableDiffDialog(Window owner, String title, DiffReport report, Consumer<LootTableDiff> openHandler) {
+        List<LootTableDiff> changed = report.changed();
+        setTitle(title);
+        setHeaderText(changed.size() + " of " + report.diffs().size() + " table pairs differ ("
+                + report.durationMillis() + " ms)");
+        if (owner != null) {
+            initOwner(owner);
+        }
+        initModality(Modality.NONE);
+        setResizable(true);
+
+        ListView<LootTableDiff> tableList = new ListView<>();
+        tableList.getItems().setAll(changed);
+        tableList.setPlaceholder(new Label("No differences."));
+        tableList.setPrefWidth(300);
+        tableList.setCellFactory(list -> new ListCell<>() {
+            @Override
+            protected void updateItem(LootTableDiff item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(empty || item == null ? null : item.tableId() + "  (+" + item.count(DiffChange.Kind.ADDED)
+                        + " -" + item.count(DiffChange.Kind.REMOVED) + " ~" + item.count(DiffChange.Kind.CHANGED)
+                        + ")");
+            }
+        });
+        tableList.setOnMouseClicked(event -> {
+            LootTableDiff selected = tableList.getSelectionModel().getSelectedItem();
+            if (event.getClickCount() == 2 && selected != null) {
+                openHandler.accept(selected);
+            }
+        });
+
+        TableView<DiffChange> changeTable = new TableView<>();
+        changeTable.setPlaceholder(new Label("Select a table to see its changes."));
+        changeTable.setPrefSize(760, 420);
+        TableColumn<DiffChange, String> locationColumn = column("Where", 220, DiffChange::location);
+        TableColumn<DiffChange, String> fieldColumn = column("Field", 90,
+                change -> change.field() == null ? "" : change.field());
+        TableColumn<DiffChange, String> leftColumn = column("Left", 220, DiffChange::before);
+        TableColumn<DiffChange, String> rightColumn = column("Right", 220, DiffChange::after);
+        changeTable.getColumns().setAll(List.of(locationColumn, fieldColumn, leftColumn, rightColumn));
+        changeTable.setRowFactory(view -> new TableRow<>() {
+            @Override
+            protected void updateItem(DiffChange item, boolean empty) {
+                super.updateItem(item, empty);
+                if (empty || item == null || item.kind() == DiffChange.Kind.CHANGED) {
+                    setStyle("");
+                } else {
+                    setStyle(item.kind() == DiffChange.Kind.ADDED ? ADDED_STYLE : REMOVED_STYLE);
+                }
+            }
+        });
+
+        tableList.getSelectionModel().selectedItemProperty().addListener((obs, previous, selected) -> {
+            if (selected == null) {
+                changeTable.getItems().clear();
+                return;
+            }
+            leftColumn.setText(selected.left().sourceDisplay());
+            rightColumn.setText(selected.right().sourceDisplay());
+            changeTable.getItems().setAll(selected.changes());
+        });
+        if (!changed.isEmpty()) {
+            tableList.getSelectionModel().selectFirst();
+        }
+
+        SplitPane split = new SplitPane(tableList, changeTable);
+        split.setDividerPositions(0.28);
+        Label hint = new Label("Double-click a table to open it.");
+        hint.getStyleClass().add("dialog-hint");
+        VBox content = new VBox(6, split, hint);
+        if (!report.failures().isEmpty()) {
+            Label failures = new Label(report.failures().size() + " tables could not be read and were skipped.");
+            failures.getStyleClass().add("dialog-hint");
+            content.getChildren().add(failures);
+        }
+        content.setPadding(new Insets(10));
+        VBox.setVgrow(split, Priority.ALWAYS);
+        getDialogPane().setContent(content);
+        getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+    }
+
+    private static TableColumn<DiffChange, String> column(String title,
+                                                          double width,
+                                                          Function<DiffChange, String> value) {
+        TableColumn<DiffChange, String> column = new TableColumn<>(title);
+        column.setCellValueFactory(cell -> new ReadOnlyStringWrapper(value.apply(cell.getValue())));
+        column.setPrefWidth(width);
+        return column;
+    }
+}
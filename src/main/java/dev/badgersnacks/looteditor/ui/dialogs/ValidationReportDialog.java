@@ -0,0 +1,76 @@
+package dev.badgersnacks.looteditor.ui.dialogs;
+
+import dev.badgersnacks.looteditor.validation.ValidationIssue;
+import dev.badgersnacks.looteditor.validation.ValidationReport;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.geometry.Insets;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableRow;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.Modality;
+import javafx.stage.Window;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Non-modal list of validation problems; double-click a row to open the table it belongs to.
+ */
+public class ValidationReportDialog extends Dialog<Void> {
+
+    public ValidationReportDialog(Window owner, ValidationReport report, Consumer<ValidationIssue> openHandler) {
+        setTitle("Loot Table Validation");
+        setHeaderText(report.errorCount() + " errors and " + report.warningCount() + " warnings in "
+                + report.affectedTables() + " of " + report.tablesChecked() + " tables ("
+                + report.durationMillis() + " ms)");
+        if (owner != null) {
+            initOwner(owner);
+        }
+        initModality(Modality.NONE);
+        setResizable(true);
+
+        TableView<ValidationIssue> table = new TableView<>();
+        table.getItems().setAll(report.issues());
+        table.setPlaceholder(new Label("No problems found."));
+        table.setPrefSize(820, 420);
+
+        TableColumn<ValidationIssue, String> severityColumn = column("Severity", 80,
+                issue -> issue.severity().name());
+        TableColumn<ValidationIssue, String> tableColumn = column("Table", 240, ValidationIssue::tableId);
+        TableColumn<ValidationIssue, String> locationColumn = column("Where", 130, ValidationIssue::location);
+        TableColumn<ValidationIssue, String> messageColumn = column("Problem", 360, ValidationIssue::message);
+        table.getColumns().setAll(List.of(severityColumn, tableColumn, locationColumn, messageColumn));
+        table.setRowFactory(view -> {
+            TableRow<ValidationIssue> row = new TableRow<>();
+            row.setOnMouseClicked(event -> {
+                if (event.getClickCount() == 2 && !row.isEmpty()) {
+                    openHandler.accept(row.getItem());
+                }
+            });
+            return row;
+        });
+
+        Label hint = new Label("Double-click a row to open the table.");
+        hint.getStyleClass().add("dialog-hint");
+        VBox content = new VBox(6, table, hint);
+        content.setPadding(new Insets(10));
+        VBox.setVgrow(table, Priority.ALWAYS);
+        getDialogPane().setContent(content);
+        getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+    }
+
+    private static TableColumn<ValidationIssue, String> column(String title,
+                                                               double width,
+                                                               Function<ValidationIssue, String> value) {
+        TableColumn<ValidationIssue, String> column = new TableColumn<>(title);
+        column.setCellValueFactory(cell -> new ReadOnlyStringWrapper(value.apply(cell.getValue())));
+        column.setPrefWidth(width);
+        return column;
+    }
+}
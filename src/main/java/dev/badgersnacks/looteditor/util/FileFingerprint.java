@@ -0,0 +1,17 @@
+package dev.badgersnacks.looteditor.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Cheap change detector for a file on disk (size + last-modified time) read with a single attribute lookup.
+ */
+public record FileFingerprint(long size, long modifiedMillis) {
+
+    public static FileFingerprint of(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return new FileFingerprint(attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+}
@@ -0,0 +1,99 @@
+package dev.badgersnacks.looteditor.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Digest over everything a computation reads (paths, {@link FileFingerprint}s of files and directory trees), so an
+ * unchanged fingerprint means the computation would produce the same result. Only metadata is read, never contents.
+ */
+public record InputFingerprint(String digest) {
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private final MessageDigest digest;
+
+        private Builder() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        public Builder add(String value) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            // terminator, so "ab" + "c" and "a" + "bc" differ
+            digest.update((byte) 0);
+            return this;
+        }
+
+        public Builder add(InputFingerprint fingerprint) {
+            return add(fingerprint.digest());
+        }
+
+        /**
+         * Adds {@code file}'s path, size and modification time, or a marker when it does not exist.
+         */
+        public Builder file(Path file) throws IOException {
+            add(file.toAbsolutePath().normalize().toString());
+            try {
+                FileFingerprint fingerprint = FileFingerprint.of(file);
+                return add(fingerprint.size() + ":" + fingerprint.modifiedMillis());
+            } catch (NoSuchFileException e) {
+                return add("absent");
+            }
+        }
+
+        /**
+         * Adds every file in {@code files}, in path order so directory listing order does not matter.
+         */
+        public Builder files(Collection<Path> files) throws IOException {
+            List<Path> sorted = new ArrayList<>(files);
+            sorted.sort(null);
+            add("files:" + sorted.size());
+            for (Path file : sorted) {
+                file(file);
+            }
+            return this;
+        }
+
+        /**
+         * Adds every regular file below {@code directory} (relative path, size, modification time), or a marker when
+         * the directory does not exist.
+         */
+        public Builder tree(Path directory) throws IOException {
+            add(directory.toAbsolutePath().normalize().toString());
+            if (!Files.isDirectory(directory)) {
+                return add("absent");
+            }
+            try (Stream<Path> walk = Files.walk(directory)) {
+                for (Path file : (Iterable<Path>) walk.filter(Files::isRegularFile).sorted()::iterator) {
+                    FileFingerprint fingerprint = FileFingerprint.of(file);
+                    add(directory.relativize(file) + ":" + fingerprint.size() + ":" + fingerprint.modifiedMillis());
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return this;
+        }
+
+        public InputFingerprint build() {
+            return new InputFingerprint(HexFormat.of().formatHex(digest.digest()));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.badgersnacks.looteditor.util;
+
+/**
+ * Receives coarse progress from long passes (pack scans, bulk table reads). Calls arrive concurrently from worker
+ * threads, so implementations must be thread-safe and cheap; anything visible should be sampled, not pushed.
+ */
+public interface ProgressListener {
+
+    ProgressListener NONE = new ProgressListener() {
+        @Override
+        public void start(long totalUnits, String unit) {
+        }
+
+        @Override
+        public void unitDone(String source, long bytesRead) {
+        }
+    };
+
+    /**
+     * Announces how many units the pass will process; {@code unit} names them for display (e.g. "archives").
+     */
+    void start(long totalUnits, String unit);
+
+    /**
+     * One unit finished (or failed); {@code source} names it and {@code bytesRead} is what was read for it.
+     */
+    void unitDone(String source, long bytesRead);
+}
@@ -0,0 +1,133 @@
+package dev.badgersnacks.looteditor.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Structured fork/join over an {@link Executor}: subtasks forked in a scope never outlive it. The first subtask that
+ * throws cancels its siblings (queued ones are skipped, running ones interrupted) and is rethrown from {@link #join()};
+ * an interrupted {@code join()} or an early {@link #close()} cancels the same way. Modelled on the JDK's
+ * {@code StructuredTaskScope.ShutdownOnFailure}, which is still a preview API on Java 21.
+ */
+public final class TaskScope<T> implements AutoCloseable {
+
+    private final Executor executor;
+    private final List<CompletableFuture<T>> forks = new ArrayList<>();
+    private final Set<Thread> running = new HashSet<>();
+    private Throwable failure;
+    private boolean cancelled;
+
+    public TaskScope(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /**
+     * Starts {@code work} on the scope's executor; the returned future is complete once {@link #join()} returns.
+     */
+    public CompletableFuture<T> fork(Callable<? extends T> work) {
+        Objects.requireNonNull(work, "work");
+        CompletableFuture<T> future = new CompletableFuture<>();
+        synchronized (this) {
+            if (cancelled) {
+                future.cancel(false);
+                return future;
+            }
+            forks.add(future);
+        }
+        executor.execute(() -> run(work, future));
+        return future;
+    }
+
+    /**
+     * Waits for every fork. Rethrows the first failure (its cause is the subtask's exception).
+     */
+    public void join() throws InterruptedException, ExecutionException {
+        List<CompletableFuture<T>> pending;
+        synchronized (this) {
+            pending = List.copyOf(forks);
+        }
+        try {
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).exceptionally(ignored -> null).get();
+        } catch (InterruptedException e) {
+            cancel(null);
+            throw e;
+        }
+        synchronized (this) {
+            if (failure != null) {
+                throw new ExecutionException(failure);
+            }
+        }
+    }
+
+    /**
+     * Cancels forks that are still pending and waits until none of them is running.
+     */
+    @Override
+    public void close() {
+        cancel(null);
+        List<CompletableFuture<T>> pending;
+        synchronized (this) {
+            pending = List.copyOf(forks);
+        }
+        boolean interrupted = false;
+        for (CompletableFuture<T> fork : pending) {
+            while (true) {
+                try {
+                    fork.exceptionally(ignored -> null).get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException | CancellationException ignored) {
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run(Callable<? extends T> work, CompletableFuture<T> future) {
+        Thread current = Thread.currentThread();
+        synchronized (this) {
+            if (cancelled) {
+                future.completeExceptionally(new CancellationException("Scope was cancelled"));
+                return;
+            }
+            running.add(current);
+        }
+        try {
+            future.complete(work.call());
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+            cancel(t);
+        } finally {
+            synchronized (this) {
+                running.remove(current);
+                if (cancelled) {
+                    // don't leak our interrupt into whatever the pool thread runs next
+                    Thread.interrupted();
+                }
+            }
+        }
+    }
+
+    private synchronized void cancel(Throwable cause) {
+        if (cause != null && failure == null && !cancelled) {
+            failure = cause;
+        }
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        running.forEach(Thread::interrupt);
+    }
+}
@@ -0,0 +1,92 @@
+package dev.badgersnacks.looteditor.validation;
+
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Collects declared item tag ids ({@code data/<ns>/tags/item[s]/<path>.json}) from the same jars the loot scan found,
+ * plus KubeJS data and pack datapacks. Only zip central directories and file names are read, never tag contents.
+ */
+public final class ItemTagScanner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ItemTagScanner.class);
+    private static final Pattern TAG_ENTRY = Pattern.compile("^data/([^/]+)/tags/items?/(.+)\\.json$");
+
+    public Set<String> collect(Path modpackRoot, Collection<LootTableDescriptor> descriptors) {
+        Set<Path> archives = new LinkedHashSet<>();
+        for (LootTableDescriptor descriptor : descriptors) {
+            if (descriptor.isArchiveEntry()) {
+                archives.add(descriptor.containerPath().toAbsolutePath().normalize());
+            }
+        }
+        Set<String> tags = ConcurrentHashMap.newKeySet();
+        archives.parallelStream().forEach(archive -> scanArchive(archive, tags));
+        if (modpackRoot != null) {
+            scanDataDirectory(modpackRoot.resolve("kubejs").resolve("data"), tags);
+            Path datapacks = modpackRoot.resolve("datapacks");
+            if (Files.isDirectory(datapacks)) {
+                try (Stream<Path> packs = Files.list(datapacks)) {
+                    packs.forEach(pack -> {
+                        if (Files.isDirectory(pack)) {
+                            scanDataDirectory(pack.resolve("data"), tags);
+                        } else if (pack.getFileName().toString().endsWith(".zip")) {
+                            scanArchive(pack, tags);
+                        }
+                    });
+                } catch (IOException e) {
+                    LOGGER.warn("Unable to list datapacks in {}", datapacks, e);
+                }
+            }
+        }
+        return Set.copyOf(tags);
+    }
+
+    private static void scanArchive(Path archive, Set<String> sink) {
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                addIfTag(entries.nextElement().getName(), sink);
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Unable to read tags from {}", archive, e);
+        }
+    }
+
+    private static void scanDataDirectory(Path dataRoot, Set<String> sink) {
+        if (!Files.isDirectory(dataRoot)) {
+            return;
+        }
+        Path base = dataRoot.getParent();
+        try (Stream<Path> files = Files.walk(dataRoot)) {
+            files.filter(Files::isRegularFile)
+                    .forEach(file -> addIfTag(base.relativize(file).toString().replace('\\', '/'), sink));
+        } catch (IOException e) {
+            LOGGER.warn("Unable to read tags from {}", dataRoot, e);
+        }
+    }
+
+    private static void addIfTag(String entryName, Set<String> sink) {
+        if (!entryName.startsWith("data/") || !entryName.contains("/tags/")) {
+            return;
+        }
+        Matcher matcher = TAG_ENTRY.matcher(entryName);
+        if (matcher.matches()) {
+            sink.add(matcher.group(1) + ":" + matcher.group(2));
+        }
+    }
+}
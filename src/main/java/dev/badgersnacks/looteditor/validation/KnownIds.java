@@ -0,0 +1,95 @@
+package dev.badgersnacks.looteditor.validation;
+
+import dev.badgersnacks.looteditor.catalog.ItemCatalog;
+import dev.badgersnacks.looteditor.catalog.ItemDescriptor;
+import dev.badgersnacks.looteditor.model.EnchantmentDescriptor;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Hash-set snapshot of every id the validator checks against. Lookups are O(1) and the sets are never mutated after
+ * construction, so one instance is shared by all validation workers.
+ * <p>
+ * The scan can't see everything (tags added by scripts, loader-provided tags, a vanilla jar that wasn't located), so
+ * ids are only judged in namespaces the snapshot actually knows about: vanilla items are skipped when no vanilla
+ * item was catalogued, and tags only in namespaces that declared at least one tag.
+ */
+public final class KnownIds {
+
+    private static final String VANILLA = "minecraft";
+
+    private final Set<String> items;
+    private final Set<String> itemNamespaces;
+    private final Set<String> itemTags;
+    private final Set<String> tagNamespaces;
+    private final Set<String> enchantments;
+    private final Set<String> tables;
+    private final boolean hasVanillaTables;
+
+    public KnownIds(Collection<String> items,
+                    Collection<String> itemTags,
+                    Collection<String> enchantments,
+                    Collection<String> tables) {
+        this.items = Set.copyOf(items);
+        this.itemTags = Set.copyOf(itemTags);
+        this.enchantments = Set.copyOf(enchantments);
+        this.tables = Set.copyOf(tables);
+        this.itemNamespaces = namespaces(this.items);
+        this.tagNamespaces = namespaces(this.itemTags);
+        this.hasVanillaTables = namespaces(this.tables).contains(VANILLA);
+    }
+
+    public static KnownIds of(ItemCatalog catalog,
+                              Collection<String> itemTags,
+                              Collection<EnchantmentDescriptor> enchantments,
+                              Collection<LootTableDescriptor> tables) {
+        return new KnownIds(
+                catalog == null ? Set.of() : catalog.descriptors().stream().map(ItemDescriptor::qualifiedId).toList(),
+                itemTags,
+                enchantments.stream().map(EnchantmentDescriptor::id).toList(),
+                tables.stream().map(LootTableDescriptor::qualifiedName).toList());
+    }
+
+    /**
+     * {@code true} if the item is catalogued, or lives in a namespace the catalog can't speak for.
+     */
+    public boolean isKnownItem(String id) {
+        if (items.contains(qualify(id))) {
+            return true;
+        }
+        return VANILLA.equals(namespace(id)) && !itemNamespaces.contains(VANILLA);
+    }
+
+    public boolean isKnownTag(String id) {
+        return itemTags.contains(qualify(id)) || !tagNamespaces.contains(namespace(id));
+    }
+
+    public boolean isKnownEnchantment(String id) {
+        return enchantments.isEmpty() || enchantments.contains(qualify(id));
+    }
+
+    public boolean isKnownTable(String id) {
+        // vanilla tables are only in the scan when the vanilla jar was found
+        return tables.contains(qualify(id)) || (VANILLA.equals(namespace(id)) && !hasVanillaTables);
+    }
+
+    private static Set<String> namespaces(Set<String> ids) {
+        Set<String> result = new HashSet<>();
+        for (String id : ids) {
+            result.add(namespace(id));
+        }
+        return Set.copyOf(result);
+    }
+
+    static String namespace(String id) {
+        int colon = id.indexOf(':');
+        return colon < 0 ? VANILLA : id.substring(0, colon);
+    }
+
+    private static String qualify(String id) {
+        return id.indexOf(':') < 0 ? VANILLA + ":" + id : id;
+    }
+}
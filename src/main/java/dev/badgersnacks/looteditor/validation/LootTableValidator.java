@@ -0,0 +1,146 @@
+package dev.badgersnacks.looteditor.validation;
+
+import dev.badgersnacks.looteditor.model.LootEntryRecord;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.services.LootTableService;
+import dev.badgersnacks.looteditor.util.ProgressListener;
+import dev.badgersnacks.looteditor.validation.ValidationIssue.Code;
+import dev.badgersnacks.looteditor.validation.ValidationIssue.Severity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Checks every table against a {@link KnownIds} snapshot: unknown items, tags, enchantments and referenced tables,
+ * inverted or empty {@code set_count} ranges, negative weights, pools whose entries all weigh zero, and files that
+ * don't parse. Tables are streamed through {@link LootTableService#extractAll} in parallel, so no JSON trees are
+ * built.
+ */
+public final class LootTableValidator {
+
+    private static final String ITEM = "minecraft:item";
+    private static final String TAG = "minecraft:tag";
+    private static final String LOOT_TABLE = "minecraft:loot_table";
+
+    private final LootTableService lootTableService;
+
+    public LootTableValidator(LootTableService lootTableService) {
+        this.lootTableService = Objects.requireNonNull(lootTableService, "lootTableService");
+    }
+
+    public ValidationReport validate(Collection<LootTableDescriptor> descriptors, KnownIds known) {
+        return validate(descriptors, known, ForkJoinPool.commonPool());
+    }
+
+    public ValidationReport validate(Collection<LootTableDescriptor> descriptors, KnownIds known, Executor executor) {
+        return validate(descriptors, known, executor, ProgressListener.NONE);
+    }
+
+    public ValidationReport validate(Collection<LootTableDescriptor> descriptors,
+                                     KnownIds known,
+                                     Executor executor,
+                                     ProgressListener progress) {
+        Objects.requireNonNull(known, "known");
+        long start = System.nanoTime();
+        ConcurrentLinkedQueue<ValidationIssue> issues = new ConcurrentLinkedQueue<>();
+        lootTableService.extractAll(descriptors, executor, progress, new LootTableService.EntryRecordSink() {
+            @Override
+            public void accept(LootTableDescriptor descriptor, List<LootEntryRecord> entries) {
+                issues.addAll(validateTable(descriptor.qualifiedName(), entries, known));
+            }
+
+            @Override
+            public void failed(LootTableDescriptor descriptor, Exception error) {
+                issues.add(new ValidationIssue(descriptor.qualifiedName(), Severity.ERROR, Code.UNREADABLE, -1, -1,
+                        null, "Cannot be parsed: " + error.getMessage()));
+            }
+        });
+        List<ValidationIssue> sorted = new ArrayList<>(issues);
+        sorted.sort(Comparator.comparing(ValidationIssue::tableId)
+                .thenComparingInt(ValidationIssue::poolIndex)
+                .thenComparingInt(ValidationIssue::entryIndex)
+                .thenComparing(ValidationIssue::code));
+        return new ValidationReport(descriptors.size(), (System.nanoTime() - start) / 1_000_000, sorted);
+    }
+
+    /**
+     * Validates one table's entry summaries; exposed for callers that already hold them.
+     */
+    public static List<ValidationIssue> validateTable(String tableId, List<LootEntryRecord> entries, KnownIds known) {
+        List<ValidationIssue> issues = new ArrayList<>();
+        // pool index -> {top-level entries, top-level entries with positive weight}
+        Map<Integer, int[]> poolWeights = new HashMap<>();
+        for (LootEntryRecord entry : entries) {
+            if (entry.depth() == 0) {
+                int[] counts = poolWeights.computeIfAbsent(entry.poolIndex(), ignored -> new int[2]);
+                counts[0]++;
+                if (entry.weight() > 0) {
+                    counts[1]++;
+                }
+            }
+            checkEntry(tableId, entry, known, issues);
+        }
+        poolWeights.forEach((pool, counts) -> {
+            if (counts[1] == 0) {
+                issues.add(new ValidationIssue(tableId, Severity.ERROR, Code.ZERO_WEIGHT_POOL, pool, -1, null,
+                        "Every entry in this pool has weight 0, so it never drops anything"));
+            }
+        });
+        return issues;
+    }
+
+    private static void checkEntry(String tableId, LootEntryRecord entry, KnownIds known, List<ValidationIssue> sink) {
+        String type = entry.entryType();
+        String name = entry.name();
+        boolean named = ITEM.equals(type) || TAG.equals(type);
+        if (named && (name == null || name.isBlank())) {
+            sink.add(issue(tableId, entry, Severity.ERROR, Code.MISSING_NAME, null, "Entry has no name"));
+        } else if (ITEM.equals(type) && !known.isKnownItem(name)) {
+            sink.add(issue(tableId, entry, Severity.ERROR, Code.UNKNOWN_ITEM, name,
+                    "Unknown item " + name + " (not in the item catalog)"));
+        } else if (TAG.equals(type) && !known.isKnownTag(name)) {
+            sink.add(issue(tableId, entry, Severity.WARNING, Code.UNKNOWN_TAG, name,
+                    "Unknown item tag #" + name));
+        } else if (LOOT_TABLE.equals(type) && name != null && !known.isKnownTable(name)) {
+            sink.add(issue(tableId, entry, Severity.WARNING, Code.UNKNOWN_TABLE, name,
+                    "References missing loot table " + name));
+        }
+        for (String enchantment : entry.enchantments()) {
+            if (!known.isKnownEnchantment(enchantment)) {
+                sink.add(issue(tableId, entry, Severity.WARNING, Code.UNKNOWN_ENCHANTMENT, enchantment,
+                        "Unknown enchantment " + enchantment));
+            }
+        }
+        if (entry.maxCount() < entry.minCount()) {
+            sink.add(issue(tableId, entry, Severity.ERROR, Code.BAD_COUNT_RANGE, name,
+                    "set_count range is inverted (" + entry.minCount() + " > " + entry.maxCount() + ")"));
+        } else if (entry.maxCount() <= 0 && (ITEM.equals(type) || TAG.equals(type))) {
+            sink.add(issue(tableId, entry, Severity.WARNING, Code.BAD_COUNT_RANGE, name,
+                    "set_count never exceeds " + entry.maxCount() + ", so this entry drops nothing"));
+        } else if (entry.minCount() < 0) {
+            sink.add(issue(tableId, entry, Severity.WARNING, Code.BAD_COUNT_RANGE, name,
+                    "set_count minimum is negative (" + entry.minCount() + ")"));
+        }
+        if (entry.weight() < 0) {
+            sink.add(issue(tableId, entry, Severity.ERROR, Code.NEGATIVE_WEIGHT, name,
+                    "Weight is negative (" + entry.weight() + ")"));
+        }
+    }
+
+    private static ValidationIssue issue(String tableId,
+                                         LootEntryRecord entry,
+                                         Severity severity,
+                                         Code code,
+                                         String subject,
+                                         String message) {
+        return new ValidationIssue(tableId, severity, code, entry.poolIndex(), entry.entryIndex(), subject, message);
+    }
+}
@@ -0,0 +1,55 @@
+package dev.badgersnacks.looteditor.validation;
+
+import java.util.Objects;
+
+/**
+ * One problem found in a loot table.
+ *
+ * @param tableId    qualified id of the table
+ * @param poolIndex  pool the problem is in, or -1 for table-level problems
+ * @param entryIndex entry within the pool (counting nested children), or -1 for pool/table-level problems
+ * @param subject    the offending id (item, tag, enchantment, table), if any
+ */
+public record ValidationIssue(
+        String tableId,
+        Severity severity,
+        Code code,
+        int poolIndex,
+        int entryIndex,
+        String subject,
+        String message
+) {
+
+    public ValidationIssue {
+        Objects.requireNonNull(tableId, "tableId");
+        Objects.requireNonNull(severity, "severity");
+        Objects.requireNonNull(code, "code");
+        Objects.requireNonNull(message, "message");
+    }
+
+    public String location() {
+        if (poolIndex < 0) {
+            return "table";
+        }
+        return entryIndex < 0
+                ? "pool #" + (poolIndex + 1)
+                : "pool #" + (poolIndex + 1) + ", entry #" + (entryIndex + 1);
+    }
+
+    public enum Severity {
+        ERROR,
+        WARNING
+    }
+
+    public enum Code {
+        UNREADABLE,
+        MISSING_NAME,
+        UNKNOWN_ITEM,
+        UNKNOWN_TAG,
+        UNKNOWN_TABLE,
+        UNKNOWN_ENCHANTMENT,
+        BAD_COUNT_RANGE,
+        NEGATIVE_WEIGHT,
+        ZERO_WEIGHT_POOL
+    }
+}
@@ -0,0 +1,55 @@
+package dev.badgersnacks.looteditor.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.List;
+
+/**
+ * Outcome of a validation pass, issues sorted by table then location.
+ */
+public record ValidationReport(int tablesChecked, long durationMillis, List<ValidationIssue> issues) {
+
+    public ValidationReport {
+        issues = List.copyOf(issues);
+    }
+
+    public long errorCount() {
+        return issues.stream().filter(issue -> issue.severity() == ValidationIssue.Severity.ERROR).count();
+    }
+
+    public long warningCount() {
+        return issues.size() - errorCount();
+    }
+
+    public long affectedTables() {
+        return issues.stream().map(ValidationIssue::tableId).distinct().count();
+    }
+
+    public ObjectNode toJson(ObjectMapper mapper) {
+        ObjectNode root = mapper.createObjectNode();
+        root.put("tablesChecked", tablesChecked);
+        root.put("durationMs", durationMillis);
+        root.put("errors", errorCount());
+        root.put("warnings", warningCount());
+        ArrayNode issuesNode = root.putArray("issues");
+        for (ValidationIssue issue : issues) {
+            ObjectNode node = issuesNode.addObject();
+            node.put("table", issue.tableId());
+            node.put("severity", issue.severity().name());
+            node.put("code", issue.code().name());
+            if (issue.poolIndex() >= 0) {
+                node.put("pool", issue.poolIndex());
+            }
+            if (issue.entryIndex() >= 0) {
+                node.put("entry", issue.entryIndex());
+            }
+            if (issue.subject() != null) {
+                node.put("subject", issue.subject());
+            }
+            node.put("message", issue.message());
+        }
+        return root;
+    }
+}
@@ -0,0 +1,165 @@
+package dev.badgersnacks.looteditor.agents;
+
+import dev.badgersnacks.looteditor.util.InputFingerprint;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AgentOrchestratorTest {
+
+    @Test
+    void interactiveJobsRunWhileBulkWorkersAreBusyAndBulkQueueIsBounded() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (AgentOrchestrator orchestrator = new AgentOrchestrator(1, ForkJoinPool.commonPool())) {
+            CompletableFuture<AgentResult<String>> blocking = orchestrator.submit(task("scan", AgentLane.BULK, () -> {
+                release.await();
+                return "scanned";
+            }));
+            List<CompletableFuture<AgentResult<String>>> queued = new ArrayList<>();
+            CompletableFuture<AgentResult<String>> rejected = null;
+            for (int i = 0; i < 100 && rejected == null; i++) {
+                CompletableFuture<AgentResult<String>> future = orchestrator.submit(
+                        task("index-" + i, AgentLane.BULK, () -> "indexed"));
+                if (future.isCompletedExceptionally()) {
+                    rejected = future;
+                } else {
+                    queued.add(future);
+                }
+            }
+
+            assertEquals("preview", orchestrator.submit(task("preview", AgentLane.INTERACTIVE, () -> "preview"))
+                    .get(5, TimeUnit.SECONDS).payload());
+            assertFalse(blocking.isDone());
+            ExecutionException refusal = assertThrows(ExecutionException.class, rejected::get);
+            assertInstanceOf(RejectedExecutionException.class, refusal.getCause());
+
+            release.countDown();
+            assertEquals("scanned", blocking.get(5, TimeUnit.SECONDS).payload());
+            for (CompletableFuture<AgentResult<String>> future : queued) {
+                assertEquals("indexed", future.get(5, TimeUnit.SECONDS).payload());
+            }
+        } catch (TimeoutException e) {
+            release.countDown();
+            throw e;
+        }
+    }
+
+    @Test
+    void heldBulkUnitsDoNotOccupyFanOutThreadsWhileInteractiveJobsRun() throws Exception {
+        AtomicInteger dispatched = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (AgentOrchestrator orchestrator = new AgentOrchestrator(1, command -> {
+            dispatched.incrementAndGet();
+            ForkJoinPool.commonPool().execute(command);
+        })) {
+            CompletableFuture<AgentResult<String>> preview = orchestrator.submit(
+                    task("preview", AgentLane.INTERACTIVE, () -> {
+                        started.countDown();
+                        release.await();
+                        return "preview";
+                    }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            CountDownLatch ran = new CountDownLatch(1);
+            orchestrator.fanOutExecutor(AgentLane.BULK).execute(ran::countDown);
+            assertEquals(0, dispatched.get(), "a held bulk unit must not take a fan-out thread");
+            orchestrator.fanOutExecutor(AgentLane.INTERACTIVE).execute(() -> {
+            });
+            assertEquals(1, dispatched.get());
+
+            release.countDown();
+            assertEquals("preview", preview.get(5, TimeUnit.SECONDS).payload());
+            assertTrue(ran.await(5, TimeUnit.SECONDS));
+            assertEquals(2, dispatched.get());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void graphFeedsDependenciesAndReusesNodesWhoseInputsAreUnchanged() throws Exception {
+        AtomicInteger scans = new AtomicInteger();
+        AtomicInteger reports = new AtomicInteger();
+        AtomicReference<String> packState = new AtomicReference<>("v1");
+        try (AgentOrchestrator orchestrator = new AgentOrchestrator(2, ForkJoinPool.commonPool())) {
+            for (String expected : List.of("v1", "v1", "v2")) {
+                packState.set(expected);
+                AgentGraph graph = new AgentGraph();
+                AgentGraph.Node<String> scan = graph.add("scan",
+                        () -> InputFingerprint.builder().add(packState.get()).build(),
+                        inputs -> task("scan", AgentLane.BULK, () -> {
+                            scans.incrementAndGet();
+                            return "tables@" + packState.get();
+                        }));
+                AgentGraph.Node<String> report = graph.add("report",
+                        () -> InputFingerprint.builder().build(),
+                        inputs -> task("report", AgentLane.BULK, () -> {
+                            reports.incrementAndGet();
+                            return "report of " + inputs.get(scan);
+                        }),
+                        scan);
+                AgentGraph.Node<String> live = graph.add("live", null,
+                        inputs -> task("live", AgentLane.INTERACTIVE, () -> "live " + inputs.get(scan)),
+                        scan);
+                AgentGraph.Results results = orchestrator.run(graph);
+
+                assertEquals("report of tables@" + expected, results.get(report).get(5, TimeUnit.SECONDS).payload());
+                assertEquals("live tables@" + expected, results.get(live).get(5, TimeUnit.SECONDS).payload());
+            }
+            assertEquals(2, scans.get());
+            assertEquals(2, reports.get());
+
+            AgentGraph failing = new AgentGraph();
+            AgentGraph.Node<String> broken = failing.add("broken", null,
+                    inputs -> task("broken", AgentLane.BULK, () -> {
+                        throw new IOException("unreadable pack");
+                    }));
+            AgentGraph.Node<String> downstream = failing.add("downstream", null,
+                    inputs -> task("downstream", AgentLane.BULK, () -> inputs.get(broken)), broken);
+            ExecutionException failure = assertThrows(ExecutionException.class,
+                    () -> orchestrator.run(failing).get(downstream).get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IOException.class, failure.getCause());
+        }
+    }
+
+    private static AgentTask<String> task(String name, AgentLane lane, Work work) {
+        return new AgentTask<>() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public String run(AgentContext context) throws Exception {
+                return work.run();
+            }
+
+            @Override
+            public AgentLane lane() {
+                return lane;
+            }
+        };
+    }
+
+    private interface Work {
+        String run() throws Exception;
+    }
+}
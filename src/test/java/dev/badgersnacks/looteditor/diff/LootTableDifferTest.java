@@ -0,0 +1,71 @@
+package dev.badgersnacks.looteditor.diff;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.badgersnacks.looteditor.diff.DiffChange.Kind;
+import dev.badgersnacks.looteditor.diff.LootTableDiffService.DiffPair;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor.SourceType;
+import dev.badgersnacks.looteditor.persistence.OverridePaths;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LootTableDifferTest {
+
+    @Test
+    void matchesPoolsAndEntriesByIdentityNotPosition() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode original = mapper.readTree("""
+                {"type":"minecraft:chest","pools":[
+                  {"rolls":1,"entries":[{"type":"minecraft:item","name":"minecraft:bone"}]},
+                  {"rolls":2,"entries":[
+                    {"type":"minecraft:item","name":"minecraft:stick","weight":1},
+                    {"type":"minecraft:item","name":"minecraft:apple","weight":3},
+                    {"type":"minecraft:item","name":"minecraft:coal","weight":2}]}]}
+                """);
+        // pools swapped, entries reordered, apple re-weighted, coal dropped, diamond added, 2 written as 2.0
+        JsonNode edited = mapper.readTree("""
+                {"type":"minecraft:chest","pools":[
+                  {"rolls":2.0,"entries":[
+                    {"type":"minecraft:item","name":"minecraft:apple","weight":5},
+                    {"type":"minecraft:item","name":"minecraft:diamond"},
+                    {"type":"minecraft:item","name":"minecraft:stick","weight":1}]},
+                  {"rolls":1,"entries":[{"type":"minecraft:item","name":"minecraft:bone"}]}]}
+                """);
+
+        List<DiffChange> changes = LootTableDiffer.diff(original, edited);
+
+        assertEquals(List.of(
+                new DiffChange(Kind.CHANGED, "pool #1 (was #2) > minecraft:item minecraft:apple", "weight", "3", "5"),
+                new DiffChange(Kind.ADDED, "pool #1 (was #2) > minecraft:item minecraft:diamond", null, null,
+                        "{\"type\":\"minecraft:item\",\"name\":\"minecraft:diamond\"}"),
+                new DiffChange(Kind.REMOVED, "pool #1 (was #2) > minecraft:item minecraft:coal", null,
+                        "{\"type\":\"minecraft:item\",\"name\":\"minecraft:coal\",\"weight\":2}", null)), changes);
+        assertTrue(LootTableDiffer.diff(original, original.deepCopy()).isEmpty());
+    }
+
+    @Test
+    void pairsOverridesWithTheJarTableTheyReplace() {
+        LootTableDescriptor dump = descriptor("loot_dump/chests/x.json", "Loot Dump", SourceType.LOOT_DUMP);
+        LootTableDescriptor jar = descriptor("mods/x.jar", "x.jar", SourceType.MOD_JAR);
+        LootTableDescriptor override = descriptor("datapack/x.json", OverridePaths.OVERRIDE_SOURCE_DISPLAY,
+                SourceType.DATAPACK);
+        LootTableDescriptor lonely = new LootTableDescriptor("x", "chests/other", Path.of("d/other.json"), null,
+                OverridePaths.OVERRIDE_SOURCE_DISPLAY, SourceType.DATAPACK, true);
+
+        assertEquals(List.of(new DiffPair(jar, override)),
+                LootTableDiffService.overridePairs(List.of(dump, override, lonely, jar)));
+        assertEquals(List.of(new DiffPair(dump, jar), new DiffPair(override, jar)),
+                LootTableDiffService.sourcePairs(jar, List.of(dump, jar, override, lonely)));
+    }
+
+    private static LootTableDescriptor descriptor(String container, String source, SourceType type) {
+        return new LootTableDescriptor("x", "chests/x", Path.of(container), null, source, type,
+                type != SourceType.MOD_JAR);
+    }
+}
@@ -0,0 +1,117 @@
+package dev.badgersnacks.looteditor.index;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor.SourceType;
+import dev.badgersnacks.looteditor.services.LootTableService;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LootIndexServiceTest {
+
+    @Test
+    void indexesItemsAndTagsAcrossTables() throws IOException {
+        Path root = Files.createTempDirectory("loot-editor-test");
+        try {
+            List<LootTableDescriptor> descriptors = List.of(
+                    table(root, "chests/b", """
+                            {"pools":[{"rolls":1,"entries":[
+                              {"type":"minecraft:item","name":"minecraft:diamond","weight":3},
+                              {"type":"minecraft:tag","name":"c:ingots"}]}]}
+                            """),
+                    table(root, "chests/a", """
+                            {"pools":[{"rolls":1,"entries":[{"type":"minecraft:empty"}]},
+                                      {"rolls":1,"entries":[{"type":"minecraft:item","name":"minecraft:diamond"}]}]}
+                            """),
+                    table(root, "chests/empty", "{\"pools\":[]}"));
+
+            LootReverseIndex index = new LootIndexService(new LootTableService()).build(root, descriptors);
+
+            assertEquals(3, index.tableCount());
+            assertEquals(2, index.idCount());
+            List<LootIndexHit> diamonds = index.find("minecraft:diamond");
+            assertEquals(List.of("test:chests/a", "test:chests/b"),
+                    diamonds.stream().map(LootIndexHit::tableId).toList());
+            assertEquals(1, diamonds.get(0).poolIndex());
+            assertEquals(3.0d, diamonds.get(1).weight());
+            assertEquals(List.of("test:chests/b"),
+                    index.find("#c:ingots").stream().map(LootIndexHit::tableId).toList());
+            assertTrue(index.find("c:ingots").isEmpty());
+            assertTrue(index.find(null).isEmpty());
+        } finally {
+            deleteRecursive(root);
+        }
+    }
+
+    @Test
+    void reusesPersistedPostingsUntilTheSourceChanges() throws IOException {
+        Path root = Files.createTempDirectory("loot-editor-test");
+        try {
+            LootTableDescriptor descriptor = table(root, "chests/cached", """
+                    {"pools":[{"rolls":1,"entries":[{"type":"minecraft:item","name":"minecraft:apple"}]}]}
+                    """);
+            LootTableDescriptor empty = table(root, "chests/empty", "{\"pools\":[]}");
+            List<LootTableDescriptor> descriptors = List.of(descriptor, empty);
+            new LootIndexService(new LootTableService()).build(root, descriptors);
+
+            JsonNode persisted = new ObjectMapper().readTree(
+                    root.resolve("loot-editor-b/cache/loot_index.json").toFile());
+            Map<String, String> tableIds = new HashMap<>();
+            for (JsonNode table : persisted.path("tables")) {
+                tableIds.put(table.path("table").asText(), table.path("source").asText());
+            }
+            assertEquals(Map.of("test:chests/cached", "DATAPACK", "test:chests/empty", "DATAPACK"), tableIds);
+
+            // same size and mtime: a fresh service must answer from the persisted postings
+            Path file = descriptor.containerPath();
+            FileTime indexedAt = Files.getLastModifiedTime(file);
+            Files.writeString(file, Files.readString(file).replace("apple", "melon"));
+            Files.setLastModifiedTime(file, indexedAt);
+            LootReverseIndex reused = new LootIndexService(new LootTableService()).build(root, descriptors);
+            assertEquals(1, reused.find("minecraft:apple").size());
+            assertTrue(reused.find("minecraft:melon").isEmpty());
+            assertEquals(2, reused.tableCount());
+
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+            LootReverseIndex reparsed = new LootIndexService(new LootTableService()).build(root, descriptors);
+            assertTrue(reparsed.find("minecraft:apple").isEmpty());
+            assertEquals(List.of("test:chests/cached"),
+                    reparsed.find("minecraft:melon").stream().map(LootIndexHit::tableId).toList());
+        } finally {
+            deleteRecursive(root);
+        }
+    }
+
+    private static LootTableDescriptor table(Path root, String tablePath, String json) throws IOException {
+        Path file = root.resolve("data/test/loot_tables/" + tablePath + ".json");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, json);
+        return new LootTableDescriptor("test", tablePath, file, null, "Test Source", SourceType.DATAPACK, true);
+    }
+
+    private static void deleteRecursive(Path path) throws IOException {
+        if (path == null || !Files.exists(path)) {
+            return;
+        }
+        Files.walk(path)
+                .sorted((a, b) -> b.compareTo(a))
+                .forEach(p -> {
+                    try {
+                        Files.deleteIfExists(p);
+                    } catch (IOException ignored) {
+                    }
+                });
+    }
+}
@@ -0,0 +1,121 @@
+package dev.badgersnacks.looteditor.persistence;
+
+import dev.badgersnacks.looteditor.model.EnchantmentPoolLink;
+import dev.badgersnacks.looteditor.model.EnchantmentPoolLink.LinkedEnchantment;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor.SourceType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EnchantmentPoolLinkServiceTest {
+
+    @Test
+    void migratesLegacyFilesAndSurvivesReopenTornTailAndCompaction() throws Exception {
+        Path root = Files.createTempDirectory("loot-editor-test");
+        try {
+            Path legacy = root.resolve("kubejs/data/loot_editor/pool_links/minecraft/chests/x.json");
+            Files.createDirectories(legacy.getParent());
+            Files.writeString(legacy, """
+                    {"table":"minecraft:chests/x","links":[{"order":2,"pool":"loot_editor:swords",
+                     "item":"minecraft:iron_sword","entry_type":"minecraft:item","weight":3.0,"min_count":1,
+                     "max_count":1,"enchantments":[{"id":"minecraft:sharpness","weight":1.0,"min_level":1,
+                     "max_level":5}]}]}
+                    """);
+            LootTableDescriptor chest = descriptor("chests/x");
+            LootTableDescriptor other = descriptor("chests/y");
+            EnchantmentPoolLink migrated = new EnchantmentPoolLink(2, "loot_editor:swords", "minecraft:iron_sword",
+                    "minecraft:item", 3.0, 1, 1, List.of(new LinkedEnchantment("minecraft:sharpness", 1.0, 1, 5)));
+
+            EnchantmentPoolLinkService service = new EnchantmentPoolLinkService();
+            assertEquals(List.of(migrated), service.loadLinks(root, chest));
+            // the pack keeps its own copy; the import is not repeated once the index exists
+            assertTrue(Files.exists(legacy));
+            Files.writeString(legacy, "{\"table\":\"minecraft:chests/x\",\"links\":[]}");
+
+            for (int i = 0; i < 600; i++) {
+                service.saveLinks(root, other, List.of(link(i)));
+            }
+            assertEquals(List.of(link(599)), service.loadLinks(root, other));
+
+            // a fresh service maps whatever generation compaction left behind, and ignores a half-written record
+            Path index;
+            try (Stream<Path> files = Files.list(root.resolve("loot-editor-b"))) {
+                List<Path> generations = files.toList();
+                assertEquals(1, generations.size());
+                index = generations.get(0);
+            }
+            assertTrue(Files.size(index) < 600 * 64, "superseded records should have been compacted away");
+            Files.write(index, new byte[] {0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+            EnchantmentPoolLinkService reopened = new EnchantmentPoolLinkService();
+            assertEquals(List.of(migrated), reopened.loadLinks(root, chest));
+            assertEquals(List.of(link(599)), reopened.loadLinks(root, other));
+
+            reopened.saveLinks(root, chest, List.of());
+            assertEquals(List.of(), new EnchantmentPoolLinkService().loadLinks(root, chest));
+        } finally {
+            try (Stream<Path> paths = Files.walk(root)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    @Test
+    void unfinishedCompactionKeepsTheLastCompleteGeneration() throws Exception {
+        Path directory = Files.createTempDirectory("loot-editor-test");
+        try {
+            PoolLinkIndex index = PoolLinkIndex.open(directory);
+            index.putAll(Map.of("minecraft:chests/x", List.of(link(1)), "minecraft:chests/y", List.of(link(2))));
+            Path complete = index.file();
+            index.close();
+
+            // a crash mid-compaction: a half-written temp file and a newer generation too short to hold a header
+            Files.write(directory.resolve("pool-links-2.idx.tmp"), new byte[] {1, 2, 3});
+            Files.write(directory.resolve("pool-links-3.idx"), new byte[] {1, 2, 3});
+            index = PoolLinkIndex.open(directory);
+            assertEquals(complete, index.file());
+            assertEquals(List.of(link(1)), index.get("minecraft:chests/x"));
+            assertEquals(List.of(link(2)), index.get("minecraft:chests/y"));
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(List.of(complete), files.toList());
+            }
+
+            PoolLinkIndex compacted = index.compact();
+            assertEquals(List.of(link(2)), compacted.get("minecraft:chests/y"));
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(List.of(compacted.file()), files.toList());
+            }
+            compacted.close();
+        } finally {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static EnchantmentPoolLink link(int weight) {
+        return new EnchantmentPoolLink(0, "loot_editor:bows", "minecraft:bow", "minecraft:item", weight, 1, 1,
+                List.of(new LinkedEnchantment("minecraft:power", 1.0, 1, 3)));
+    }
+
+    private static LootTableDescriptor descriptor(String tablePath) {
+        return new LootTableDescriptor("minecraft", tablePath, Path.of("kubejs"), null, "KubeJS",
+                SourceType.KUBEJS, true);
+    }
+}
@@ -8,7 +8,12 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.zip.ZipFile;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DataPackServiceTest {
@@ -42,4 +47,81 @@ class DataPackServiceTest {
         String metaContent = Files.readString(packMeta);
         assertTrue(metaContent.contains("\"pack_format\" : 71"), "Expected default pack_format fallback");
     }
+
+    @Test
+    void syncCopiesOnlyChangedFilesAndRemovesDeletedOnes() throws IOException {
+        DataPackService service = new DataPackService(new ObjectMapper());
+        for (String world : List.of("alpha", "beta")) {
+            Files.createDirectories(tempDir.resolve("saves").resolve(world));
+            Files.writeString(tempDir.resolve("saves").resolve(world).resolve("level.dat"), "");
+        }
+        Path kept = service.resolveLootTablePath(tempDir, "minecraft", "chests/kept");
+        Path edited = service.resolveLootTablePath(tempDir, "minecraft", "chests/edited");
+        Path removed = service.resolveLootTablePath(tempDir, "minecraft", "chests/removed");
+        Files.writeString(kept, "{\"type\":\"minecraft:chest\"}");
+        Files.writeString(edited, "{\"type\":\"minecraft:chest\"}");
+        Files.writeString(removed, "{\"type\":\"minecraft:chest\"}");
+
+        assertEquals(2, service.syncWorldDatapacks(tempDir).size());
+        Path worldLoot = tempDir.resolve("saves").resolve("beta").resolve("datapacks")
+                .resolve(DataPackService.PACK_FOLDER).resolve("data").resolve("minecraft")
+                .resolve("loot_table").resolve("chests");
+        assertTrue(Files.exists(worldLoot.resolve("removed.json")));
+        FileTime untouched = FileTime.fromMillis(1_000_000_000_000L);
+        Files.setLastModifiedTime(worldLoot.resolve("kept.json"), untouched);
+
+        Files.writeString(edited, "{\"type\":\"minecraft:block\"}");
+        Files.delete(removed);
+        service.syncWorldDatapacks(tempDir);
+
+        assertEquals(untouched, Files.getLastModifiedTime(worldLoot.resolve("kept.json")), "unchanged file was recopied");
+        assertTrue(Files.readString(worldLoot.resolve("edited.json")).contains("minecraft:block"));
+        assertFalse(Files.exists(worldLoot.resolve("removed.json")));
+    }
+
+    @Test
+    void syncNoticesSameSizeEditsWithinTheMtimeGranularity() throws IOException {
+        DataPackService service = new DataPackService(new ObjectMapper());
+        Files.createDirectories(tempDir.resolve("saves").resolve("alpha"));
+        Files.writeString(tempDir.resolve("saves").resolve("alpha").resolve("level.dat"), "");
+        Path table = service.resolveLootTablePath(tempDir, "minecraft", "chests/a");
+        Files.writeString(table, "{\"weight\":5}");
+        service.syncWorldDatapacks(tempDir);
+        FileTime firstSave = Files.getLastModifiedTime(table);
+
+        // a second save within the same mtime tick, e.g. on a 2 s FAT timestamp
+        Files.writeString(table, "{\"weight\":6}");
+        Files.setLastModifiedTime(table, firstSave);
+        service.syncWorldDatapacks(tempDir);
+
+        Path worldCopy = tempDir.resolve("saves").resolve("alpha").resolve("datapacks")
+                .resolve(DataPackService.PACK_FOLDER).resolve("data").resolve("minecraft")
+                .resolve("loot_table").resolve("chests").resolve("a.json");
+        assertEquals("{\"weight\":6}", Files.readString(worldCopy));
+    }
+
+    @Test
+    void zipModeReplacesLooseFolderWithSingleArchive() throws IOException {
+        Files.createDirectories(tempDir.resolve("loot-editor-b"));
+        Files.writeString(tempDir.resolve("loot-editor-b").resolve("export-settings.json"), "{\"syncMode\":\"zip\"}");
+        Path datapacks = tempDir.resolve("saves").resolve("alpha").resolve("datapacks");
+        Files.createDirectories(datapacks.resolve(DataPackService.PACK_FOLDER).resolve("data"));
+        Files.writeString(tempDir.resolve("saves").resolve("alpha").resolve("level.dat"), "");
+        DataPackService service = new DataPackService(new ObjectMapper());
+        Files.writeString(service.resolveLootTablePath(tempDir, "minecraft", "chests/a"), "{}");
+
+        service.syncWorldDatapacks(tempDir);
+        Path archive = datapacks.resolve(DataPackService.PACK_FOLDER + ".zip");
+        assertTrue(Files.isRegularFile(archive));
+        assertFalse(Files.exists(datapacks.resolve(DataPackService.PACK_FOLDER)));
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            assertTrue(zip.getEntry("data/minecraft/loot_table/chests/a.json") != null);
+        }
+
+        FileTime untouched = FileTime.fromMillis(1_000_000_000_000L);
+        Files.setLastModifiedTime(archive, untouched);
+        // a fresh service rebuilds the archive from scratch; it must come out byte-identical
+        new DataPackService(new ObjectMapper()).syncWorldDatapacks(tempDir);
+        assertEquals(untouched, Files.getLastModifiedTime(archive), "identical archive was rewritten");
+    }
 }
@@ -0,0 +1,79 @@
+package dev.badgersnacks.looteditor.services;
+
+import dev.badgersnacks.looteditor.model.EnchantmentPool;
+import dev.badgersnacks.looteditor.model.EnchantmentPoolEntry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EnchantmentPoolServiceTest {
+
+    @Test
+    void cachesPoolsAndPicksUpSavesAndExternalChanges() throws Exception {
+        Path root = Files.createTempDirectory("loot-editor-test");
+        try {
+            EnchantmentPoolService service = new EnchantmentPoolService();
+            Path forked = root.resolve("kubejs/data/minecraft/loot_table/chests/x.json");
+            Files.createDirectories(forked.getParent());
+            Files.writeString(forked, "{\"pools\":[]}");
+            service.savePool(root, new EnchantmentPool("loot_editor", "swords", "Swords", false,
+                    List.of(new EnchantmentPoolEntry("minecraft:sharpness", 1, 1, 5))));
+
+            EnchantmentPool swords = service.findPool(root, "loot_editor:swords").orElseThrow();
+            assertSame(swords, service.findPool(root, "swords").orElseThrow());
+            assertEquals(List.of(swords), service.listPools(root));
+
+            // written behind the service's back, e.g. by hand or by another tool
+            Files.createDirectories(root.resolve("kubejs/data/other/enchantment_pools"));
+            Files.writeString(root.resolve("kubejs/data/other/enchantment_pools/bows.json"),
+                    "{\"display_name\":\"Bows\",\"entries\":[{\"enchantment\":\"minecraft:power\"}]}");
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (service.findPool(root, "other:bows").isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertTrue(service.findPool(root, "other:bows").isPresent());
+
+            service.deletePool(root, "loot_editor:swords");
+            assertTrue(service.findPool(root, "loot_editor:swords").isEmpty());
+        } finally {
+            deleteRecursive(root);
+        }
+    }
+
+    @Test
+    void poolIdsThatDifferOnlyByCaseStayApart() throws Exception {
+        Path root = Files.createTempDirectory("loot-editor-test");
+        try {
+            Path pools = root.resolve("kubejs/data/loot_editor/enchantment_pools");
+            Files.createDirectories(pools);
+            Files.writeString(pools.resolve("Swords.json"), "{\"display_name\":\"Upper\",\"entries\":[]}");
+            Files.writeString(pools.resolve("swords.json"), "{\"display_name\":\"Lower\",\"entries\":[]}");
+            EnchantmentPoolService service = new EnchantmentPoolService();
+
+            assertEquals(2, service.listPools(root).size());
+            assertEquals("Upper", service.findPool(root, "loot_editor:Swords").orElseThrow().displayName());
+            assertEquals("Lower", service.findPool(root, "loot_editor:swords").orElseThrow().displayName());
+            assertTrue(service.findPool(root, "loot_editor:SWORDS").isEmpty());
+        } finally {
+            deleteRecursive(root);
+        }
+    }
+
+    private static void deleteRecursive(Path root) {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package dev.badgersnacks.looteditor.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.badgersnacks.looteditor.model.EnchantmentPool;
+import dev.badgersnacks.looteditor.model.EnchantmentPoolEntry;
+import dev.badgersnacks.looteditor.model.EnchantmentPoolLink;
+import dev.badgersnacks.looteditor.model.EnchantmentPoolLink.LinkedEnchantment;
+import dev.badgersnacks.looteditor.model.LootPoolEntryModel;
+import dev.badgersnacks.looteditor.persistence.ExportSettings.PoolExpansion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class LootTablePreviewRendererTest {
+
+    @Test
+    void chunksMatchFullRebuildAndReuseUnchangedRows() throws Exception {
+        JsonNode template = new ObjectMapper().readTree("""
+                {"type":"minecraft:chest","pools":[{"rolls":{"type":"minecraft:uniform","min":1,"max":3},
+                "entries":[{"type":"minecraft:item","name":"minecraft:stick"}]}],"random_sequence":"minecraft:chests/test"}
+                """);
+        List<LootPoolEntryModel> entries = new ArrayList<>(List.of(
+                new LootPoolEntryModel("minecraft:diamond", 1.0d, "minecraft:item", 1, 1, null),
+                new LootPoolEntryModel("minecraft:iron_ingot", 5.0d, "minecraft:item", 2, 6, null),
+                new LootPoolEntryModel("minecraft:apple", 2.5d, "minecraft:item", 3, 3, null)));
+        LootTableService service = new LootTableService();
+        LootTablePreviewRenderer renderer = new LootTablePreviewRenderer();
+
+        List<String> first = renderer.render(template, entries, Map.of());
+        assertEquals(entries.size() + 2, first.size());
+        assertEquals(service.prettyPrint(service.rebuildTable(template, entries)), String.join(" ", first));
+
+        entries.set(1, entries.get(1).withWeight(7.0d));
+        List<String> second = renderer.render(template, entries, Map.of());
+        assertEquals(service.prettyPrint(service.rebuildTable(template, entries)), String.join(" ", second));
+        assertSame(first.get(0), second.get(0));
+        assertNotSame(first.get(2), second.get(2));
+        assertSame(first.get(3), second.get(3));
+
+        assertEquals(service.prettyPrint(service.rebuildTable(template, List.of())),
+                String.join(" ", renderer.render(template, List.of(), Map.of())));
+    }
+
+    @Test
+    void compactPoolExpansionWritesOneEntryAndReadsBack() throws Exception {
+        EnchantmentPool pool = new EnchantmentPool("loot_editor", "swords", "Swords", false, List.of(
+                new EnchantmentPoolEntry("minecraft:sharpness", 3, 1, 5),
+                new EnchantmentPoolEntry("minecraft:looting", 1, 2, 2),
+                new EnchantmentPoolEntry("minecraft:unbreaking", 1, 1, 3)));
+        LootPoolEntryModel sword = new LootPoolEntryModel("minecraft:iron_sword", 4.0d, "minecraft:item", 1, 1,
+                pool.id());
+
+        assertEquals(3, EnchantmentPoolAdapter.expandEntry(sword, pool, PoolExpansion.EXPANDED).size());
+        List<ObjectNode> compact = EnchantmentPoolAdapter.expandEntry(sword, pool, PoolExpansion.COMPACT);
+        assertEquals(1, compact.size());
+        JsonNode function = compact.get(0).path("functions").path(0);
+        assertEquals(EnchantmentPoolAdapter.SELECT_ENCHANTMENT_FUNCTION, function.path("function").asText());
+        assertEquals(3, function.path("options").size());
+
+        LootTablePreviewRenderer renderer = new LootTablePreviewRenderer();
+        renderer.setPoolExpansion(PoolExpansion.COMPACT);
+        List<String> chunks = renderer.render(null, List.of(sword), Map.of(pool.id(), pool));
+        JsonNode rendered = new ObjectMapper().readTree(String.join(" ", chunks));
+        assertEquals(1, rendered.path("pools").path(0).path("entries").size());
+
+        assertEquals(List.of(sword), EnchantmentPoolAdapter.mergeForEditing(rendered, List.of()));
+    }
+
+    @Test
+    void expandedPoolRowsCollapseBackThroughLinks() throws Exception {
+        EnchantmentPool pool = new EnchantmentPool("loot_editor", "tools", "Tools", false, List.of(
+                new EnchantmentPoolEntry("minecraft:efficiency", 2, 1, 3),
+                new EnchantmentPoolEntry("minecraft:unbreaking", 1, 2, 2)));
+        LootPoolEntryModel pick = new LootPoolEntryModel("minecraft:iron_pickaxe", 6.0d, "minecraft:item", 1, 1,
+                pool.id());
+        LootPoolEntryModel axe = new LootPoolEntryModel("minecraft:iron_axe", 3.0d, "minecraft:item", 1, 1,
+                pool.id());
+        LootPoolEntryModel bread = new LootPoolEntryModel("minecraft:bread", 1.0d, "minecraft:item", 2, 4, null);
+        List<LootPoolEntryModel> rows = List.of(pick, bread, axe);
+        List<LinkedEnchantment> options = pool.entries().stream()
+                .map(option -> new LinkedEnchantment(option.enchantmentId(), option.weight(), option.minLevel(),
+                        option.maxLevel()))
+                .toList();
+        List<EnchantmentPoolLink> links = List.of(
+                new EnchantmentPoolLink(0, pool.id(), pick.itemId(), pick.entryType(), pick.weight(), 1, 1, options),
+                new EnchantmentPoolLink(2, pool.id(), axe.itemId(), axe.entryType(), axe.weight(), 1, 1, options));
+
+        List<String> chunks = new LootTablePreviewRenderer().render(null, rows, Map.of(pool.id(), pool));
+        JsonNode table = new ObjectMapper().readTree(String.join(" ", chunks));
+        assertEquals(5, table.path("pools").path(0).path("entries").size());
+
+        assertEquals(rows, EnchantmentPoolAdapter.mergeForEditing(table, links));
+    }
+}
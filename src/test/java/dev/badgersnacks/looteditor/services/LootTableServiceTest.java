@@ -1,6 +1,9 @@
 package dev.badgersnacks.looteditor.services;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.badgersnacks.looteditor.model.LootEntryRecord;
 import dev.badgersnacks.looteditor.model.LootPoolEntryModel;
 import dev.badgersnacks.looteditor.model.LootTableDescriptor;
 import dev.badgersnacks.looteditor.model.LootTableDescriptor.SourceType;
@@ -8,11 +11,27 @@ import dev.badgersnacks.looteditor.services.LootTableService.LootTableTemplate;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LootTableServiceTest {
@@ -80,6 +99,381 @@ class LootTableServiceTest {
         }
     }
 
+    @Test
+    void loadReusesParsedTreeUntilFileChanges() throws IOException {
+        Path root = Files.createTempDirectory("loot-editor-test");
+        try {
+            Path file = root.resolve("cached.json");
+            Files.writeString(file, "{\"type\":\"minecraft:chest\"}");
+            LootTableDescriptor descriptor = new LootTableDescriptor("test", "chests/cached", file, null,
+                    "Test Source", SourceType.DATAPACK, true);
+            JsonNode first = service.load(descriptor);
+            FileTime parsedAt = Files.getLastModifiedTime(file);
+            // same size and mtime: only a cache hit still sees the old content
+            Files.writeString(file, "{\"type\":\"minecraft:chast\"}");
+            Files.setLastModifiedTime(file, parsedAt);
+            assertEquals("minecraft:chest", service.load(descriptor).path("type").asText());
+
+            Files.writeString(file, "{\"type\":\"minecraft:entity\"}");
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+            JsonNode reloaded = service.load(descriptor);
+            assertNotSame(first, reloaded);
+            assertEquals("minecraft:entity", reloaded.path("type").asText());
+        } finally {
+            deleteRecursive(root);
+        }
+    }
+
+    @Test
+    void loadHandsOutCopiesOfTheCachedTree() throws IOException {
+        Path root = Files.createTempDirectory("loot-editor-test");
+        try {
+            Path file = root.resolve("copied.json");
+            Files.writeString(file, "{\"type\":\"minecraft:chest\"}");
+            LootTableDescriptor descriptor = new LootTableDescriptor("test", "chests/copied", file, null,
+                    "Test Source", SourceType.DATAPACK, true);
+            JsonNode first = service.load(descriptor);
+            ((ObjectNode) first).put("type", "minecraft:entity");
+
+            JsonNode second = service.load(descriptor);
+            assertNotSame(first, second);
+            assertEquals("minecraft:chest", second.path("type").asText());
+        } finally {
+            deleteRecursive(root);
+        }
+    }
+
+    @Test
+    void loadAllStreamsArchiveAndLooseTables() throws IOException {
+        Path root = Files.createTempDirectory("loot-editor-test");
+        try {
+            Path jar = root.resolve("mod.jar");
+            try (OutputStream out = Files.newOutputStream(jar); ZipOutputStream zip = new ZipOutputStream(out)) {
+                for (String name : List.of("a", "b")) {
+                    zip.putNextEntry(new ZipEntry("data/mod/loot_table/chests/" + name + ".json"));
+                    zip.write(("{\"type\":\"minecraft:chest\",\"random_sequence\":\"" + name + "\"}")
+                            .getBytes(StandardCharsets.UTF_8));
+                    zip.closeEntry();
+                }
+            }
+            Path loose = root.resolve("loose.json");
+            Files.writeString(loose, "{\"type\":\"minecraft:block\"}");
+
+            List<LootTableDescriptor> descriptors = List.of(
+                    archiveDescriptor(jar, "chests/a"),
+                    archiveDescriptor(jar, "chests/b"),
+                    archiveDescriptor(jar, "chests/missing"),
+                    new LootTableDescriptor("test", "blocks/loose", loose, null, "Test Source", SourceType.DATAPACK, true));
+            Map<String, JsonNode> loaded = new ConcurrentHashMap<>();
+            Map<String, Exception> failed = new ConcurrentHashMap<>();
+            service.loadAll(descriptors, new LootTableService.TableSink() {
+                @Override
+                public void accept(LootTableDescriptor descriptor, JsonNode node) {
+                    loaded.put(descriptor.qualifiedName(), node);
+                }
+
+                @Override
+                public void failed(LootTableDescriptor descriptor, Exception error) {
+                    failed.put(descriptor.qualifiedName(), error);
+                }
+            });
+
+            assertEquals(3, loaded.size());
+            assertEquals("b", loaded.get("mod:chests/b").path("random_sequence").asText());
+            assertEquals("minecraft:block", loaded.get("test:blocks/loose").path("type").asText());
+            assertEquals(List.of("mod:chests/missing"), List.copyOf(failed.keySet()));
+        } finally {
+            deleteRecursive(root);
+        }
+    }
+
+    @Test
+    void extractAllStreamsEntryRecordsWithoutTrees() throws IOException {
+        Path root = Files.createTempDirectory("loot-editor-test");
+        try {
+            Path table = root.resolve("table.json");
+            Files.writeString(table, """
+                    {
+                      "random_sequence": "test:chests/x",
+                      "pools": [
+                        { "conditions": [ { "condition": "minecraft:random_chance", "chance": 0.5 } ],
+                          "rolls": { "type": "minecraft:uniform", "min": 1, "max": 2 },
+                          "entries": [
+                            { "functions": [
+                                { "count": { "type": "minecraft:uniform", "min": 2.0, "max": 5.0 }, "function": "set_count" },
+                                { "function": "minecraft:set_enchantments", "enchantments": { "minecraft:sharpness": 3 } }
+                              ],
+                              "type": "minecraft:item", "name": "minecraft:iron_sword", "weight": 4 },
+                            { "type": "minecraft:alternatives", "children": [
+                                { "type": "minecraft:tag", "name": "c:gems", "expand": true },
+                                { "type": "minecraft:empty", "weight": 2 }
+                              ] }
+                          ] },
+                        { "rolls": 1, "entries": [
+                            { "type": "minecraft:item", "name": "minecraft:bone",
+                              "functions": [ { "function": "minecraft:set_count", "count": { "type": "minecraft:binomial", "n": 3, "p": 0.5 } } ] }
+                          ] }
+                      ]
+                    }
+                    """);
+            LootTableDescriptor descriptor = new LootTableDescriptor("test", "chests/x", table, null, "Test Source",
+                    SourceType.DATAPACK, true);
+            Map<String, List<LootEntryRecord>> extracted = new ConcurrentHashMap<>();
+            service.extractAll(List.of(descriptor), (d, entries) -> extracted.put(d.qualifiedName(), entries));
+
+            List<LootEntryRecord> entries = extracted.get("test:chests/x");
+            assertEquals(5, entries.size());
+            LootEntryRecord sword = entries.get(0);
+            assertEquals("minecraft:iron_sword", sword.name());
+            assertEquals(4.0, sword.weight());
+            assertEquals(2, sword.minCount());
+            assertEquals(5, sword.maxCount());
+            assertEquals(List.of("minecraft:set_count", "minecraft:set_enchantments"), sword.functions());
+            assertEquals(List.of("minecraft:sharpness"), sword.enchantments());
+            assertEquals("minecraft:alternatives", entries.get(1).entryType());
+            assertEquals("c:gems", entries.get(2).name());
+            assertEquals(1, entries.get(2).depth());
+            LootEntryRecord bone = entries.get(4);
+            assertEquals(1, bone.poolIndex());
+            assertEquals(0, bone.minCount());
+            assertEquals(3, bone.maxCount());
+        } finally {
+            deleteRecursive(root);
+        }
+    }
+
+    @Test
+    void saveQueueCoalescesSavesAndBatchesOverrides() throws Exception {
+        Path root = Files.createTempDirectory("loot-editor-test");
+        try (SaveQueue queue = new SaveQueue(service, 10_000)) {
+            Path jar = root.resolve("mod.jar");
+            LootTableDescriptor first = archiveDescriptor(jar, "chests/a");
+            LootTableDescriptor second = archiveDescriptor(jar, "chests/b");
+            JsonNode stale = service.rebuildTable(null, List.of(
+                    new LootPoolEntryModel("minecraft:stick", 1.0, "minecraft:item", 1, 1, null)));
+            JsonNode latest = service.rebuildTable(null, List.of(
+                    new LootPoolEntryModel("minecraft:diamond", 1.0, "minecraft:item", 1, 1, null)));
+
+            CompletableFuture<LootTableDescriptor> superseded = queue.enqueue(root, first, stale);
+            CompletableFuture<LootTableDescriptor> current = queue.enqueue(root, first, latest);
+            CompletableFuture<LootTableDescriptor> other = queue.enqueue(root, second, latest);
+            assertTrue(queue.hasPending());
+            queue.flush();
+
+            LootTableDescriptor saved = current.get(5, TimeUnit.SECONDS);
+            assertSame(saved, superseded.get(5, TimeUnit.SECONDS));
+            assertEquals(SourceType.DATAPACK, saved.sourceType());
+            assertEquals("minecraft:diamond", service.extractEntries(service.load(saved)).get(0).itemId());
+            assertTrue(other.get(5, TimeUnit.SECONDS).containerPath().toString().contains("chests"));
+
+            Path loaderData = root.resolve("datapacks").resolve(DataPackService.PACK_FOLDER)
+                    .resolve("data").resolve("loot_editor");
+            String manifest = Files.readString(loaderData.resolve("meta").resolve("loot_overrides.json"));
+            assertTrue(manifest.contains("mod:chests/a") && manifest.contains("mod:chests/b"));
+            String globalList = Files.readString(loaderData.resolve("loot_modifiers").resolve("global_loot_modifiers.json"));
+            assertTrue(globalList.contains("loot_editor:mod/chests/a") && globalList.contains("loot_editor:mod/chests/b"));
+        } finally {
+            deleteRecursive(root);
+        }
+    }
+
+    @Test
+    void saveQueueKeepsSavesOfTheSameIdFromDifferentSourcesApart() throws Exception {
+        Path root = Files.createTempDirectory("loot-editor-test");
+        try (SaveQueue queue = new SaveQueue(service, 10_000)) {
+            LootTableDescriptor kubejs = looseDescriptor(
+                    root.resolve("kubejs/data/mod/loot_tables/chests/a.json"), SourceType.KUBEJS);
+            LootTableDescriptor datapack = looseDescriptor(
+                    root.resolve("datapacks/x/data/mod/loot_tables/chests/a.json"), SourceType.DATAPACK);
+            CompletableFuture<LootTableDescriptor> first = queue.enqueue(root, kubejs, table("minecraft:stick"));
+            CompletableFuture<LootTableDescriptor> second = queue.enqueue(root, datapack, table("minecraft:diamond"));
+            queue.flush();
+
+            assertEquals(kubejs.containerPath(), first.get(5, TimeUnit.SECONDS).containerPath());
+            assertEquals(datapack.containerPath(), second.get(5, TimeUnit.SECONDS).containerPath());
+            assertEquals("minecraft:stick", service.extractEntries(service.load(kubejs)).get(0).itemId());
+            assertEquals("minecraft:diamond", service.extractEntries(service.load(datapack)).get(0).itemId());
+        } finally {
+            deleteRecursive(root);
+        }
+    }
+
+    @Test
+    void readsWaitForQueuedSavesAndFailedPreWritesKeepTheTable() throws Exception {
+        Path root = Files.createTempDirectory("loot-editor-test");
+        try (SaveQueue queue = new SaveQueue(service, 10_000)) {
+            LootTableDescriptor descriptor = looseDescriptor(root.resolve("kubejs/data/mod/loot_tables/chests/a.json"),
+                    SourceType.KUBEJS);
+            service.load(descriptor);
+            CompletableFuture<LootTableDescriptor> saved = queue.enqueue(root, descriptor, table("minecraft:diamond"));
+            // well inside the 10 s window: the read itself has to push the save out
+            assertEquals("minecraft:diamond", service.extractEntries(service.load(descriptor)).get(0).itemId());
+            assertTrue(saved.isDone() && !queue.hasPending());
+
+            CompletableFuture<LootTableDescriptor> failed = queue.enqueue(root, descriptor, table("minecraft:apple"),
+                    () -> {
+                        throw new IOException("links unwritable");
+                    });
+            queue.flush();
+            assertTrue(failed.isCompletedExceptionally());
+            assertEquals("minecraft:diamond", service.extractEntries(service.load(descriptor)).get(0).itemId());
+        } finally {
+            deleteRecursive(root);
+        }
+    }
+
+    @Test
+    void consolidatedModifierModeWritesOneLookupModifier() throws Exception {
+        Path root = Files.createTempDirectory("loot-editor-test");
+        try {
+            Path settings = root.resolve("loot-editor-b").resolve("export-settings.json");
+            Files.createDirectories(settings.getParent());
+            Files.writeString(settings, "{\"modifierMode\":\"consolidated\"}");
+            Path jar = root.resolve("mod.jar");
+            JsonNode table = service.rebuildTable(null, List.of(
+                    new LootPoolEntryModel("minecraft:stick", 1.0, "minecraft:item", 1, 1, null)));
+            service.saveAll(root, List.of(
+                    new LootTableService.SaveRequest(archiveDescriptor(jar, "chests/a"), table),
+                    new LootTableService.SaveRequest(archiveDescriptor(jar, "chests/b"), table)));
+
+            Path modifiers = root.resolve("datapacks").resolve(DataPackService.PACK_FOLDER)
+                    .resolve("data").resolve("loot_editor").resolve("loot_modifiers");
+            JsonNode consolidated = new ObjectMapper()
+                    .readTree(modifiers.resolve("replace_tables.json").toFile());
+            assertEquals("loot_editor:replacements/mod/chests/b",
+                    consolidated.path("replacements").path("mod:chests/b").asText());
+            assertTrue(Files.readString(modifiers.resolve("global_loot_modifiers.json"))
+                    .contains("\"loot_editor:replace_tables\""));
+            assertTrue(Files.notExists(modifiers.resolve("mod")));
+
+            // switching back restores every per-table modifier, not just the one being saved
+            Files.writeString(settings, "{\"modifierMode\":\"per_table\"}");
+            service.saveAll(root, List.of(
+                    new LootTableService.SaveRequest(archiveDescriptor(jar, "chests/a"), table)));
+            assertTrue(Files.isRegularFile(modifiers.resolve("mod").resolve("chests").resolve("b.json")));
+            assertTrue(Files.notExists(modifiers.resolve("replace_tables.json")));
+        } finally {
+            deleteRecursive(root);
+        }
+    }
+
+    @Test
+    void bulkEditPreviewsThenCommitsMatchingTablesAsOverrides() throws Exception {
+        Path root = Files.createTempDirectory("loot-editor-test");
+        try {
+            Path jar = root.resolve("mod.jar");
+            try (OutputStream out = Files.newOutputStream(jar); ZipOutputStream zip = new ZipOutputStream(out)) {
+                for (String name : List.of("chests/a", "chests/b", "blocks/c")) {
+                    zip.putNextEntry(new ZipEntry("data/mod/loot_table/" + name + ".json"));
+                    zip.write(("{\"pools\":[{\"rolls\":1,\"entries\":[{\"type\":\"minecraft:item\","
+                            + "\"name\":\"" + (name.endsWith("b") ? "minecraft:stick" : "minecraft:diamond") + "\","
+                            + "\"weight\":10}]}]}").getBytes(StandardCharsets.UTF_8));
+                    zip.closeEntry();
+                }
+            }
+            List<LootTableDescriptor> descriptors = List.of(
+                    archiveDescriptor(jar, "chests/a"),
+                    archiveDescriptor(jar, "chests/b"),
+                    archiveDescriptor(jar, "blocks/c"));
+            BulkEditService bulkEdit = new BulkEditService(service);
+
+            BulkEditService.BulkEditPlan plan = bulkEdit.preview(descriptors, BulkEditService.tableFilter("*:chests/**"),
+                    BulkEditService.scaleWeight("minecraft:diamond", 0.5));
+            assertEquals(2, plan.scanned());
+            assertEquals(1, plan.changes().size());
+            assertEquals("mod:chests/a", plan.changes().get(0).descriptor().qualifiedName());
+
+            List<LootTableDescriptor> saved = bulkEdit.commit(root, plan);
+            assertEquals(SourceType.DATAPACK, saved.get(0).sourceType());
+            JsonNode entry = service.load(saved.get(0)).path("pools").path(0).path("entries").path(0);
+            assertEquals(5, entry.path("weight").asInt());
+            assertTrue(entry.path("weight").isIntegralNumber());
+        } finally {
+            deleteRecursive(root);
+        }
+    }
+
+    @Test
+    void scaleWeightLeavesEntriesWhoseWeightWouldNotChangeAlone() throws Exception {
+        ObjectNode table = (ObjectNode) new ObjectMapper().readTree("""
+                {"pools":[{"rolls":1,"entries":[
+                  {"type":"minecraft:item","name":"minecraft:diamond"},
+                  {"type":"minecraft:item","name":"minecraft:diamond","weight":1},
+                  {"type":"minecraft:item","name":"minecraft:diamond","weight":4}]}]}
+                """);
+
+        assertEquals(1, BulkEditService.scaleWeight("minecraft:diamond", 0.5).apply(table));
+        JsonNode entries = table.path("pools").path(0).path("entries");
+        assertFalse(entries.path(0).has("weight"));
+        assertEquals(1, entries.path(1).path("weight").asInt());
+        assertEquals(2, entries.path(2).path("weight").asInt());
+        assertEquals(0, BulkEditService.scaleWeight("minecraft:diamond", 1.2).apply(table));
+    }
+
+    @Test
+    void bulkEditOnlyTouchesTheOverrideWhenTheJarCopyIsAlsoListed() throws Exception {
+        Path root = Files.createTempDirectory("loot-editor-test");
+        try {
+            Path jar = root.resolve("mod.jar");
+            try (OutputStream out = Files.newOutputStream(jar); ZipOutputStream zip = new ZipOutputStream(out)) {
+                zip.putNextEntry(new ZipEntry("data/mod/loot_table/chests/a.json"));
+                zip.write(table("minecraft:diamond").toString().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            LootTableDescriptor jarCopy = archiveDescriptor(jar, "chests/a");
+            LootTableDescriptor override = service.saveAll(root, List.of(
+                    new LootTableService.SaveRequest(jarCopy, table("minecraft:diamond")))).get(0);
+            BulkEditService bulkEdit = new BulkEditService(service);
+
+            BulkEditService.BulkEditPlan plan = bulkEdit.preview(List.of(jarCopy, override), null,
+                    BulkEditService.replaceItem("minecraft:diamond", "minecraft:emerald"));
+            assertEquals(1, plan.scanned());
+            assertEquals(override, plan.changes().get(0).descriptor());
+
+            IOException clash = assertThrows(IOException.class, () -> service.saveAll(root, List.of(
+                    new LootTableService.SaveRequest(jarCopy, table("minecraft:stick")),
+                    new LootTableService.SaveRequest(override, table("minecraft:apple")))));
+            assertTrue(clash.getMessage().contains("mod:chests/a"));
+            assertEquals("minecraft:diamond", service.extractEntries(service.load(override)).get(0).itemId());
+
+            // queued in one window, the clashing pair fails on its own and an unrelated save still lands
+            LootTableDescriptor unrelated = looseDescriptor(
+                    root.resolve("kubejs/data/mod/loot_tables/chests/a.json"), SourceType.KUBEJS);
+            try (SaveQueue queue = new SaveQueue(service, 10_000)) {
+                CompletableFuture<LootTableDescriptor> fromJar = queue.enqueue(root, jarCopy, table("minecraft:stick"));
+                CompletableFuture<LootTableDescriptor> fromOverride =
+                        queue.enqueue(root, override, table("minecraft:apple"));
+                CompletableFuture<LootTableDescriptor> other = queue.enqueue(root, unrelated, table("minecraft:bone"));
+                queue.flush();
+
+                assertEquals(unrelated.containerPath(), other.get(5, TimeUnit.SECONDS).containerPath());
+                assertInstanceOf(IOException.class,
+                        assertThrows(ExecutionException.class, () -> fromJar.get(5, TimeUnit.SECONDS)).getCause());
+                assertInstanceOf(IOException.class,
+                        assertThrows(ExecutionException.class, () -> fromOverride.get(5, TimeUnit.SECONDS)).getCause());
+            }
+            assertEquals("minecraft:bone", service.extractEntries(service.load(unrelated)).get(0).itemId());
+            assertEquals("minecraft:diamond", service.extractEntries(service.load(override)).get(0).itemId());
+        } finally {
+            deleteRecursive(root);
+        }
+    }
+
+    private static LootTableDescriptor looseDescriptor(Path file, SourceType sourceType) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "{\"type\":\"minecraft:chest\",\"pools\":[]}");
+        return new LootTableDescriptor("mod", "chests/a", file, null, sourceType.name(), sourceType, true);
+    }
+
+    private JsonNode table(String itemId) {
+        return service.rebuildTable(null, List.of(new LootPoolEntryModel(itemId, 1.0, "minecraft:item", 1, 1, null)));
+    }
+
+    private static LootTableDescriptor archiveDescriptor(Path jar, String tablePath) {
+        return new LootTableDescriptor("mod", tablePath, jar, "data/mod/loot_table/" + tablePath + ".json",
+                "Mod Jar: mod.jar", SourceType.MOD_JAR, false);
+    }
+
     private static void deleteRecursive(Path path) throws IOException {
         if (path == null || !Files.exists(path)) {
             return;
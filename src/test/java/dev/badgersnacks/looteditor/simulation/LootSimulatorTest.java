@@ -0,0 +1,101 @@
+package dev.badgersnacks.looteditor.simulation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.badgersnacks.looteditor.model.LootPoolEntryModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LootSimulatorTest {
+
+    @Test
+    void simulatesWeightsCountsAndReferencedTables() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode root = mapper.readTree("""
+                {"pools":[
+                  {"rolls":1,"entries":[
+                    {"type":"minecraft:item","name":"minecraft:stick","weight":1},
+                    {"type":"minecraft:item","name":"minecraft:apple","weight":3,
+                     "functions":[{"function":"minecraft:set_count","count":{"type":"minecraft:binomial","n":4,"p":0.5}}]}]},
+                  {"rolls":1,"entries":[{"type":"minecraft:loot_table","value":"test:nested"}]}]}
+                """);
+        JsonNode nested = mapper.readTree("""
+                {"pools":[{"rolls":{"type":"minecraft:uniform","min":2,"max":2},"entries":[
+                  {"type":"minecraft:item","name":"minecraft:diamond",
+                   "functions":[{"function":"minecraft:set_count","count":{"min":1,"max":3}}]}]}]}
+                """);
+        Function<String, JsonNode> resolver = id -> "test:nested".equals(id) ? nested : null;
+        CompiledLootTable program = new LootTableCompiler(resolver).compile("test:root", root);
+
+        SimulationResult result = new LootSimulator().simulate(program, 40_000, 42L);
+        Map<String, SimulationResult.ItemStats> byItem = result.items().stream()
+                .collect(Collectors.toMap(SimulationResult.ItemStats::itemId, stats -> stats));
+
+        assertEquals(0.25, byItem.get("minecraft:stick").dropChance(), 0.02);
+        // apple is picked 75% of the time but binomial(4, 0.5) yields nothing 1/16 of those
+        assertEquals(0.75 * 15 / 16, byItem.get("minecraft:apple").dropChance(), 0.02);
+        assertEquals(0.75 * 2.0, byItem.get("minecraft:apple").averagePerOpen(), 0.05);
+        assertTrue(byItem.get("minecraft:apple").histogram().lastKey() <= 4);
+
+        SimulationResult.ItemStats diamond = byItem.get("minecraft:diamond");
+        assertEquals(1.0, diamond.dropChance());
+        assertEquals(4.0, diamond.averagePerOpen(), 0.05);
+        assertEquals(2, diamond.histogram().firstKey());
+        assertEquals(6, diamond.histogram().lastKey());
+
+        assertEquals(result, new LootSimulator().simulate(program, 40_000, 42L));
+    }
+
+    @Test
+    void alternativesFallThroughToLaterChildrenAndChunkingIsMachineIndependent() throws Exception {
+        JsonNode root = new ObjectMapper().readTree("""
+                {"pools":[{"rolls":1,"entries":[{"type":"minecraft:alternatives","children":[
+                  {"type":"minecraft:item","name":"minecraft:diamond",
+                   "conditions":[{"condition":"minecraft:random_chance","chance":0.25}]},
+                  {"type":"minecraft:item","name":"minecraft:emerald",
+                   "conditions":[{"condition":"minecraft:random_chance","chance":0.5}]},
+                  {"type":"minecraft:item","name":"minecraft:coal"}]}]}]}
+                """);
+        CompiledLootTable program = new LootTableCompiler(id -> null).compile("test:alternatives", root);
+
+        SimulationResult result = new LootSimulator().simulate(program, 40_000, 7L);
+        Map<String, SimulationResult.ItemStats> byItem = result.items().stream()
+                .collect(Collectors.toMap(SimulationResult.ItemStats::itemId, stats -> stats));
+
+        assertEquals(0.25, byItem.get("minecraft:diamond").dropChance(), 0.02);
+        assertEquals(0.75 * 0.5, byItem.get("minecraft:emerald").dropChance(), 0.02);
+        assertEquals(0.75 * 0.5, byItem.get("minecraft:coal").dropChance(), 0.02);
+        // exactly one child drops per open
+        assertEquals(1.0, byItem.values().stream().mapToDouble(SimulationResult.ItemStats::averagePerOpen).sum(),
+                1e-9);
+        // chunk boundaries don't depend on how many threads run them
+        assertEquals(result, new LootSimulator().simulate(program, 40_000, 7L, 0f, Runnable::run));
+    }
+
+    @Test
+    void calculatorTracksWeightEditsIncrementally() throws Exception {
+        LootPoolEntryModel stick = new LootPoolEntryModel("minecraft:stick", 1, "minecraft:item", 1, 1, null);
+        LootPoolEntryModel apple = new LootPoolEntryModel("minecraft:apple", 3, "minecraft:item", 2, 4, null);
+        DropProbabilityCalculator calculator = new DropProbabilityCalculator();
+        calculator.setRolls(new ObjectMapper().readTree("{\"type\":\"minecraft:uniform\",\"min\":1,\"max\":2}"));
+        calculator.reset(List.of(stick, apple));
+
+        assertEquals(0.25, calculator.selectionChance(stick), 1e-9);
+        assertEquals(1.5 * 0.75 * 3, calculator.expectedCountPerTable(apple), 1e-9);
+        // half the opens roll once, half roll twice
+        assertEquals(0.5 * 0.25 + 0.5 * (1 - 0.75 * 0.75), calculator.chanceAtLeastOnce(stick), 1e-9);
+
+        LootPoolEntryModel heavier = apple.withWeight(7);
+        assertTrue(calculator.replace(apple, heavier));
+        assertEquals(0.125, calculator.selectionChance(stick), 1e-9);
+        calculator.replace(heavier, null);
+        assertEquals(1.0, calculator.selectionChance(stick), 1e-9);
+    }
+}
@@ -0,0 +1,159 @@
+package dev.badgersnacks.looteditor.ui;
+
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor.SourceType;
+import dev.badgersnacks.looteditor.model.LootTableTreeNode;
+import javafx.scene.control.TreeItem;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LootTreeModelTest {
+
+    @Test
+    void deltasAndFilterSwitchesKeepTheTreeShapeCountsAndExpansion() {
+        LootTableDescriptor chestA = table(SourceType.DATAPACK, "minecraft", "chests/a");
+        LootTableDescriptor stone = table(SourceType.DATAPACK, "minecraft", "blocks/stone");
+        LootTableDescriptor chestB = table(SourceType.DATAPACK, "other", "chests/b");
+        LootTableDescriptor zombie = table(SourceType.MOD_JAR, "minecraft", "entities/zombie");
+        LootTreeModel model = new LootTreeModel();
+        model.replaceAll(List.of(chestA, stone, chestB, zombie));
+
+        TreeItem<LootTableTreeNode> root = model.root();
+        assertEquals(List.of("Datapack", "Mod Jar"), labels(root));
+        TreeItem<LootTableTreeNode> datapack = root.getChildren().get(0);
+        assertEquals(List.of("minecraft", "other"), labels(datapack));
+        TreeItem<LootTableTreeNode> minecraft = datapack.getChildren().get(0);
+        TreeItem<LootTableTreeNode> other = datapack.getChildren().get(1);
+        // table leaves only appear once their namespace is expanded
+        assertTrue(minecraft.getChildren().isEmpty());
+        assertFalse(minecraft.isLeaf());
+        minecraft.setExpanded(true);
+        assertEquals(List.of("blocks/stone", "chests/a"), labels(minecraft));
+        TreeItem<LootTableTreeNode> chestAItem = minecraft.getChildren().get(1);
+
+        LootTableDescriptor chestC = table(SourceType.DATAPACK, "minecraft", "chests/c");
+        LootTableDescriptor movedZombie = new LootTableDescriptor("minecraft", "entities/zombie",
+                Path.of("mods/other.jar"), "data/minecraft/loot_tables/entities/zombie.json", "Other Mod",
+                SourceType.MOD_JAR, false);
+        model.putAll(List.of(chestC, movedZombie));
+        assertEquals(List.of("blocks/stone", "chests/a", "chests/c"), labels(minecraft));
+        assertSame(chestAItem, minecraft.getChildren().get(1));
+        assertEquals(List.of(chestA, stone, chestB, movedZombie, chestC), model.descriptors());
+
+        model.setFilter(LootTableFilter.CHESTS);
+        assertEquals(List.of("Datapack"), labels(root));
+        assertEquals(List.of("minecraft", "other"), labels(datapack));
+        assertEquals(List.of("chests/a", "chests/c"), labels(minecraft));
+        assertSame(chestAItem, minecraft.getChildren().get(0));
+        assertTrue(other.getChildren().isEmpty());
+        assertFalse(model.isVisible(stone.qualifiedName()));
+
+        // the per-filter counts decide when a group appears or disappears under the active filter
+        LootTableDescriptor jarChest = table(SourceType.MOD_JAR, "minecraft", "chests/jar");
+        model.putAll(List.of(jarChest));
+        assertEquals(List.of("Datapack", "Mod Jar"), labels(root));
+        model.remove(jarChest);
+        assertEquals(List.of("Datapack"), labels(root));
+        model.remove(stone);
+        assertEquals(List.of("chests/a", "chests/c"), labels(minecraft));
+
+        model.setFilter(LootTableFilter.ENTITIES);
+        assertEquals(List.of("Mod Jar"), labels(root));
+        assertEquals(List.of("minecraft"), labels(root.getChildren().get(0)));
+
+        model.setFilter(LootTableFilter.ALL);
+        assertEquals(List.of("Datapack", "Mod Jar"), labels(root));
+        assertTrue(minecraft.isExpanded());
+        assertEquals(List.of("chests/a", "chests/c"), labels(minecraft));
+
+        model.remove(chestB);
+        assertEquals(List.of("minecraft"), labels(datapack));
+        model.replaceAll(List.of(chestA, movedZombie));
+        assertEquals(List.of("Datapack", "Mod Jar"), labels(root));
+        assertSame(minecraft, datapack.getChildren().get(0));
+        assertTrue(minecraft.isExpanded());
+        assertEquals(List.of("chests/a"), labels(minecraft));
+        assertSame(chestAItem, minecraft.getChildren().get(0));
+        assertEquals(List.of(chestA, movedZombie), model.descriptors());
+
+        model.replaceAll(List.of(movedZombie));
+        assertEquals(List.of("Mod Jar"), labels(root));
+    }
+
+    @Test
+    void removingFromTheMiddleKeepsLookupsRevealsAndReplacementsOnTheRightTable() {
+        LootTableDescriptor a = table(SourceType.DATAPACK, "minecraft", "chests/a");
+        LootTableDescriptor b = table(SourceType.DATAPACK, "minecraft", "chests/b");
+        LootTableDescriptor c = table(SourceType.DATAPACK, "minecraft", "chests/c");
+        LootTableDescriptor kubeA = table(SourceType.KUBEJS, "minecraft", "chests/a");
+        LootTableDescriptor d = table(SourceType.DATAPACK, "minecraft", "chests/d");
+        LootTreeModel model = new LootTreeModel();
+        model.replaceAll(List.of(a, b, c, kubeA, d));
+
+        model.remove(b);
+        List<LootTableDescriptor> remaining = List.of(a, c, kubeA, d);
+        assertEquals(remaining, model.descriptors());
+        assertNull(model.current(b));
+        for (LootTableDescriptor descriptor : remaining) {
+            assertSame(descriptor, model.current(descriptor));
+        }
+
+        // replacing tables after the removed one must land on their shifted positions
+        LootTableDescriptor editedC = edited(c);
+        LootTableDescriptor editedD = edited(d);
+        model.putAll(List.of(editedD, editedC));
+        assertEquals(List.of(a, editedC, kubeA, editedD), model.descriptors());
+        assertSame(editedC, model.current(c));
+        assertSame(editedD, model.current(d));
+        assertSame(kubeA, model.current(kubeA));
+
+        // the datapack copy comes first in tree order, even though the KubeJS copy shares its id
+        TreeItem<LootTableTreeNode> revealed = model.reveal("minecraft:chests/a");
+        assertSame(a, revealed.getValue().descriptor());
+        assertTrue(revealed.getParent().isExpanded());
+        assertTrue(revealed.getParent().getParent().isExpanded());
+        assertEquals("Datapack", revealed.getParent().getParent().getValue().label());
+        assertSame(revealed, model.shownItem(a));
+        assertNull(model.shownItem(kubeA));
+
+        TreeItem<LootTableTreeNode> revealedD = model.reveal("minecraft:chests/d");
+        assertSame(editedD, revealedD.getValue().descriptor());
+        LootTableDescriptor editedAgain = new LootTableDescriptor("minecraft", "chests/d", d.containerPath(), null,
+                "Renamed Source", SourceType.DATAPACK, true);
+        model.putAll(List.of(editedAgain));
+        assertSame(revealedD, model.shownItem(d));
+        assertSame(editedAgain, revealedD.getValue().descriptor());
+        assertEquals(List.of("chests/a", "chests/c", "chests/d"), labels(revealedD.getParent()));
+
+        model.remove(a);
+        TreeItem<LootTableTreeNode> kubeRevealed = model.reveal("minecraft:chests/a");
+        assertSame(kubeA, kubeRevealed.getValue().descriptor());
+        assertEquals("KubeJS", kubeRevealed.getParent().getParent().getValue().label());
+        assertEquals(List.of(editedC, kubeA, editedAgain), model.descriptors());
+        assertNull(model.reveal("minecraft:chests/b"));
+    }
+
+    private static LootTableDescriptor edited(LootTableDescriptor descriptor) {
+        return new LootTableDescriptor(descriptor.namespace(), descriptor.tablePath(),
+                descriptor.containerPath().resolveSibling("edited.json"), null, descriptor.sourceDisplay(),
+                descriptor.sourceType(), descriptor.editable());
+    }
+
+    private static LootTableDescriptor table(SourceType sourceType, String namespace, String tablePath) {
+        return new LootTableDescriptor(namespace, tablePath,
+                Path.of("pack", sourceType.name().toLowerCase(), namespace, tablePath + ".json"), null, "Test Source",
+                sourceType, true);
+    }
+
+    private static List<String> labels(TreeItem<LootTableTreeNode> parent) {
+        return parent.getChildren().stream().map(item -> item.getValue().label()).toList();
+    }
+}
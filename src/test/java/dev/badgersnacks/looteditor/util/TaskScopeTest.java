@@ -0,0 +1,49 @@
+package dev.badgersnacks.looteditor.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskScopeTest {
+
+    @Test
+    void firstFailureCancelsSiblingsAndIsRethrown() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch neverReleased = new CountDownLatch(1);
+            CompletableFuture<String> slow;
+            CompletableFuture<String> ok;
+            try (TaskScope<String> scope = new TaskScope<>(executor)) {
+                ok = scope.fork(() -> "ok");
+                slow = scope.fork(() -> {
+                    started.countDown();
+                    neverReleased.await();
+                    return "slow";
+                });
+                assertTrue(started.await(5, TimeUnit.SECONDS));
+                scope.fork(() -> {
+                    throw new IOException("broken jar");
+                });
+                ExecutionException failure = assertThrows(ExecutionException.class, scope::join);
+                assertInstanceOf(IOException.class, failure.getCause());
+            }
+            assertEquals("ok", ok.get());
+            ExecutionException interrupted = assertThrows(ExecutionException.class, slow::get);
+            assertInstanceOf(InterruptedException.class, interrupted.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
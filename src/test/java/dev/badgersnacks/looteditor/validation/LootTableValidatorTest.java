@@ -0,0 +1,54 @@
+package dev.badgersnacks.looteditor.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor;
+import dev.badgersnacks.looteditor.model.LootTableDescriptor.SourceType;
+import dev.badgersnacks.looteditor.services.LootTableService;
+import dev.badgersnacks.looteditor.validation.ValidationIssue.Code;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LootTableValidatorTest {
+
+    @Test
+    void flagsUnknownIdsBadCountsAndZeroWeightPools() throws Exception {
+        Path root = Files.createTempDirectory("loot-editor-test");
+        Path good = root.resolve("good.json");
+        Files.writeString(good, """
+                {"pools":[
+                  {"rolls":1,"entries":[
+                    {"type":"minecraft:item","name":"minecraft:diamond","weight":3},
+                    {"type":"minecraft:item","name":"removedmod:gear",
+                     "functions":[{"function":"minecraft:set_count","count":{"min":4,"max":2}},
+                                  {"function":"minecraft:set_enchantments","enchantments":{"minecraft:bogus":1}}]},
+                    {"type":"minecraft:tag","name":"c:ingots"},
+                    {"type":"minecraft:tag","name":"forge:gems"}]},
+                  {"rolls":1,"entries":[{"type":"minecraft:item","name":"minecraft:stick","weight":0}]}]}
+                """);
+        Path broken = root.resolve("broken.json");
+        Files.writeString(broken, "{\"pools\":[");
+        List<LootTableDescriptor> descriptors = List.of(
+                new LootTableDescriptor("test", "good", good, null, "Test", SourceType.DATAPACK, true),
+                new LootTableDescriptor("test", "broken", broken, null, "Test", SourceType.DATAPACK, true));
+        KnownIds known = new KnownIds(Set.of("minecraft:diamond", "minecraft:stick"), Set.of("c:gems"),
+                Set.of("minecraft:sharpness"), Set.of("test:good"));
+
+        ValidationReport report = new LootTableValidator(new LootTableService()).validate(descriptors, known);
+
+        List<Code> codes = report.issues().stream().map(ValidationIssue::code).toList();
+        assertEquals(List.of(Code.UNREADABLE, Code.UNKNOWN_ITEM, Code.UNKNOWN_ENCHANTMENT, Code.BAD_COUNT_RANGE,
+                Code.UNKNOWN_TAG, Code.ZERO_WEIGHT_POOL), codes);
+        assertEquals("c:ingots", report.issues().get(4).subject());
+        assertEquals(4, report.errorCount());
+        assertEquals(2, report.toJson(new ObjectMapper()).path("warnings").asInt());
+        Files.delete(good);
+        Files.delete(broken);
+        Files.delete(root);
+    }
+}